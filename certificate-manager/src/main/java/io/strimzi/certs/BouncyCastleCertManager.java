@@ -0,0 +1,402 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.ExtensionsGenerator;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.PKCSException;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A certificate manager which does all the work in-process using the Bouncy Castle ASN.1 and PKIX APIs. It produces
+ * the same keys, certificates and stores as {@link OpenSslCertManager}, but without forking the {@code openssl}
+ * binary and without the temporary configuration, database and serial files needed by {@code openssl ca}.
+ *
+ * The keys are generated and the certificates signed through the regular JCA providers of the JVM. Bouncy Castle is
+ * used only to encode the certificates, the CSRs and the PEM files.
+ */
+public class BouncyCastleCertManager implements CertManager {
+    /**
+     * Signature algorithm used to sign the certificates. Corresponds to the {@code default_md = sha512} setting used
+     * with OpenSSL.
+     */
+    private static final String SIGNATURE_ALGORITHM = "SHA512withRSA";
+
+    /**
+     * Size of the keys generated for the CA certificates
+     */
+    private static final int CA_KEY_SIZE = 4096;
+
+    /**
+     * Size of the keys generated for the end-entity certificates
+     */
+    private static final int KEY_SIZE = 2048;
+
+    /**
+     * Length of the random serial numbers. Corresponds to the {@code rand_serial} setting used with OpenSSL.
+     */
+    private static final int SERIAL_NUMBER_BITS = 159;
+
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Constructs the BouncyCastleCertManager with the system time
+     */
+    public BouncyCastleCertManager() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Configures the BouncyCastleCertManager with time passed as a parameter
+     *
+     * @param clock     Clock / Time which should be used by the manager
+     */
+    public BouncyCastleCertManager(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateRootCaCert(sbj, keyFile, certFile, notBefore, notAfter, 0);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCaCert(null, null, sbj, keyFile, certFile, notBefore, notAfter, 0);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    /**
+     * Generate a root or intermediate CA certificate, using either a new CA key or reusing an existing subject key.
+     *
+     * @param issuerCaKeyFile The issuing CA key (or null for a root CA).
+     * @param issuerCaCertFile The issuing CA cert (or null for a root CA).
+     * @param subject The required subject.
+     * @param subjectKeyFile The subject key file.
+     *                       If this file is empty then a new CA key will be generated and populated by this call.
+     *                       Otherwise it is assumed to contain the existing CA key in PKCS#8 format.
+     * @param subjectCertFile The subject certificate file, populated by this call.
+     * @param notBefore The required NotBefore date of the issued certificate.
+     * @param notAfter The required NotAfter date of the issued certificate.
+     * @param pathLength The number of CA certificates below this certificate in a certificate chain.
+     * @throws IOException IO problems
+     */
+    private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                Subject subject,
+                                File subjectKeyFile, File subjectCertFile,
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
+            throw new IllegalArgumentException();
+        }
+        // Preconditions
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.hasSubjectAltNames()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+
+        boolean newKey = subjectKeyFile.length() == 0;
+        KeyPair subjectKeyPair;
+        if (newKey) {
+            subjectKeyPair = generateKeyPair(CA_KEY_SIZE);
+        } else {
+            PrivateKey privateKey = PemUtils.readPrivateKey(Files.readAllBytes(subjectKeyFile.toPath()));
+            subjectKeyPair = new KeyPair(PemUtils.publicKey(privateKey), privateKey);
+        }
+
+        X500Name subjectName = x500Name(subject);
+        X500Name issuerName;
+        PrivateKey signingKey;
+        if (issuerCaCertFile == null) {
+            issuerName = subjectName;
+            signingKey = subjectKeyPair.getPrivate();
+        } else {
+            issuerName = X500Name.getInstance(PemUtils.readCertificate(Files.readAllBytes(issuerCaCertFile.toPath())).getSubjectX500Principal().getEncoded());
+            signingKey = PemUtils.readPrivateKey(Files.readAllBytes(issuerCaKeyFile.toPath()));
+        }
+
+        try {
+            X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuerName, serialNumber(),
+                    Date.from(notBefore.toInstant()), Date.from(notAfter.toInstant()), subjectName, subjectKeyPair.getPublic())
+                    .addExtension(Extension.subjectKeyIdentifier, false, new JcaX509ExtensionUtils().createSubjectKeyIdentifier(subjectKeyPair.getPublic()))
+                    .addExtension(Extension.basicConstraints, true, new BasicConstraints(pathLength))
+                    .addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+
+            PemUtils.writePem(subjectCertFile, "CERTIFICATE", sign(builder, signingKey).getEncoded());
+        } catch (GeneralSecurityException | OperatorCreationException e) {
+            throw new RuntimeException("Failed to generate the CA certificate for " + subject, e);
+        }
+
+        if (newKey) {
+            PemUtils.writePem(subjectKeyFile, "PRIVATE KEY", subjectKeyPair.getPrivate().getEncoded());
+        }
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        TrustStoreUtils.addCertToTrustStore(certFile, certAlias, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(alias);
+        Objects.requireNonNull(keyStoreFile);
+        Objects.requireNonNull(keyStorePassword);
+
+        PrivateKey privateKey = PemUtils.readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+
+        try (InputStream isCertificate = new FileInputStream(certFile);
+             FileOutputStream osKeyStore = new FileOutputStream(keyStoreFile)) {
+            List<Certificate> chain = new ArrayList<>(CertificateFactory.getInstance("X.509").generateCertificates(isCertificate));
+
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, null);
+            keyStore.setKeyEntry(alias, privateKey, keyStorePassword.toCharArray(), chain.toArray(new Certificate[0]));
+            keyStore.store(osKeyStore, keyStorePassword.toCharArray());
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to create the keystore " + keyStoreFile, e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        TrustStoreUtils.deleteFromTrustStore(aliases, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        KeyPair keyPair = generateKeyPair(KEY_SIZE);
+
+        try {
+            JcaPKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(x500Name(subject), keyPair.getPublic());
+
+            if (subject.hasSubjectAltNames()) {
+                ExtensionsGenerator extensions = new ExtensionsGenerator();
+                extensions.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(subject));
+                builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest, extensions.generate());
+            }
+
+            ContentSigner signer = new JcaContentSignerBuilder(SIGNATURE_ALGORITHM).build(keyPair.getPrivate());
+            PemUtils.writePem(csrFile, "CERTIFICATE REQUEST", builder.build(signer).getEncoded());
+        } catch (OperatorCreationException e) {
+            throw new RuntimeException("Failed to generate the CSR for " + subject, e);
+        }
+
+        PemUtils.writePem(keyFile, "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, notBefore, notAfter);
+    }
+
+    /**
+     * Generates a certificate. The CA key and certificate are passed as byte arrays so that, unlike with OpenSSL,
+     * they never have to be written into temporary files.
+     *
+     * The extensions match the ones OpenSSL adds using the Strimzi configuration: certificates with Subject
+     * Alternative Names carry only the SAN extension while the other certificates carry the subject key identifier,
+     * the basic constraints and the key usage.
+     *
+     * @param csrFile       CSR file
+     * @param caKey         Key of the CA which should sign this certificate
+     * @param caCert        Certificate of the CA which should sign this certificate
+     * @param crtFile       Cert file for the newly generated certificate
+     * @param sbj           Subject of the new certificate
+     * @param notBefore     Not before validity
+     * @param notAfter      Not after validity
+     *
+     * @throws IOException  Thrown when working with files fails
+     */
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(sbj);
+        checkValidity(notBefore, notAfter);
+
+        PKCS10CertificationRequest csr = PemUtils.readCsr(Files.readAllBytes(csrFile.toPath()));
+        X509Certificate issuer = PemUtils.readCertificate(caCert);
+        PrivateKey signingKey = PemUtils.readPrivateKey(caKey);
+
+        try {
+            if (!csr.isSignatureValid(new JcaContentVerifierProviderBuilder().build(csr.getSubjectPublicKeyInfo()))) {
+                throw new IllegalArgumentException("The signature of the CSR " + csrFile + " is not valid");
+            }
+
+            PublicKey publicKey = PemUtils.publicKey(csr);
+            X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(X500Name.getInstance(issuer.getSubjectX500Principal().getEncoded()),
+                    serialNumber(), Date.from(notBefore.toInstant()), Date.from(notAfter.toInstant()), csr.getSubject(), publicKey);
+
+            if (sbj.hasSubjectAltNames()) {
+                builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(sbj));
+            } else {
+                builder.addExtension(Extension.subjectKeyIdentifier, false, new JcaX509ExtensionUtils().createSubjectKeyIdentifier(publicKey))
+                        .addExtension(Extension.basicConstraints, true, new BasicConstraints(false))
+                        .addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.digitalSignature | KeyUsage.keyEncipherment));
+            }
+
+            PemUtils.writePem(crtFile, "CERTIFICATE", sign(builder, signingKey).getEncoded());
+        } catch (GeneralSecurityException | OperatorCreationException | PKCSException e) {
+            throw new RuntimeException("Failed to sign the certificate for " + sbj, e);
+        }
+    }
+
+    private void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    private KeyPair generateKeyPair(int keySize) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(keySize, random);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to generate the RSA key", e);
+        }
+    }
+
+    private BigInteger serialNumber() {
+        return new BigInteger(SERIAL_NUMBER_BITS, random);
+    }
+
+    private X509Certificate sign(X509v3CertificateBuilder builder, PrivateKey signingKey) throws OperatorCreationException, CertificateException {
+        ContentSigner signer = new JcaContentSignerBuilder(SIGNATURE_ALGORITHM).build(signingKey);
+        return new JcaX509CertificateConverter().getCertificate(builder.build(signer));
+    }
+
+    /**
+     * Builds the distinguished name in the same order as {@code openssl ca} does based on the Strimzi policy:
+     * organization first and common name second.
+     *
+     * @param subject   Subject of the certificate
+     *
+     * @return  X.500 name of the subject
+     */
+    /* test */ static X500Name x500Name(Subject subject) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+
+        if (subject.organizationName() != null) {
+            builder.addRDN(BCStyle.O, subject.organizationName());
+        }
+
+        if (subject.commonName() != null) {
+            builder.addRDN(BCStyle.CN, subject.commonName());
+        }
+
+        return builder.build();
+    }
+
+    private static GeneralNames subjectAltNames(Subject subject) {
+        List<GeneralName> names = new ArrayList<>(subject.dnsNames().size() + subject.ipAddresses().size());
+
+        for (String dnsName : subject.dnsNames()) {
+            names.add(new GeneralName(GeneralName.dNSName, dnsName));
+        }
+
+        for (String ipAddress : subject.ipAddresses()) {
+            names.add(new GeneralName(GeneralName.iPAddress, ipAddress));
+        }
+
+        return new GeneralNames(names.toArray(new GeneralName[0]));
+    }
+}
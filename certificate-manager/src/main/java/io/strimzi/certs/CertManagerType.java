@@ -0,0 +1,45 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.util.Locale;
+
+/**
+ * The available CertManager implementations
+ */
+public enum CertManagerType {
+    /**
+     * Certificates are generated by forking the openssl binary. See {@link OpenSslCertManager}.
+     */
+    OPENSSL,
+
+    /**
+     * Certificates are generated in-process using Bouncy Castle. See {@link BouncyCastleCertManager}.
+     */
+    BOUNCYCASTLE;
+
+    /**
+     * Parses the CertManager type from a String such as {@code openssl} or {@code bouncycastle}.
+     *
+     * @param value     The name of the CertManager type
+     *
+     * @throws IllegalArgumentException if the type is not known
+     *
+     * @return  The CertManager type
+     */
+    public static CertManagerType fromString(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * @return  New instance of the CertManager of this type
+     */
+    public CertManager newCertManager() {
+        return switch (this) {
+            case OPENSSL -> new OpenSslCertManager();
+            case BOUNCYCASTLE -> new BouncyCastleCertManager();
+        };
+    }
+}
@@ -9,7 +9,6 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -21,12 +20,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
-import java.security.cert.CertificateFactory;
-import java.security.cert.X509Certificate;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZonedDateTime;
@@ -335,38 +331,7 @@ public class OpenSslCertManager implements CertManager {
     @Override
     public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
             throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
-        // Preconditions
-        Objects.requireNonNull(certFile);
-        Objects.requireNonNull(certAlias);
-        Objects.requireNonNull(trustStoreFile);
-        Objects.requireNonNull(trustStorePassword);
-
-        FileInputStream isTrustStore = null;
-        try {
-            // check if the truststore file is empty or not, for loading its content eventually
-            // the KeyStore class is able to create an empty store if the input stream is null
-            if (trustStoreFile.length() > 0) {
-                isTrustStore = new FileInputStream(trustStoreFile);
-            }
-
-            try (FileInputStream isCertificate = new FileInputStream(certFile)) {
-
-                CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
-                X509Certificate certificate = (X509Certificate) certFactory.generateCertificate(isCertificate);
-
-                KeyStore trustStore = KeyStore.getInstance("PKCS12");
-                trustStore.load(isTrustStore, trustStorePassword.toCharArray());
-                trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
-
-                try (FileOutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
-                    trustStore.store(osTrustStore, trustStorePassword.toCharArray());
-                }
-            }
-        } finally {
-            if (isTrustStore != null) {
-                isTrustStore.close();
-            }
-        }
+        TrustStoreUtils.addCertToTrustStore(certFile, certAlias, trustStoreFile, trustStorePassword);
     }
 
     @Override
@@ -387,21 +352,7 @@ public class OpenSslCertManager implements CertManager {
     @Override
     public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
             throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
-        // Preconditions
-        Objects.requireNonNull(aliases);
-        Objects.requireNonNull(trustStoreFile);
-        Objects.requireNonNull(trustStorePassword);
-
-        try (FileInputStream isTrustStore = new FileInputStream(trustStoreFile)) {
-            KeyStore trustStore = KeyStore.getInstance("PKCS12");
-            trustStore.load(isTrustStore, trustStorePassword.toCharArray());
-            for (String alias : aliases) {
-                trustStore.deleteEntry(alias);
-            }
-            try (FileOutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
-                trustStore.store(osTrustStore, trustStorePassword.toCharArray());
-            }
-        }
+        TrustStoreUtils.deleteFromTrustStore(aliases, trustStoreFile, trustStorePassword);
     }
 
     @Override
@@ -0,0 +1,122 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.util.io.pem.PemObject;
+import org.bouncycastle.util.io.pem.PemWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+
+/**
+ * Reading and writing of the PEM encoded keys, certificates and CSRs used by {@link BouncyCastleCertManager}
+ */
+class PemUtils {
+    private PemUtils() { }
+
+    /**
+     * Extracts the public key from a CSR
+     *
+     * @param csr   Certificate signing request
+     *
+     * @return  The public key of the CSR subject
+     *
+     * @throws IOException  If the key cannot be parsed
+     */
+    static PublicKey publicKey(PKCS10CertificationRequest csr) throws IOException {
+        return new JcaPEMKeyConverter().getPublicKey(csr.getSubjectPublicKeyInfo());
+    }
+
+    /**
+     * Derives the public key from an RSA private key. This is used when renewing a CA certificate with an existing key.
+     *
+     * @param privateKey    RSA private key
+     *
+     * @return  The matching public key
+     */
+    static PublicKey publicKey(PrivateKey privateKey) {
+        if (privateKey instanceof RSAPrivateCrtKey rsaKey) {
+            try {
+                return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+            } catch (GeneralSecurityException e) {
+                throw new RuntimeException("Failed to derive the public key", e);
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported private key type " + privateKey.getAlgorithm());
+        }
+    }
+
+    /**
+     * Reads the private key from PEM. Both the PKCS#8 format used by Strimzi and the PKCS#1 format used by older
+     * OpenSSL versions are supported.
+     *
+     * @param pem   PEM encoded private key
+     *
+     * @return  The private key
+     *
+     * @throws IOException  If the key cannot be parsed
+     */
+    static PrivateKey readPrivateKey(byte[] pem) throws IOException {
+        Object parsed = readPemObject(pem);
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+
+        if (parsed instanceof PrivateKeyInfo keyInfo) {
+            return converter.getPrivateKey(keyInfo);
+        } else if (parsed instanceof PEMKeyPair keyPair) {
+            return converter.getKeyPair(keyPair).getPrivate();
+        } else {
+            throw new IOException("Failed to parse the private key: unexpected PEM content " + (parsed == null ? null : parsed.getClass().getSimpleName()));
+        }
+    }
+
+    static PKCS10CertificationRequest readCsr(byte[] pem) throws IOException {
+        Object parsed = readPemObject(pem);
+
+        if (parsed instanceof PKCS10CertificationRequest csr) {
+            return csr;
+        } else {
+            throw new IOException("Failed to parse the CSR: unexpected PEM content " + (parsed == null ? null : parsed.getClass().getSimpleName()));
+        }
+    }
+
+    private static Object readPemObject(byte[] pem) throws IOException {
+        try (PEMParser parser = new PEMParser(new StringReader(new String(pem, StandardCharsets.US_ASCII)))) {
+            return parser.readObject();
+        }
+    }
+
+    static X509Certificate readCertificate(byte[] pem) throws IOException {
+        try {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(pem));
+        } catch (CertificateException e) {
+            throw new IOException("Failed to parse the certificate", e);
+        }
+    }
+
+    static void writePem(File file, String type, byte[] content) throws IOException {
+        try (PemWriter writer = new PemWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.US_ASCII))) {
+            writer.writeObject(new PemObject(type, content));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * PKCS12 truststore handling shared by the CertManager implementations. The truststores are managed through the Java
+ * KeyStore API regardless of how the certificates themselves are generated.
+ */
+class TrustStoreUtils {
+    private TrustStoreUtils() { }
+
+    /**
+     * Add the provided certificate to the truststore which is created if it doesn't exist
+     *
+     * @param certFile path to the file which will contain the self signed certificate to store
+     * @param certAlias certificate alias in the store
+     * @param trustStoreFile path to the file related to the truststore
+     * @param trustStorePassword password for protecting the truststore
+     * @throws IOException If an input or output file could not be read/written.
+     * @throws CertificateException if any problems reading the certificate file in X509 format
+     * @throws KeyStoreException if any problems with reading/writing the truststore
+     * @throws NoSuchAlgorithmException if specified algorithm for truststore is not supported
+     */
+    static void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(certAlias);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        FileInputStream isTrustStore = null;
+        try {
+            // check if the truststore file is empty or not, for loading its content eventually
+            // the KeyStore class is able to create an empty store if the input stream is null
+            if (trustStoreFile.length() > 0) {
+                isTrustStore = new FileInputStream(trustStoreFile);
+            }
+
+            try (FileInputStream isCertificate = new FileInputStream(certFile)) {
+
+                CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
+                X509Certificate certificate = (X509Certificate) certFactory.generateCertificate(isCertificate);
+
+                KeyStore trustStore = KeyStore.getInstance("PKCS12");
+                trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+                trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+
+                try (FileOutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+                    trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+                }
+            }
+        } finally {
+            if (isTrustStore != null) {
+                isTrustStore.close();
+            }
+        }
+    }
+
+    /**
+     * Remove entries with provided aliases from the truststore
+     *
+     * @param aliases aliases to remove
+     * @param trustStoreFile path to the file related to the truststore
+     * @param trustStorePassword password for protecting the truststore
+     * @throws IOException If an input or output file could not be read/written.
+     * @throws CertificateException if any problems reading the certificate file in X509 format
+     * @throws KeyStoreException if any problems with reading/writing the truststore
+     * @throws NoSuchAlgorithmException if specified algorithm for truststore is not supported
+     */
+    static void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        try (FileInputStream isTrustStore = new FileInputStream(trustStoreFile)) {
+            KeyStore trustStore = KeyStore.getInstance("PKCS12");
+            trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+            for (String alias : aliases) {
+                trustStore.deleteEntry(alias);
+            }
+            try (FileOutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+                trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the OpenSSL and the Bouncy Castle based certificate managers. The {@code certificates} parameter
+ * corresponds to the number of per-pod certificates issued by the Cluster CA or Clients CA in one reconciliation
+ * (for example one per broker or ZooKeeper node). Each certificate goes through the same steps as in
+ * {@code Ca.generateSignedCert}: CSR, signing and PKCS12 keystore.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=io.strimzi.certs.CertManagerBenchmark}
+ * from the certificate-manager directory. The {@code openssl} implementation requires the openssl binary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CertManagerBenchmark {
+    @Param({"openssl", "bouncycastle"})
+    public String implementation;
+
+    @Param({"3", "10", "30"})
+    public int certificates;
+
+    private CertManager certManager;
+    private Path dir;
+    private byte[] caKey;
+    private byte[] caCert;
+    private Subject[] subjects;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        certManager = "openssl".equals(implementation) ? new OpenSslCertManager() : new BouncyCastleCertManager();
+        dir = Files.createTempDirectory(CertManagerBenchmark.class.getSimpleName());
+
+        File caKeyFile = dir.resolve("ca.key").toFile();
+        File caCertFile = dir.resolve("ca.crt").toFile();
+        Files.createFile(caKeyFile.toPath());
+        certManager.generateSelfSignedCert(caKeyFile, caCertFile, new Subject.Builder().withOrganizationName("io.strimzi").withCommonName("cluster-ca").build(), 365);
+        caKey = Files.readAllBytes(caKeyFile.toPath());
+        caCert = Files.readAllBytes(caCertFile.toPath());
+
+        subjects = new Subject[certificates];
+        for (int i = 0; i < certificates; i++) {
+            String podName = "my-cluster-kafka-" + i;
+            subjects[i] = new Subject.Builder()
+                    .withOrganizationName("io.strimzi")
+                    .withCommonName("my-cluster-kafka")
+                    .addDnsName("my-cluster-kafka-bootstrap")
+                    .addDnsName("my-cluster-kafka-bootstrap.myproject.svc")
+                    .addDnsName("my-cluster-kafka-bootstrap.myproject.svc.cluster.local")
+                    .addDnsName("my-cluster-kafka-brokers")
+                    .addDnsName(podName + ".my-cluster-kafka-brokers.myproject.svc")
+                    .addDnsName(podName + ".my-cluster-kafka-brokers.myproject.svc.cluster.local")
+                    .build();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        OpenSslCertManager.delete(dir);
+    }
+
+    /**
+     * Issues the per-pod certificates as done when rolling the certificates of a whole cluster
+     *
+     * @param blackhole     Blackhole consuming the generated keystores
+     *
+     * @throws IOException  When working with the files fails
+     */
+    @Benchmark
+    public void issueCertificates(Blackhole blackhole) throws IOException {
+        for (Subject subject : subjects) {
+            File keyFile = Files.createTempFile(dir, "tls", "key").toFile();
+            File csrFile = Files.createTempFile(dir, "tls", "csr").toFile();
+            File certFile = Files.createTempFile(dir, "tls", "cert").toFile();
+            File keyStoreFile = Files.createTempFile(dir, "tls", "p12").toFile();
+
+            certManager.generateCsr(keyFile, csrFile, subject);
+            certManager.generateCert(csrFile, caKey, caCert, certFile, subject, 365);
+            certManager.addKeyAndCertToKeyStore(keyFile, certFile, subject.commonName(), keyStoreFile, "changeit");
+
+            blackhole.consume(Files.readAllBytes(keyStoreFile.toPath()));
+
+            OpenSslCertManager.delete(keyFile.toPath());
+            OpenSslCertManager.delete(csrFile.toPath());
+            OpenSslCertManager.delete(certFile.toPath());
+            OpenSslCertManager.delete(keyStoreFile.toPath());
+        }
+    }
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args  Command line arguments (ignored)
+     *
+     * @throws RunnerException  When the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(CertManagerBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -159,7 +159,8 @@ public class ClusterOperator extends AbstractVerticle {
                         resourceOperatorSupplier.strimziPodSetOperator,
                         resourceOperatorSupplier.podOperations,
                         resourceOperatorSupplier.metricsProvider,
-                        config.getPodSetControllerWorkQueueSize()
+                        config.getPodSetControllerWorkQueueSize(),
+                        config.getPodSetControllerWorkers()
                 );
                 strimziPodSetController.start();
                 return null;
@@ -5,11 +5,13 @@
 package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.NoImageException;
 import io.strimzi.operator.cluster.model.UnsupportedVersionException;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
@@ -20,18 +22,22 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.BOOLEAN;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.CERT_MANAGER_TYPE;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.INTEGER;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LABEL_PREDICATE;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LOCAL_OBJECT_REFERENCE_LIST;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LONG;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.NAMESPACE_SET;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.STRING;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.strictlyPositive;
 
 /**
  * Cluster Operator configuration
@@ -218,6 +224,39 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORK_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE", INTEGER, "1024", CONFIG_VALUES);
 
+    /**
+     * Number of worker threads used by the StrimziPodSetController to reconcile the StrimziPodSets in parallel
+     */
+    public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORKERS = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORKERS", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+
+    /**
+     * Maximal number of Kafka broker pods which the KafkaRoller restarts at the same time. 1 disables the batch restarts.
+     */
+    public static final ConfigParameter<Integer> KAFKA_ROLLER_MAX_BATCH_SIZE = new ConfigParameter<>("STRIMZI_KAFKA_ROLLER_MAX_BATCH_SIZE", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+
+    /**
+     * Maximal number of reconciliations of the custom resources running at the same time. 0 means no limit.
+     */
+    public static final ConfigParameter<Integer> MAX_CONCURRENT_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_RECONCILIATIONS", INTEGER, "0", CONFIG_VALUES);
+
+    /**
+     * Maximal numbers of reconciliations of the custom resources running at the same time for the individual kinds
+     * (e.g. Kafka=2,KafkaConnect=5). The kinds which are not listed are not limited.
+     */
+    public static final ConfigParameter<Map<String, Integer>> MAX_CONCURRENT_RECONCILIATIONS_PER_KIND = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_RECONCILIATIONS_PER_KIND", parseConcurrencyLimits(), "", CONFIG_VALUES);
+
+    /**
+     * Kinds of the resources which are read from the informer-backed caches instead of the Kubernetes API server
+     * (e.g. ConfigMap,Secret,Service). Empty means that no resources are cached.
+     */
+    public static final ConfigParameter<Set<String>> RESOURCE_CACHE_KINDS = new ConfigParameter<>("STRIMZI_RESOURCE_CACHE_KINDS", parseResourceKinds(ResourceOperatorSupplier.CACHEABLE_KINDS, "cached"), "", CONFIG_VALUES);
+
+    /**
+     * Kinds of the resources which are created and updated using server-side apply instead of reading, diffing and
+     * patching them (e.g. ConfigMap,Secret). Empty means that server-side apply is not used.
+     */
+    public static final ConfigParameter<Set<String>> SERVER_SIDE_APPLY_KINDS = new ConfigParameter<>("STRIMZI_SERVER_SIDE_APPLY_KINDS", parseResourceKinds(ResourceOperatorSupplier.SERVER_SIDE_APPLY_KINDS, "reconciled using server-side apply"), "", CONFIG_VALUES);
+
 
     /**
      * The Pod name of the cluster operator, used to identify source of K8s events the operator creates
@@ -234,6 +273,11 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Boolean> LEADER_ELECTION_ENABLED = new ConfigParameter<>("STRIMZI_LEADER_ELECTION_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
 
+    /**
+     * Implementation used to generate the certificates: openssl (forks the openssl binary) or bouncycastle (in-process)
+     */
+    public static final ConfigParameter<CertManagerType> CERT_MANAGER = new ConfigParameter<>("STRIMZI_CERT_MANAGER", CERT_MANAGER_TYPE, "openssl", CONFIG_VALUES);
+
     private static final ConfigParameter<String> POD_SECURITY_PROVIDER_BASELINE_SHORTCUT = new ConfigParameter<>("POD_SECURITY_PROVIDER_BASELINE_SHORTCUT", STRING, "baseline", CONFIG_VALUES);
 
     /**
@@ -390,6 +434,42 @@ public class ClusterOperatorConfig {
         return FeatureGates::new;
     }
 
+    static ConfigParameterParser<Map<String, Integer>> parseConcurrencyLimits() {
+        return limitsEnvVar -> {
+            Map<String, Integer> limits = new HashMap<>();
+
+            try {
+                for (Map.Entry<String, String> limit : Util.parseMap(limitsEnvVar).entrySet()) {
+                    limits.put(limit.getKey(), Integer.parseInt(limit.getValue()));
+                }
+            } catch (RuntimeException e) {
+                throw new InvalidConfigurationException("Failed to parse the concurrency limits " + limitsEnvVar + ". They should be in the format <kind>=<limit>,<kind>=<limit>.");
+            }
+
+            return Collections.unmodifiableMap(limits);
+        };
+    }
+
+    static ConfigParameterParser<Set<String>> parseResourceKinds(Set<String> supportedKinds, String feature) {
+        return kindsEnvVar -> {
+            Set<String> kinds = new HashSet<>();
+
+            for (String kind : kindsEnvVar.split(",")) {
+                kind = kind.trim();
+
+                if (!kind.isEmpty()) {
+                    if (!supportedKinds.contains(kind)) {
+                        throw new InvalidConfigurationException("Resource kind " + kind + " cannot be " + feature + ". The supported kinds are " + new TreeSet<>(supportedKinds) + ".");
+                    }
+
+                    kinds.add(kind);
+                }
+            }
+
+            return Collections.unmodifiableSet(kinds);
+        };
+    }
+
     static ConfigParameterParser<ImagePullPolicy> parseImagePullPolicy() {
         return imagePullPolicyEnvVar -> {
             ImagePullPolicy imagePullPolicy = null;
@@ -582,6 +662,48 @@ public class ClusterOperatorConfig {
         return get(POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
     }
 
+    /**
+     * @return Returns the number of StrimziPodSetController worker threads
+     */
+    public int getPodSetControllerWorkers() {
+        return get(POD_SET_CONTROLLER_WORKERS);
+    }
+
+    /**
+     * @return Returns the maximal number of Kafka broker pods restarted together by the KafkaRoller
+     */
+    public int getKafkaRollerMaxBatchSize() {
+        return get(KAFKA_ROLLER_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @return Returns the maximal number of reconciliations running at the same time
+     */
+    public int getMaxConcurrentReconciliations() {
+        return get(MAX_CONCURRENT_RECONCILIATIONS);
+    }
+
+    /**
+     * @return Returns the maximal numbers of reconciliations running at the same time for the individual kinds
+     */
+    public Map<String, Integer> getMaxConcurrentReconciliationsPerKind() {
+        return get(MAX_CONCURRENT_RECONCILIATIONS_PER_KIND);
+    }
+
+    /**
+     * @return Returns the kinds of the resources which are read from the informer-backed caches
+     */
+    public Set<String> getResourceCacheKinds() {
+        return get(RESOURCE_CACHE_KINDS);
+    }
+
+    /**
+     * @return Returns the kinds of the resources which are reconciled using server-side apply
+     */
+    public Set<String> getServerSideApplyKinds() {
+        return get(SERVER_SIDE_APPLY_KINDS);
+    }
+
     /**
      * @return  The name of this operator
      */
@@ -596,6 +718,13 @@ public class ClusterOperatorConfig {
         return parsePodSecurityProviderClass(get(POD_SECURITY_PROVIDER_CLASS));
     }
 
+    /**
+     * @return Returns the type of the CertManager used to generate the certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return get(CERT_MANAGER);
+    }
+
     /**
      * @return Returns the Leader Election Manager configuration
      */
@@ -627,9 +756,14 @@ public class ClusterOperatorConfig {
                 "\n\tdnsCacheTtlSec=" + getDnsCacheTtlSec() +
                 "\n\tpodSetReconciliationOnly=" + isPodSetReconciliationOnly() +
                 "\n\tpodSetControllerWorkQueueSize=" + getPodSetControllerWorkQueueSize() +
+                "\n\tpodSetControllerWorkers=" + getPodSetControllerWorkers() +
+                "\n\tkafkaRollerMaxBatchSize=" + getKafkaRollerMaxBatchSize() +
+                "\n\tmaxConcurrentReconciliations=" + getMaxConcurrentReconciliations() +
+                "\n\tmaxConcurrentReconciliationsPerKind=" + getMaxConcurrentReconciliationsPerKind() +
                 "\n\toperatorName='" + getOperatorName() + '\'' +
                 "\n\tpodSecurityProviderClass='" + getPodSecurityProviderClass() + '\'' +
                 "\n\tleaderElectionConfig='" + getLeaderElectionConfig() + '\'' +
+                "\n\tcertManagerType=" + getCertManagerType() +
                 "}";
     }
 }
@@ -8,7 +8,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManager;
 import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
@@ -154,6 +154,18 @@ public class Main {
                 config.getOperationTimeoutMs(),
                 config.getOperatorName()
         );
+        resourceOperatorSupplier.reconciliationScheduler.setLimits(config.getMaxConcurrentReconciliations(), config.getMaxConcurrentReconciliationsPerKind());
+
+        if (!config.getResourceCacheKinds().isEmpty()) {
+            LOGGER.info("Enabling resource caches for {}", config.getResourceCacheKinds());
+            resourceOperatorSupplier.enableResourceCaches(config.getNamespaces(), config.getResourceCacheKinds());
+            shutdownHook.register(() -> resourceOperatorSupplier.stopResourceCaches(SHUTDOWN_TIMEOUT));
+        }
+
+        if (!config.getServerSideApplyKinds().isEmpty()) {
+            LOGGER.info("Enabling server-side apply for {}", config.getServerSideApplyKinds());
+            resourceOperatorSupplier.enableServerSideApply(config.getServerSideApplyKinds());
+        }
 
         // Initialize the PodSecurityProvider factory to provide the user configured provider
         PodSecurityProviderFactory.initialize(config.getPodSecurityProviderClass(), pfa);
@@ -166,7 +178,7 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator = null;
 
         if (!config.isPodSetReconciliationOnly()) {
-            OpenSslCertManager certManager = new OpenSslCertManager();
+            CertManager certManager = config.getCertManagerType().newCertManager();
             PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                     "abcdefghijklmnopqrstuvwxyz" +
                             "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
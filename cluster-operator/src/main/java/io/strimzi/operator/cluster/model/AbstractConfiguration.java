@@ -5,6 +5,7 @@
 
 package io.strimzi.operator.cluster.model;
 
+import io.strimzi.kafka.config.model.PrefixIndex;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.OrderedProperties;
@@ -13,6 +14,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Arrays.asList;
 
@@ -22,6 +24,12 @@ import static java.util.Arrays.asList;
 public abstract class AbstractConfiguration {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractConfiguration.class.getName());
 
+    /**
+     * Indexes of the forbidden prefixes. The forbidden prefixes are constants of the configuration classes, so the
+     * index is built only once for each of them.
+     */
+    private static final Map<List<String>, PrefixIndex> PREFIX_INDEXES = new ConcurrentHashMap<>();
+
     private final OrderedProperties options = new OrderedProperties();
 
     /**
@@ -137,19 +145,17 @@ public abstract class AbstractConfiguration {
      * @param forbiddenPrefixExceptions Exceptions excluded from forbidden prefix options checking
      */
     private void filterForbidden(Reconciliation reconciliation, List<String> forbiddenPrefixes, List<String> forbiddenPrefixExceptions)   {
-        options.filter(k -> forbiddenPrefixes.stream().anyMatch(s -> {
-            boolean forbidden = k.toLowerCase(Locale.ENGLISH).startsWith(s);
-            if (forbidden) {
-                if (forbiddenPrefixExceptions.contains(k))
-                    forbidden = false;
-            }
-            if (forbidden) {
+        PrefixIndex forbidden = PREFIX_INDEXES.computeIfAbsent(forbiddenPrefixes, PrefixIndex::new);
+
+        options.filter(k -> {
+            if (forbidden.matches(k.toLowerCase(Locale.ENGLISH)) && !forbiddenPrefixExceptions.contains(k)) {
                 LOGGER.warnCr(reconciliation, "Configuration option \"{}\" is forbidden and will be ignored", k);
+                return true;
             } else {
                 LOGGER.traceCr(reconciliation, "Configuration option \"{}\" is allowed and will be passed to the assembly", k);
+                return false;
             }
-            return forbidden;
-        }));
+        });
     }
 
     private void filterForbidden(Reconciliation reconciliation, List<String> forbiddenPrefixes)   {
@@ -5,14 +5,11 @@
 
 package io.strimzi.operator.cluster.model;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.kafka.KafkaClusterSpec;
-import io.strimzi.kafka.config.model.ConfigModel;
-import io.strimzi.kafka.config.model.ConfigModels;
+import io.strimzi.kafka.config.model.ConfigModelIndex;
+import io.strimzi.kafka.config.model.ConfigModelRegistry;
 import io.strimzi.operator.common.Reconciliation;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -48,6 +45,11 @@ public class KafkaConfiguration extends AbstractConfiguration {
     private static final List<String> FORBIDDEN_PREFIXES;
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
+    /**
+     * Configuration models of the Kafka versions shared by the whole Cluster Operator
+     */
+    private static final ConfigModelRegistry CONFIG_MODELS = new ConfigModelRegistry(KafkaConfiguration.class);
+
     static {
         FORBIDDEN_PREFIXES = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIXES);
         FORBIDDEN_PREFIX_EXCEPTIONS = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIX_EXCEPTIONS);
@@ -237,43 +239,23 @@ public class KafkaConfiguration extends AbstractConfiguration {
      */
     public List<String> validate(KafkaVersion kafkaVersion) {
         List<String> errors = new ArrayList<>();
-        Map<String, ConfigModel> models = readConfigModel(kafkaVersion);
+        ConfigModelIndex models = configModel(kafkaVersion);
         for (Map.Entry<String, String> entry: asOrderedProperties().asMap().entrySet()) {
-            String key = entry.getKey();
-            String value = entry.getValue();
-            ConfigModel config = models.get(key);
-            if (config != null) {
-                // It's not an error if config _is_ null because extra configs
-                // might be intended for plugins
-                errors.addAll(config.validate(key, value));
-            }
+            // It's not an error if the config is not in the model because extra configs might be intended for plugins
+            errors.addAll(models.validate(entry.getKey(), entry.getValue()));
         }
         return errors;
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The model is loaded only once and shared.
+     *
      * @param kafkaVersion The broker version.
+     *
      * @return The config model for that broker version.
      */
-    public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
-        String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
-        try {
-            try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
-                if (in != null) {
-                    ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
-                    if (!kafkaVersion.version().equals(configModels.getVersion())) {
-                        throw new RuntimeException("Incorrect version");
-                    }
-                    return configModels.getConfigs();
-                } else {
-                    // The configuration model does not exist
-                    throw new RuntimeException("Configuration model " + name + " was not found");
-                }
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading from classpath resource " + name, e);
-        }
+    public static ConfigModelIndex configModel(KafkaVersion kafkaVersion) {
+        return CONFIG_MODELS.configModel(kafkaVersion.version());
     }
 
     /**
@@ -283,10 +265,10 @@ public class KafkaConfiguration extends AbstractConfiguration {
      * @return The unknown configs.
      */
     public Set<String> unknownConfigsWithValues(KafkaVersion kafkaVersion) {
-        Map<String, ConfigModel> configModel = readConfigModel(kafkaVersion);
+        ConfigModelIndex configModel = configModel(kafkaVersion);
         Set<String> result = new HashSet<>();
         for (Map.Entry<String, String> e :this.asOrderedProperties().asMap().entrySet()) {
-            if (!configModel.containsKey(e.getKey())) {
+            if (!configModel.contains(e.getKey())) {
                 result.add(e.getKey() + "=" + e.getValue());
             }
         }
@@ -88,6 +88,8 @@ public abstract class AbstractOperator<
 
     protected final OperatorMetricsHolder metrics;
 
+    private final ReconciliationScheduler scheduler;
+
     private final Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
 
     /**
@@ -100,13 +102,15 @@ public abstract class AbstractOperator<
      * @param resourceOperator  Resource operator for given custom resource
      * @param metrics           MetricsHolder for managing operator metrics
      * @param selectorLabels    Selector labels for selecting custom resources which should be operated
+     * @param scheduler         Scheduler which limits the number of reconciliations running at the same time
      */
-    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, OperatorMetricsHolder metrics, Labels selectorLabels) {
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, OperatorMetricsHolder metrics, Labels selectorLabels, ReconciliationScheduler scheduler) {
         this.vertx = vertx;
         this.kind = kind;
         this.resourceOperator = resourceOperator;
         this.selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? null : new LabelSelector(null, selectorLabels.toMap());
         this.metrics = metrics;
+        this.scheduler = scheduler;
     }
 
     /**
@@ -119,9 +123,10 @@ public abstract class AbstractOperator<
      * @param resourceOperator  Resource operator for given custom resource
      * @param metricsProvider   Metrics provider which should be used to create the OperatorMetricsHolder instance
      * @param selectorLabels    Selector labels for selecting custom resources which should be operated
+     * @param scheduler         Scheduler which limits the number of reconciliations running at the same time
      */
-    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metricsProvider, Labels selectorLabels) {
-        this(vertx, kind, resourceOperator, new OperatorMetricsHolder(kind, selectorLabels, metricsProvider), selectorLabels);
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metricsProvider, Labels selectorLabels, ReconciliationScheduler scheduler) {
+        this(vertx, kind, resourceOperator, new OperatorMetricsHolder(kind, selectorLabels, metricsProvider), selectorLabels, scheduler);
     }
 
     @Override
@@ -185,9 +190,13 @@ public abstract class AbstractOperator<
         metrics().reconciliationsCounter(reconciliation.namespace()).increment();
         Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
 
-        Future<Void> handler = withLock(reconciliation, LOCK_TIMEOUT_MS, () ->
-            resourceOperator.getAsync(namespace, name)
-                .compose(cr -> cr != null ? reconcileResource(reconciliation, cr) : reconcileDeletion(reconciliation)));
+        // The lock is acquired only once the scheduler starts the reconciliation. Otherwise, reconciliations waiting
+        // in the scheduler queue would hold the lock and other reconciliations of the same resource would time out.
+        // The scheduler does not start a reconciliation of a resource which is already being reconciled, so the
+        // reconciliation does not hold a scheduler slot while waiting for the lock.
+        Future<Void> handler = scheduler.schedule(reconciliation, () ->
+            withLock(reconciliation, LOCK_TIMEOUT_MS, () -> resourceOperator.getAsync(namespace, name)
+                .compose(cr -> cr != null ? reconcileResource(reconciliation, cr) : reconcileDeletion(reconciliation))));
 
         Promise<Void> result = Promise.promise();
         handler.onComplete(reconcileResult ->
@@ -25,6 +25,7 @@ import io.strimzi.operator.cluster.model.RestartReason;
 import io.strimzi.operator.cluster.model.RestartReasons;
 import io.strimzi.operator.cluster.operator.resource.KafkaAgentClientProvider;
 import io.strimzi.operator.cluster.operator.resource.KafkaRoller;
+import io.strimzi.operator.cluster.operator.resource.KafkaRollerMetricsHolder;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.ZooKeeperRoller;
 import io.strimzi.operator.cluster.operator.resource.ZookeeperLeaderFinder;
@@ -67,6 +68,8 @@ public class CaReconciler {
     /* test */ final Reconciliation reconciliation;
     private final Vertx vertx;
     private final long operationTimeoutMs;
+    private final int kafkaRollerMaxBatchSize;
+    private final KafkaRollerMetricsHolder kafkaRollerMetrics;
 
     /* test */ final DeploymentOperator deploymentOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
@@ -120,6 +123,8 @@ public class CaReconciler {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.kafkaRollerMaxBatchSize = config.getKafkaRollerMaxBatchSize();
+        this.kafkaRollerMetrics = supplier.kafkaRollerMetrics;
 
         this.deploymentOperator = supplier.deploymentOperations;
         this.strimziPodSetOperator = supplier.strimziPodSetOperator;
@@ -539,7 +544,9 @@ public class CaReconciler {
                 null,
                 null,
                 false,
-                eventPublisher
+                eventPublisher,
+                kafkaRollerMaxBatchSize,
+                kafkaRollerMetrics
         ).rollingRestart(pod -> {
             LOGGER.debugCr(reconciliation, "Rolling Pod {} due to {}", pod.getMetadata().getName(), podRollReasons.getReasons());
             return podRollReasons;
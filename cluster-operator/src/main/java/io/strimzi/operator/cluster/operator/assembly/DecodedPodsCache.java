@@ -0,0 +1,121 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.api.kafka.model.podset.StrimziPodSet;
+import io.strimzi.operator.cluster.model.PodSetUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the Pods decoded from the StrimziPodSets. The entries are keyed by the StrimziPodSet UID and are valid only
+ * for the StrimziPodSet generation they were decoded from. The spec of a StrimziPodSet changes only together with its
+ * generation, so reconciliations triggered by Pod events (for example when a Pod becomes ready) can use the cached
+ * Pods instead of converting the Pod maps again.
+ *
+ * The cached Pods are shared between reconciliations and must not be modified.
+ */
+class DecodedPodsCache {
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+    private final StrimziPodSetControllerMetricsHolder metrics;
+    private final String watchedNamespace;
+
+    /**
+     * Creates the cache
+     *
+     * @param metrics           Metrics holder
+     * @param watchedNamespace  Namespace watched by the controller (used for the cache size metric)
+     */
+    DecodedPodsCache(StrimziPodSetControllerMetricsHolder metrics, String watchedNamespace) {
+        this.metrics = metrics;
+        this.watchedNamespace = watchedNamespace;
+    }
+
+    /**
+     * Returns the Pods from the StrimziPodSet. When the same generation of the StrimziPodSet was decoded before, the
+     * cached Pods are returned. Otherwise, the Pods are decoded and replace any older generation in the cache.
+     *
+     * @param podSet    StrimziPodSet with the Pods
+     *
+     * @return  Unmodifiable list with the Pods
+     */
+    List<Pod> pods(StrimziPodSet podSet) {
+        String namespace = podSet.getMetadata().getNamespace();
+        String uid = podSet.getMetadata().getUid();
+        Long generation = podSet.getMetadata().getGeneration();
+
+        Entry entry = uid != null ? cache.get(uid) : null;
+        if (entry != null && Objects.equals(entry.generation, generation)) {
+            metrics.decodedPodsCacheHitsCounter(namespace).increment();
+            return entry.pods;
+        }
+
+        metrics.decodedPodsCacheMissesCounter(namespace).increment();
+        Timer.Sample decodingTimerSample = Timer.start(metrics.metricsProvider().meterRegistry());
+        List<Pod> pods = PodSetUtils.podSetToPods(podSet);
+        decodingTimerSample.stop(metrics.podsDecodingTimer(namespace));
+
+        if (uid != null && generation != null) {
+            cache.put(uid, new Entry(generation, pods));
+            updateSizeMetric();
+        }
+
+        return pods;
+    }
+
+    /**
+     * Removes the decoded Pods of the StrimziPodSet from the cache unless they belong to the current generation. This
+     * is used when the StrimziPodSet is updated.
+     *
+     * @param podSet    Updated StrimziPodSet
+     */
+    void evictOutdated(StrimziPodSet podSet) {
+        String uid = podSet.getMetadata().getUid();
+
+        if (uid != null) {
+            Long generation = podSet.getMetadata().getGeneration();
+            cache.computeIfPresent(uid, (k, entry) -> Objects.equals(entry.generation, generation) ? entry : null);
+            updateSizeMetric();
+        }
+    }
+
+    /**
+     * Removes the decoded Pods of the StrimziPodSet from the cache. This is used when the StrimziPodSet is deleted.
+     *
+     * @param podSet    Deleted StrimziPodSet
+     */
+    void evict(StrimziPodSet podSet) {
+        String uid = podSet.getMetadata().getUid();
+
+        if (uid != null) {
+            cache.remove(uid);
+            updateSizeMetric();
+        }
+    }
+
+    /**
+     * @return  Number of StrimziPodSets in the cache
+     */
+    int size() {
+        return cache.size();
+    }
+
+    private void updateSizeMetric() {
+        metrics.decodedPodsCacheSize(watchedNamespace).set(cache.size());
+    }
+
+    /**
+     * Cache entry with the decoded Pods
+     *
+     * @param generation    Generation of the StrimziPodSet the Pods were decoded from
+     * @param pods          Decoded Pods
+     */
+    private record Entry(Long generation, List<Pod> pods) { }
+}
@@ -47,6 +47,7 @@ import io.strimzi.operator.cluster.operator.resource.ConcurrentDeletionException
 import io.strimzi.operator.cluster.operator.resource.KafkaAgentClient;
 import io.strimzi.operator.cluster.operator.resource.KafkaAgentClientProvider;
 import io.strimzi.operator.cluster.operator.resource.KafkaRoller;
+import io.strimzi.operator.cluster.operator.resource.KafkaRollerMetricsHolder;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.StatefulSetOperator;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
@@ -110,6 +111,8 @@ public class KafkaReconciler {
 
     // Various settings
     private final long operationTimeoutMs;
+    private final int kafkaRollerMaxBatchSize;
+    private final KafkaRollerMetricsHolder kafkaRollerMetrics;
     private final boolean isNetworkPolicyGeneration;
     private final boolean isKafkaNodePoolsEnabled;
     private final List<String> maintenanceWindows;
@@ -190,6 +193,8 @@ public class KafkaReconciler {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.kafkaRollerMaxBatchSize = config.getKafkaRollerMaxBatchSize();
+        this.kafkaRollerMetrics = supplier.kafkaRollerMetrics;
         this.kafkaNodePoolCrs = nodePools;
         this.kafka = kafka;
         this.kafkaMetadataStateManager = kafkaMetadataStateManager;
@@ -443,7 +448,9 @@ public class KafkaReconciler {
                                 logging,
                                 kafka.getKafkaVersion(),
                                 allowReconfiguration,
-                                eventsPublisher
+                                eventsPublisher,
+                                kafkaRollerMaxBatchSize,
+                                kafkaRollerMetrics
                         ).rollingRestart(podNeedsRestart));
     }
 
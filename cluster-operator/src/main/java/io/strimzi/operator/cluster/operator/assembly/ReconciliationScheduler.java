@@ -0,0 +1,304 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Limits how many reconciliations of the custom resources run at the same time across all the operators of the
+ * Cluster Operator. It supports a global limit and limits for the individual kinds (e.g. to run only a few Kafka
+ * reconciliations in parallel while the KafkaBridge reconciliations are not limited).
+ *
+ * The reconciliations which cannot start right away are queued. The reconciliations triggered by changes (for example
+ * by the watches) are started before the periodic reconciliations. Within the same priority, the namespaces take turns,
+ * so that a namespace with many custom resources does not delay the reconciliations in the other namespaces.
+ *
+ * Only one reconciliation of the same custom resource runs at a time. A reconciliation of a custom resource which is
+ * already being reconciled stays in the queue without taking any slot until the running one completes. At most one
+ * reconciliation of each custom resource is queued. Further reconciliations of the same custom resource are completed
+ * right away with {@link AbstractOperator.UnableToAcquireLockException}, because the queued reconciliation will pick
+ * up their changes anyway. When the new reconciliation was triggered by a change and the queued one is periodic, the
+ * new one replaces the queued one instead.
+ *
+ * A limit of 0 or less means no limit. Without any limits, the reconciliations are started right away unless the same
+ * custom resource is already being reconciled.
+ */
+public class ReconciliationScheduler {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationScheduler.class);
+
+    /**
+     * Trigger used for the periodic reconciliations. These have lower priority than the reconciliations with any other
+     * trigger.
+     */
+    /* test */ static final String PERIODIC_TRIGGER = "timer";
+
+    private final ReconciliationSchedulerMetricsHolder metrics;
+
+    private int maxConcurrentReconciliations;
+    private Map<String, Integer> maxConcurrentReconciliationsPerKind;
+
+    // Queues with the waiting reconciliations indexed by priority. Each of them maps the namespaces to their own queues
+    // in the order in which the namespaces take turns.
+    private final List<Map<String, Deque<ScheduledReconciliation<?>>>> queues = List.of(new LinkedHashMap<>(), new LinkedHashMap<>());
+    private final Map<String, Integer> runningPerKind = new HashMap<>();
+    private final Map<String, ScheduledReconciliation<?>> queuedResources = new HashMap<>();
+    private final Set<String> runningResources = new HashSet<>();
+    private int running = 0;
+
+    /**
+     * Constructs the scheduler without any limits
+     *
+     * @param metricsProvider   Metrics provider
+     */
+    public ReconciliationScheduler(MetricsProvider metricsProvider) {
+        this(0, Map.of(), metricsProvider);
+    }
+
+    /**
+     * Constructs the scheduler
+     *
+     * @param maxConcurrentReconciliations          Maximal number of reconciliations running at the same time
+     * @param maxConcurrentReconciliationsPerKind   Maximal numbers of reconciliations running at the same time for the
+     *                                              individual kinds
+     * @param metricsProvider                       Metrics provider
+     */
+    public ReconciliationScheduler(int maxConcurrentReconciliations, Map<String, Integer> maxConcurrentReconciliationsPerKind, MetricsProvider metricsProvider) {
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.maxConcurrentReconciliationsPerKind = maxConcurrentReconciliationsPerKind;
+        this.metrics = new ReconciliationSchedulerMetricsHolder(metricsProvider);
+    }
+
+    /**
+     * Changes the limits of the scheduler. The queued reconciliations allowed by the new limits are started right away.
+     *
+     * @param maxConcurrentReconciliations          Maximal number of reconciliations running at the same time
+     * @param maxConcurrentReconciliationsPerKind   Maximal numbers of reconciliations running at the same time for the
+     *                                              individual kinds
+     */
+    public void setLimits(int maxConcurrentReconciliations, Map<String, Integer> maxConcurrentReconciliationsPerKind) {
+        synchronized (this) {
+            this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+            this.maxConcurrentReconciliationsPerKind = maxConcurrentReconciliationsPerKind;
+        }
+
+        dispatch();
+    }
+
+    /**
+     * Schedules the reconciliation. The reconciliation is started when the limits allow it.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param reconcile         Supplier which starts the reconciliation
+     *
+     * @return  Future which completes with the result of the reconciliation once it is finished
+     *
+     * @param <T>   Type of the reconciliation result
+     */
+    public <T> Future<T> schedule(Reconciliation reconciliation, Supplier<Future<T>> reconcile) {
+        ScheduledReconciliation<T> scheduled = new ScheduledReconciliation<>(reconciliation, reconcile, Timer.start(metrics.metricsProvider().meterRegistry()), Promise.promise());
+        ScheduledReconciliation<?> duplicate;
+
+        synchronized (this) {
+            String resource = resourceKey(reconciliation);
+            ScheduledReconciliation<?> queued = queuedResources.get(resource);
+
+            if (queued != null && priority(reconciliation) >= priority(queued.reconciliation())) {
+                duplicate = scheduled;
+            } else {
+                if (queued != null) {
+                    // The queued periodic reconciliation is replaced by the reconciliation triggered by a change
+                    dequeue(queued);
+                }
+
+                duplicate = queued;
+                queuedResources.put(resource, scheduled);
+                queues.get(priority(reconciliation))
+                        .computeIfAbsent(reconciliation.namespace(), ns -> new ArrayDeque<>())
+                        .addLast(scheduled);
+                metrics.queuedReconciliations(reconciliation.kind()).incrementAndGet();
+            }
+        }
+
+        if (duplicate != null) {
+            LOGGER.debugCr(duplicate.reconciliation(), "Another reconciliation of the same resource is already queued");
+            duplicate.result().fail(new AbstractOperator.UnableToAcquireLockException());
+        }
+
+        dispatch();
+
+        return scheduled.result().future();
+    }
+
+    /**
+     * Removes the queued reconciliation from the queues
+     *
+     * @param queued    Queued reconciliation
+     */
+    private void dequeue(ScheduledReconciliation<?> queued) {
+        Map<String, Deque<ScheduledReconciliation<?>>> queue = queues.get(priority(queued.reconciliation()));
+        Deque<ScheduledReconciliation<?>> namespaceQueue = queue.get(queued.reconciliation().namespace());
+        namespaceQueue.remove(queued);
+
+        if (namespaceQueue.isEmpty()) {
+            queue.remove(queued.reconciliation().namespace());
+        }
+
+        metrics.queuedReconciliations(queued.reconciliation().kind()).decrementAndGet();
+    }
+
+    private static String resourceKey(Reconciliation reconciliation) {
+        return reconciliation.kind() + "/" + reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    /**
+     * @return  Number of reconciliations waiting in the queue
+     */
+    /* test */ synchronized int queued() {
+        return queues.stream().flatMap(queue -> queue.values().stream()).mapToInt(Deque::size).sum();
+    }
+
+    /**
+     * @return  Number of running reconciliations
+     */
+    /* test */ synchronized int running() {
+        return running;
+    }
+
+    private static int priority(Reconciliation reconciliation) {
+        return PERIODIC_TRIGGER.equals(reconciliation.trigger()) ? 1 : 0;
+    }
+
+    /**
+     * Starts the queued reconciliations for which the limits allow it.
+     */
+    private void dispatch() {
+        List<ScheduledReconciliation<?>> toStart = new ArrayList<>();
+
+        synchronized (this) {
+            ScheduledReconciliation<?> next;
+            while ((next = next()) != null) {
+                String kind = next.reconciliation().kind();
+
+                running++;
+                runningPerKind.merge(kind, 1, Integer::sum);
+                queuedResources.remove(resourceKey(next.reconciliation()));
+                runningResources.add(resourceKey(next.reconciliation()));
+                metrics.queuedReconciliations(kind).decrementAndGet();
+                metrics.runningReconciliations(kind).incrementAndGet();
+
+                toStart.add(next);
+            }
+        }
+
+        // The reconciliations are started outside the synchronized block as they might complete right away
+        for (ScheduledReconciliation<?> scheduled : toStart) {
+            start(scheduled);
+        }
+    }
+
+    /**
+     * Removes the next reconciliation which can be started from the queues. The namespace of the removed
+     * reconciliation is moved to the end of the turn order.
+     *
+     * @return  The reconciliation to start or null if there is none
+     */
+    private ScheduledReconciliation<?> next() {
+        if (maxConcurrentReconciliations > 0 && running >= maxConcurrentReconciliations) {
+            return null;
+        }
+
+        for (Map<String, Deque<ScheduledReconciliation<?>>> queue : queues) {
+            for (Map.Entry<String, Deque<ScheduledReconciliation<?>>> namespaceQueue : queue.entrySet()) {
+                Iterator<ScheduledReconciliation<?>> iterator = namespaceQueue.getValue().iterator();
+
+                while (iterator.hasNext()) {
+                    ScheduledReconciliation<?> scheduled = iterator.next();
+
+                    if (hasCapacity(scheduled.reconciliation().kind())
+                            && !runningResources.contains(resourceKey(scheduled.reconciliation()))) {
+                        iterator.remove();
+
+                        String namespace = namespaceQueue.getKey();
+                        Deque<ScheduledReconciliation<?>> remaining = queue.remove(namespace);
+                        if (!remaining.isEmpty()) {
+                            queue.put(namespace, remaining);
+                        }
+
+                        return scheduled;
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private boolean hasCapacity(String kind) {
+        int limit = maxConcurrentReconciliationsPerKind.getOrDefault(kind, 0);
+        return limit <= 0 || runningPerKind.getOrDefault(kind, 0) < limit;
+    }
+
+    private <T> void start(ScheduledReconciliation<T> scheduled) {
+        Reconciliation reconciliation = scheduled.reconciliation();
+        long waitedNs = scheduled.queueSample().stop(metrics.queueWaitTimer(reconciliation.kind()));
+        LOGGER.debugCr(reconciliation, "Starting reconciliation after waiting {}ms in the queue", waitedNs / 1_000_000L);
+
+        Timer.Sample runSample = Timer.start(metrics.metricsProvider().meterRegistry());
+        Future<T> result;
+        try {
+            result = scheduled.reconcile().get();
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        result.onComplete(res -> {
+            runSample.stop(metrics.runTimer(reconciliation.kind()));
+            release(reconciliation);
+            scheduled.result().handle(res);
+        });
+    }
+
+    private void release(Reconciliation reconciliation) {
+        String kind = reconciliation.kind();
+
+        synchronized (this) {
+            running--;
+            runningResources.remove(resourceKey(reconciliation));
+            runningPerKind.merge(kind, -1, Integer::sum);
+            metrics.runningReconciliations(kind).decrementAndGet();
+        }
+
+        dispatch();
+    }
+
+    /**
+     * Queued reconciliation
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param reconcile         Supplier which starts the reconciliation
+     * @param queueSample       Timer sample started when the reconciliation was queued
+     * @param result            Promise completed with the result of the reconciliation
+     *
+     * @param <T>   Type of the reconciliation result
+     */
+    private record ScheduledReconciliation<T>(Reconciliation reconciliation, Supplier<Future<T>> reconcile, Timer.Sample queueSample, Promise<T> result) { }
+}
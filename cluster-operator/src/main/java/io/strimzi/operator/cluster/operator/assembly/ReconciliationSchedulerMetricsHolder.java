@@ -0,0 +1,81 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Metrics holder for the metrics of the ReconciliationScheduler. The scheduler is shared by the operators of all the
+ * different kinds, so the metrics are not bound to a single kind and namespace. They are exported per kind instead.
+ */
+public class ReconciliationSchedulerMetricsHolder extends MetricsHolder {
+    private final Map<String, Timer> queueWaitTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> runTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> queuedReconciliationsMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> runningReconciliationsMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the ReconciliationScheduler metrics holder
+     *
+     * @param metricsProvider   Metrics provider
+     */
+    public ReconciliationSchedulerMetricsHolder(MetricsProvider metricsProvider) {
+        super(null, null, metricsProvider);
+    }
+
+    /**
+     * Timer which measures how long the reconciliations wait in the queue before they start.
+     *
+     * @param kind  Kind of the reconciled resource
+     *
+     * @return  Metrics timer
+     */
+    public Timer queueWaitTimer(String kind) {
+        return getTimer("*", kind, METRICS_PREFIX + "reconciliations.queue.wait", metricsProvider, null, queueWaitTimerMap,
+                "The time the reconciliations wait for a free slot before they start");
+    }
+
+    /**
+     * Timer which measures how long the scheduled reconciliations run.
+     *
+     * @param kind  Kind of the reconciled resource
+     *
+     * @return  Metrics timer
+     */
+    public Timer runTimer(String kind) {
+        return getTimer("*", kind, METRICS_PREFIX + "reconciliations.run", metricsProvider, null, runTimerMap,
+                "The time the reconciliations run after they were started by the scheduler");
+    }
+
+    /**
+     * Gauge metric for the number of reconciliations waiting in the queue.
+     *
+     * @param kind  Kind of the reconciled resource
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger queuedReconciliations(String kind) {
+        return getGauge("*", kind, METRICS_PREFIX + "reconciliations.queued", metricsProvider, null, queuedReconciliationsMap,
+                "Number of reconciliations waiting for a free slot");
+    }
+
+    /**
+     * Gauge metric for the number of reconciliations which are running.
+     *
+     * @param kind  Kind of the reconciled resource
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger runningReconciliations(String kind) {
+        return getGauge("*", kind, METRICS_PREFIX + "reconciliations.running", metricsProvider, null, runningReconciliationsMap,
+                "Number of reconciliations started by the scheduler which are running");
+    }
+}
@@ -38,7 +38,8 @@ import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
-import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.controller.KeyedWorkQueue;
+import io.strimzi.operator.common.controller.ReconciliationLockManager;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.StatusDiff;
 import io.strimzi.operator.common.model.StatusUtils;
@@ -46,14 +47,21 @@ import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them
@@ -65,18 +73,30 @@ public class StrimziPodSetController implements Runnable {
     private static final LabelSelector POD_LABEL_SELECTOR = new LabelSelectorBuilder()
             .withMatchExpressions(new LabelSelectorRequirement(Labels.STRIMZI_KIND_LABEL, "Exists", null))
             .build();
+    private static final String CLUSTER_INDEX = "strimzi-cluster";
+    private static final long FULL_QUEUE_REQUEUE_DELAY_MS = 1_000L;
+    /* test */ static final long LOCKED_REQUEUE_DELAY_MS = 100L;
 
     private final Thread controllerThread;
+    private final List<Thread> workerThreads;
+    /* test */ final ReconciliationLockManager lockManager = new ReconciliationLockManager();
+    private final Set<SimplifiedReconciliation> delayedReconciliations = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService requeueExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "strimzipodset-requeue");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private volatile boolean stop = false;
 
     private final PodOperator podOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
-    private final ControllerMetricsHolder metrics;
+    private final StrimziPodSetControllerMetricsHolder metrics;
+    private final DecodedPodsCache decodedPodsCache;
     private final LabelSelector crSelector;
     private final String watchedNamespace;
 
-    private final BlockingQueue<SimplifiedReconciliation> workQueue;
+    /* test */ final KeyedWorkQueue<SimplifiedReconciliation> workQueue;
     private final SharedIndexInformer<Pod> podInformer;
     private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
     private final SharedIndexInformer<Kafka> kafkaInformer;
@@ -114,15 +134,49 @@ public class StrimziPodSetController implements Runnable {
             PodOperator podOperator,
             MetricsProvider metricsProvider,
             int podSetControllerWorkQueueSize
+    ) {
+        this(watchedNamespace, crSelectorLabels, kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, strimziPodSetOperator, podOperator, metricsProvider, podSetControllerWorkQueueSize, 1);
+    }
+
+    /**
+     * Creates the StrimziPodSet controller with a pool of reconciliation workers. Different StrimziPodSets are
+     * reconciled in parallel by the workers. The same StrimziPodSet is never reconciled by two workers at the same time.
+     *
+     * @param watchedNamespace              Namespace which should be watched. Use * for all namespaces.
+     * @param crSelectorLabels              Selector labels for custom resource managed by this operator instance. This is used
+     *                                      to check that the pods belong to a Kafka cluster matching these labels.
+     * @param kafkaOperator                 Kafka Operator for getting the Kafka custom resources
+     * @param kafkaConnectOperator          KafkaConnect Operator for getting the KafkaConnect custom resources
+     * @param kafkaMirrorMaker2Operator     KafkaMirrorMaker2 Operator for getting the KafkaMirrorMaker2 custom resources
+     * @param strimziPodSetOperator         StrimziPodSet Operator used to manage the StrimziPodSet resources - get them, update
+     *                                      their status etc.
+     * @param podOperator                   Pod operator for managing pods
+     * @param metricsProvider               Metrics provider
+     * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
+     * @param podSetControllerWorkers       Number of worker threads reconciling the StrimziPodSets
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public StrimziPodSetController(
+            String watchedNamespace,
+            Labels crSelectorLabels,
+            CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator,
+            CrdOperator<KubernetesClient, KafkaConnect, KafkaConnectList> kafkaConnectOperator,
+            CrdOperator<KubernetesClient, KafkaMirrorMaker2, KafkaMirrorMaker2List> kafkaMirrorMaker2Operator,
+            StrimziPodSetOperator strimziPodSetOperator,
+            PodOperator podOperator,
+            MetricsProvider metricsProvider,
+            int podSetControllerWorkQueueSize,
+            int podSetControllerWorkers
     ) {
         this.podOperator = podOperator;
         this.strimziPodSetOperator = strimziPodSetOperator;
         this.crSelector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? null : new LabelSelector(null, crSelectorLabels.toMap());
         this.watchedNamespace = watchedNamespace;
-        this.workQueue = new ArrayBlockingQueue<>(podSetControllerWorkQueueSize);
+        this.workQueue = new KeyedWorkQueue<>(podSetControllerWorkQueueSize);
 
         // Set up the metrics holder
-        this.metrics = new ControllerMetricsHolder("StrimziPodSet", crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
+        this.metrics = new StrimziPodSetControllerMetricsHolder("StrimziPodSet", crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
+        this.decodedPodsCache = new DecodedPodsCache(metrics, watchedNamespace);
 
         // Kafka, KafkaConnect and KafkaMirrorMaker2 informers and listers are used to get the CRs quickly.
         // This is needed for verification of the CR selector labels.
@@ -135,16 +189,64 @@ public class StrimziPodSetController implements Runnable {
 
         // StrimziPodSet informer and lister is used to get events about StrimziPodSet and get StrimziPodSet quickly
         this.strimziPodSetInformer = strimziPodSetOperator.informer(watchedNamespace, DEFAULT_RESYNC_PERIOD_MS);
+        this.strimziPodSetInformer.addIndexers(Map.of(CLUSTER_INDEX, StrimziPodSetController::podSetClusterIndex));
         this.strimziPodSetLister = new Lister<>(strimziPodSetInformer.getIndexer());
 
         // Pod informer and lister is used to get events about pods and get pods quickly
         this.podInformer = podOperator.informer(watchedNamespace, POD_LABEL_SELECTOR, DEFAULT_RESYNC_PERIOD_MS);
+        this.podInformer.addIndexers(Map.of(CLUSTER_INDEX, StrimziPodSetController::podClusterIndex));
         this.podLister = new Lister<>(podInformer.getIndexer());
 
         this.controllerThread = new Thread(this, "StrimziPodSetController");
+        this.workerThreads = new ArrayList<>(podSetControllerWorkers);
+        for (int i = 0; i < podSetControllerWorkers; i++)   {
+            workerThreads.add(new Thread(new Worker(), "StrimziPodSetController-worker-" + i));
+        }
+    }
+
+    /**
+     * Index function for the Pod informer. It indexes the Pods by their namespace and the value of the
+     * strimzi.io/cluster label. Pods without the label are not indexed.
+     *
+     * @param pod   Pod which should be indexed
+     *
+     * @return  List with the index key or empty list if the Pod does not have the cluster label
+     */
+    /* test */ static List<String> podClusterIndex(Pod pod)   {
+        Map<String, String> labels = pod.getMetadata().getLabels();
+
+        if (labels != null && labels.containsKey(Labels.STRIMZI_CLUSTER_LABEL)) {
+            return List.of(clusterIndexKey(pod.getMetadata().getNamespace(), labels.get(Labels.STRIMZI_CLUSTER_LABEL)));
+        } else {
+            return List.of();
+        }
+    }
+
+    /**
+     * Index function for the StrimziPodSet informer. It indexes the StrimziPodSets by their namespace and the value of
+     * the strimzi.io/cluster label from their selector. StrimziPodSets without the cluster label in the selector can
+     * match any Pod in the namespace and are indexed under an empty cluster name.
+     *
+     * @param podSet    StrimziPodSet which should be indexed
+     *
+     * @return  List with the index key
+     */
+    /* test */ static List<String> podSetClusterIndex(StrimziPodSet podSet)   {
+        Map<String, String> matchLabels = selectorMatchLabels(podSet.getSpec() != null ? podSet.getSpec().getSelector() : null);
+        String cluster = matchLabels != null ? matchLabels.get(Labels.STRIMZI_CLUSTER_LABEL) : null;
+
+        return List.of(clusterIndexKey(podSet.getMetadata().getNamespace(), cluster != null ? cluster : ""));
+    }
+
+    private static String clusterIndexKey(String namespace, String cluster) {
+        return namespace + "/" + cluster;
     }
 
-    protected ControllerMetricsHolder metrics()   {
+    private static Map<String, String> selectorMatchLabels(LabelSelector selector) {
+        return selector != null ? selector.getMatchLabels() : null;
+    }
+
+    protected StrimziPodSetControllerMetricsHolder metrics()   {
         return metrics;
     }
 
@@ -156,7 +258,12 @@ public class StrimziPodSetController implements Runnable {
                 && kafkaMirrorMaker2Informer.hasSynced();
     }
 
-    protected void startController() {
+    /**
+     * Starts the informers
+     *
+     * @return  Future which completes when all informers are synced
+     */
+    protected CompletableFuture<Void> startController() {
         strimziPodSetInformer.addEventHandler(new PodSetEventHandler());
         strimziPodSetInformer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler("StrimziPodSet", isStarted, throwable));
 
@@ -167,17 +274,48 @@ public class StrimziPodSetController implements Runnable {
         kafkaConnectInformer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler("KafkaConnect", isStarted, throwable));
         kafkaMirrorMaker2Informer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler("KafkaMirrorMaker2", isStarted, throwable));
 
-        strimziPodSetInformer.start();
-        podInformer.start();
-        kafkaInformer.start();
-        kafkaConnectInformer.start();
-        kafkaMirrorMaker2Informer.start();
+        CompletableFuture<Void> synced = CompletableFuture.allOf(
+                startInformer("StrimziPodSet", strimziPodSetInformer),
+                startInformer("Pod", podInformer),
+                startInformer("Kafka", kafkaInformer),
+                startInformer("KafkaConnect", kafkaConnectInformer),
+                startInformer("KafkaMirrorMaker2", kafkaMirrorMaker2Informer)
+        );
 
         strimziPodSetInformer.stopped().whenComplete((v, t) -> InformerUtils.stoppedInformerHandler("StrimziPodSet", t, stop));
         podInformer.stopped().whenComplete((v, t) -> InformerUtils.stoppedInformerHandler("Pod", t, stop));
         kafkaInformer.stopped().whenComplete((v, t) -> InformerUtils.stoppedInformerHandler("Kafka", t, stop));
         kafkaConnectInformer.stopped().whenComplete((v, t) -> InformerUtils.stoppedInformerHandler("KafkaConnect", t, stop));
         kafkaMirrorMaker2Informer.stopped().whenComplete((v, t) -> InformerUtils.stoppedInformerHandler("KafkaMirrorMaker2", t, stop));
+
+        return synced;
+    }
+
+    private CompletableFuture<Void> startInformer(String type, SharedIndexInformer<?> informer) {
+        return InformerUtils.startAndTimeSync(type, informer, metrics.informerSyncTimer(watchedNamespace, type));
+    }
+
+    /**
+     * Waits until the informers are synced or the controller is stopped. It blocks on the future returned when starting
+     * the informers. If the future failed, the informers keep retrying in the background and we wait for them to sync
+     * by checking them periodically.
+     *
+     * @param synced    Future which completes when all informers are synced
+     */
+    private void waitForSync(CompletableFuture<Void> synced) {
+        while (!stop && !isSynced())   {
+            try {
+                if (synced.isDone()) {
+                    Thread.sleep(100);
+                } else {
+                    synced.get();
+                }
+            } catch (InterruptedException e) {
+                LOGGER.debugOp("Interrupted while waiting for the informers to sync", e);
+            } catch (ExecutionException e) {
+                LOGGER.warnOp("Failed to wait for the informers to sync", e.getCause());
+            }
+        }
     }
 
     protected void stopController() {
@@ -256,10 +394,17 @@ public class StrimziPodSetController implements Runnable {
      * @return  The parent StrimziPodSet (or null if not found)
      */
     private StrimziPodSet findParentPodSetForPodByLabels(Pod pod)   {
-        return strimziPodSetLister
-                .namespace(pod.getMetadata().getNamespace())
-                .list()
-                .stream()
+        List<String> podIndexKeys = podClusterIndex(pod);
+        String namespace = pod.getMetadata().getNamespace();
+
+        // Candidates are the StrimziPodSets selecting the same cluster as the Pod and the StrimziPodSets with no cluster
+        // in their selector. Other StrimziPodSets cannot match the Pod.
+        Stream<StrimziPodSet> candidates = strimziPodSetInformer.getIndexer().byIndex(CLUSTER_INDEX, clusterIndexKey(namespace, "")).stream();
+        if (!podIndexKeys.isEmpty()) {
+            candidates = Stream.concat(strimziPodSetInformer.getIndexer().byIndex(CLUSTER_INDEX, podIndexKeys.get(0)).stream(), candidates);
+        }
+
+        return candidates
                 .filter(podSet -> podSet.getSpec() != null
                         && Util.matchesSelector(podSet.getSpec().getSelector(), pod))
                 .findFirst().orElse(null);
@@ -285,11 +430,7 @@ public class StrimziPodSetController implements Runnable {
             // We have owner reference => we find the StrimziPodSet based on it
             return strimziPodSetLister
                     .namespace(pod.getMetadata().getNamespace())
-                    .list()
-                    .stream()
-                    .filter(podSet -> podSet.getMetadata().getName().equals(owner.getName()))
-                    .findFirst()
-                    .orElse(null);
+                    .get(owner.getName());
         }
     }
 
@@ -391,8 +532,7 @@ public class StrimziPodSetController implements Runnable {
                     PodCounter podCounter = new PodCounter();
                     podCounter.pods = podSet.getSpec().getPods().size();
 
-                    for (Map<String, Object> desiredPod : podSet.getSpec().getPods()) {
-                        Pod pod = PodSetUtils.mapToPod(desiredPod);
+                    for (Pod pod : decodedPodsCache.pods(podSet)) {
                         desiredPods.add(pod.getMetadata().getName());
 
                         maybeCreateOrPatchPod(reconciliation, pod, ModelUtils.createOwnerReference(podSet, true), podCounter);
@@ -466,8 +606,13 @@ public class StrimziPodSetController implements Runnable {
         if (currentPod == null) {
             // Pod does not exist => we create it
             LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", pod.getMetadata().getName(), reconciliation.namespace());
-            pod.getMetadata().setOwnerReferences(List.of(owner));
-            podOperator.client().inNamespace(reconciliation.namespace()).resource(pod).create();
+            // The desired pod might be shared through the decoded pods cache => we set the owner reference on a copy
+            Pod podWithOwnerReference = new PodBuilder(pod)
+                    .editMetadata()
+                        .withOwnerReferences(owner)
+                    .endMetadata()
+                    .build();
+            podOperator.client().inNamespace(reconciliation.namespace()).resource(podWithOwnerReference).create();
         } else {
             if (PodSetUtils.isInTerminalState(currentPod))  {
                 // The Pods might reach a terminal state of Succeeded or Failed in some situations such as node failures
@@ -512,9 +657,17 @@ public class StrimziPodSetController implements Runnable {
      * @param podCounter        Pod Counter used to count pods for the status
      */
     private void removeDeletedPods(Reconciliation reconciliation, LabelSelector selector, Collection<String> desiredPodNames, PodCounter podCounter) {
-        Set<String> toBeDeleted = podLister
-                .namespace(reconciliation.namespace())
-                .list()
+        Map<String, String> matchLabels = selectorMatchLabels(selector);
+        List<Pod> candidates;
+
+        if (matchLabels != null && matchLabels.containsKey(Labels.STRIMZI_CLUSTER_LABEL)) {
+            // Only the Pods with the same cluster label can match the selector => we use the index
+            candidates = podInformer.getIndexer().byIndex(CLUSTER_INDEX, clusterIndexKey(reconciliation.namespace(), matchLabels.get(Labels.STRIMZI_CLUSTER_LABEL)));
+        } else {
+            candidates = podLister.namespace(reconciliation.namespace()).list();
+        }
+
+        Set<String> toBeDeleted = candidates
                 .stream()
                 .filter(pod -> Util.matchesSelector(selector, pod))
                 .map(pod -> pod.getMetadata().getName())
@@ -535,39 +688,99 @@ public class StrimziPodSetController implements Runnable {
      * @param reconciliation    Reconciliation identifier
      */
     private void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!workQueue.contains(reconciliation)) {
-            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
-            workQueue.add(reconciliation);
+        switch (workQueue.offer(reconciliation)) {
+            case ENQUEUED:
+                metrics.workQueueDepth(watchedNamespace).set(workQueue.size());
+                LOGGER.debugOp("Enqueued StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.namespace);
+                break;
+            case ALREADY_ENQUEUED:
+                metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
+                LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.namespace);
+                break;
+            case FULL:
+                LOGGER.warnOp("Failed to enqueue StrimziPodSet {} in namespace {} because the controller queue is full. It will be re-queued in {} ms.", reconciliation.name, reconciliation.namespace, FULL_QUEUE_REQUEUE_DELAY_MS);
+                requeueLater(reconciliation, FULL_QUEUE_REQUEUE_DELAY_MS);
+                break;
+        }
+    }
+
+    /**
+     * Tries to enqueue the reconciliation again after a delay. This is used when the work queue is full so that the
+     * event from the informer is not lost, and when the StrimziPodSet is locked by another worker. Only one delayed
+     * attempt is kept for each StrimziPodSet.
+     *
+     * @param reconciliation    Reconciliation identifier
+     * @param delayMs           Delay after which the reconciliation is enqueued again
+     */
+    private void requeueLater(SimplifiedReconciliation reconciliation, long delayMs) {
+        if (!stop && delayedReconciliations.add(reconciliation)) {
+            try {
+                requeueExecutor.schedule(() -> {
+                    delayedReconciliations.remove(reconciliation);
+                    enqueue(reconciliation);
+                }, delayMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // The controller is stopping
+                delayedReconciliations.remove(reconciliation);
+            }
+        }
+    }
+
+    /**
+     * Reconciles the StrimziPodSet while holding its lock. If the lock cannot be acquired because another worker is
+     * reconciling the same StrimziPodSet, the reconciliation is re-queued for later. The worker does not wait for the
+     * lock, so that it can reconcile other StrimziPodSets in the meantime.
+     *
+     * @param simplifiedReconciliation  Reconciliation taken from the work queue
+     *
+     * @throws InterruptedException InterruptedException is thrown when interrupted while trying to get the lock
+     */
+    /* test */ void reconcileWithLock(SimplifiedReconciliation simplifiedReconciliation) throws InterruptedException {
+        String lockName = simplifiedReconciliation.lockName();
+
+        if (lockManager.tryLock(lockName, 0, TimeUnit.MILLISECONDS)) {
+            metrics.busyWorkers(watchedNamespace).incrementAndGet();
+
+            try {
+                reconcile(simplifiedReconciliation.toReconciliation());
+            } finally {
+                metrics.busyWorkers(watchedNamespace).decrementAndGet();
+                lockManager.unlock(lockName);
+            }
         } else {
-            metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.name);
+            // Failed to get the lock => other reconciliation of the same StrimziPodSet is in progress
+            LOGGER.debugOp("Failed to acquire lock {}. The StrimziPodSet will be re-queued in {} ms.", lockName, LOCKED_REQUEUE_DELAY_MS);
+            metrics.lockedReconciliationsCounter(simplifiedReconciliation.namespace).increment();
+            requeueLater(simplifiedReconciliation, LOCKED_REQUEUE_DELAY_MS);
         }
     }
 
     /**
-     * The run loop of the controller thread. It picks reconciliations from the work queue and executes them.
+     * The run loop of the controller thread. It starts the informers, waits for them to sync and then starts the
+     * workers which pick reconciliations from the work queue and execute them.
      */
     @Override
     public void run() {
         LOGGER.infoOp("Starting StrimziPodSet controller for namespace {}", watchedNamespace);
-        startController();
+        CompletableFuture<Void> synced = startController();
 
         LOGGER.infoOp("Waiting for informers to sync");
-        while (!stop && !isSynced())   {
-            // Nothing to do => just loop
-        }
+        waitForSync(synced);
 
         LOGGER.infoOp("Informers are in-sync");
 
-        while (!stop) {
-            try {
-                LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
-            } catch (InterruptedException e)    {
-                LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
-            } catch (Exception e)   {
-                LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
+        if (!stop) {
+            LOGGER.infoOp("Starting {} StrimziPodSet controller workers", workerThreads.size());
+            workerThreads.forEach(Thread::start);
+        }
+
+        for (Thread worker : workerThreads) {
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    LOGGER.debugOp("StrimziPodSet Controller was interrupted while waiting for the workers to stop", e);
+                }
             }
         }
 
@@ -576,6 +789,27 @@ public class StrimziPodSetController implements Runnable {
         stopController();
     }
 
+    /**
+     * Worker which picks the reconciliations from the work queue and executes them.
+     */
+    private class Worker implements Runnable {
+        @Override
+        public void run() {
+            while (!stop) {
+                try {
+                    LOGGER.debugOp("Waiting for next event from work queue");
+                    SimplifiedReconciliation reconciliation = workQueue.take();
+                    metrics.workQueueDepth(watchedNamespace).set(workQueue.size());
+                    reconcileWithLock(reconciliation);
+                } catch (InterruptedException e)    {
+                    LOGGER.debugOp("StrimziPodSet Controller worker was interrupted", e);
+                } catch (Exception e)   {
+                    LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
+                }
+            }
+        }
+    }
+
     /**
      * Starts the controller: this method creates a new thread in which the controller will run
      */
@@ -590,6 +824,8 @@ public class StrimziPodSetController implements Runnable {
     public void stop()  {
         LOGGER.infoOp("Requesting the StrimziPodSet controller to stop");
         this.stop = true;
+        requeueExecutor.shutdownNow();
+        workerThreads.forEach(Thread::interrupt);
         controllerThread.interrupt();
         try {
             controllerThread.join();
@@ -634,6 +870,15 @@ public class StrimziPodSetController implements Runnable {
             return new Reconciliation("watch", "StrimziPodSet", namespace, name);
         }
 
+        /**
+         * Generates a lock name for this reconciliation. The lock name consists of the kind, namespace and name.
+         *
+         * @return  Name of the lock which should be used for this StrimziPodSet
+         */
+        public String lockName()    {
+            return "StrimziPodSet::" + namespace + "::" + name;
+        }
+
         /**
          * Compares two SimplifiedReconciliation objects. This is used to avoid having the same resource queued multiple
          * times.
@@ -685,6 +930,7 @@ public class StrimziPodSetController implements Runnable {
 
         @Override
         public void onUpdate(StrimziPodSet oldPodSet, StrimziPodSet newPodSet) {
+            decodedPodsCache.evictOutdated(newPodSet);
             enqueueStrimziPodSet(newPodSet, "MODIFIED");
         }
 
@@ -694,6 +940,7 @@ public class StrimziPodSetController implements Runnable {
                 metrics.resourceCounter(podSet.getMetadata().getNamespace()).decrementAndGet();
             }
 
+            decodedPodsCache.evict(podSet);
             LOGGER.debugOp("StrimziPodSet {} in namespace {} was {}", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), "DELETED");
             // Nothing to do => garbage collection should take care of things
         }
@@ -0,0 +1,86 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Metrics holder for the StrimziPodSet controller. On top of the regular controller metrics, it holds the metrics of
+ * the decoded Pods cache.
+ */
+public class StrimziPodSetControllerMetricsHolder extends ControllerMetricsHolder {
+    private final Map<String, Counter> decodedPodsCacheHitsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> decodedPodsCacheMissesCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> podsDecodingTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> decodedPodsCacheSizeMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the StrimziPodSet controller metrics holder
+     *
+     * @param kind              Kind of the resources for which these metrics apply
+     * @param selectorLabels    Selector labels to select the controller resources
+     * @param metricsProvider   Metrics provider
+     */
+    public StrimziPodSetControllerMetricsHolder(String kind, Labels selectorLabels, MetricsProvider metricsProvider) {
+        super(kind, selectorLabels, metricsProvider);
+    }
+
+    /**
+     * Counter metric for number of reconciliations which used the already decoded Pods from the cache.
+     *
+     * @param namespace     Namespace of the StrimziPodSets
+     *
+     * @return  Metrics counter
+     */
+    public Counter decodedPodsCacheHitsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "podset.decoded.pods.cache.hits", metricsProvider, selectorLabels, decodedPodsCacheHitsCounterMap,
+                "Number of StrimziPodSet reconciliations which used the cached decoded Pods");
+    }
+
+    /**
+     * Counter metric for number of reconciliations which had to decode the Pods because the StrimziPodSet generation
+     * was not in the cache.
+     *
+     * @param namespace     Namespace of the StrimziPodSets
+     *
+     * @return  Metrics counter
+     */
+    public Counter decodedPodsCacheMissesCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "podset.decoded.pods.cache.misses", metricsProvider, selectorLabels, decodedPodsCacheMissesCounterMap,
+                "Number of StrimziPodSet reconciliations which had to decode the Pods");
+    }
+
+    /**
+     * Timer metric for the time spent decoding the Pods from the StrimziPodSets on cache misses.
+     *
+     * @param namespace     Namespace of the StrimziPodSets
+     *
+     * @return  Metrics timer
+     */
+    public Timer podsDecodingTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "podset.pods.decoding", metricsProvider, selectorLabels, podsDecodingTimerMap,
+                "The time spent decoding the Pods from the StrimziPodSets");
+    }
+
+    /**
+     * Gauge metric for the number of StrimziPodSets with decoded Pods in the cache.
+     *
+     * @param namespace     Namespace watched by the controller
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger decodedPodsCacheSize(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "podset.decoded.pods.cache.size", metricsProvider, selectorLabels, decodedPodsCacheSizeMap,
+                "Number of StrimziPodSets with decoded Pods in the cache");
+    }
+}
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.vertx.core.Future;
@@ -18,11 +19,17 @@ import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
@@ -30,6 +37,13 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * The topic descriptions and the topic configurations are fetched once and kept in a snapshot which is meant to be
+ * used for the whole rolling update. The snapshot is used to order the brokers into restart batches. When a broker is
+ * restarted, the topics with replicas on it are marked as stale and described again the next time the batches are
+ * computed. The final decision whether a broker can be rolled never relies on the snapshot alone: the topics with
+ * replicas on the broker and the topics created after the snapshot was taken are described again, so that the
+ * decision uses their current ISRs.
  */
 class KafkaAvailability {
 
@@ -39,19 +53,32 @@ class KafkaAvailability {
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final KafkaRollerMetricsHolder metrics;
+
+    private final Map<String, TopicDescription> snapshot = new ConcurrentHashMap<>();
+
+    private final Map<String, Config> configs = new ConcurrentHashMap<>();
+
+    private final Set<String> staleTopics = ConcurrentHashMap.newKeySet();
+
+    private volatile Future<Map<String, TopicDescription>> descriptions;
 
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
+        this(reconciliation, ac, null);
+    }
+
+    /**
+     * Constructs the KafkaAvailability and starts fetching the snapshot of the topic descriptions
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param ac                Kafka Admin client
+     * @param metrics           Metrics holder or null if the metrics should not be recorded
+     */
+    KafkaAvailability(Reconciliation reconciliation, Admin ac, KafkaRollerMetricsHolder metrics) {
         this.ac = ac;
         this.reconciliation = reconciliation;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
-            LOGGER.traceCr(reconciliation, "Topic names {}", names);
-            return describeTopics(names);
-        });
+        this.metrics = metrics;
+        this.descriptions = fetchSnapshot();
     }
 
     /**
@@ -60,11 +87,23 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRollBroker(podId);
+    }
+
+    /**
+     * Marks the topics with replicas on the given broker as stale. Their descriptions are fetched again before they
+     * are used next time. This should be called when the broker is restarted, because the ISRs of its partitions change.
+     *
+     * @param brokerId  ID of the restarted broker
+     */
+    void brokerRestarted(int brokerId) {
+        Set<String> topics = groupTopicsByBroker(snapshot.values(), brokerId).stream().map(TopicDescription::name).collect(Collectors.toSet());
+        LOGGER.debugCr(reconciliation, "Broker {} was restarted, {} topics will be described again", brokerId, topics.size());
+        staleTopics.addAll(topics);
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
+    private Future<Boolean> canRollBroker(int podId) {
+        Future<Set<TopicDescription>> topicsOnGivenBroker = currentTopicDescriptions(podId)
                 .compose(topicDescriptions -> {
                     LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
                     return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
@@ -75,23 +114,341 @@ class KafkaAvailability {
 
         // 4. Get topic configs (for those on $broker)
         Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
+                .compose(td -> cachedTopicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
 
         // 5. join
         return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
             Collection<TopicDescription> tds = topicsOnGivenBroker.result();
-            boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
-            if (!canRoll) {
+            List<TopicDescription> affected = tds.stream().filter(
+                td -> wouldAffectAvailability(podId, topicNameToConfig, td)).toList();
+            if (!affected.isEmpty()) {
                 LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
             }
-            return canRoll;
+            return affected.isEmpty();
         }).recover(error -> {
             LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod {}", podId, error);
             return Future.failedFuture(error);
         });
     }
 
+    /**
+     * Describes the topics with replicas on the given broker again, together with the topics which are not in the
+     * snapshot yet. This way, the ISR changes caused by any broker (not only by the brokers restarted by this rolling
+     * update) are taken into account. The snapshot is used only to find the topics on the broker and is updated with
+     * the new descriptions. If the topics could not be described, the whole snapshot is fetched again.
+     *
+     * @param broker    ID of the broker which will be checked
+     *
+     * @return  Future which completes with the current topic descriptions
+     */
+    private Future<Collection<TopicDescription>> currentTopicDescriptions(int broker) {
+        return snapshot().compose(tds -> timed(topicNames())
+                .map(names -> names.stream()
+                        .filter(name -> !tds.containsKey(name) || hasReplicaOn(tds.get(name), Set.of(broker)))
+                        .collect(Collectors.toSet()))
+                .compose(names -> {
+                    if (names.isEmpty()) {
+                        return Future.succeededFuture(List.<TopicDescription>of());
+                    }
+
+                    LOGGER.debugCr(reconciliation, "Describing {} topics with replicas on broker {} again", names.size(), broker);
+                    return timed(describeTopics(names))
+                            .map(refreshed -> {
+                                refreshed.forEach(td -> tds.put(td.name(), td));
+                                staleTopics.removeAll(names);
+                                updateSnapshotMetrics(refreshed.size());
+                                return refreshed;
+                            });
+                })
+                .recover(error -> {
+                    // The topics might have been deleted in the meantime => we fetch everything again
+                    LOGGER.debugCr(reconciliation, "Failed to describe the topics on broker {}, the snapshot will be fetched again", broker, error);
+                    Future<Map<String, TopicDescription>> full = fetchSnapshot();
+                    descriptions = full;
+                    return full.map(Map::values);
+                }));
+    }
+
+    /**
+     * Returns the snapshot of the topic descriptions. If the snapshot could not be fetched before, it is fetched again.
+     *
+     * @return  Future which completes with the snapshot
+     */
+    private Future<Map<String, TopicDescription>> snapshot() {
+        Future<Map<String, TopicDescription>> current = descriptions;
+        if (current.failed()) {
+            current = fetchSnapshot();
+            descriptions = current;
+        }
+
+        return current;
+    }
+
+    /**
+     * Returns the topic descriptions from the snapshot. The stale topics with replicas on the given brokers are
+     * described again first. If the stale topics could not be described, the whole snapshot is fetched again.
+     *
+     * @param brokers   IDs of the brokers which will be checked
+     *
+     * @return  Future which completes with the topic descriptions
+     */
+    private Future<Collection<TopicDescription>> topicDescriptions(Set<Integer> brokers) {
+        return snapshot().compose(tds -> {
+            Set<String> refresh = staleTopics.stream()
+                    .filter(name -> tds.containsKey(name) && hasReplicaOn(tds.get(name), brokers))
+                    .collect(Collectors.toSet());
+
+            if (refresh.isEmpty()) {
+                return Future.succeededFuture(tds.values());
+            }
+
+            LOGGER.debugCr(reconciliation, "Describing {} stale topics again", refresh.size());
+            return timed(describeTopics(refresh))
+                    .map(refreshed -> {
+                        refreshed.forEach(td -> tds.put(td.name(), td));
+                        staleTopics.removeAll(refresh);
+                        updateSnapshotMetrics(refreshed.size());
+                        return tds.values();
+                    })
+                    .recover(error -> {
+                        // The topics might have been deleted in the meantime => we fetch everything again
+                        LOGGER.debugCr(reconciliation, "Failed to describe the stale topics, the snapshot will be fetched again", error);
+                        Future<Map<String, TopicDescription>> full = fetchSnapshot();
+                        descriptions = full;
+                        return full.map(Map::values);
+                    });
+        });
+    }
+
+    /**
+     * Fetches the descriptions of all topics into the snapshot
+     *
+     * @return  Future which completes with the snapshot
+     */
+    private Future<Map<String, TopicDescription>> fetchSnapshot() {
+        // 1. Get all topic names
+        Future<Set<String>> topicNames = timed(topicNames());
+        // 2. Get topic descriptions
+        return topicNames.compose(names -> {
+            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
+            LOGGER.traceCr(reconciliation, "Topic names {}", names);
+            return timed(describeTopics(names));
+        }).map(tds -> {
+            snapshot.clear();
+            staleTopics.clear();
+            tds.forEach(td -> snapshot.put(td.name(), td));
+            updateSnapshotMetrics(tds.size());
+            return snapshot;
+        });
+    }
+
+    /**
+     * Returns the configurations of the given topics. Only the configurations which are not in the cache yet are
+     * fetched from Kafka.
+     *
+     * @param topicNames    Names of the topics
+     *
+     * @return  Future which completes with the topic configurations
+     */
+    private Future<Map<String, Config>> cachedTopicConfigs(Set<String> topicNames) {
+        Set<String> missing = topicNames.stream().filter(name -> !configs.containsKey(name)).collect(Collectors.toSet());
+
+        Future<Void> fetched = missing.isEmpty()
+                ? Future.succeededFuture()
+                : timed(topicConfigs(missing)).map(fetchedConfigs -> {
+                    configs.putAll(fetchedConfigs);
+                    return null;
+                });
+
+        return fetched.map(i -> {
+            Map<String, Config> result = new HashMap<>(topicNames.size());
+            topicNames.forEach(name -> result.put(name, configs.get(name)));
+            return result;
+        });
+    }
+
+    private <T> Future<T> timed(Future<T> future) {
+        if (metrics != null) {
+            Timer.Sample sample = Timer.start(metrics.metricsProvider().meterRegistry());
+            future.onComplete(i -> sample.stop(metrics.metadataFetchTimer(reconciliation.namespace())));
+        }
+
+        return future;
+    }
+
+    private void updateSnapshotMetrics(int describedTopics) {
+        if (metrics != null) {
+            metrics.describedTopicsCounter(reconciliation.namespace()).increment(describedTopics);
+            metrics.snapshotPartitions(reconciliation.namespace()).set(snapshot.values().stream().mapToInt(td -> td.partitions().size()).sum());
+        }
+    }
+
+    /**
+     * Splits the given brokers into batches of brokers which can be restarted at the same time without any partition
+     * dropping below its {@code min.insync.replicas}. The batches never mix brokers from different racks. With the
+     * replicas of each partition spread across the racks, all brokers from a rack can often be rolled together and the
+     * number of batches then scales with the number of racks rather than with the number of brokers.
+     *
+     * Brokers which cannot be restarted even on their own are not included in any batch.
+     *
+     * @param candidates    IDs of the brokers which need to be restarted
+     * @param maxBatchSize  Maximal number of brokers in a single batch
+     *
+     * @return  Future which completes with the batches in the order in which they should be restarted
+     */
+    Future<List<Set<Integer>>> restartBatches(Set<Integer> candidates, int maxBatchSize) {
+        LOGGER.debugCr(reconciliation, "Determining which of the brokers {} can be rolled together", candidates);
+
+        Future<List<TopicDescription>> topicsOnCandidates = topicDescriptions(candidates)
+                .map(tds -> tds.stream()
+                        .filter(td -> hasReplicaOn(td, candidates))
+                        .toList());
+
+        return topicsOnCandidates
+                .compose(tds -> cachedTopicConfigs(tds.stream().map(TopicDescription::name).collect(Collectors.toSet())))
+                .map(topicNameToConfig -> {
+                    Map<String, Integer> minIsrs = new HashMap<>(topicNameToConfig.size());
+                    topicNameToConfig.forEach((name, config) -> minIsrs.put(name, minIsr(config)));
+
+                    List<Set<Integer>> batches = restartBatches(topicsOnCandidates.result(), minIsrs, candidates, maxBatchSize);
+
+                    // The under-replicated topics might be catching up => they have to be checked again next time
+                    topicsOnCandidates.result().stream()
+                            .filter(td -> td.partitions().stream().anyMatch(pi -> pi.isr().size() < pi.replicas().size()))
+                            .forEach(td -> staleTopics.add(td.name()));
+
+                    LOGGER.debugCr(reconciliation, "Brokers {} can be rolled in batches {}", candidates, batches);
+                    return batches;
+                }).recover(error -> {
+                    LOGGER.warnCr(reconciliation, "Error determining which brokers can be rolled together", error);
+                    return Future.failedFuture(error);
+                });
+    }
+
+    /**
+     * Computes the restart batches from the topic descriptions. Brokers are grouped by the rack of their replicas
+     * (brokers without a rack form their own group which goes last) and added to the first batch of their rack which
+     * still has room and stays safe with the broker in it.
+     *
+     * @param tds           Descriptions of the topics with replicas on the candidate brokers
+     * @param minIsrs       Map with the {@code min.insync.replicas} for each topic (-1 when not set)
+     * @param candidates    IDs of the brokers which need to be restarted
+     * @param maxBatchSize  Maximal number of brokers in a single batch
+     *
+     * @return  List with the restart batches
+     */
+    /* test */ static List<Set<Integer>> restartBatches(Collection<TopicDescription> tds, Map<String, Integer> minIsrs, Set<Integer> candidates, int maxBatchSize) {
+        Map<Integer, String> racks = new HashMap<>(candidates.size());
+        Map<Integer, List<PartitionReplicas>> partitionsByBroker = new HashMap<>(candidates.size());
+
+        for (TopicDescription td : tds) {
+            int minIsr = Math.max(minIsrs.getOrDefault(td.name(), -1), 1);
+
+            for (TopicPartitionInfo pi : td.partitions()) {
+                PartitionReplicas partition = null;
+
+                for (Node replica : pi.replicas()) {
+                    if (candidates.contains(replica.id())) {
+                        if (replica.hasRack()) {
+                            racks.put(replica.id(), replica.rack());
+                        }
+
+                        // Partitions with no more replicas than min.insync.replicas cannot be rolled without
+                        // impacting availability anyway, so they do not constrain the batches (same as in canRoll)
+                        if (pi.replicas().size() > minIsr) {
+                            if (partition == null) {
+                                partition = new PartitionReplicas(minIsr, pi.isr().stream().map(Node::id).collect(Collectors.toSet()));
+                            }
+
+                            partitionsByBroker.computeIfAbsent(replica.id(), k -> new ArrayList<>()).add(partition);
+                        }
+                    }
+                }
+            }
+        }
+
+        Map<String, List<Set<Integer>>> batchesByRack = new TreeMap<>(Comparator.nullsLast(Comparator.naturalOrder()));
+
+        for (int broker : new TreeSet<>(candidates)) {
+            List<PartitionReplicas> partitions = partitionsByBroker.getOrDefault(broker, List.of());
+
+            if (!canRollTogether(partitions, Set.of(broker))) {
+                // The broker cannot be rolled even on its own, so it is left to the one-by-one rolling
+                continue;
+            }
+
+            List<Set<Integer>> rackBatches = batchesByRack.computeIfAbsent(racks.get(broker), k -> new ArrayList<>());
+            Set<Integer> batch = null;
+
+            for (Set<Integer> existing : rackBatches) {
+                if (existing.size() < maxBatchSize) {
+                    Set<Integer> extended = new TreeSet<>(existing);
+                    extended.add(broker);
+
+                    if (extended.stream().allMatch(id -> canRollTogether(partitionsByBroker.getOrDefault(id, List.of()), extended))) {
+                        batch = existing;
+                        break;
+                    }
+                }
+            }
+
+            if (batch == null) {
+                batch = new TreeSet<>();
+                rackBatches.add(batch);
+            }
+
+            batch.add(broker);
+        }
+
+        return batchesByRack.values().stream().flatMap(List::stream).toList();
+    }
+
+    /**
+     * Checks whether the partitions keep at least {@code min.insync.replicas} in-sync replicas when all the given
+     * brokers are restarted at the same time. Partitions which are already under-replicated cannot lose any replica.
+     *
+     * @param partitions    Partitions to check
+     * @param brokers       Brokers restarted together
+     *
+     * @return  True if the brokers can be restarted together. False otherwise.
+     */
+    private static boolean canRollTogether(List<PartitionReplicas> partitions, Set<Integer> brokers) {
+        for (PartitionReplicas partition : partitions) {
+            if (partition.isr.size() < partition.minIsr) {
+                return false;
+            }
+
+            long remainingIsr = partition.isr.stream().filter(id -> !brokers.contains(id)).count();
+            if (remainingIsr < partition.minIsr) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean hasReplicaOn(TopicDescription td, Set<Integer> brokers) {
+        return td.partitions().stream().anyMatch(pi -> pi.replicas().stream().anyMatch(node -> brokers.contains(node.id())));
+    }
+
+    private static int minIsr(Config config) {
+        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+
+        if (minIsrConfig != null && minIsrConfig.value() != null) {
+            return parseInt(minIsrConfig.value());
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * The parts of a partition relevant for the restart batches
+     *
+     * @param minIsr    Effective min.insync.replicas of the partition (at least 1)
+     * @param isr       IDs of the brokers in the ISR
+     */
+    private record PartitionReplicas(int minIsr, Set<Integer> isr) { }
+
     private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
         Config config = nameToConfig.get(td.name());
         ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
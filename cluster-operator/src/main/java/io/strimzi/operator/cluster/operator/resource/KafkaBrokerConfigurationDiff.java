@@ -5,9 +5,7 @@
 
 package io.strimzi.operator.cluster.operator.resource;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import io.fabric8.zjsonpatch.JsonDiff;
-import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.kafka.config.model.ConfigModelIndex;
 import io.strimzi.kafka.config.model.Scope;
 import io.strimzi.operator.cluster.model.KafkaConfiguration;
 import io.strimzi.operator.cluster.model.KafkaVersion;
@@ -24,26 +22,28 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Optional;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  The algorithm:
  *  1. Create a map from the supplied desired String
  *  2. Fill placeholders (e.g. ${BROKER_ID}) in desired map as the broker's {@code kafka_config_generator.sh} would
- *  3a. Loop over all entries. If the entry is in IGNORABLE_PROPERTIES or entry.value from desired is equal to entry.value from current, do nothing
- *      else add it to the diff
+ *  3a. Loop over all current entries and look them up in the desired map. If the entry is in IGNORABLE_PROPERTIES or
+ *      entry.value from desired is equal to entry.value from current, do nothing else add it to the diff
  *  3b. If entry was removed from desired, add it to the diff with null value.
  *  3c. If custom entry was removed, delete property
+ *  4. Loop over all desired entries which are not in the current entries and add them to the diff unless they are
+ *     ignorable or custom
+ * Each entry is looked up in a map, so the diff is linear in the number of entries.
  */
 public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaBrokerConfigurationDiff.class);
-    private static final String PLACE_HOLDER = Pattern.quote("STRIMZI_BROKER_ID");
+    private static final Pattern PLACE_HOLDER = Pattern.compile("\\$\\{" + Pattern.quote("STRIMZI_BROKER_ID") + "}");
 
     private final Reconciliation reconciliation;
     private final Collection<AlterConfigOp> brokerConfigDiff;
-    private final Map<String, ConfigModel> configModel;
+    private final ConfigModelIndex configModel;
 
     /**
      * These options are skipped because they contain placeholders
@@ -81,14 +81,17 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
      */
     protected KafkaBrokerConfigurationDiff(Reconciliation reconciliation, Config brokerConfigs, String desired, KafkaVersion kafkaVersion, NodeRef brokerNodeRef) {
         this.reconciliation = reconciliation;
-        this.configModel = KafkaConfiguration.readConfigModel(kafkaVersion);
-        this.brokerConfigDiff = diff(brokerNodeRef, desired, brokerConfigs, configModel);
+        this.configModel = KafkaConfiguration.configModel(kafkaVersion);
+        this.brokerConfigDiff = diff(brokerNodeRef, desired, brokerConfigs);
     }
 
     private static void fillPlaceholderValue(Map<String, String> orderedProperties, String value) {
+        String replacement = Matcher.quoteReplacement(value);
+
         orderedProperties.entrySet().forEach(entry -> {
-            String v = entry.getValue().replaceAll("\\$\\{" + PLACE_HOLDER + "}", value);
-            entry.setValue(v);
+            if (entry.getValue().contains("${")) {
+                entry.setValue(PLACE_HOLDER.matcher(entry.getValue()).replaceAll(replacement));
+            }
         });
     }
 
@@ -144,88 +147,64 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
      * @param brokerNodeRef broker node reference of compared broker
      * @param desired desired configuration, may be null if the related ConfigMap does not exist yet or no changes are required
      * @param brokerConfigs current configuration
-     * @param configModel default configuration for {@code kafkaVersion} of broker
      * @return Collection of AlterConfigOp containing all entries which were changed from current in desired configuration
      */
-    private Collection<AlterConfigOp> diff(NodeRef brokerNodeRef, String desired,
-                                                  Config brokerConfigs,
-                                                  Map<String, ConfigModel> configModel) {
+    private Collection<AlterConfigOp> diff(NodeRef brokerNodeRef, String desired, Config brokerConfigs) {
         if (brokerConfigs == null || desired == null) {
             return Collections.emptyList();
         }
-        Map<String, String> currentMap;
 
         Collection<AlterConfigOp> updatedCE = new ArrayList<>();
 
-        currentMap = brokerConfigs.entries().stream().collect(
-            Collectors.toMap(
-                ConfigEntry::name,
-                configEntry -> configEntry.value() == null ? "null" : configEntry.value()));
-
         OrderedProperties orderedProperties = new OrderedProperties();
         orderedProperties.addStringPairs(desired);
         Map<String, String> desiredMap = orderedProperties.asMap();
 
         fillPlaceholderValue(desiredMap, Integer.toString(brokerNodeRef.nodeId()));
 
-        JsonNode source = PATCH_MAPPER.valueToTree(currentMap);
-        JsonNode target = PATCH_MAPPER.valueToTree(desiredMap);
-        JsonNode jsonDiff = JsonDiff.asJson(source, target);
-
-        for (JsonNode d : jsonDiff) {
-            String pathValue = d.get("path").asText();
-            String pathValueWithoutSlash = pathValue.substring(1);
-
-            Optional<ConfigEntry> optEntry = brokerConfigs.entries().stream()
-                    .filter(configEntry -> configEntry.name().equals(pathValueWithoutSlash))
-                    .findFirst();
+        for (ConfigEntry entry : brokerConfigs.entries()) {
+            String currentValue = entry.value() == null ? "null" : entry.value();
+            String desiredValue = desiredMap.get(entry.name());
 
-            String op = d.get("op").asText();
-            if (optEntry.isPresent()) {
-                ConfigEntry entry = optEntry.get();
-                if ("remove".equals(op)) {
-                    removeProperty(configModel, updatedCE, pathValueWithoutSlash, entry, brokerNodeRef.controller());
-                } else if ("replace".equals(op)) {
-                    // entry is in the current, desired is updated value
-                    updateOrAdd(entry.name(), configModel, desiredMap, updatedCE, brokerNodeRef.controller());
-                }
-            } else {
-                if ("add".equals(op)) {
-                    // entry is not in the current, it is added
-                    updateOrAdd(pathValueWithoutSlash, configModel, desiredMap, updatedCE, brokerNodeRef.controller());
-                }
+            if (desiredValue == null) {
+                // there is a lot of properties set by default - not having them in desired causes very noisy log output
+                LOGGER.traceCr(reconciliation, "Kafka Broker {} Config Differs : {} was removed", brokerNodeRef.nodeId(), entry.name());
+                LOGGER.traceCr(reconciliation, "Current Kafka Broker Config path {} has value {}", entry.name(), currentValue);
+                removeProperty(updatedCE, entry, brokerNodeRef.controller());
+            } else if (!desiredValue.equals(currentValue)) {
+                LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : {} was changed", brokerNodeRef.nodeId(), entry.name());
+                LOGGER.debugCr(reconciliation, "Current Kafka Broker Config path {} has value {}", entry.name(), currentValue);
+                LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", entry.name(), desiredValue);
+                updateOrAdd(entry.name(), desiredValue, updatedCE, brokerNodeRef.controller());
             }
+        }
 
-            if ("remove".equals(op)) {
-                // there is a lot of properties set by default - not having them in desired causes very noisy log output
-                LOGGER.traceCr(reconciliation, "Kafka Broker {} Config Differs : {}", brokerNodeRef.nodeId(), d);
-                LOGGER.traceCr(reconciliation, "Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                LOGGER.traceCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
-            } else {
-                LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : {}", brokerNodeRef.nodeId(), d);
-                LOGGER.debugCr(reconciliation, "Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
+        for (Map.Entry<String, String> entry : desiredMap.entrySet()) {
+            if (brokerConfigs.get(entry.getKey()) == null) {
+                LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : {} was added", brokerNodeRef.nodeId(), entry.getKey());
+                LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", entry.getKey(), entry.getValue());
+                updateOrAdd(entry.getKey(), entry.getValue(), updatedCE, brokerNodeRef.controller());
             }
         }
 
         return updatedCE;
     }
 
-    private void updateOrAdd(String propertyName, Map<String, ConfigModel> configModel, Map<String, String> desiredMap, Collection<AlterConfigOp> updatedCE, boolean nodeIsController) {
+    private void updateOrAdd(String propertyName, String desiredValue, Collection<AlterConfigOp> updatedCE, boolean nodeIsController) {
         if (!isIgnorableProperty(propertyName, nodeIsController)) {
-            if (isCustomEntry(propertyName, configModel)) {
-                LOGGER.traceCr(reconciliation, "custom property {} has been updated/added {}", propertyName, desiredMap.get(propertyName));
+            if (isCustomEntry(propertyName)) {
+                LOGGER.traceCr(reconciliation, "custom property {} has been updated/added {}", propertyName, desiredValue);
             } else {
-                LOGGER.traceCr(reconciliation, "property {} has been updated/added {}", propertyName, desiredMap.get(propertyName));
-                updatedCE.add(new AlterConfigOp(new ConfigEntry(propertyName, desiredMap.get(propertyName)), AlterConfigOp.OpType.SET));
+                LOGGER.traceCr(reconciliation, "property {} has been updated/added {}", propertyName, desiredValue);
+                updatedCE.add(new AlterConfigOp(new ConfigEntry(propertyName, desiredValue), AlterConfigOp.OpType.SET));
             }
         } else {
-            LOGGER.traceCr(reconciliation, "{} is ignorable, not considering");
+            LOGGER.traceCr(reconciliation, "{} is ignorable, not considering", propertyName);
         }
     }
 
-    private void removeProperty(Map<String, ConfigModel> configModel, Collection<AlterConfigOp> updatedCE, String pathValueWithoutSlash, ConfigEntry entry, boolean nodeIsController) {
-        if (isCustomEntry(entry.name(), configModel)) {
+    private void removeProperty(Collection<AlterConfigOp> updatedCE, ConfigEntry entry, boolean nodeIsController) {
+        if (isCustomEntry(entry.name())) {
             // we are deleting custom option
             LOGGER.traceCr(reconciliation, "removing custom property {}", entry.name());
         } else if (entry.isDefault()) {
@@ -237,11 +216,11 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
         } else {
             // entry is in current, is not in desired, is not default -> it was using non-default value and was removed
             // if the entry was custom, it should be deleted
-            if (!isIgnorableProperty(pathValueWithoutSlash, nodeIsController)) {
-                updatedCE.add(new AlterConfigOp(new ConfigEntry(pathValueWithoutSlash, null), AlterConfigOp.OpType.DELETE));
+            if (!isIgnorableProperty(entry.name(), nodeIsController)) {
+                updatedCE.add(new AlterConfigOp(new ConfigEntry(entry.name(), null), AlterConfigOp.OpType.DELETE));
                 LOGGER.infoCr(reconciliation, "{} not set in desired, unsetting back to default {}", entry.name(), "deleted entry");
             } else {
-                LOGGER.traceCr(reconciliation, "{} is ignorable, not considering as removed");
+                LOGGER.traceCr(reconciliation, "{} is ignorable, not considering as removed", entry.name());
             }
         }
     }
@@ -257,11 +236,10 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
     /**
      * For some reason not all default entries have set ConfigEntry.ConfigSource.DEFAULT_CONFIG so we need to compare
      * @param entryName tested ConfigEntry
-     * @param configModel configModel
      * @return true if entry is custom (not default)
      */
-    private static boolean isCustomEntry(String entryName, Map<String, ConfigModel> configModel) {
-        return !configModel.containsKey(entryName);
+    private boolean isCustomEntry(String entryName) {
+        return !configModel.contains(entryName);
     }
 
 }
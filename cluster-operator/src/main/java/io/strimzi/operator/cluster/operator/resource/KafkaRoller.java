@@ -97,6 +97,12 @@ import static java.util.Collections.singletonList;
  *
  * <p>Where "impacting availability" is defined by {@link KafkaAvailability}.</p>
  *
+ * <p>When the maximal restart batch size is bigger than 1, the broker pods (which are not KRaft controllers) which
+ * need a restart, cannot be updated dynamically and can be rolled are first rolled in batches computed by
+ * {@link KafkaAvailability#restartBatches(Set, int)}. The pods in each batch are restarted at the same time and awaited
+ * for readiness together. All broker pods are then handled one-by-one by the algorithm above, which only verifies the
+ * pods already restarted in a batch.</p>
+ *
  * <p>Note the following important properties of this algorithm:</p>
  * <ul>
  *     <li>if there is a spontaneous change in controller while the rolling restart is happening, any new
@@ -131,6 +137,8 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
+    private final int maxRestartBatchSize;
+    private final KafkaRollerMetricsHolder metrics;
     /**
      * Admin client used to send requests that are only relevant for the brokers. It is bootstrapped with broker nodes that might be rolled.
      */
@@ -141,6 +149,11 @@ public class KafkaRoller {
      */
     private Admin controllerAdminClient;
     private KafkaAgentClient kafkaAgentClient;
+    /**
+     * Snapshot of the topic metadata used to check whether the brokers can be rolled. It is created when first needed
+     * and used for the rest of the rolling update.
+     */
+    private KafkaAvailability kafkaAvailability;
 
     /**
      * Constructor
@@ -167,6 +180,40 @@ public class KafkaRoller {
                        Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider, KafkaAgentClientProvider kafkaAgentClientProvider,
                        Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher) {
+        this(reconciliation, vertx, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier, nodes, clusterCaCertSecret, coKeySecret,
+                adminClientProvider, kafkaAgentClientProvider, kafkaConfigProvider, kafkaLogging, kafkaVersion, allowReconfiguration, eventsPublisher, 1, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation            Reconciliation marker
+     * @param vertx                     Vert.x instance
+     * @param podOperations             Pod operator for managing pods
+     * @param pollingIntervalMs         Polling interval in milliseconds
+     * @param operationTimeoutMs        Operation timeout in milliseconds
+     * @param backOffSupplier           Backoff supplier
+     * @param nodes                     List of Kafka node references to consider rolling
+     * @param clusterCaCertSecret       Secret with the Cluster CA public key
+     * @param coKeySecret               Secret with the Cluster CA private key
+     * @param adminClientProvider       Kafka Admin client provider
+     * @param kafkaAgentClientProvider  Kafka Agent client provider
+     * @param kafkaConfigProvider       Kafka configuration provider
+     * @param kafkaLogging              Kafka logging configuration
+     * @param kafkaVersion              Kafka version
+     * @param allowReconfiguration      Flag indicting whether reconfiguration is allowed or not
+     * @param eventsPublisher           Kubernetes Events publisher for publishing events about pod restarts
+     * @param maxRestartBatchSize       Maximal number of broker pods restarted at the same time. 1 means the pods are
+     *                                  rolled one-by-one.
+     * @param metrics                   Metrics holder for the rolling update metrics or null if the metrics should not
+     *                                  be recorded
+     */
+    public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, Set<NodeRef> nodes,
+                       Secret clusterCaCertSecret, Secret coKeySecret,
+                       AdminClientProvider adminClientProvider, KafkaAgentClientProvider kafkaAgentClientProvider,
+                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration,
+                       KubernetesRestartEventPublisher eventsPublisher, int maxRestartBatchSize, KafkaRollerMetricsHolder metrics) {
         this.namespace = reconciliation.namespace();
         this.cluster = reconciliation.name();
         this.nodes = nodes;
@@ -188,6 +235,8 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.maxRestartBatchSize = maxRestartBatchSize;
+        this.metrics = metrics;
     }
 
     /**
@@ -280,6 +329,13 @@ public class KafkaRoller {
                 }
 
                 Future.join(controllerFutures).compose(v -> {
+                    Promise<Void> batchesRestarted = Promise.promise();
+                    singleExecutor.submit(() -> {
+                        restartInBatches(brokerPods);
+                        batchesRestarted.complete();
+                    });
+                    return batchesRestarted.future();
+                }).compose(v -> {
                     List<Future<Void>> brokerFutures = new ArrayList<>(nodes.size());
                     for (NodeRef broker : brokerPods) {
                         brokerFutures.add(schedule(broker, 0, TimeUnit.MILLISECONDS));
@@ -317,6 +373,132 @@ public class KafkaRoller {
         return result.future();
     }
 
+    /**
+     * Restarts the broker pods which need to be restarted in batches computed from the current partition replicas and
+     * ISRs. A pod is restarted in a batch only when the same checks as used by
+     * {@link #restartIfNecessary(NodeRef, RestartContext)} decide that it needs a restart, that it cannot be updated
+     * dynamically and that it can be rolled. Each batch is restarted at the same time, and the pods are awaited for
+     * readiness together. The candidates and batches are computed again before each batch so that the brokers
+     * restarted in the previous batch are back in the ISRs. The active controller and the pods which are not ready,
+     * stuck or cannot be restarted in a batch are left to the one-by-one rolling. Any problem ends the batch restarts.
+     * All pods (including those restarted in batches) are afterward verified by the one-by-one rolling, which also
+     * completes their restart contexts. This method blocks.
+     *
+     * @param brokerPods    Broker pods which might need to be restarted
+     */
+    private void restartInBatches(List<NodeRef> brokerPods) {
+        if (maxRestartBatchSize <= 1 || brokerPods.size() <= 1) {
+            return;
+        }
+
+        try {
+            if (!maybeInitBrokerAdminClient()) {
+                return;
+            }
+
+            Set<NodeRef> restarted = new HashSet<>();
+            BackOff backOff = backoffSupplier.get();
+            while (true) {
+                Map<Integer, NodeRef> candidates = new HashMap<>();
+                Map<Integer, Pod> candidatePods = new HashMap<>();
+
+                for (NodeRef node : brokerPods) {
+                    if (restarted.contains(node)) {
+                        continue;
+                    }
+
+                    Pod pod = podOperations.get(namespace, node.podName());
+
+                    if (pod != null && !isPodStuck(pod) && podOperations.isReady(namespace, node.podName())) {
+                        RestartContext ctx = podToContext.computeIfAbsent(node.podName(), k -> new RestartContext(backoffSupplier));
+
+                        try {
+                            if (needsBatchableRestart(node, pod, ctx)) {
+                                candidates.put(node.nodeId(), node);
+                                candidatePods.put(node.nodeId(), pod);
+                            }
+                        } catch (ForceableProblem | UnforceableProblem e) {
+                            LOGGER.debugCr(reconciliation, "Pod {} cannot be rolled in a batch and will be verified one-by-one", node, e);
+                        }
+                    }
+                }
+
+                if (candidates.size() <= 1) {
+                    break;
+                }
+
+                List<Set<Integer>> batches = await(kafkaAvailability().restartBatches(candidates.keySet(), maxRestartBatchSize), operationTimeoutMs, TimeUnit.MILLISECONDS,
+                        t -> new ForceableProblem("An error while trying to determine the batches of Kafka broker pods to update", t));
+                Optional<Set<Integer>> batch = batches.stream().filter(b -> b.size() > 1).findFirst();
+
+                if (batch.isEmpty()) {
+                    if (backOff.done()) {
+                        break;
+                    }
+
+                    // The brokers from the previous batch might be still catching up
+                    long delay = backOff.delayMs();
+                    LOGGER.debugCr(reconciliation, "No batch of pods {} can be rolled right now, retrying after at least {}ms", candidates.keySet(), delay);
+                    Thread.sleep(delay);
+                    continue;
+                }
+
+                List<Future<Void>> restarts = new ArrayList<>(batch.get().size());
+                for (int nodeId : batch.get()) {
+                    NodeRef node = candidates.get(nodeId);
+                    Pod pod = candidatePods.get(nodeId);
+                    RestartContext ctx = podToContext.get(node.podName());
+                    restarted.add(node);
+
+                    LOGGER.infoCr(reconciliation, "Rolling Pod {} in a batch with pods {} due to {}", node, batch.get(), ctx.restartReasons.getAllReasonNotes());
+                    restarts.add(restart(pod, ctx)
+                            .onSuccess(i -> ctx.restartedInBatch = true)
+                            // The ISRs of the partitions on the restarted broker change, so they have to be described again
+                            .compose(i -> isReady(pod).onComplete(ready -> kafkaAvailability().brokerRestarted(nodeId))));
+                }
+
+                await(Future.join(restarts), operationTimeoutMs, TimeUnit.MILLISECONDS,
+                        t -> new ForceableProblem("Error while waiting for the restarted pods " + batch.get() + " to become ready", t));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOGGER.warnCr(reconciliation, "Failed to roll the pods in batches. The remaining pods will be rolled one-by-one.", e);
+        }
+    }
+
+    /**
+     * Checks whether the pod needs to be restarted and can be restarted in a batch. It uses the same checks as
+     * {@link #restartIfNecessary(NodeRef, RestartContext)}: the pod has to be a broker which is not a KRaft controller
+     * or the active controller, it has to need a restart which cannot be replaced by a dynamic reconfiguration, and it
+     * has to be possible to roll it without impacting the availability. This method blocks.
+     *
+     * @param nodeRef           Reference of the pod
+     * @param pod               The pod
+     * @param restartContext    Restart context of the pod
+     *
+     * @return  True if the pod should be restarted in a batch. False otherwise.
+     *
+     * @throws Exception    When the checks fail
+     */
+    private boolean needsBatchableRestart(NodeRef nodeRef, Pod pod, RestartContext restartContext) throws Exception {
+        restartContext.podStuck = false;
+        restartContext.restartReasons = podNeedsRestart.apply(pod);
+
+        boolean isBroker = isCurrentlyBroker(pod).orElse(nodeRef.broker());
+        boolean isController = isCurrentlyController(pod).orElse(nodeRef.controller());
+        if (!isBroker || isController) {
+            return false;
+        }
+
+        checkIfRestartOrReconfigureRequired(nodeRef, false, true, restartContext);
+
+        return restartContext.needsRestart
+                && !restartContext.forceRestart
+                && !deferController(nodeRef, restartContext)
+                && canRoll(nodeRef.nodeId(), false, true, 60, TimeUnit.SECONDS, false, restartContext);
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
@@ -325,6 +507,7 @@ public class KafkaRoller {
 
         boolean needsRestart;
         boolean needsReconfig;
+        volatile boolean restartedInBatch;
         boolean forceRestart;
         boolean podStuck;
         KafkaBrokerConfigurationDiff brokerConfigDiff;
@@ -463,6 +646,13 @@ public class KafkaRoller {
 
         restartContext.restartReasons = podNeedsRestart.apply(pod);
 
+        if (restartContext.restartedInBatch) {
+            // The pod was already restarted in a batch => we only verify it now
+            LOGGER.debugCr(reconciliation, "Pod {} was restarted in a batch and will be only verified", nodeRef);
+            restartContext.restartedInBatch = false;
+            restartContext.restartReasons = RestartReasons.empty();
+        }
+
         // We try to detect the current roles. If we fail to do so, we optimistically assume the roles did not
         // change and the desired roles still apply.
         boolean isBroker = isCurrentlyBroker(pod).orElse(nodeRef.broker());
@@ -472,7 +662,7 @@ public class KafkaRoller {
             checkIfRestartOrReconfigureRequired(nodeRef, isController, isBroker, restartContext);
             if (restartContext.forceRestart) {
                 LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", nodeRef);
-                restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                restartAndAwaitReadiness(nodeRef, pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
             } else if (restartContext.needsRestart || restartContext.needsReconfig) {
                 if (deferController(nodeRef, restartContext)) {
                     LOGGER.debugCr(reconciliation, "Pod {} is the active controller and there are other pods to verify first.", nodeRef);
@@ -484,7 +674,7 @@ public class KafkaRoller {
                     // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
                     if (!maybeDynamicUpdateBrokerConfig(nodeRef, restartContext)) {
                         LOGGER.infoCr(reconciliation, "Rolling Pod {} due to {}", nodeRef, restartContext.restartReasons.getAllReasonNotes());
-                        restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                        restartAndAwaitReadiness(nodeRef, pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
                     } else {
                         awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
                     }
@@ -510,7 +700,7 @@ public class KafkaRoller {
 
                     LOGGER.warnCr(reconciliation, "Pod {} will be force-rolled, due to error: {}", nodeRef, errorMsg);
                     restartContext.restartReasons.add(RestartReason.POD_FORCE_RESTART_ON_ERROR);
-                    restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                    restartAndAwaitReadiness(nodeRef, pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
                 } else {
                     LOGGER.warnCr(reconciliation, "Pod {} can't be safely force-rolled; original error: ", nodeRef, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
                     throw e;
@@ -819,14 +1009,14 @@ public class KafkaRoller {
             if (isBroker && isController) {
                 boolean canRollController = await(restartContext.quorumCheck.canRollController(nodeId), timeout, unit,
                         t -> new UnforceableProblem("An error while trying to determine the possibility of updating Kafka controller pods", t));
-                boolean canRollBroker = await(availability(brokerAdminClient).canRoll(nodeId), timeout, unit,
+                boolean canRollBroker = await(kafkaAvailability().canRoll(nodeId), timeout, unit,
                         t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka broker pods", t));
                 return canRollController && canRollBroker;
             } else if (isController) {
                 return await(restartContext.quorumCheck.canRollController(nodeId), timeout, unit,
                         t -> new UnforceableProblem("An error while trying to determine the possibility of updating Kafka controller pods", t));
             } else {
-                return await(availability(brokerAdminClient).canRoll(nodeId), timeout, unit,
+                return await(kafkaAvailability().canRoll(nodeId), timeout, unit,
                         t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka broker pods", t));
             }
         } catch (ForceableProblem | UnforceableProblem e) {
@@ -844,17 +1034,26 @@ public class KafkaRoller {
      * Synchronously restart the given pod
      * by deleting it and letting it be recreated by K8s, then synchronously wait for it to be ready.
      *
+     * @param nodeRef           Reference of the node running in the Pod.
      * @param pod               The Pod to restart.
      * @param timeout           The timeout.
      * @param unit              The timeout unit.
      * @param restartContext    Restart context
      */
-    private void restartAndAwaitReadiness(Pod pod, long timeout, TimeUnit unit, RestartContext restartContext)
+    private void restartAndAwaitReadiness(NodeRef nodeRef, Pod pod, long timeout, TimeUnit unit, RestartContext restartContext)
             throws InterruptedException, UnforceableProblem, FatalProblem {
         String podName = pod.getMetadata().getName();
         LOGGER.debugCr(reconciliation, "Rolling pod {}", podName);
         await(restart(pod, restartContext), timeout, unit, e -> new UnforceableProblem("Error while trying to restart pod " + podName + " to become ready", e));
-        awaitReadiness(pod, timeout, unit);
+
+        try {
+            awaitReadiness(pod, timeout, unit);
+        } finally {
+            if (kafkaAvailability != null) {
+                // The ISRs of the partitions on the restarted broker change, so they have to be described again
+                kafkaAvailability.brokerRestarted(nodeRef.nodeId());
+            }
+        }
     }
 
     private void awaitReadiness(Pod pod, long timeout, TimeUnit unit) throws FatalProblem, InterruptedException {
@@ -949,7 +1148,21 @@ public class KafkaRoller {
     }
 
     /* test */ KafkaAvailability availability(Admin ac) {
-        return new KafkaAvailability(reconciliation, ac);
+        return new KafkaAvailability(reconciliation, ac, metrics);
+    }
+
+    /**
+     * Returns the KafkaAvailability used for this rolling update. It is created with the broker admin client when first
+     * needed, so that the topic metadata are fetched only once per rolling update.
+     *
+     * @return  KafkaAvailability instance
+     */
+    private KafkaAvailability kafkaAvailability() {
+        if (kafkaAvailability == null) {
+            kafkaAvailability = availability(brokerAdminClient);
+        }
+
+        return kafkaAvailability;
     }
     
     /**
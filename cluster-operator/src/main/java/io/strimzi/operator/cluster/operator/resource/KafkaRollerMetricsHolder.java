@@ -0,0 +1,72 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Metrics holder for the metrics of the KafkaRoller and of the Kafka metadata snapshot it uses to decide whether the
+ * brokers can be rolled. It is shared by all rolling updates done by the operator.
+ */
+public class KafkaRollerMetricsHolder extends MetricsHolder {
+    private final Map<String, Timer> metadataFetchTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> describedTopicsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> snapshotPartitionsMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the KafkaRoller metrics holder
+     *
+     * @param metricsProvider   Metrics provider
+     */
+    public KafkaRollerMetricsHolder(MetricsProvider metricsProvider) {
+        super(Kafka.RESOURCE_KIND, null, metricsProvider);
+    }
+
+    /**
+     * Timer which measures how long do the requests for the topic metadata (topic names, topic descriptions and topic
+     * configurations) used to decide whether the brokers can be rolled take.
+     *
+     * @param namespace     Namespace of the Kafka cluster
+     *
+     * @return  Metrics timer
+     */
+    public Timer metadataFetchTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "kafka.roller.metadata.fetch", metricsProvider, selectorLabels, metadataFetchTimerMap,
+                "The time the requests for the topic metadata used by the rolling updates take");
+    }
+
+    /**
+     * Counter metric for number of topics described for the metadata snapshot. It includes both the topics described
+     * when the snapshot is taken and the stale topics described again.
+     *
+     * @param namespace     Namespace of the Kafka cluster
+     *
+     * @return  Metrics counter
+     */
+    public Counter describedTopicsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "kafka.roller.metadata.described.topics", metricsProvider, selectorLabels, describedTopicsCounterMap,
+                "Number of topics described for the metadata snapshots used by the rolling updates");
+    }
+
+    /**
+     * Gauge metric for the number of partitions in the last updated metadata snapshot.
+     *
+     * @param namespace     Namespace of the Kafka cluster
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger snapshotPartitions(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "kafka.roller.metadata.snapshot.partitions", metricsProvider, selectorLabels, snapshotPartitionsMap,
+                "Number of partitions in the last updated metadata snapshot used by the rolling updates");
+    }
+}
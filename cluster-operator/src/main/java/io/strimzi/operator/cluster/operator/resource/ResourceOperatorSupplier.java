@@ -4,7 +4,12 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.api.model.LabelSelectorRequirementBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.strimzi.api.kafka.model.bridge.KafkaBridge;
 import io.strimzi.api.kafka.model.bridge.KafkaBridgeList;
@@ -26,11 +31,16 @@ import io.strimzi.operator.cluster.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.model.DefaultSharedEnvironmentProvider;
 import io.strimzi.operator.cluster.model.SharedEnvironmentProvider;
 import io.strimzi.operator.cluster.operator.assembly.BrokersInUseCheck;
+import io.strimzi.operator.cluster.operator.assembly.ReconciliationScheduler;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.InformerUtils;
 import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.ResourceCacheMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.AbstractNamespacedResourceOperator;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.BuildOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
@@ -44,6 +54,7 @@ import io.strimzi.operator.common.operator.resource.NodeOperator;
 import io.strimzi.operator.common.operator.resource.PodDisruptionBudgetOperator;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.PvcOperator;
+import io.strimzi.operator.common.operator.resource.ResourceCache;
 import io.strimzi.operator.common.operator.resource.RoleBindingOperator;
 import io.strimzi.operator.common.operator.resource.RoleOperator;
 import io.strimzi.operator.common.operator.resource.RouteOperator;
@@ -54,12 +65,33 @@ import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Class holding the various resource operator and providers of various clients
  */
 // Deprecation is suppressed because of KafkaMirrorMaker
-@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "deprecation"})
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity", "deprecation"})
 public class ResourceOperatorSupplier {
+    /**
+     * Kinds of the resources which can be read from the informer-backed resource caches
+     */
+    public static final Set<String> CACHEABLE_KINDS = Set.of("ConfigMap", "Secret", "Service", "ServiceAccount",
+            "PersistentVolumeClaim", "NetworkPolicy", "PodDisruptionBudget", "Ingress", "Role", "RoleBinding");
+
+    /**
+     * Kinds of the resources which can be reconciled using server-side apply. PersistentVolumeClaims, Services and
+     * Ingresses are not included because some of their fields have to be reverted or kept based on the current
+     * resource before updating them.
+     */
+    public static final Set<String> SERVER_SIDE_APPLY_KINDS = Set.of("ConfigMap", "Secret", "ServiceAccount",
+            "NetworkPolicy", "PodDisruptionBudget", "Role", "RoleBinding");
+
     /**
      * Secret operator
      */
@@ -216,6 +248,16 @@ public class ResourceOperatorSupplier {
      */
     public final MetricsProvider metricsProvider;
 
+    /**
+     * Metrics holder for the metrics of the rolling updates of Kafka clusters
+     */
+    public final KafkaRollerMetricsHolder kafkaRollerMetrics;
+
+    /**
+     * Scheduler which limits the number of reconciliations running at the same time across all operators
+     */
+    public final ReconciliationScheduler reconciliationScheduler;
+
     /**
      * Kafka Admin API client provider
      */
@@ -246,6 +288,8 @@ public class ResourceOperatorSupplier {
      */
     public final BrokersInUseCheck brokersInUseCheck;
 
+    private final List<SharedIndexInformer<?>> cacheInformers = new ArrayList<>();
+
     /**
      * Constructor
      *
@@ -467,10 +511,93 @@ public class ResourceOperatorSupplier {
         this.zkScalerProvider = zkScalerProvider;
         this.kafkaAgentClientProvider = kafkaAgentClientProvider;
         this.metricsProvider = metricsProvider;
+        this.kafkaRollerMetrics = new KafkaRollerMetricsHolder(metricsProvider);
         this.adminClientProvider = adminClientProvider;
         this.zookeeperLeaderFinder = zookeeperLeaderFinder;
         this.restartEventsPublisher = restartEventsPublisher;
         this.sharedEnvironmentProvider = sharedEnvironmentProvider;
         this.brokersInUseCheck = brokersInUseCheck;
+        this.reconciliationScheduler = new ReconciliationScheduler(metricsProvider);
+    }
+
+    /**
+     * Enables the informer-backed read caches for the selected resource kinds. For each kind and namespace, an informer
+     * watching the resources with the {@code strimzi.io/cluster} label is started and the resource operator for this
+     * kind starts serving its reads from it. Resources without this label are always read from the Kubernetes API
+     * server.
+     *
+     * @param namespaces    Namespaces watched by the operator
+     * @param kinds         Kinds of the resources which should be cached
+     */
+    public void enableResourceCaches(Set<String> namespaces, Set<String> kinds) {
+        LabelSelector selector = new LabelSelectorBuilder()
+                .withMatchExpressions(new LabelSelectorRequirementBuilder()
+                        .withKey(Labels.STRIMZI_CLUSTER_LABEL)
+                        .withOperator("Exists")
+                        .build())
+                .build();
+        ResourceCacheMetricsHolder metrics = new ResourceCacheMetricsHolder(metricsProvider);
+
+        for (Map.Entry<String, AbstractNamespacedResourceOperator<?, ?, ?, ?>> operator : operatorsByKind().entrySet()) {
+            if (kinds.contains(operator.getKey())) {
+                enableResourceCache(operator.getKey(), operator.getValue(), namespaces, selector, metrics);
+            }
+        }
+    }
+
+    /**
+     * Enables server-side apply for the selected resource kinds. The resources of these kinds are created and updated
+     * using server-side apply instead of reading, diffing and patching them.
+     *
+     * @param kinds     Kinds of the resources which should be reconciled using server-side apply
+     */
+    public void enableServerSideApply(Set<String> kinds) {
+        for (Map.Entry<String, AbstractNamespacedResourceOperator<?, ?, ?, ?>> operator : operatorsByKind().entrySet()) {
+            if (kinds.contains(operator.getKey())) {
+                operator.getValue().setServerSideApply(true);
+            }
+        }
+    }
+
+    private Map<String, AbstractNamespacedResourceOperator<?, ?, ?, ?>> operatorsByKind() {
+        Map<String, AbstractNamespacedResourceOperator<?, ?, ?, ?>> operators = new LinkedHashMap<>();
+        operators.put("ConfigMap", configMapOperations);
+        operators.put("Secret", secretOperations);
+        operators.put("Service", serviceOperations);
+        operators.put("ServiceAccount", serviceAccountOperations);
+        operators.put("PersistentVolumeClaim", pvcOperations);
+        operators.put("NetworkPolicy", networkPolicyOperator);
+        operators.put("PodDisruptionBudget", podDisruptionBudgetOperator);
+        operators.put("Ingress", ingressOperations);
+        operators.put("Role", roleOperations);
+        operators.put("RoleBinding", roleBindingOperations);
+
+        return operators;
+    }
+
+    private <T extends HasMetadata> void enableResourceCache(String kind, AbstractNamespacedResourceOperator<?, T, ?, ?> operator, Set<String> namespaces, LabelSelector selector, ResourceCacheMetricsHolder metrics) {
+        Map<String, SharedIndexInformer<T>> informers = new HashMap<>(namespaces.size());
+
+        for (String namespace : namespaces) {
+            SharedIndexInformer<T> informer = operator.informer(namespace, selector, 0);
+            informer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler(kind, isStarted, throwable));
+            informer.start();
+
+            informers.put(namespace, informer);
+            cacheInformers.add(informer);
+        }
+
+        operator.setCache(new ResourceCache<>(kind, Labels.STRIMZI_CLUSTER_LABEL, informers, metrics));
+    }
+
+    /**
+     * Stops the informers used by the resource caches
+     *
+     * @param timeoutMs     Timeout in milliseconds for how long we will wait for each informer to stop
+     */
+    public void stopResourceCaches(long timeoutMs) {
+        if (!cacheInformers.isEmpty()) {
+            InformerUtils.stopAll(timeoutMs, cacheInformers.toArray(new SharedIndexInformer<?>[0]));
+        }
     }
 }
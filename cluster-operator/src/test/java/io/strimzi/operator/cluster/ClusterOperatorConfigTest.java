@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.UnsupportedVersionException;
@@ -17,6 +18,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
@@ -232,6 +234,95 @@ public class ClusterOperatorConfigTest {
         );
     }
 
+    @Test
+    public void testCertManagerType() {
+        assertThat(ClusterOperatorConfig.buildFromMap(ENV_VARS, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.CERT_MANAGER.key(), "BouncyCastle");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.BOUNCYCASTLE));
+
+        envVars.put(ClusterOperatorConfig.CERT_MANAGER.key(), "libressl");
+        assertThrows(InvalidConfigurationException.class, () ->
+            ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup())
+        );
+    }
+
+    @Test
+    public void testPodSetControllerWorkers() {
+        assertThat(ClusterOperatorConfig.buildFromMap(ENV_VARS, KafkaVersionTestUtils.getKafkaVersionLookup()).getPodSetControllerWorkers(), is(1));
+
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.POD_SET_CONTROLLER_WORKERS.key(), "5");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getPodSetControllerWorkers(), is(5));
+
+        envVars.put(ClusterOperatorConfig.POD_SET_CONTROLLER_WORKERS.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () ->
+            ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup())
+        );
+    }
+
+    @Test
+    public void testMaxConcurrentReconciliations() {
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(ENV_VARS, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConcurrentReconciliations(), is(0));
+        assertThat(config.getMaxConcurrentReconciliationsPerKind(), is(Map.of()));
+
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS.key(), "10");
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS_PER_KIND.key(), "Kafka=2, KafkaConnect=5");
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConcurrentReconciliations(), is(10));
+        assertThat(config.getMaxConcurrentReconciliationsPerKind(), is(Map.of("Kafka", 2, "KafkaConnect", 5)));
+
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS_PER_KIND.key(), "Kafka=two");
+        assertThrows(InvalidConfigurationException.class, () ->
+            ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup())
+        );
+    }
+
+    @Test
+    public void testResourceCacheKinds() {
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(ENV_VARS, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getResourceCacheKinds(), is(Set.of()));
+
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.RESOURCE_CACHE_KINDS.key(), "ConfigMap, Secret,Service");
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getResourceCacheKinds(), is(Set.of("ConfigMap", "Secret", "Service")));
+
+        envVars.put(ClusterOperatorConfig.RESOURCE_CACHE_KINDS.key(), "ConfigMap,Pod");
+        assertThrows(InvalidConfigurationException.class, () ->
+            ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup())
+        );
+    }
+
+    @Test
+    public void testServerSideApplyKinds() {
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(ENV_VARS, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getServerSideApplyKinds(), is(Set.of()));
+
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.SERVER_SIDE_APPLY_KINDS.key(), "ConfigMap,Secret");
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getServerSideApplyKinds(), is(Set.of("ConfigMap", "Secret")));
+
+        envVars.put(ClusterOperatorConfig.SERVER_SIDE_APPLY_KINDS.key(), "ConfigMap,PersistentVolumeClaim");
+        assertThrows(InvalidConfigurationException.class, () ->
+            ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup())
+        );
+
+        envVars.put(ClusterOperatorConfig.SERVER_SIDE_APPLY_KINDS.key(), "Service");
+        assertThrows(InvalidConfigurationException.class, () ->
+            ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup())
+        );
+
+        envVars.put(ClusterOperatorConfig.SERVER_SIDE_APPLY_KINDS.key(), "Ingress");
+        assertThrows(InvalidConfigurationException.class, () ->
+            ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup())
+        );
+    }
+
     @Test
     public void testImagePullSecrets() {
         Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
@@ -100,7 +100,7 @@ public class KafkaConfigurationTests {
     @ParallelTest
     public void unsupportedVersion() {
         RuntimeException exc = Assertions.assertThrows(RuntimeException.class, () ->
-            KafkaConfiguration.readConfigModel(KafkaVersionTestUtils.getKafkaVersionLookup().version("2.6.0"))
+            KafkaConfiguration.configModel(KafkaVersionTestUtils.getKafkaVersionLookup().version("2.6.0"))
         );
 
         assertThat(exc.getMessage(), containsString("Configuration model /kafka-2.6.0-config-model.json was not found"));
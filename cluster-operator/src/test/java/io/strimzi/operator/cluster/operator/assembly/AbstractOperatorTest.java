@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.common.Spec;
 import io.strimzi.api.kafka.model.kafka.Status;
 import io.strimzi.operator.common.MetricsProvider;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
@@ -213,6 +215,37 @@ class AbstractOperatorTest {
         handlersRegistered.complete();
     }
 
+    @Test
+    /*
+     * Verifies that a reconciliation waiting for the scheduler does not hold the lock of its resource
+     */
+    void testReconciliationWaitingForSchedulerDoesNotHoldLock(VertxTestContext context) {
+        var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
+        MetricsProvider metricsProvider = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, Map.of(), metricsProvider);
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, metricsProvider, null, scheduler);
+        Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
+        String lockName = target.getLockName(reconciliation);
+
+        // Occupies the only slot of the scheduler
+        Promise<Void> otherReconciliation = Promise.promise();
+        scheduler.schedule(new Reconciliation("test", "TestResource", "my-namespace", "other-resource"), otherReconciliation::future);
+
+        @SuppressWarnings("unchecked")
+        Future<Void> result = target.reconcile(reconciliation);
+
+        Checkpoint lockObtained = context.checkpoint();
+        vertx.sharedData().getLockWithTimeout(lockName, 1_000L)
+            .onComplete(context.succeeding(lock -> context.verify(() -> {
+                assertThat(result.isComplete(), is(false));
+                assertThat(scheduler.queued(), is(1));
+                lock.release();
+                otherReconciliation.complete();
+                lockObtained.flag();
+            })));
+    }
+
     private static class DefaultOperator<
             T extends CustomResource<P, S>,
             P extends Spec,
@@ -221,7 +254,11 @@ class AbstractOperatorTest {
                 extends AbstractOperator<T, P, S, O> {
 
         public DefaultOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels) {
-            super(vertx, kind, resourceOperator, metrics, selectorLabels);
+            this(vertx, kind, resourceOperator, metrics, selectorLabels, new ReconciliationScheduler(metrics));
+        }
+
+        public DefaultOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels, ReconciliationScheduler scheduler) {
+            super(vertx, kind, resourceOperator, metrics, selectorLabels, scheduler);
         }
 
         @Override
@@ -0,0 +1,126 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.podset.StrimziPodSet;
+import io.strimzi.api.kafka.model.podset.StrimziPodSetBuilder;
+import io.strimzi.operator.cluster.model.PodSetUtils;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DecodedPodsCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private MeterRegistry registry;
+    private DecodedPodsCache cache;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        cache = new DecodedPodsCache(new StrimziPodSetControllerMetricsHolder("StrimziPodSet", Labels.EMPTY, new MicrometerMetricsProvider(registry)), NAMESPACE);
+    }
+
+    @Test
+    public void testSameGenerationIsCached() {
+        StrimziPodSet podSet = podSet("uid-1", 1L, "pod-0", "pod-1");
+
+        List<Pod> pods = cache.pods(podSet);
+        assertThat(pods.size(), is(2));
+        assertThat(pods.get(0).getMetadata().getName(), is("pod-0"));
+        assertThat(pods.get(1).getMetadata().getName(), is("pod-1"));
+
+        // Another copy of the same generation (e.g. from the informer) returns the cached pods
+        assertThat(cache.pods(podSet("uid-1", 1L, "pod-0", "pod-1")), is(sameInstance(pods)));
+        assertThat(cache.size(), is(1));
+
+        assertThat(counter("strimzi.podset.decoded.pods.cache.hits"), is(1.0));
+        assertThat(counter("strimzi.podset.decoded.pods.cache.misses"), is(1.0));
+        assertThat(registry.get("strimzi.podset.pods.decoding").timer().count(), is(1L));
+        assertThat(registry.get("strimzi.podset.decoded.pods.cache.size").gauge().value(), is(1.0));
+    }
+
+    @Test
+    public void testNewGenerationReplacesCachedPods() {
+        List<Pod> pods = cache.pods(podSet("uid-1", 1L, "pod-0"));
+        List<Pod> newPods = cache.pods(podSet("uid-1", 2L, "pod-0", "pod-1"));
+
+        assertThat(newPods, is(not(sameInstance(pods))));
+        assertThat(newPods.size(), is(2));
+        assertThat(cache.size(), is(1));
+        assertThat(counter("strimzi.podset.decoded.pods.cache.misses"), is(2.0));
+    }
+
+    @Test
+    public void testEviction() {
+        StrimziPodSet podSet = podSet("uid-1", 1L, "pod-0");
+        cache.pods(podSet);
+        cache.pods(podSet("uid-2", 1L, "pod-0"));
+        assertThat(cache.size(), is(2));
+
+        // Update with the same generation keeps the entry
+        cache.evictOutdated(podSet);
+        assertThat(cache.size(), is(2));
+
+        // Update with new generation removes it
+        cache.evictOutdated(podSet("uid-1", 2L, "pod-0"));
+        assertThat(cache.size(), is(1));
+
+        cache.evict(podSet("uid-2", 1L, "pod-0"));
+        assertThat(cache.size(), is(0));
+        assertThat(registry.get("strimzi.podset.decoded.pods.cache.size").gauge().value(), is(0.0));
+    }
+
+    @Test
+    public void testPodSetWithoutUidIsNotCached() {
+        StrimziPodSet podSet = podSet(null, null, "pod-0");
+
+        assertThat(cache.pods(podSet), is(not(sameInstance(cache.pods(podSet)))));
+        assertThat(cache.size(), is(0));
+    }
+
+    private double counter(String name) {
+        return registry.get(name).tag("namespace", NAMESPACE).counter().count();
+    }
+
+    private static StrimziPodSet podSet(String uid, Long generation, String... podNames) {
+        List<Pod> pods = Arrays.stream(podNames)
+                .map(name -> new PodBuilder()
+                        .withNewMetadata()
+                            .withName(name)
+                            .withNamespace(NAMESPACE)
+                        .endMetadata()
+                        .build())
+                .toList();
+
+        return new StrimziPodSetBuilder()
+                .withNewMetadata()
+                    .withName("my-podset")
+                    .withNamespace(NAMESPACE)
+                    .withUid(uid)
+                    .withGeneration(generation)
+                .endMetadata()
+                .withNewSpec()
+                    .withSelector(new LabelSelector(null, Map.of(Labels.STRIMZI_KIND_LABEL, "Kafka", Labels.STRIMZI_CLUSTER_LABEL, "my-kafka")))
+                    .withPods(PodSetUtils.podsToMaps(pods))
+                .endSpec()
+                .build();
+    }
+}
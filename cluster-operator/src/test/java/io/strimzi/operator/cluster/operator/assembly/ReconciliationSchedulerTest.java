@@ -0,0 +1,220 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ReconciliationSchedulerTest {
+    private MeterRegistry registry;
+    private List<String> started;
+    private Map<String, Promise<Void>> running;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        started = new ArrayList<>();
+        running = new HashMap<>();
+    }
+
+    @Test
+    public void testWithoutLimits() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(new MicrometerMetricsProvider(registry));
+
+        Future<Void> first = schedule(scheduler, "watch", "Kafka", "ns", "a");
+        Future<Void> second = schedule(scheduler, "timer", "Kafka", "ns", "b");
+
+        assertThat(started, is(List.of("a", "b")));
+        assertThat(scheduler.running(), is(2));
+        assertThat(scheduler.queued(), is(0));
+
+        finish("a");
+        assertThat(first.succeeded(), is(true));
+        assertThat(second.isComplete(), is(false));
+        assertThat(scheduler.running(), is(1));
+    }
+
+    @Test
+    public void testGlobalLimit() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(2, Map.of(), new MicrometerMetricsProvider(registry));
+
+        schedule(scheduler, "watch", "Kafka", "ns", "a");
+        schedule(scheduler, "watch", "KafkaConnect", "ns", "b");
+        Future<Void> third = schedule(scheduler, "watch", "KafkaBridge", "ns", "c");
+
+        assertThat(started, is(List.of("a", "b")));
+        assertThat(scheduler.queued(), is(1));
+        assertThat(registry.get("strimzi.reconciliations.queued").tag("kind", "KafkaBridge").gauge().value(), is(1.0));
+
+        running.get("b").fail("Failure");
+        assertThat(started, is(List.of("a", "b", "c")));
+        assertThat(scheduler.queued(), is(0));
+
+        finish("c");
+        assertThat(third.succeeded(), is(true));
+        assertThat(registry.get("strimzi.reconciliations.queue.wait").tag("kind", "KafkaBridge").timer().count(), is(1L));
+        assertThat(registry.get("strimzi.reconciliations.run").tag("kind", "KafkaBridge").timer().count(), is(1L));
+        assertThat(registry.get("strimzi.reconciliations.running").tag("kind", "Kafka").gauge().value(), is(1.0));
+        assertThat(registry.get("strimzi.reconciliations.running").tag("kind", "KafkaBridge").gauge().value(), is(0.0));
+    }
+
+    @Test
+    public void testPerKindLimit() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(0, Map.of("Kafka", 1), new MicrometerMetricsProvider(registry));
+
+        schedule(scheduler, "watch", "Kafka", "ns", "kafka-a");
+        schedule(scheduler, "watch", "Kafka", "ns", "kafka-b");
+        // Other kinds are not blocked by the limited kind queued before them
+        schedule(scheduler, "watch", "KafkaConnect", "ns", "connect-a");
+
+        assertThat(started, is(List.of("kafka-a", "connect-a")));
+
+        finish("connect-a");
+        assertThat(started, is(List.of("kafka-a", "connect-a")));
+
+        finish("kafka-a");
+        assertThat(started, is(List.of("kafka-a", "connect-a", "kafka-b")));
+    }
+
+    @Test
+    public void testChangesBeforePeriodicReconciliations() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, Map.of(), new MicrometerMetricsProvider(registry));
+
+        schedule(scheduler, "watch", "Kafka", "ns", "a");
+        schedule(scheduler, "timer", "Kafka", "ns", "b");
+        schedule(scheduler, "timer", "Kafka", "ns", "c");
+        schedule(scheduler, "watch", "Kafka", "ns", "d");
+
+        finish("a");
+        finish("d");
+        finish("b");
+
+        assertThat(started, is(List.of("a", "d", "b", "c")));
+    }
+
+    @Test
+    public void testNamespacesTakeTurns() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, Map.of(), new MicrometerMetricsProvider(registry));
+
+        schedule(scheduler, "timer", "Kafka", "ns1", "first");
+        schedule(scheduler, "timer", "Kafka", "ns1", "ns1-a");
+        schedule(scheduler, "timer", "Kafka", "ns1", "ns1-b");
+        schedule(scheduler, "timer", "Kafka", "ns1", "ns1-c");
+        schedule(scheduler, "timer", "Kafka", "ns2", "ns2-a");
+        schedule(scheduler, "timer", "Kafka", "ns3", "ns3-a");
+        schedule(scheduler, "timer", "Kafka", "ns2", "ns2-b");
+
+        for (String name : List.of("first", "ns1-a", "ns2-a", "ns3-a", "ns1-b", "ns2-b")) {
+            finish(name);
+        }
+
+        assertThat(started, is(List.of("first", "ns1-a", "ns2-a", "ns3-a", "ns1-b", "ns2-b", "ns1-c")));
+    }
+
+    @Test
+    public void testExceptionReleasesSlot() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, Map.of(), new MicrometerMetricsProvider(registry));
+
+        Future<Void> failed = scheduler.schedule(new Reconciliation("watch", "Kafka", "ns", "a"), () -> {
+            throw new RuntimeException("Failure");
+        });
+        schedule(scheduler, "watch", "Kafka", "ns", "b");
+
+        assertThat(failed.failed(), is(true));
+        assertThat(failed.cause().getMessage(), is("Failure"));
+        assertThat(started, is(List.of("b")));
+        assertThat(scheduler.running(), is(1));
+    }
+
+    @Test
+    public void testSameResourceDoesNotHoldSlot() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(2, Map.of(), new MicrometerMetricsProvider(registry));
+
+        schedule(scheduler, "watch", "Kafka", "ns", "a");
+        // The second reconciliation of the same resource waits without taking the second slot
+        Future<Void> duplicate = schedule(scheduler, "watch", "Kafka", "ns", "a");
+        schedule(scheduler, "watch", "Kafka", "ns", "b");
+
+        assertThat(started, is(List.of("a", "b")));
+        assertThat(scheduler.running(), is(2));
+        assertThat(scheduler.queued(), is(1));
+        assertThat(duplicate.isComplete(), is(false));
+
+        finish("b");
+        assertThat(started, is(List.of("a", "b")));
+
+        finish("a");
+        assertThat(started, is(List.of("a", "b", "a")));
+
+        finish("a");
+        assertThat(duplicate.succeeded(), is(true));
+    }
+
+    @Test
+    public void testQueuedDuplicatesAreCoalesced() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, Map.of(), new MicrometerMetricsProvider(registry));
+
+        schedule(scheduler, "watch", "Kafka", "ns", "a");
+        Future<Void> queued = schedule(scheduler, "watch", "Kafka", "ns", "a");
+        Future<Void> duplicate = schedule(scheduler, "timer", "Kafka", "ns", "a");
+
+        assertThat(duplicate.failed(), is(true));
+        assertThat(duplicate.cause() instanceof AbstractOperator.UnableToAcquireLockException, is(true));
+        assertThat(queued.isComplete(), is(false));
+        assertThat(scheduler.queued(), is(1));
+
+        finish("a");
+        finish("a");
+        assertThat(queued.succeeded(), is(true));
+        assertThat(started, is(List.of("a", "a")));
+    }
+
+    @Test
+    public void testChangeReplacesQueuedPeriodicReconciliation() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, Map.of(), new MicrometerMetricsProvider(registry));
+
+        schedule(scheduler, "watch", "Kafka", "ns", "a");
+        schedule(scheduler, "timer", "Kafka", "ns", "b");
+        Future<Void> periodic = schedule(scheduler, "timer", "Kafka", "ns", "c");
+        Future<Void> change = schedule(scheduler, "watch", "Kafka", "ns", "c");
+
+        assertThat(periodic.failed(), is(true));
+        assertThat(periodic.cause() instanceof AbstractOperator.UnableToAcquireLockException, is(true));
+        assertThat(scheduler.queued(), is(2));
+        assertThat(registry.get("strimzi.reconciliations.queued").tag("kind", "Kafka").gauge().value(), is(2.0));
+
+        finish("a");
+        finish("c");
+        assertThat(change.succeeded(), is(true));
+        assertThat(started, is(List.of("a", "c", "b")));
+    }
+
+    private Future<Void> schedule(ReconciliationScheduler scheduler, String trigger, String kind, String namespace, String name) {
+        return scheduler.schedule(new Reconciliation(trigger, kind, namespace, name), () -> {
+            Promise<Void> promise = Promise.promise();
+            started.add(name);
+            running.put(name, promise);
+            return promise.future();
+        });
+    }
+
+    private void finish(String name) {
+        running.get(name).complete();
+    }
+}
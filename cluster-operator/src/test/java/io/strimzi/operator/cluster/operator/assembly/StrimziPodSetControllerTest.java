@@ -0,0 +1,169 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.connect.KafkaConnect;
+import io.strimzi.api.kafka.model.connect.KafkaConnectList;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaList;
+import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2;
+import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2List;
+import io.strimzi.api.kafka.model.podset.StrimziPodSet;
+import io.strimzi.api.kafka.model.podset.StrimziPodSetBuilder;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.operator.common.operator.resource.PodOperator;
+import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StrimziPodSetControllerTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    @Test
+    public void testPodClusterIndex() {
+        assertThat(StrimziPodSetController.podClusterIndex(pod(Map.of(Labels.STRIMZI_CLUSTER_LABEL, "my-cluster", Labels.STRIMZI_KIND_LABEL, "Kafka"))), is(List.of(NAMESPACE + "/my-cluster")));
+        assertThat(StrimziPodSetController.podClusterIndex(pod(Map.of(Labels.STRIMZI_KIND_LABEL, "Kafka"))), is(List.of()));
+        assertThat(StrimziPodSetController.podClusterIndex(pod(null)), is(List.of()));
+    }
+
+    @Test
+    public void testPodSetClusterIndex() {
+        assertThat(StrimziPodSetController.podSetClusterIndex(podSet(new LabelSelector(null, Map.of(Labels.STRIMZI_CLUSTER_LABEL, "my-cluster", Labels.STRIMZI_KIND_LABEL, "Kafka")))), is(List.of(NAMESPACE + "/my-cluster")));
+        assertThat(StrimziPodSetController.podSetClusterIndex(podSet(new LabelSelector(null, Map.of(Labels.STRIMZI_KIND_LABEL, "Kafka")))), is(List.of(NAMESPACE + "/")));
+        assertThat(StrimziPodSetController.podSetClusterIndex(podSet(null)), is(List.of(NAMESPACE + "/")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLockedPodSetIsRequeuedWithoutBlockingOtherWorkers() throws Exception {
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch slowRelease = new CountDownLatch(1);
+
+        Indexer<StrimziPodSet> podSetIndexer = mock(Indexer.class);
+        when(podSetIndexer.getByKey(NAMESPACE + "/slow")).thenAnswer(i -> {
+            slowStarted.countDown();
+            slowRelease.await();
+            return null;
+        });
+
+        StrimziPodSetController controller = controller(podSetIndexer, 2);
+        StrimziPodSetController.SimplifiedReconciliation slow = new StrimziPodSetController.SimplifiedReconciliation(NAMESPACE, "slow");
+        StrimziPodSetController.SimplifiedReconciliation fast = new StrimziPodSetController.SimplifiedReconciliation(NAMESPACE, "fast");
+
+        try {
+            // The first worker reconciles the slow StrimziPodSet and holds its lock
+            CompletableFuture<Void> firstWorker = CompletableFuture.runAsync(() -> {
+                try {
+                    controller.reconcileWithLock(slow);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            assertThat(slowStarted.await(10, TimeUnit.SECONDS), is(true));
+
+            // The second worker does not wait for the lock of the slow StrimziPodSet and reconciles other StrimziPodSets
+            long start = System.nanoTime();
+            controller.reconcileWithLock(slow);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500, is(true));
+            controller.reconcileWithLock(fast);
+            verify(podSetIndexer).getByKey(NAMESPACE + "/fast");
+            verify(podSetIndexer, times(1)).getByKey(NAMESPACE + "/slow");
+            assertThat(controller.metrics().lockedReconciliationsCounter(NAMESPACE).count(), is(1.0));
+
+            slowRelease.countDown();
+            firstWorker.get(10, TimeUnit.SECONDS);
+
+            // The locked StrimziPodSet is re-queued after a delay
+            long deadline = System.currentTimeMillis() + 10_000L;
+            while (!controller.workQueue.contains(slow) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(StrimziPodSetController.LOCKED_REQUEUE_DELAY_MS);
+            }
+            assertThat(controller.workQueue.contains(slow), is(true));
+            assertThat(controller.workQueue.contains(fast), is(false));
+        } finally {
+            slowRelease.countDown();
+            controller.stop();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StrimziPodSetController controller(Indexer<StrimziPodSet> podSetIndexer, int workers) {
+        SharedIndexInformer<Kafka> kafkaInformer = mock(SharedIndexInformer.class);
+        when(kafkaInformer.getIndexer()).thenReturn(mock(Indexer.class));
+        CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator = mock(CrdOperator.class);
+        when(kafkaOperator.informer(anyString(), anyMap(), anyLong())).thenReturn(kafkaInformer);
+
+        SharedIndexInformer<KafkaConnect> connectInformer = mock(SharedIndexInformer.class);
+        when(connectInformer.getIndexer()).thenReturn(mock(Indexer.class));
+        CrdOperator<KubernetesClient, KafkaConnect, KafkaConnectList> connectOperator = mock(CrdOperator.class);
+        when(connectOperator.informer(anyString(), anyMap(), anyLong())).thenReturn(connectInformer);
+
+        SharedIndexInformer<KafkaMirrorMaker2> mm2Informer = mock(SharedIndexInformer.class);
+        when(mm2Informer.getIndexer()).thenReturn(mock(Indexer.class));
+        CrdOperator<KubernetesClient, KafkaMirrorMaker2, KafkaMirrorMaker2List> mm2Operator = mock(CrdOperator.class);
+        when(mm2Operator.informer(anyString(), anyMap(), anyLong())).thenReturn(mm2Informer);
+
+        SharedIndexInformer<StrimziPodSet> podSetInformer = mock(SharedIndexInformer.class);
+        when(podSetInformer.getIndexer()).thenReturn(podSetIndexer);
+        StrimziPodSetOperator podSetOperator = mock(StrimziPodSetOperator.class);
+        when(podSetOperator.informer(anyString(), anyLong())).thenReturn(podSetInformer);
+
+        SharedIndexInformer<Pod> podInformer = mock(SharedIndexInformer.class);
+        when(podInformer.getIndexer()).thenReturn(mock(Indexer.class));
+        PodOperator podOperator = mock(PodOperator.class);
+        when(podOperator.informer(anyString(), any(LabelSelector.class), anyLong())).thenReturn(podInformer);
+
+        return new StrimziPodSetController(NAMESPACE, Labels.EMPTY, kafkaOperator, connectOperator, mm2Operator, podSetOperator,
+                podOperator, new MicrometerMetricsProvider(new SimpleMeterRegistry()), 10, workers);
+    }
+
+    private static Pod pod(Map<String, String> labels) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName("my-pod")
+                    .withNamespace(NAMESPACE)
+                    .withLabels(labels)
+                .endMetadata()
+                .build();
+    }
+
+    private static StrimziPodSet podSet(LabelSelector selector) {
+        return new StrimziPodSetBuilder()
+                .withNewMetadata()
+                    .withName("my-podset")
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withSelector(selector)
+                    .withPods(List.of())
+                .endSpec()
+                .build();
+    }
+}
@@ -4,6 +4,9 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -34,9 +37,11 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -44,6 +49,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -124,7 +131,11 @@ public class KafkaAvailabilityTest {
         class BSB {
 
             public BSB(int id) {
-                KSB.this.nodes.put(id, new Node(id, "localhost", 1234 + id));
+                this(id, null);
+            }
+
+            public BSB(int id, String rack) {
+                KSB.this.nodes.put(id, new Node(id, "localhost", 1234 + id, rack));
             }
         }
 
@@ -136,6 +147,13 @@ public class KafkaAvailabilityTest {
             return topics.computeIfAbsent(name, n -> new TSB(n, internal));
         }
 
+        KSB addBrokerInRack(String rack, int... ids) {
+            for (int id : ids) {
+                brokers.computeIfAbsent(id, i -> new BSB(i, rack));
+            }
+            return this;
+        }
+
         KSB addBroker(int... ids) {
             for (int id : ids) {
                 brokers.computeIfAbsent(id, BSB::new);
@@ -194,7 +212,7 @@ public class KafkaAvailabilityTest {
                 if (throwable != null) {
                     when(dtr.allTopicNames()).thenReturn(failedFuture(throwable));
                 } else {
-                    Map<String, TopicDescription> tds = topics.entrySet().stream().collect(Collectors.toMap(
+                    Map<String, TopicDescription> tds = topics.entrySet().stream().filter(e -> topicNames.contains(e.getKey())).collect(Collectors.toMap(
                             Map.Entry::getKey,
                         e -> {
                             TSB tsb = e.getValue();
@@ -633,4 +651,270 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testRestartBatchesByRack(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addBrokerInRack("rack-a", 0, 3)
+                .addBrokerInRack("rack-b", 1, 4)
+                .addBrokerInRack("rack-c", 2, 5)
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                    .addNewPartition(1)
+                        .replicaOn(3, 4, 5)
+                        .leader(4)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                    .addNewPartition(2)
+                        .replicaOn(0, 4, 2)
+                        .leader(2)
+                        .isr(0, 4, 2)
+                    .endPartition()
+                .endTopic();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        kafkaAvailability.restartBatches(Set.of(0, 1, 2, 3, 4, 5), 10).onComplete(context.succeeding(batches -> context.verify(() -> {
+            assertThat(batches, is(List.of(Set.of(0, 3), Set.of(1, 4), Set.of(2, 5))));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testRestartBatchesSkipUnderReplicatedPartitions(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0)
+                    .endPartition()
+                .endTopic()
+                .addBroker(3);
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        kafkaAvailability.restartBatches(Set.of(0, 1, 2, 3), 10).onComplete(context.succeeding(batches -> context.verify(() -> {
+            // Brokers 0, 1 and 2 have a replica of an already under-replicated partition and are left out
+            assertThat(batches, is(List.of(Set.of(3))));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testRestartBatchesKeepMinIsr() {
+        List<TopicDescription> tds = List.of(
+                new TopicDescription("A", false, List.of(
+                        new TopicPartitionInfo(0, node(0, null), nodes(0, 1, 2), nodes(0, 1, 2)))),
+                new TopicDescription("B", false, List.of(
+                        new TopicPartitionInfo(0, node(0, null), nodes(0, 1), nodes(0, 1)))),
+                new TopicDescription("C", false, List.of(
+                        new TopicPartitionInfo(0, node(4, null), nodes(4), nodes(4)))));
+
+        // Topic A allows only one of 0, 1 and 2 to be restarted at a time. Topic B without min.insync.replicas does
+        // not allow both its replicas to be restarted together. Topic C has a single replica, so it does not constrain
+        // anything.
+        assertThat(KafkaAvailability.restartBatches(tds, Map.of("A", 2), Set.of(0, 1, 2, 3, 4), 3),
+                is(List.of(Set.of(0, 3, 4), Set.of(1), Set.of(2))));
+        assertThat(KafkaAvailability.restartBatches(tds, Map.of("A", 2), Set.of(0, 1, 2, 3, 4), 2),
+                is(List.of(Set.of(0, 3), Set.of(1, 4), Set.of(2))));
+        assertThat(KafkaAvailability.restartBatches(tds, Map.of("A", 1), Set.of(0, 1, 2), 3),
+                is(List.of(Set.of(0, 2), Set.of(1))));
+    }
+
+    private static Node node(int id, String rack) {
+        return new Node(id, "localhost", 1234 + id, rack);
+    }
+
+    private static List<Node> nodes(int... ids) {
+        return Arrays.stream(ids).mapToObj(id -> node(id, null)).toList();
+    }
+
+    @Test
+    public void testSnapshotIsFetchedOnce(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2)
+                        .leader(1)
+                        .isr(1, 2)
+                    .endPartition()
+                    .addNewPartition(1)
+                        .replicaOn(1, 2)
+                        .leader(2)
+                        .isr(1, 2)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac,
+                new KafkaRollerMetricsHolder(new MicrometerMetricsProvider(registry)));
+
+        kafkaAvailability.canRoll(0)
+                .compose(i -> kafkaAvailability.canRoll(1))
+                .compose(i -> kafkaAvailability.canRoll(2))
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertTrue(canRoll);
+                    // The snapshot is fetched once and each check describes only the topics on the checked broker
+                    verify(ac, times(2)).describeTopics(Set.of("A", "B"));
+                    verify(ac, times(1)).describeTopics(Set.of("A"));
+                    verify(ac, times(1)).describeTopics(Set.of("B"));
+                    verify(ac, times(4)).describeTopics(anyCollection());
+                    // The configs are cached
+                    verify(ac, times(2)).describeConfigs(any());
+
+                    assertThat(registry.get("strimzi.kafka.roller.metadata.snapshot.partitions").gauge().value(), is(3.0));
+                    assertThat(registry.get("strimzi.kafka.roller.metadata.described.topics").counter().count(), is(6.0));
+                    // Listing and describing the topics for the snapshot and for each check, and describing the configs twice
+                    assertThat(registry.get("strimzi.kafka.roller.metadata.fetch").timer().count(), is(10L));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testIsrChangeOfBrokerWhichWasNotRestartedIsSeen(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        kafkaAvailability.canRoll(1)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll));
+
+                    // Broker 2, which is not restarted by the roller, falls out of the ISR
+                    ksb.addNewTopic("A", false).addNewPartition(0).isr(0, 1);
+
+                    return kafkaAvailability.canRoll(1);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 1 should not be rollable, the ISR would drop below min.insync.replicas");
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testTopicsCreatedAfterSnapshotAreChecked(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll));
+
+                    ksb.addNewTopic("B", false)
+                            .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                            .addNewPartition(0)
+                                .replicaOn(0, 1, 2)
+                                .leader(0)
+                                .isr(0, 1)
+                            .endPartition();
+
+                    return kafkaAvailability.canRoll(0);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 0 should not be rollable, the ISR of the new topic would drop below min.insync.replicas");
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testRestartedBrokerTopicsAreDescribedAgain(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(2, 3)
+                        .leader(2)
+                        .isr(2, 3)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+        kafkaAvailability.brokerRestarted(0);
+
+        // Brokers 2 and 3 do not share any topics with broker 0
+        kafkaAvailability.restartBatches(Set.of(2, 3), 2)
+                .compose(i -> {
+                    context.verify(() -> verify(ac, times(1)).describeTopics(anyCollection()));
+                    return kafkaAvailability.restartBatches(Set.of(1, 3), 2);
+                })
+                .onComplete(context.succeeding(batches -> context.verify(() -> {
+                    assertThat(batches, is(List.of(Set.of(1, 3))));
+                    verify(ac, times(2)).describeTopics(anyCollection());
+                    verify(ac, times(1)).describeTopics(Set.of("A"));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testTopicsWhichBlockRollingAreDescribedAgain(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> assertFalse(canRoll));
+                    return kafkaAvailability.canRoll(0);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll);
+                    // The topic is described again for each check because its ISR might have changed
+                    verify(ac, times(3)).describeTopics(anyCollection());
+                    context.completeNow();
+                })));
+    }
 }
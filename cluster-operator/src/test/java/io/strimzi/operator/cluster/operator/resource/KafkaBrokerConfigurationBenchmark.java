@@ -0,0 +1,206 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.kafka.config.model.ConfigModels;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.model.NodeRef;
+import io.strimzi.operator.common.Reconciliation;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation and the diff of a broker configuration with 300 options: all options from the configuration
+ * model of the default Kafka version plus a few custom options. The current broker configuration differs from the
+ * desired configuration in every tenth option and contains 600 entries, similarly to what a broker returns from the
+ * Admin API. The {@code parseConfigModel} benchmark shows the cost of reading the configuration model from the
+ * classpath, which is now paid only once per Kafka version. The {@code loggingDiff} benchmark diffs 600 broker loggers
+ * against a logging configuration with 20 loggers.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=io.strimzi.operator.cluster.operator.resource.KafkaBrokerConfigurationBenchmark}
+ * from the cluster-operator directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class KafkaBrokerConfigurationBenchmark {
+    private static final int OPTIONS = 300;
+    private static final int CURRENT_ENTRIES = 600;
+
+    private final KafkaVersion kafkaVersion = KafkaVersionTestUtils.getKafkaVersionLookup().defaultVersion();
+    private final NodeRef nodeRef = new NodeRef("my-cluster-kafka-0", 0, "kafka", false, true);
+
+    private List<Map.Entry<String, Object>> options;
+    private KafkaConfiguration configuration;
+    private String desired;
+    private Config current;
+    private String desiredLogging;
+    private Config currentLogging;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Map<String, String> desiredOptions = new TreeMap<>();
+        for (Map.Entry<String, ConfigModel> config : new TreeMap<>(KafkaConfiguration.configModel(kafkaVersion).configs()).entrySet()) {
+            desiredOptions.put(config.getKey(), value(config.getValue()));
+        }
+        for (int i = 0; desiredOptions.size() < OPTIONS; i++) {
+            desiredOptions.put("my.plugin.option." + i, "value-" + i);
+        }
+
+        options = new ArrayList<>();
+        List<ConfigEntry> currentEntries = new ArrayList<>();
+        StringBuilder desiredString = new StringBuilder();
+        int i = 0;
+
+        for (Map.Entry<String, String> option : desiredOptions.entrySet()) {
+            options.add(new AbstractMap.SimpleEntry<>(option.getKey(), option.getValue()));
+            desiredString.append(option.getKey()).append('=').append(option.getValue()).append('\n');
+            currentEntries.add(new ConfigEntry(option.getKey(), i++ % 10 == 0 ? option.getValue() + "0" : option.getValue()));
+        }
+
+        for (int j = 0; currentEntries.size() < CURRENT_ENTRIES; j++) {
+            currentEntries.add(new ConfigEntry("listener.name.listener-" + j + ".ssl.client.auth", "none"));
+        }
+
+        // Users cannot set the forbidden options, so the filtering benchmark uses only the allowed options
+        Map<String, String> allowed = new KafkaConfiguration(Reconciliation.DUMMY_RECONCILIATION, options).asOrderedProperties().asMap();
+        options.removeIf(option -> !allowed.containsKey(option.getKey()));
+        configuration = KafkaConfiguration.unvalidated(Reconciliation.DUMMY_RECONCILIATION, desiredString.toString());
+        desired = desiredString.toString();
+        current = new Config(currentEntries);
+
+        StringBuilder loggingString = new StringBuilder("log4j.rootLogger=INFO, CONSOLE\n");
+        List<ConfigEntry> loggers = new ArrayList<>();
+        for (int j = 0; j < CURRENT_ENTRIES; j++) {
+            String logger = "kafka.component" + (j % 20) + ".Class" + j;
+            loggers.add(new ConfigEntry(logger, j % 20 == 0 ? "DEBUG" : "INFO"));
+            if (j < 20) {
+                loggingString.append("log4j.logger.kafka.component").append(j).append("=DEBUG\n");
+            }
+        }
+        desiredLogging = loggingString.toString();
+        currentLogging = new Config(loggers);
+    }
+
+    private static String value(ConfigModel model) {
+        switch (model.getType()) {
+            case BOOLEAN:
+                return "true";
+            case INT:
+            case LONG:
+            case SHORT:
+            case DOUBLE:
+                return model.getMinimum() != null ? model.getMinimum().toString() : "1";
+            case STRING:
+                return model.getValues() != null ? model.getValues().get(0) : "value";
+            case LIST:
+                return model.getItems() != null ? model.getItems().get(0) : "value";
+            default:
+                return "value";
+        }
+    }
+
+    /**
+     * Reads the configuration model from the classpath as it was done before for every validation and diff
+     *
+     * @return  The parsed configuration model
+     *
+     * @throws IOException  When the model cannot be read
+     */
+    @Benchmark
+    public ConfigModels parseConfigModel() throws IOException {
+        try (InputStream in = KafkaConfiguration.class.getResourceAsStream("/kafka-" + kafkaVersion.version() + "-config-model.json")) {
+            return new ObjectMapper().readValue(in, ConfigModels.class);
+        }
+    }
+
+    /**
+     * Filters the forbidden options from the user configuration
+     *
+     * @return  The Kafka configuration
+     */
+    @Benchmark
+    public KafkaConfiguration filterForbidden() {
+        return new KafkaConfiguration(Reconciliation.DUMMY_RECONCILIATION, options);
+    }
+
+    /**
+     * Validates the configuration against the configuration model
+     *
+     * @param blackhole     Blackhole consuming the validation errors and unknown options
+     */
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        blackhole.consume(configuration.validate(kafkaVersion));
+        blackhole.consume(configuration.unknownConfigsWithValues(kafkaVersion));
+    }
+
+    /**
+     * Computes the diff between the current and desired broker configuration
+     *
+     * @return  The broker configuration diff
+     */
+    @Benchmark
+    public KafkaBrokerConfigurationDiff diff() {
+        return new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, current, desired, kafkaVersion, nodeRef);
+    }
+
+    /**
+     * Computes the diff between the current and desired broker logging configuration
+     *
+     * @return  The broker logging configuration diff
+     */
+    @Benchmark
+    public KafkaBrokerLoggingConfigurationDiff loggingDiff() {
+        return new KafkaBrokerLoggingConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, currentLogging, desiredLogging);
+    }
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args  Command line arguments (not used)
+     *
+     * @throws RunnerException  When the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(KafkaBrokerConfigurationBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
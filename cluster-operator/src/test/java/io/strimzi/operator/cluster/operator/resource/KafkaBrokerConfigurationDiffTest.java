@@ -5,10 +5,16 @@
 
 package io.strimzi.operator.cluster.operator.resource;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.NodeRef;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.OrderedProperties;
 import io.strimzi.test.TestUtils;
 import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.Config;
@@ -22,8 +28,15 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -300,4 +313,111 @@ public class KafkaBrokerConfigurationDiffTest {
         assertThat(kcd.canBeUpdatedDynamically(), is(false));
     }
 
+    @Test
+    public void testRemovedAndAddedPropertiesWithSameValue() {
+        // JSON Patch diff compacted these into a single move operation which was ignored
+        String added = KafkaConfiguration.configModel(kafkaVersion).configs().keySet().stream()
+                .filter(name -> getCurrentConfiguration(emptyList()).get(name) == null)
+                .filter(name -> !KafkaBrokerConfigurationDiff.IGNORABLE_PROPERTIES.matcher(name).matches())
+                .sorted()
+                .findFirst()
+                .orElseThrow();
+        List<ConfigEntry> current = singletonList(new ConfigEntry("log.retention.hours", "my-value"));
+        List<ConfigEntry> desired = singletonList(new ConfigEntry(added, "my-value"));
+
+        KafkaBrokerConfigurationDiff kcd = new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, getCurrentConfiguration(current),
+                getDesiredConfiguration(desired), kafkaVersion, nodeRef);
+        assertThat(new HashSet<>(kcd.getConfigDiff()), is(Set.of(
+                new AlterConfigOp(new ConfigEntry("log.retention.hours", null), AlterConfigOp.OpType.DELETE),
+                new AlterConfigOp(new ConfigEntry(added, "my-value"), AlterConfigOp.OpType.SET))));
+    }
+
+    @Test
+    public void testDiffMatchesJsonPatchDiff() {
+        Random random = new Random(42);
+        Map<String, ConfigModel> configModel = KafkaConfiguration.configModel(kafkaVersion).configs();
+        List<String> knownProperties = configModel.keySet().stream().sorted().toList();
+        List<ConfigEntry> currentEntries = new ArrayList<>(getCurrentConfiguration(emptyList()).entries());
+        currentEntries.sort(Comparator.comparing(ConfigEntry::name));
+
+        for (int i = 0; i < 100; i++) {
+            NodeRef node = new NodeRef("broker-" + i, i, "broker", random.nextBoolean(), true);
+
+            // Some of the current options are not default and some have no value
+            List<ConfigEntry> current = new ArrayList<>();
+            for (ConfigEntry entry : currentEntries) {
+                int dice = random.nextInt(10);
+                if (dice == 0) {
+                    current.add(new ConfigEntry(entry.name(), entry.value()));
+                } else if (dice == 1) {
+                    current.add(new ConfigEntry(entry.name(), null));
+                } else {
+                    current.add(entry);
+                }
+            }
+            current.add(new ConfigEntry("custom.property." + random.nextInt(3), "42"));
+
+            // The desired options are changed, removed or added. Unique values prevent the JSON Patch diff from
+            // compacting removed and added options into move operations.
+            StringBuilder desired = new StringBuilder();
+            for (String line : getDesiredConfiguration(emptyList()).split("\n")) {
+                int dice = random.nextInt(10);
+                if (dice == 0) {
+                    desired.append(line.split("=")[0]).append("=changed-").append(i).append("\n");
+                } else if (dice != 1) {
+                    desired.append(line).append("\n");
+                }
+            }
+            for (int j = 0; j < 10; j++) {
+                String name = j % 2 == 0 ? knownProperties.get(random.nextInt(knownProperties.size())) : currentEntries.get(random.nextInt(currentEntries.size())).name();
+                desired.append(name).append("=desired-").append(i).append("-").append(j).append("\n");
+            }
+            desired.append("custom.property.").append(random.nextInt(3)).append("=43\n");
+            desired.append("controller.quorum.election.timeout.ms=election-timeout-").append(i).append("\n");
+
+            Config brokerConfigs = new Config(current);
+            KafkaBrokerConfigurationDiff kcd = new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, brokerConfigs, desired.toString(), kafkaVersion, node);
+            Collection<AlterConfigOp> expected = jsonPatchDiff(brokerConfigs, desired.toString(), node, configModel);
+
+            assertThat(kcd.getConfigDiff().size(), is(expected.size()));
+            assertThat(new HashSet<>(kcd.getConfigDiff()), is(new HashSet<>(expected)));
+        }
+    }
+
+    /**
+     * The original implementation of the diff based on JSON Patch used as the reference in the tests
+     */
+    private static Collection<AlterConfigOp> jsonPatchDiff(Config brokerConfigs, String desired, NodeRef node, Map<String, ConfigModel> configModel) {
+        Map<String, String> currentMap = brokerConfigs.entries().stream()
+                .collect(Collectors.toMap(ConfigEntry::name, configEntry -> configEntry.value() == null ? "null" : configEntry.value()));
+
+        OrderedProperties orderedProperties = new OrderedProperties();
+        orderedProperties.addStringPairs(desired);
+        Map<String, String> desiredMap = orderedProperties.asMap();
+        desiredMap.replaceAll((k, v) -> v.replaceAll("\\$\\{STRIMZI_BROKER_ID}", Integer.toString(node.nodeId())));
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode jsonDiff = JsonDiff.asJson(mapper.valueToTree(currentMap), mapper.valueToTree(desiredMap));
+        Predicate<String> ignorable = name -> KafkaBrokerConfigurationDiff.IGNORABLE_PROPERTIES.matcher(name).matches()
+                || (!node.controller() && name.matches("controller\\.quorum\\..*"));
+
+        Collection<AlterConfigOp> updated = new ArrayList<>();
+        for (JsonNode d : jsonDiff) {
+            String name = d.get("path").asText().substring(1);
+            String op = d.get("op").asText();
+            ConfigEntry entry = brokerConfigs.get(name);
+
+            if (("add".equals(op) && entry == null) || ("replace".equals(op) && entry != null)) {
+                if (!ignorable.test(name) && configModel.containsKey(name)) {
+                    updated.add(new AlterConfigOp(new ConfigEntry(name, desiredMap.get(name)), AlterConfigOp.OpType.SET));
+                }
+            } else if ("remove".equals(op) && entry != null) {
+                if (configModel.containsKey(name) && !entry.isDefault() && !ignorable.test(name)) {
+                    updated.add(new AlterConfigOp(new ConfigEntry(name, null), AlterConfigOp.OpType.DELETE));
+                }
+            }
+        }
+
+        return updated;
+    }
 }
@@ -175,6 +175,50 @@ public class KafkaRollerTest {
                 asList(0, 1, 3, 4, 2));
     }
 
+    @Test
+    public void testRollInBatches(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        TestingKafkaRoller kafkaRoller = rollerWithBatches(podOps, 3, 2);
+        // Pods 0, 1 and 3 are rolled together. Pod 4 has no other pod for a batch and pod 2 is the controller, so they
+        // are rolled one-by-one afterwards.
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(0, 1, 3, 4, 2));
+    }
+
+    @Test
+    public void testRollInBatchesOfMaxSize(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        TestingKafkaRoller kafkaRoller = rollerWithBatches(podOps, 2, 2);
+        // Pods 0 and 1 are rolled together, then pods 3 and 4, and finally the controller
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(0, 1, 3, 4, 2));
+    }
+
+    @Test
+    public void testRollInBatchesOnlyPodsWhichNeedRestart(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        TestingKafkaRoller kafkaRoller = rollerWithBatches(podOps, 3, 2);
+        // Pod 3 does not need a restart, so pods 0, 1 and 4 are rolled together and the controller is rolled last
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 4),
+                asList(0, 1, 4, 2));
+    }
+
+    @Test
+    public void testRollInBatchesOnlyPodsWhichCanRoll(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        AtomicInteger pod0CanRollCalls = new AtomicInteger(0);
+        TestingKafkaRoller kafkaRoller = rollerWithBatches(podOps, 3,
+            podId -> succeededFuture(podId != 0 || pod0CanRollCalls.getAndIncrement() > 0), 2);
+        // Pod 0 cannot be rolled when the batch is planned, so pods 1, 3 and 4 are rolled together. Pod 0 is rolled
+        // one-by-one afterwards and the controller is rolled last.
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(1, 3, 4, 0, 2));
+    }
+
     @Test
     public void testRollUnreadyPodFirst(VertxTestContext testContext) {
         AtomicBoolean podUnready = new AtomicBoolean(true);
@@ -737,6 +781,17 @@ public class KafkaRollerTest {
         assertThat(KafkaRoller.isCurrentlyController(pod).orElseThrow(), is(true));
     }
 
+    private TestingKafkaRoller rollerWithBatches(PodOperator podOps, int maxRestartBatchSize, int... controllers) {
+        return rollerWithBatches(podOps, maxRestartBatchSize, brokerId -> succeededFuture(true), controllers);
+    }
+
+    private TestingKafkaRoller rollerWithBatches(PodOperator podOps, int maxRestartBatchSize, Function<Integer, Future<Boolean>> canRollFn, int... controllers) {
+        return new TestingKafkaRoller(null, null, addPodNames(KafkaRollerTest.REPLICAS), podOps, maxRestartBatchSize,
+                noException(), null, noException(), noException(), noException(),
+                canRollFn,
+                false, new DefaultAdminClientProvider(), new DefaultKafkaAgentClientProvider(), false, null, controllers);
+    }
+
     private TestingKafkaRoller rollerWithControllers(PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(null, null, addPodNames(KafkaRollerTest.REPLICAS), podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -885,6 +940,25 @@ public class KafkaRollerTest {
                                    AdminClientProvider adminClientProvider,
                                    KafkaAgentClientProvider kafkaAgentClientProvider,
                                    boolean delegateAdminClientCall, BrokerState brokerState, int... controllers) {
+            this(clusterCaCertSecret, coKeySecret, nodes, podOps, 1, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, delegateControllerCall, adminClientProvider,
+                    kafkaAgentClientProvider, delegateAdminClientCall, brokerState, controllers);
+        }
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        private TestingKafkaRoller(Secret clusterCaCertSecret, Secret coKeySecret, Set<NodeRef> nodes,
+                                   PodOperator podOps,
+                                   int maxRestartBatchSize,
+                                   Function<Set<NodeRef>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   boolean delegateControllerCall,
+                                   AdminClientProvider adminClientProvider,
+                                   KafkaAgentClientProvider kafkaAgentClientProvider,
+                                   boolean delegateAdminClientCall, BrokerState brokerState, int... controllers) {
             super(
                     new Reconciliation("test", "Kafka", stsNamespace(), clusterName()),
                     KafkaRollerTest.vertx,
@@ -901,7 +975,9 @@ public class KafkaRollerTest {
                     "",
                     KafkaVersionTestUtils.getLatestVersion(),
                     true,
-                    mock(KubernetesRestartEventPublisher.class));
+                    mock(KubernetesRestartEventPublisher.class),
+                    maxRestartBatchSize,
+                    null);
             this.delegateControllerCall = delegateControllerCall;
             this.delegateAdminClientCall = delegateAdminClientCall;
             this.controllers = controllers;
@@ -956,7 +1032,7 @@ public class KafkaRollerTest {
 
         @Override
         protected KafkaAvailability availability(Admin ac) {
-            return new KafkaAvailability(null, null) {
+            return new KafkaAvailability(new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), null) {
                 @Override
                 protected Future<Set<String>> topicNames() {
                     return succeededFuture(Collections.emptySet());
@@ -0,0 +1,90 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.config.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Immutable index of the configuration parameters of a given version of the Kafka broker. The validators of the
+ * parameters are compiled when the index is created, so that the same index can be shared by all the validations and
+ * configuration diffs of the given Kafka version.
+ */
+public class ConfigModelIndex {
+    private final String version;
+    private final Map<String, ConfigModel> configs;
+    private final Map<String, ConfigValidator> validators;
+
+    /**
+     * Creates the index
+     *
+     * @param configModels  Configuration models of the Kafka broker version
+     */
+    public ConfigModelIndex(ConfigModels configModels) {
+        this.version = configModels.getVersion();
+        this.configs = Collections.unmodifiableMap(new HashMap<>(configModels.getConfigs()));
+
+        Map<String, ConfigValidator> validators = new HashMap<>(configs.size());
+        for (Map.Entry<String, ConfigModel> config : configs.entrySet()) {
+            validators.put(config.getKey(), ConfigValidator.forModel(config.getValue()));
+        }
+        this.validators = Collections.unmodifiableMap(validators);
+    }
+
+    /**
+     * @return The version of the Kafka broker
+     */
+    public String version() {
+        return version;
+    }
+
+    /**
+     * @return Unmodifiable map from configuration parameter name to its model. The models are shared and should not
+     *         be modified.
+     */
+    public Map<String, ConfigModel> configs() {
+        return configs;
+    }
+
+    /**
+     * Returns the model of the configuration parameter
+     *
+     * @param configName    Name of the configuration parameter
+     *
+     * @return  The model of the configuration parameter or null if the parameter is not a known broker parameter
+     */
+    public ConfigModel get(String configName) {
+        return configs.get(configName);
+    }
+
+    /**
+     * Checks whether the parameter is a known broker configuration parameter
+     *
+     * @param configName    Name of the configuration parameter
+     *
+     * @return  True if the parameter is a known broker parameter. False otherwise.
+     */
+    public boolean contains(String configName) {
+        return configs.containsKey(configName);
+    }
+
+    /**
+     * Validates the value of a configuration parameter. It is not an error if the parameter is not known because it
+     * might be intended for plugins.
+     *
+     * @param configName    Name of the configuration parameter
+     * @param value         Value of the configuration parameter
+     *
+     * @return  List of errors found during the validation. Empty if no errors were found.
+     */
+    public List<String> validate(String configName, String value) {
+        ConfigValidator validator = validators.get(configName);
+        return validator != null ? validator.validate(configName, value) : emptyList();
+    }
+}
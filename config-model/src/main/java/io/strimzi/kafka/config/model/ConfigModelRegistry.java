@@ -0,0 +1,65 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.config.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the configuration models of the Kafka broker versions. The model of each version is read from the
+ * {@code /kafka-<version>-config-model.json} classpath resource only once, when it is used for the first time, and
+ * kept as an immutable {@link ConfigModelIndex}.
+ */
+public class ConfigModelRegistry {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Class<?> resourceLoader;
+    private final Map<String, ConfigModelIndex> models = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the registry
+     *
+     * @param resourceLoader    Class used to load the configuration model resources
+     */
+    public ConfigModelRegistry(Class<?> resourceLoader) {
+        this.resourceLoader = resourceLoader;
+    }
+
+    /**
+     * Gets the config model for the given version of the Kafka broker. The model is loaded when it is requested for
+     * the first time. When the loading fails, it will be tried again next time.
+     *
+     * @param version   The broker version
+     *
+     * @return  The config model for that broker version
+     */
+    public ConfigModelIndex configModel(String version) {
+        return models.computeIfAbsent(version, this::load);
+    }
+
+    private ConfigModelIndex load(String version) {
+        String name = "/kafka-" + version + "-config-model.json";
+        try {
+            try (InputStream in = resourceLoader.getResourceAsStream(name)) {
+                if (in != null) {
+                    ConfigModels configModels = MAPPER.readValue(in, ConfigModels.class);
+                    if (!version.equals(configModels.getVersion())) {
+                        throw new RuntimeException("Incorrect version");
+                    }
+                    return new ConfigModelIndex(configModels);
+                } else {
+                    // The configuration model does not exist
+                    throw new RuntimeException("Configuration model " + name + " was not found");
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading from classpath resource " + name, e);
+        }
+    }
+}
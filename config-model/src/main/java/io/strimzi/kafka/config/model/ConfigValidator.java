@@ -0,0 +1,235 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.config.model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * Validator of a configuration parameter. It holds the validation rules for all the parameter types and is used by
+ * {@link ConfigModel#validate(String, String)}. The type, the range bounds, the allowed values and the pattern are
+ * resolved when the validator is created, so {@link ConfigModelIndex} keeps the validators to not resolve them for
+ * every validated value.
+ */
+abstract class ConfigValidator {
+    private static final Pattern LIST_SEPARATOR = Pattern.compile(" *, *");
+    private static final ConfigValidator NO_VALIDATION = new ConfigValidator() {
+        @Override
+        List<String> validate(String configName, String value) {
+            return emptyList();
+        }
+    };
+
+    /**
+     * Validates the value
+     *
+     * @param configName    Name of the option
+     * @param value         Value of the option
+     *
+     * @return  List of errors found during the validation. Empty if no errors were found.
+     */
+    abstract List<String> validate(String configName, String value);
+
+    /**
+     * Creates the validator for a configuration parameter
+     *
+     * @param model     Model of the configuration parameter
+     *
+     * @return  Validator for the parameter
+     */
+    static ConfigValidator forModel(ConfigModel model) {
+        switch (model.getType()) {
+            case BOOLEAN:
+                return new BooleanValidator();
+            case STRING:
+                return model.getValues() == null && model.getPattern() == null ? NO_VALIDATION : new StringValidator(model);
+            case INT:
+                return new IntegerValidator(model, "an int", Integer::parseInt, Number::intValue);
+            case LONG:
+                return new IntegerValidator(model, "a long", Long::parseLong, Number::longValue);
+            case SHORT:
+                return new IntegerValidator(model, "a short", Short::parseShort, Number::shortValue);
+            case DOUBLE:
+                return new DoubleValidator(model);
+            case CLASS:
+            case PASSWORD:
+                return NO_VALIDATION;
+            case LIST:
+                return model.getItems() == null ? NO_VALIDATION : new ListValidator(model);
+            default:
+                throw new IllegalStateException("Unsupported type " + model.getType());
+        }
+    }
+
+    private static class BooleanValidator extends ConfigValidator {
+        @Override
+        List<String> validate(String configName, String value) {
+            if (!"true".equals(value) && !"false".equals(value)) {
+                return singletonList(configName + " has value '" + value + "' which is not a boolean");
+            }
+            return emptyList();
+        }
+    }
+
+    private static class StringValidator extends ConfigValidator {
+        private final List<String> values;
+        private final Set<String> valuesSet;
+        private final String pattern;
+        private final Pattern compiledPattern;
+
+        StringValidator(ConfigModel model) {
+            this.values = model.getValues();
+            this.valuesSet = values != null ? new HashSet<>(values) : null;
+            this.pattern = model.getPattern();
+            this.compiledPattern = pattern != null ? Pattern.compile(pattern) : null;
+        }
+
+        @Override
+        List<String> validate(String configName, String value) {
+            List<String> errors = emptyList();
+            if (valuesSet != null
+                    && !valuesSet.contains(value)) {
+                errors = new ArrayList<>(1);
+                errors.add(configName + " has value '" + value + "' which is not one of the allowed values: " + values);
+            }
+            if (compiledPattern != null
+                    && !compiledPattern.matcher(value).matches()) {
+                if (errors.isEmpty()) {
+                    errors = new ArrayList<>(1);
+                }
+                errors.add(configName + " has value '" + value + "' which does not match the required pattern: " + pattern);
+            }
+            return errors;
+        }
+    }
+
+    private static class ListValidator extends ConfigValidator {
+        private final List<String> items;
+        private final Set<String> itemsSet;
+
+        ListValidator(ConfigModel model) {
+            this.items = model.getItems();
+            this.itemsSet = new HashSet<>(items);
+        }
+
+        @Override
+        List<String> validate(String configName, String value) {
+            List<String> l = asList(LIST_SEPARATOR.split(value.trim(), -1));
+            HashSet<String> unknown = new HashSet<>(l);
+            unknown.removeIf(itemsSet::contains);
+            if (!unknown.isEmpty()) {
+                return singletonList(configName + " contains values " + unknown + " which are not in the allowed items " + items);
+            }
+            return emptyList();
+        }
+    }
+
+    /**
+     * Validator for the integral types. The range bounds are converted to the type of the parameter in the same way
+     * as in ConfigModel, so that the values are compared the same way.
+     */
+    private static class IntegerValidator extends ConfigValidator {
+        private final Number minimum;
+        private final Number maximum;
+        private final long minimumValue;
+        private final long maximumValue;
+        private final String typeDescription;
+        private final Parser parser;
+
+        IntegerValidator(ConfigModel model, String typeDescription, Parser parser, Converter converter) {
+            this.minimum = model.getMinimum();
+            this.maximum = model.getMaximum();
+            this.minimumValue = minimum != null ? converter.convert(minimum) : Long.MIN_VALUE;
+            this.maximumValue = maximum != null ? converter.convert(maximum) : Long.MAX_VALUE;
+            this.typeDescription = typeDescription;
+            this.parser = parser;
+        }
+
+        @Override
+        List<String> validate(String configName, String value) {
+            List<String> errors = emptyList();
+            try {
+                long i = parser.parse(value);
+                if (minimum != null
+                        && i < minimumValue) {
+                    errors = new ArrayList<>(1);
+                    errors.add(minimumErrorMsg(configName, value, minimum));
+                }
+                if (maximum != null
+                        && i > maximumValue) {
+                    if (errors.isEmpty()) {
+                        errors = new ArrayList<>(1);
+                    }
+                    errors.add(maximumErrorMsg(configName, value, maximum));
+                }
+            } catch (NumberFormatException e) {
+                errors = singletonList(numFormatMsg(configName, value, typeDescription));
+            }
+            return errors;
+        }
+
+        @FunctionalInterface
+        interface Parser {
+            long parse(String value);
+        }
+
+        @FunctionalInterface
+        interface Converter {
+            long convert(Number number);
+        }
+    }
+
+    private static class DoubleValidator extends ConfigValidator {
+        private final Number minimum;
+        private final Number maximum;
+
+        DoubleValidator(ConfigModel model) {
+            this.minimum = model.getMinimum();
+            this.maximum = model.getMaximum();
+        }
+
+        @Override
+        List<String> validate(String configName, String value) {
+            List<String> errors = emptyList();
+            try {
+                double i = Double.parseDouble(value);
+                if (minimum != null
+                        && i < minimum.doubleValue()) {
+                    errors = new ArrayList<>(1);
+                    errors.add(minimumErrorMsg(configName, value, minimum));
+                }
+                if (maximum != null
+                        && i > maximum.doubleValue()) {
+                    if (errors.isEmpty()) {
+                        errors = new ArrayList<>(1);
+                    }
+                    errors.add(maximumErrorMsg(configName, value, maximum));
+                }
+            } catch (NumberFormatException e) {
+                errors = singletonList(numFormatMsg(configName, value, "a double"));
+            }
+            return errors;
+        }
+    }
+
+    private static String minimumErrorMsg(String configName, String value, Number minimum) {
+        return configName + " has value " + value + " which less than the minimum value " + minimum;
+    }
+
+    private static String maximumErrorMsg(String configName, String value, Number maximum) {
+        return configName + " has value " + value + " which greater than the maximum value " + maximum;
+    }
+
+    private static String numFormatMsg(String configName, String value, String typeDescription) {
+        return configName + " has value '" + value + "' which is not " + typeDescription;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.config.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of configuration key prefixes (for example the forbidden prefixes of the Strimzi custom resources).
+ * The prefixes are indexed by their first character, so checking a key compares it only with the prefixes which
+ * start with the same character instead of with all of them.
+ */
+public class PrefixIndex {
+    private final Map<Character, String[]> prefixes;
+    private final boolean matchesAll;
+
+    /**
+     * Creates the prefix index
+     *
+     * @param prefixes  The prefixes
+     */
+    public PrefixIndex(Collection<String> prefixes) {
+        Map<Character, List<String>> index = new HashMap<>();
+        boolean matchesAll = false;
+
+        for (String prefix : prefixes) {
+            if (prefix.isEmpty()) {
+                matchesAll = true;
+            } else {
+                index.computeIfAbsent(prefix.charAt(0), c -> new ArrayList<>()).add(prefix);
+            }
+        }
+
+        this.matchesAll = matchesAll;
+        this.prefixes = new HashMap<>(index.size());
+        for (Map.Entry<Character, List<String>> entry : index.entrySet()) {
+            this.prefixes.put(entry.getKey(), entry.getValue().toArray(new String[0]));
+        }
+    }
+
+    /**
+     * Checks whether the key starts with any of the prefixes
+     *
+     * @param key   The key
+     *
+     * @return  True if the key starts with one of the prefixes. False otherwise.
+     */
+    public boolean matches(String key) {
+        if (matchesAll) {
+            return true;
+        } else if (key.isEmpty()) {
+            return false;
+        }
+
+        String[] candidates = prefixes.get(key.charAt(0));
+        if (candidates != null) {
+            for (String prefix : candidates) {
+                if (key.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.config.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ConfigModelRegistryTest {
+    private static final List<String> VALUES = List.of("", "true", "false", "TRUE", "1", "-1", "0", "0.5", "1.5",
+            "32768", "2147483648", "9223372036854775808", "dog", "zstd", "lz4,zstd", "compact", "compact,delete",
+            "compact, foo ,bar", "0.8.0", "0.8.0.1", "1.0-IV0", "1.0", " delete ");
+
+    @Test
+    public void testModelIsLoadedOnce() {
+        ConfigModelRegistry registry = new ConfigModelRegistry(ConfigModelRegistryTest.class);
+
+        ConfigModelIndex index = registry.configModel("1.0.0");
+        assertThat(index.version(), is("1.0.0"));
+        assertThat(index.configs().size(), is(10));
+        assertThat(index.contains("min.insync.replicas"), is(true));
+        assertThat(index.get("min.insync.replicas").getScope(), is(Scope.CLUSTER_WIDE));
+        assertThat(index.contains("my.plugin.option"), is(false));
+        assertThat(index.get("my.plugin.option"), is(nullValue()));
+
+        assertThat(registry.configModel("1.0.0"), is(sameInstance(index)));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> index.configs().remove("min.insync.replicas"));
+    }
+
+    @Test
+    public void testMissingModel() {
+        ConfigModelRegistry registry = new ConfigModelRegistry(ConfigModelRegistryTest.class);
+
+        RuntimeException e = Assertions.assertThrows(RuntimeException.class, () -> registry.configModel("2.6.0"));
+        assertThat(e.getMessage(), is("Configuration model /kafka-2.6.0-config-model.json was not found"));
+
+        e = Assertions.assertThrows(RuntimeException.class, () -> registry.configModel("1.0.1"));
+        assertThat(e.getMessage(), is("Incorrect version"));
+    }
+
+    @Test
+    public void testValidation() {
+        ConfigModelIndex index = new ConfigModelRegistry(ConfigModelRegistryTest.class).configModel("1.0.0");
+
+        assertThat(index.validate("min.insync.replicas", "2"), is(emptyList()));
+        assertThat(index.validate("min.insync.replicas", "0"), is(singletonList("min.insync.replicas has value 0 which less than the minimum value 1")));
+        assertThat(index.validate("compression.type", "dog"), is(singletonList("compression.type has value 'dog' which is not one of the allowed values: [uncompressed, zstd, lz4, snappy, gzip, producer]")));
+        assertThat(index.validate("log.cleanup.policy", "compact, foo"), is(singletonList("log.cleanup.policy contains values [foo] which are not in the allowed items [compact, delete]")));
+        // Unknown options might be used by plugins
+        assertThat(index.validate("my.plugin.option", "dog"), is(emptyList()));
+    }
+
+    @Test
+    public void testValidationMatchesConfigModel() {
+        ConfigModelIndex index = new ConfigModelRegistry(ConfigModelRegistryTest.class).configModel("1.0.0");
+
+        for (Map.Entry<String, ConfigModel> config : index.configs().entrySet()) {
+            for (String value : VALUES) {
+                assertThat(config.getKey() + "=" + value, index.validate(config.getKey(), value), is(config.getValue().validate(config.getKey(), value)));
+            }
+        }
+    }
+
+    @Test
+    public void testPrefixIndex() {
+        PrefixIndex index = new PrefixIndex(List.of("listeners", "advertised.", "broker.", "listener.", "host.name", "port", "ssl.", "sasl."));
+
+        assertThat(index.matches("listeners"), is(true));
+        assertThat(index.matches("listener.name.tls.ssl.keystore.location"), is(true));
+        assertThat(index.matches("broker.id"), is(true));
+        assertThat(index.matches("ssl.keystore.location"), is(true));
+        assertThat(index.matches("port"), is(true));
+        assertThat(index.matches("portal"), is(true));
+
+        assertThat(index.matches(""), is(false));
+        assertThat(index.matches("listener"), is(false));
+        assertThat(index.matches("min.insync.replicas"), is(false));
+        assertThat(index.matches("sasl"), is(false));
+        assertThat(index.matches("log.retention.bytes"), is(false));
+
+        assertThat(new PrefixIndex(emptyList()).matches("broker.id"), is(false));
+        assertThat(new PrefixIndex(List.of("")).matches("broker.id"), is(true));
+    }
+}
@@ -5,7 +5,10 @@
 package io.strimzi.operator.common;
 
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.micrometer.core.instrument.Timer;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -52,6 +55,30 @@ public class InformerUtils {
         }
     }
 
+    /**
+     * Starts the informer and records how long it took until its initial list was synced. The returned future can be
+     * used to wait for the sync instead of polling the hasSynced() method.
+     *
+     * @param type          Type of the informer
+     * @param informer      Informer which should be started
+     * @param syncTimer     Timer metric used to record the time to sync
+     *
+     * @return  Future which completes when the informer is synced
+     */
+    public static CompletableFuture<Void> startAndTimeSync(String type, SharedIndexInformer<?> informer, Timer syncTimer) {
+        long startTime = System.nanoTime();
+
+        return informer.start()
+                .toCompletableFuture()
+                .whenComplete((v, t) -> {
+                    if (t == null) {
+                        Duration timeToSync = Duration.ofNanos(System.nanoTime() - startTime);
+                        syncTimer.record(timeToSync);
+                        LOGGER.infoOp("{} informer synced in {} ms", type, timeToSync.toMillis());
+                    }
+                });
+    }
+
     /**
      * Synchronously stops one or more informers. It will stop them and then wait for up to the specified timeout for
      * each of them to actually stop.
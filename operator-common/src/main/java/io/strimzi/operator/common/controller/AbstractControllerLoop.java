@@ -9,23 +9,35 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Abstract controller loop provides the shared functionality for reconciling resources in Strimzi controllers. It takes
  * an event from a queue passed in controller and reconciles it.
+ *
+ * By default, the loop waits for each reconciliation to complete before it takes the next event. When a semaphore for
+ * the in-flight reconciliations is passed to it, the loop is asynchronous: it starts the reconciliation using the
+ * reconcileAsync method and takes the next event without waiting for it to complete. The number of reconciliations in
+ * progress is then limited by the permits of the semaphore (which can be shared by multiple loops) instead of by the
+ * number of loops. The resources are locked in both modes until their reconciliation completes.
  */
 public abstract class AbstractControllerLoop {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractControllerLoop.class);
     private static final long PROGRESS_WARNING_MS = 60_000L;
+    /* test */ static final long LOCKED_REQUEUE_DELAY_MS = 100L;
 
     private final String name;
     private final Thread controllerThread;
     private final ControllerQueue workQueue;
     private final ReconciliationLockManager lockManager;
     private final ScheduledExecutorService scheduledExecutor;
+    private final Semaphore inFlightReconciliations;
 
     private volatile boolean stop = false;
     private volatile boolean running = false;
@@ -41,10 +53,28 @@ public abstract class AbstractControllerLoop {
      * @param scheduledExecutor     Scheduled executor service used to run the progress warnings
      */
     public AbstractControllerLoop(String name, ControllerQueue workQueue, ReconciliationLockManager lockManager, ScheduledExecutorService scheduledExecutor) {
+        this(name, workQueue, lockManager, scheduledExecutor, null);
+    }
+
+    /**
+     * Creates the controller. The controller should normally exist once per operator for cluster-wide mode or once per
+     * namespace for namespaced mode.
+     *
+     * @param name                      The name of this controller loop. The name should help to identify what kind
+     *                                  of look this is and what does it control / reconciler.
+     * @param workQueue                 Queue from which events should be consumed
+     * @param lockManager               Lock manager for making sure no parallel reconciliations for a given resource can happen
+     * @param scheduledExecutor         Scheduled executor service used to run the progress warnings
+     * @param inFlightReconciliations   Semaphore limiting the number of reconciliations in progress. When it is set, the
+     *                                  loop reconciles the resources asynchronously. When it is null, the loop
+     *                                  reconciles the resources one after another.
+     */
+    public AbstractControllerLoop(String name, ControllerQueue workQueue, ReconciliationLockManager lockManager, ScheduledExecutorService scheduledExecutor, Semaphore inFlightReconciliations) {
         this.name = name;
         this.workQueue = workQueue;
         this.lockManager = lockManager;
         this.scheduledExecutor = scheduledExecutor;
+        this.inFlightReconciliations = inFlightReconciliations;
         this.controllerThread = new Thread(new Runner(), name);
     }
 
@@ -55,6 +85,19 @@ public abstract class AbstractControllerLoop {
      */
     protected abstract void reconcile(Reconciliation reconciliation);
 
+    /**
+     * The reconciliation logic used by the asynchronous loops. The default implementation runs the reconcile method
+     * and returns a completed future. Controllers which support the asynchronous mode should override it.
+     *
+     * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  CompletionStage which completes when the reconciliation is finished
+     */
+    protected CompletionStage<Void> reconcileAsync(Reconciliation reconciliation) {
+        reconcile(reconciliation);
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Returns the Controller Metrics Holder instance, which is used to hold the various controller metrics
      *
@@ -139,6 +182,57 @@ public abstract class AbstractControllerLoop {
         }
     }
 
+    /**
+     * Wrapper method to handle obtaining the lock for the resource or re-queueing the reconciliation if the lock is in
+     * use in the asynchronous loops. When it gets the lock, it starts the reconciliation and releases the lock and the
+     * in-flight permit when the reconciliation completes. The loop thread does not wait for the lock because it would
+     * hold all the other reconciliations. A locked resource is re-queued after a short delay instead.
+     *
+     * @param reconciliation    Reconciliation marker
+     *
+     * @throws InterruptedException InterruptedException is thrown when interrupted while trying to get the lock
+     */
+    private void reconcileWithLockAsync(SimplifiedReconciliation reconciliation) throws InterruptedException {
+        String lockName = reconciliation.lockName();
+        boolean locked = false;
+
+        try {
+            locked = lockManager.tryLock(lockName, 0, TimeUnit.MILLISECONDS);
+        } finally {
+            if (!locked) {
+                // Failed to get the lock => other reconciliation is in progress. We will requeue the resource for next time
+                LOGGER.debugOp("{}: Failed to acquire lock {}. The resource will be re-queued in {} ms.", name, lockName, LOCKED_REQUEUE_DELAY_MS);
+                metrics().lockedReconciliationsCounter(reconciliation.namespace).increment();
+                inFlightReconciliations.release();
+                requeueLater(reconciliation);
+            }
+        }
+
+        if (locked) {
+            reconcileWrapperAsync(reconciliation.toReconciliation())
+                    .whenComplete((r, e) -> {
+                        // We have to unlock the resource and release the permit in any situation
+                        lockManager.unlock(lockName);
+                        inFlightReconciliations.release();
+                    });
+        }
+    }
+
+    /**
+     * Enqueues the reconciliation again after a short delay. Enqueueing it right away would make the loop spin on the
+     * locked resource until its previous reconciliation completes.
+     *
+     * @param reconciliation    Reconciliation marker
+     */
+    private void requeueLater(SimplifiedReconciliation reconciliation) {
+        try {
+            scheduledExecutor.schedule(() -> workQueue.enqueue(reconciliation), LOCKED_REQUEUE_DELAY_MS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The executor is shutting down => we enqueue the reconciliation right away
+            workQueue.enqueue(reconciliation);
+        }
+    }
+
     /**
      * Wrapper method to handle reconciliation. It is used to handle common tasks such as:
      *     - Progress warnings
@@ -163,6 +257,41 @@ public abstract class AbstractControllerLoop {
         }
     }
 
+    /**
+     * Wrapper method to handle asynchronous reconciliation. It handles the same common tasks as the reconcileWrapper
+     * method when the reconciliation completes.
+     *
+     * @param reconciliation    Reconciliation marker
+     *
+     * @return  CompletionStage which completes when the reconciliation is finished. It never completes exceptionally.
+     */
+    private CompletionStage<Void> reconcileWrapperAsync(Reconciliation reconciliation) {
+        // Tasks before reconciliation
+        ScheduledFuture<?> progressWarning = scheduledExecutor
+                .scheduleAtFixedRate(() -> LOGGER.infoCr(reconciliation, "Reconciliation is in progress"), PROGRESS_WARNING_MS, PROGRESS_WARNING_MS, TimeUnit.MILLISECONDS);
+        metrics().reconciliationsCounter(reconciliation.namespace()).increment(); // Increase the reconciliation counter
+        Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry()); // Start the reconciliation timer
+
+        // Reconciliation
+        CompletionStage<Void> result;
+        try {
+            result = reconcileAsync(reconciliation);
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        return result.handle((r, e) -> {
+            // Tasks after reconciliation
+            if (e != null) {
+                LOGGER.warnCr(reconciliation, "{}: reconciliation failed", name, e);
+            }
+
+            reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace())); // Stop the reconciliation timer
+            progressWarning.cancel(true); // Stop the progress warning
+            return null;
+        });
+    }
+
     /**
      * Runner class which is used to run the controller loop. This is implemented as a private inner class to not expose
      * it as a public method.
@@ -178,9 +307,26 @@ public abstract class AbstractControllerLoop {
 
             while (!stop) {
                 try {
-                    LOGGER.debugOp("{}: Waiting for next event from work queue", name);
-                    SimplifiedReconciliation reconciliation = workQueue.take();
-                    reconcileWithLock(reconciliation);
+                    if (inFlightReconciliations != null) {
+                        // Asynchronous mode => we wait for a free permit first to not hold an event while we cannot
+                        // reconcile it
+                        inFlightReconciliations.acquire();
+
+                        SimplifiedReconciliation reconciliation;
+                        try {
+                            LOGGER.debugOp("{}: Waiting for next event from work queue", name);
+                            reconciliation = workQueue.take();
+                        } catch (InterruptedException e) {
+                            inFlightReconciliations.release();
+                            throw e;
+                        }
+
+                        reconcileWithLockAsync(reconciliation);
+                    } else {
+                        LOGGER.debugOp("{}: Waiting for next event from work queue", name);
+                        SimplifiedReconciliation reconciliation = workQueue.take();
+                        reconcileWithLock(reconciliation);
+                    }
                 } catch (InterruptedException e) {
                     LOGGER.debugOp("{}: was interrupted", name, e);
                 } catch (Exception e) {
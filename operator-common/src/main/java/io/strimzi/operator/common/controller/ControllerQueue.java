@@ -8,17 +8,14 @@ import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-
 /**
- * Controller queue class wraps a Blocking queue and exposes the methods used by controllers. This includes taking
+ * Controller queue class wraps a keyed work queue and exposes the methods used by controllers. This includes taking
  * events from the queue and enqueueing events into the queue.
  */
 public class ControllerQueue {
     private final static Logger LOGGER = LogManager.getLogger(ControllerQueue.class);
 
-    /*test*/ final BlockingQueue<SimplifiedReconciliation> queue;
+    /*test*/ final KeyedWorkQueue<SimplifiedReconciliation> queue;
     private final ControllerMetricsHolder metrics;
 
     /**
@@ -29,7 +26,7 @@ public class ControllerQueue {
      * @param metrics       Holder for the controller metrics
      */
     public ControllerQueue(int queueSize, ControllerMetricsHolder metrics) {
-        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.queue = new KeyedWorkQueue<>(queueSize);
         this.metrics = metrics;
     }
 
@@ -49,15 +46,24 @@ public class ControllerQueue {
      * @param reconciliation    Reconciliation identifier
      */
     public void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!queue.contains(reconciliation)) {
-            LOGGER.debug("Enqueueing {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
-            if (!queue.offer(reconciliation))    {
+        switch (queue.offer(reconciliation)) {
+            case ENQUEUED:
+                LOGGER.debug("Enqueued {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+                break;
+            case ALREADY_ENQUEUED:
+                metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
+                LOGGER.debug("{} {} in namespace {} is already enqueued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+                break;
+            case FULL:
                 LOGGER.warn("Failed to enqueue an event because the controller queue is full");
-            }
-        } else {
-            metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debug("{} {} in namespace {} is already enqueued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+                break;
         }
     }
 
+    /**
+     * @return  Number of reconciliations waiting in the queue
+     */
+    public int size() {
+        return queue.size();
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded FIFO work queue which holds each key at most once. The keys are kept in a LinkedHashSet, so checking
+ * whether a key is already queued, adding a key and taking the head of the queue are all constant-time operations.
+ * This is important when an informer resync delivers thousands of events at once, where the linear contains() check
+ * of a regular BlockingQueue makes the enqueueing quadratic.
+ *
+ * The equality of the keys decides what counts as a duplicate. When an equal key is already queued, the queued key
+ * is kept in its original position and the new one is ignored.
+ *
+ * @param <T>   Type of the keys
+ */
+public class KeyedWorkQueue<T> {
+    private final int capacity;
+    private final LinkedHashSet<T> items;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * Result of offering a key to the queue
+     */
+    public enum OfferResult {
+        /**
+         * The key was added to the end of the queue
+         */
+        ENQUEUED,
+
+        /**
+         * An equal key is already in the queue and the new key was ignored
+         */
+        ALREADY_ENQUEUED,
+
+        /**
+         * The queue is full and the key was not added
+         */
+        FULL
+    }
+
+    /**
+     * Creates the work queue
+     *
+     * @param capacity  Maximal number of keys in the queue
+     */
+    public KeyedWorkQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The work queue capacity has to be bigger than 0");
+        }
+
+        this.capacity = capacity;
+        this.items = new LinkedHashSet<>();
+    }
+
+    /**
+     * Adds the key to the end of the queue unless an equal key is already queued or the queue is full. This method
+     * never blocks.
+     *
+     * @param item  Key which should be added to the queue
+     *
+     * @return  The result indicating whether the key was added or why it was not added
+     */
+    public OfferResult offer(T item) {
+        lock.lock();
+        try {
+            if (items.contains(item)) {
+                return OfferResult.ALREADY_ENQUEUED;
+            } else if (items.size() >= capacity) {
+                return OfferResult.FULL;
+            } else {
+                items.add(item);
+                notEmpty.signal();
+                return OfferResult.ENQUEUED;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the oldest key in the queue. Blocks while the queue is empty.
+     *
+     * @return  The oldest key in the queue
+     *
+     * @throws InterruptedException InterruptedException is thrown if interrupted while waiting for a key
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (items.isEmpty()) {
+                notEmpty.await();
+            }
+
+            Iterator<T> iterator = items.iterator();
+            T item = iterator.next();
+            iterator.remove();
+            return item;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether an equal key is queued
+     *
+     * @param item  Key which should be checked
+     *
+     * @return  True if an equal key is in the queue. False otherwise.
+     */
+    public boolean contains(T item) {
+        lock.lock();
+        try {
+            return items.contains(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return  Number of keys in the queue
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return items.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
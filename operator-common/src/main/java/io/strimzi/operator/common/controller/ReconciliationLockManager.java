@@ -8,15 +8,17 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A simple lock manager used to track the reconciliations which are in progress. This is used to make sure that a given
  * resource is not reconciled multiple times in parallel.
  *
+ * The locks are not owned by threads and are not reentrant. A lock can be unlocked by a different thread than the one
+ * which locked it, for example when an asynchronous reconciliation completes.
+ *
  * This implementation is inspired by https://www.baeldung.com/java-acquire-lock-by-key
  */
 public class ReconciliationLockManager {
@@ -74,7 +76,8 @@ public class ReconciliationLockManager {
      * detect when the lock is not used anymore and should be removed from the lock manager.
      */
     public static class ReconciliationLock    {
-        private final Lock lock = new ReentrantLock();
+        // A semaphore is used instead of a lock, because asynchronous reconciliations release it from a different thread
+        private final Semaphore lock = new Semaphore(1);
         /*test*/ final AtomicInteger lockQueue = new AtomicInteger(1); // Initializes at 1, because it is created as part of an tryLock() call
 
         private ReconciliationLock incrementQueueAndGet()   {
@@ -96,7 +99,7 @@ public class ReconciliationLockManager {
          */
         private boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
             try {
-                boolean locked = lock.tryLock(time, unit);
+                boolean locked = lock.tryAcquire(time, unit);
 
                 if (!locked) {
                     // We did not get the lock and return false => we decrement the counter of interested parties
@@ -118,7 +121,7 @@ public class ReconciliationLockManager {
          * @return  Number of parties waiting for this lock
          */
         private int unlock()   {
-            lock.unlock();
+            lock.release();
             return lockQueue.decrementAndGet();
         }
     }
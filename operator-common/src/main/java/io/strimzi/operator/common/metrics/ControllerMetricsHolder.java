@@ -5,17 +5,24 @@
 package io.strimzi.operator.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A metrics holder for controllers.
  */
 public class ControllerMetricsHolder extends MetricsHolder {
     private final Map<String, Counter> alreadyQueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> workQueueDepthMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> busyWorkersMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> informerSyncTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> periodicReconciliationsStalenessTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> skippedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the controller metrics holder
@@ -41,4 +48,73 @@ public class ControllerMetricsHolder extends MetricsHolder {
         return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.already.enqueued", metricsProvider, selectorLabels, alreadyQueuedReconciliationsCounterMap,
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running");
     }
+
+    /**
+     * Gauge metric for the number of reconciliations waiting in the controller work queue. A queue which keeps growing
+     * indicates that the controller workers cannot keep up with the incoming events.
+     *
+     * @param namespace     Namespace watched by the controller
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger workQueueDepth(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "controller.queue.depth", metricsProvider, selectorLabels, workQueueDepthMap,
+                "Number of reconciliations waiting in the controller work queue");
+    }
+
+    /**
+     * Gauge metric for the number of controller workers which are currently reconciling a resource. When all workers
+     * are busy most of the time, increasing the number of workers might help.
+     *
+     * @param namespace     Namespace watched by the controller
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger busyWorkers(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "controller.workers.busy", metricsProvider, selectorLabels, busyWorkersMap,
+                "Number of controller workers currently reconciling a resource");
+    }
+
+    /**
+     * Timer metric for the time it took the informer to list the resources and sync after the controller started.
+     * Unlike the other controller metrics, the kind tag of this metric is the kind of the resources watched by the
+     * informer.
+     *
+     * @param namespace     Namespace watched by the informer
+     * @param informerKind  Kind of the resources watched by the informer
+     *
+     * @return  Metrics timer
+     */
+    public Timer informerSyncTimer(String namespace, String informerKind) {
+        return getTimer(namespace, informerKind, METRICS_PREFIX + "controller.informer.sync", metricsProvider, selectorLabels, informerSyncTimerMap,
+                "The time it took the informer to sync after the controller started");
+    }
+
+    /**
+     * Timer metric for the time since a resource was last enqueued for reconciliation, recorded when its periodic
+     * reconciliation is triggered. It shows how stale the resources get between reconciliations. Values much higher
+     * than the reconciliation interval indicate that the periodic reconciliations are deferred because the work queue
+     * is busy.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer periodicReconciliationsStalenessTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "reconciliations.periodical.staleness", metricsProvider, selectorLabels, periodicReconciliationsStalenessTimerMap,
+                "The time since the resource was last enqueued for reconciliation when its periodic reconciliation is triggered");
+    }
+
+    /**
+     * Counter metric for the number of periodic reconciliations skipped because the resource did not change since
+     * its last successful reconciliation.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter skippedReconciliationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.skipped", metricsProvider, selectorLabels, skippedReconciliationsCounterMap,
+                "Number of reconciliations skipped because the resource did not change");
+    }
 }
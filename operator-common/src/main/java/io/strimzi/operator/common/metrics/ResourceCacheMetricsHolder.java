@@ -0,0 +1,81 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.strimzi.operator.common.MetricsProvider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metrics holder for the metrics of the informer-backed resource caches. The caches are shared by all reconciliations,
+ * so the metrics are not bound to a single namespace. They are exported per kind of the cached resources instead.
+ */
+public class ResourceCacheMetricsHolder extends MetricsHolder {
+    private final Map<String, Counter> hitsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> missesCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> conflictsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> apiCallsSavedCounterMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the resource cache metrics holder
+     *
+     * @param metricsProvider   Metrics provider
+     */
+    public ResourceCacheMetricsHolder(MetricsProvider metricsProvider) {
+        super(null, null, metricsProvider);
+    }
+
+    /**
+     * Counter metric for the number of reads served from the cache.
+     *
+     * @param kind  Kind of the cached resources
+     *
+     * @return  Metrics counter
+     */
+    public Counter hitsCounter(String kind) {
+        return getCounter("*", kind, METRICS_PREFIX + "resource.cache.hits", metricsProvider, null, hitsCounterMap,
+                "Number of reads served from the resource cache");
+    }
+
+    /**
+     * Counter metric for the number of reads which could not be served from the cache and were sent to the
+     * Kubernetes API server.
+     *
+     * @param kind  Kind of the cached resources
+     *
+     * @return  Metrics counter
+     */
+    public Counter missesCounter(String kind) {
+        return getCounter("*", kind, METRICS_PREFIX + "resource.cache.misses", metricsProvider, null, missesCounterMap,
+                "Number of reads which were not in the resource cache or were not fresh enough and were sent to the Kubernetes API server");
+    }
+
+    /**
+     * Counter metric for the number of reconciliations which failed with a conflict after using a cached resource and
+     * were repeated with a live read.
+     *
+     * @param kind  Kind of the cached resources
+     *
+     * @return  Metrics counter
+     */
+    public Counter conflictsCounter(String kind) {
+        return getCounter("*", kind, METRICS_PREFIX + "resource.cache.conflicts", metricsProvider, null, conflictsCounterMap,
+                "Number of reconciliations which used a cached resource, failed with a conflict and were repeated with a live read");
+    }
+
+    /**
+     * Counter metric for the number of Kubernetes API calls saved by the cache.
+     *
+     * @param kind  Kind of the cached resources
+     *
+     * @return  Metrics counter
+     */
+    public Counter apiCallsSavedCounter(String kind) {
+        return getCounter("*", kind, METRICS_PREFIX + "resource.cache.api.calls.saved", metricsProvider, null, apiCallsSavedCounterMap,
+                "Number of GET and LIST calls to the Kubernetes API server saved by the resource cache");
+    }
+}
@@ -10,6 +10,9 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.MissingNode;
 import io.fabric8.kubernetes.client.utils.Serialization;
 
+import java.util.Iterator;
+import java.util.Map;
+
 /**
  * Abstract class for diffing Json and YAML resources
  */
@@ -36,6 +39,78 @@ public abstract class AbstractJsonDiff {
         return s;
     }
 
+    /**
+     * Walks the two JSON trees together and finds the first difference which is not ignored. Unlike JSON Patch diff,
+     * it does not build the list of all differences and it stops at the first difference which matters. Arrays are
+     * compared item by item.
+     *
+     * @param source        The source JSON tree
+     * @param target        The target JSON tree
+     * @param ignorable     Trie with the paths which should be ignored
+     *
+     * @return  JSON Pointer of the first difference which is not ignored or null if there is no such difference
+     */
+    protected static String firstDifference(JsonNode source, JsonNode target, JsonPathTrie ignorable) {
+        return firstDifference(source, target, ignorable.root());
+    }
+
+    private static String firstDifference(JsonNode source, JsonNode target, JsonPathTrie.Node ignorable) {
+        if (ignorable != null && ignorable.isIgnored()) {
+            return null;
+        } else if (source.getNodeType() != target.getNodeType()) {
+            return "";
+        } else if (source.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonPathTrie.Node child = ignorable != null ? ignorable.child(field.getKey()) : null;
+                JsonNode targetField = target.get(field.getKey());
+
+                String difference = targetField == null ? difference(child) : firstDifference(field.getValue(), targetField, child);
+                if (difference != null) {
+                    return "/" + escape(field.getKey()) + difference;
+                }
+            }
+
+            Iterator<String> names = target.fieldNames();
+            while (names.hasNext()) {
+                String name = names.next();
+
+                if (!source.has(name) && difference(ignorable != null ? ignorable.child(name) : null) != null) {
+                    return "/" + escape(name);
+                }
+            }
+
+            return null;
+        } else if (source.isArray()) {
+            int common = Math.min(source.size(), target.size());
+
+            for (int i = 0; i < Math.max(source.size(), target.size()); i++) {
+                JsonPathTrie.Node child = ignorable != null ? ignorable.child(i) : null;
+
+                String difference = i < common ? firstDifference(source.get(i), target.get(i), child) : difference(child);
+                if (difference != null) {
+                    return "/" + i + difference;
+                }
+            }
+
+            return null;
+        } else {
+            return source.equals(target) ? null : "";
+        }
+    }
+
+    /**
+     * Checks a field or an array item which exists only in one of the trees
+     */
+    private static String difference(JsonPathTrie.Node ignorable) {
+        return ignorable != null && ignorable.isIgnored() ? null : "";
+    }
+
+    private static String escape(String name) {
+        return name.indexOf('~') >= 0 || name.indexOf('/') >= 0 ? name.replace("~", "~0").replace("/", "~1") : name;
+    }
+
     /**
      * Returns whether the Diff is empty or not.
      *
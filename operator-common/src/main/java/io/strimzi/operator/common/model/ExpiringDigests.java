@@ -0,0 +1,101 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Remembers a digest of the state handled by the last reconciliation of each resource, so that the operators can skip
+ * the periodic reconciliations of the resources which did not change. What goes into the digest is up to the operator.
+ *
+ * Each digest expires after a random time between half and the full drift sweep interval. The next periodic
+ * reconciliation of the resource after that has to be a full one, so that changes done outside of Kubernetes are
+ * still detected. The random expiry spreads these full reconciliations over time instead of doing them all at once.
+ *
+ * @param <K>   Type of the key identifying the resource
+ * @param <V>   Type of the digest
+ */
+public class ExpiringDigests<K, V> {
+    private final long driftSweepIntervalMs;
+
+    // Key: Resource, Value: The digest and its expiry
+    private final Map<K, Entry<V>> digests = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the digests
+     *
+     * @param driftSweepIntervalMs  The maximum time for which a digest is valid. 0 or less disables the digests, so
+     *                              nothing is remembered.
+     */
+    public ExpiringDigests(long driftSweepIntervalMs) {
+        this.driftSweepIntervalMs = driftSweepIntervalMs;
+    }
+
+    /**
+     * @return  True if the digests are enabled. False otherwise.
+     */
+    public boolean isEnabled() {
+        return driftSweepIntervalMs > 0;
+    }
+
+    /**
+     * Returns the digest of the resource, even if it has already expired.
+     *
+     * @param key   Key of the resource
+     *
+     * @return  The digest or null if there is none
+     */
+    public V get(K key) {
+        Entry<V> entry = digests.get(key);
+        return entry != null ? entry.digest() : null;
+    }
+
+    /**
+     * Returns the digest of the resource if it did not expire yet.
+     *
+     * @param key   Key of the resource
+     * @param nowMs The current time in ms
+     *
+     * @return  The digest or null if there is none or if it expired
+     */
+    public V getUnexpired(K key, long nowMs) {
+        Entry<V> entry = digests.get(key);
+        return entry != null && nowMs < entry.expiresAtMs() ? entry.digest() : null;
+    }
+
+    /**
+     * Remembers the digest of the resource. Does nothing when the digests are disabled.
+     *
+     * @param key       Key of the resource
+     * @param digest    The digest
+     * @param nowMs     The current time in ms
+     */
+    public void put(K key, V digest, long nowMs) {
+        if (isEnabled()) {
+            long expiresAtMs = nowMs + driftSweepIntervalMs / 2 + ThreadLocalRandom.current().nextLong(driftSweepIntervalMs / 2 + 1);
+            digests.put(key, new Entry<>(digest, expiresAtMs));
+        }
+    }
+
+    /**
+     * Forgets the digest of the resource
+     *
+     * @param key   Key of the resource
+     */
+    public void remove(K key) {
+        digests.remove(key);
+    }
+
+    /**
+     * @return  The number of remembered digests
+     */
+    public int size() {
+        return digests.size();
+    }
+
+    private record Entry<V>(V digest, long expiresAtMs) { }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable trie of JSON paths which should be ignored when diffing two JSON trees. The paths are written as JSON
+ * Pointers (for example {@code /metadata/managedFields}) and each path ignores the whole subtree under it. A path
+ * segment can be:
+ *   - a field name or an array index, with {@code /} escaped as {@code ~1} and {@code ~} escaped as {@code ~0}
+ *   - {@code *} matching any field name or array index (for example {@code /conditions/*}{@code /lastTransitionTime})
+ *   - a prefix followed by {@code *} matching all field names starting with the prefix (for example
+ *     {@code /metadata/annotations/pv.kubernetes.io~1*})
+ *
+ * The paths are compiled into the trie when it is created, so that the diff can walk the trie together with the JSON
+ * trees instead of building the JSON Pointer of each difference and matching it against a regular expression. When
+ * more segments match the same field, their subtrees are merged when the trie is created, so the lookup of a field
+ * never needs to backtrack.
+ */
+public class JsonPathTrie {
+    private final Node root;
+
+    /**
+     * Creates the trie
+     *
+     * @param paths     Ignorable paths
+     */
+    public JsonPathTrie(String... paths) {
+        Node root = new Node();
+
+        for (String path : paths) {
+            if (!path.isEmpty() && path.charAt(0) != '/') {
+                throw new IllegalArgumentException("Path " + path + " is not a valid JSON Pointer");
+            }
+
+            Node node = root;
+            if (!path.isEmpty()) {
+                for (String segment : path.substring(1).split("/", -1)) {
+                    node = node.add(segment);
+                }
+            }
+            node.ignored = true;
+        }
+
+        this.root = root.compile();
+    }
+
+    /**
+     * @return  The root node of the trie
+     */
+    public Node root() {
+        return root;
+    }
+
+    /**
+     * Checks whether the JSON Pointer is ignored by this trie
+     *
+     * @param path  JSON Pointer
+     *
+     * @return  True if the path or one of its parents is ignored. False otherwise.
+     */
+    public boolean isIgnored(String path) {
+        Node node = root;
+
+        if (!path.isEmpty()) {
+            for (String segment : path.substring(1).split("/", -1)) {
+                if (node == null || node.ignored) {
+                    break;
+                }
+
+                node = node.child(unescape(segment));
+            }
+        }
+
+        return node != null && node.ignored;
+    }
+
+    private static String unescape(String segment) {
+        return segment.indexOf('~') >= 0 ? segment.replace("~1", "/").replace("~0", "~") : segment;
+    }
+
+    /**
+     * Node of the trie. A null node means that nothing under the given path is ignored.
+     */
+    public static class Node {
+        private boolean ignored;
+        private Map<String, Node> fields = new HashMap<>();
+        private Map<String, Node> prefixes = new HashMap<>();
+        private Node any;
+
+        // Compiled prefixes sorted from the longest to the shortest
+        private String[] prefixNames = new String[0];
+        private Node[] prefixNodes = new Node[0];
+
+        private Node() {
+        }
+
+        /**
+         * @return  True if this node and the whole subtree under it should be ignored. False otherwise.
+         */
+        public boolean isIgnored() {
+            return ignored;
+        }
+
+        /**
+         * Finds the node of an object field
+         *
+         * @param name  Name of the field (not escaped)
+         *
+         * @return  The node of the field or null if nothing under the field is ignored
+         */
+        public Node child(String name) {
+            Node node = fields.get(name);
+
+            if (node == null) {
+                for (int i = 0; i < prefixNames.length; i++) {
+                    if (name.startsWith(prefixNames[i])) {
+                        return prefixNodes[i];
+                    }
+                }
+
+                node = any;
+            }
+
+            return node;
+        }
+
+        /**
+         * Finds the node of an array item
+         *
+         * @param index     Index of the array item
+         *
+         * @return  The node of the array item or null if nothing under the array item is ignored
+         */
+        public Node child(int index) {
+            // Avoids converting the index to String when the trie has only wildcards on this level
+            return fields.isEmpty() && prefixNames.length == 0 ? any : child(String.valueOf(index));
+        }
+
+        private Node add(String segment) {
+            if ("*".equals(segment)) {
+                if (any == null) {
+                    any = new Node();
+                }
+                return any;
+            } else if (segment.endsWith("*")) {
+                return prefixes.computeIfAbsent(unescape(segment.substring(0, segment.length() - 1)), k -> new Node());
+            } else {
+                return fields.computeIfAbsent(unescape(segment), k -> new Node());
+            }
+        }
+
+        private void mergeFrom(Node other) {
+            if (other == null) {
+                return;
+            }
+
+            ignored |= other.ignored;
+
+            for (Map.Entry<String, Node> field : other.fields.entrySet()) {
+                fields.computeIfAbsent(field.getKey(), k -> new Node()).mergeFrom(field.getValue());
+            }
+
+            for (Map.Entry<String, Node> prefix : other.prefixes.entrySet()) {
+                prefixes.computeIfAbsent(prefix.getKey(), k -> new Node()).mergeFrom(prefix.getValue());
+            }
+
+            if (other.any != null) {
+                if (any == null) {
+                    any = new Node();
+                }
+                any.mergeFrom(other.any);
+            }
+        }
+
+        /**
+         * Creates a compiled copy of this node where each field and prefix node contains also the subtrees of all
+         * other segments matching it
+         *
+         * @return  The compiled node
+         */
+        private Node compile() {
+            Node compiled = new Node();
+            compiled.ignored = ignored;
+
+            if (ignored) {
+                // Everything under this node is ignored, so the children do not matter
+                return compiled;
+            }
+
+            for (Map.Entry<String, Node> field : fields.entrySet()) {
+                Node merged = new Node();
+                merged.mergeFrom(field.getValue());
+                for (Map.Entry<String, Node> prefix : prefixes.entrySet()) {
+                    if (field.getKey().startsWith(prefix.getKey())) {
+                        merged.mergeFrom(prefix.getValue());
+                    }
+                }
+                merged.mergeFrom(any);
+                compiled.fields.put(field.getKey(), merged.compile());
+            }
+
+            List<String> prefixNames = new ArrayList<>(prefixes.keySet());
+            prefixNames.sort(Comparator.comparingInt(String::length).reversed());
+            compiled.prefixNames = prefixNames.toArray(new String[0]);
+            compiled.prefixNodes = new Node[compiled.prefixNames.length];
+
+            for (int i = 0; i < compiled.prefixNames.length; i++) {
+                Node merged = new Node();
+                for (Map.Entry<String, Node> prefix : prefixes.entrySet()) {
+                    // Names matching a prefix match also all shorter prefixes of it
+                    if (compiled.prefixNames[i].startsWith(prefix.getKey())) {
+                        merged.mergeFrom(prefix.getValue());
+                    }
+                }
+                merged.mergeFrom(any);
+                compiled.prefixNodes[i] = merged.compile();
+            }
+
+            compiled.any = any != null ? any.compile() : null;
+            compiled.prefixes = Map.of();
+
+            return compiled;
+        }
+    }
+}
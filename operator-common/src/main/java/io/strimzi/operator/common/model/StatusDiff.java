@@ -5,19 +5,16 @@
 package io.strimzi.operator.common.model;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.api.kafka.model.kafka.Status;
 import io.strimzi.operator.common.ReconciliationLogger;
 
-import java.util.regex.Pattern;
-
 /**
  * Diffs status section of a custom resource
  */
 public class StatusDiff extends AbstractJsonDiff {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StatusDiff.class.getName());
-    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/conditions/[0-9]+/lastTransitionTime)$");
+    private static final JsonPathTrie IGNORABLE_PATHS = new JsonPathTrie(
+            "/conditions/*/lastTransitionTime");
 
     private final boolean isEmpty;
 
@@ -30,28 +27,15 @@ public class StatusDiff extends AbstractJsonDiff {
     public StatusDiff(Status current, Status desired) {
         JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
         JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
-
-        int num = 0;
-
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-
-            if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
-                LOGGER.debugOp("Ignoring Status diff {}", d);
-                continue;
-            }
-
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debugOp("Status differs: {}", d);
-                LOGGER.debugOp("Current Status path {} has value {}", pathValue, lookupPath(source, pathValue));
-                LOGGER.debugOp("Desired Status path {} has value {}", pathValue, lookupPath(target, pathValue));
-            }
+        String pathValue = firstDifference(source, target, IGNORABLE_PATHS);
 
-            num++;
+        if (pathValue != null && LOGGER.isDebugEnabled()) {
+            LOGGER.debugOp("Status differs at path {}", pathValue);
+            LOGGER.debugOp("Current Status path {} has value {}", pathValue, lookupPath(source, pathValue));
+            LOGGER.debugOp("Desired Status path {} has value {}", pathValue, lookupPath(target, pathValue));
         }
 
-        this.isEmpty = num == 0;
+        this.isEmpty = pathValue == null;
     }
 
     /**
@@ -22,6 +22,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -226,6 +227,30 @@ public class StatusUtils {
         status.setConditions(Collections.singletonList(condition));
     }
 
+    /**
+     * Checks whether the status of the custom resource has the Ready condition set to True and whether it was
+     * observed for the current generation of the resource.
+     *
+     * @param resource  The custom resource
+     *
+     * @param <R>   Type of the custom resource
+     * @param <P>   Type of the custom resource spec
+     * @param <S>   Type of the custom resource status
+     *
+     * @return  True if the resource is ready in its current generation. False otherwise.
+     */
+    public static <R extends CustomResource<P, S>, P extends Spec, S extends Status> boolean isReadyInCurrentGeneration(R resource) {
+        S status = resource.getStatus();
+        if (status == null
+                || status.getConditions() == null
+                || !Objects.equals(status.getObservedGeneration(), resource.getMetadata().getGeneration())) {
+            return false;
+        }
+
+        return status.getConditions().stream()
+                .anyMatch(condition -> "Ready".equals(condition.getType()) && "True".equals(condition.getStatus()));
+    }
+
     /**
      * @return  Creates a paused reconciliation condition
      */
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.Informable;
@@ -24,6 +25,7 @@ import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
+import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +55,14 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      */
     public final static String ANY_NAMESPACE = "*";
 
+    /**
+     * Field manager used by the operator when applying the resources with server-side apply
+     */
+    public final static String FIELD_MANAGER = "strimzi-cluster-operator";
+
+    private volatile ResourceCache<T> cache;
+    private volatile boolean serverSideApply = false;
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -97,29 +107,192 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
         }
 
-        return getAsync(namespace, name)
-                .compose(current -> {
-                    if (desired != null) {
-                        if (current == null) {
-                            LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
-                            return internalCreate(reconciliation, namespace, name, desired);
-                        } else {
-                            LOGGER.debugCr(reconciliation, "{} {}/{} already exists, updating it", resourceKind, namespace, name);
-                            return internalUpdate(reconciliation, namespace, name, current, desired);
-                        }
-                    } else {
-                        if (current != null) {
-                            // Deletion is desired
-                            LOGGER.debugCr(reconciliation, "{} {}/{} exist, deleting it", resourceKind, namespace, name);
-                            return internalDelete(reconciliation, namespace, name);
+        ResourceCache<T> cache = this.cache;
+        T cached = cache != null ? cache.get(namespace, name) : null;
+
+        if (serverSideApply && desired != null) {
+            return reconcileApply(reconciliation, namespace, name, cached, desired);
+        }
+
+        if (cached != null) {
+            cache.hit(false);
+
+            return reconcile(reconciliation, namespace, name, cached, desired)
+                    // The cache saved a GET request only when the reconciliation succeeds without falling back to a live read
+                    .onSuccess(i -> cache.saved())
+                    .recover(error -> {
+                        if (isConflict(error)) {
+                            // The cached resource was outdated => we retry with the resource from the API server
+                            LOGGER.debugCr(reconciliation, "Reconciliation of {} {}/{} from the cache failed with a conflict, retrying with a live read", resourceKind, namespace, name, error);
+                            cache.conflict();
+
+                            return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name))
+                                    .compose(current -> reconcile(reconciliation, namespace, name, current, desired));
                         } else {
-                            LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
-                            return Future.succeededFuture(ReconcileResult.noop(null));
+                            return Future.failedFuture(error);
                         }
+                    });
+        } else {
+            if (cache != null) {
+                cache.miss();
+            }
+
+            return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name))
+                    .compose(current -> reconcile(reconciliation, namespace, name, current, desired));
+        }
+    }
+
+    /**
+     * Reconciles the current resource with the desired resource.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     * @param current           Current resource or null if it does not exist
+     * @param desired           Desired resource or null if it should be deleted
+     *
+     * @return  A future which completes when the resource has been updated.
+     */
+    private Future<ReconcileResult<T>> reconcile(Reconciliation reconciliation, String namespace, String name, T current, T desired) {
+        Future<ReconcileResult<T>> result;
+
+        if (desired != null) {
+            if (current == null) {
+                LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
+                result = internalCreate(reconciliation, namespace, name, desired);
+            } else {
+                LOGGER.debugCr(reconciliation, "{} {}/{} already exists, updating it", resourceKind, namespace, name);
+                result = internalUpdate(reconciliation, namespace, name, current, desired);
+            }
+        } else {
+            if (current != null) {
+                // Deletion is desired
+                LOGGER.debugCr(reconciliation, "{} {}/{} exist, deleting it", resourceKind, namespace, name);
+                result = internalDelete(reconciliation, namespace, name);
+            } else {
+                LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
+                result = Future.succeededFuture(ReconcileResult.noop(null));
+            }
+        }
+
+        ResourceCache<T> cache = this.cache;
+        if (cache != null) {
+            result = result.onSuccess(reconcileResult -> {
+                if (reconcileResult instanceof ReconcileResult.Created || reconcileResult instanceof ReconcileResult.Patched) {
+                    cache.written(reconcileResult.resource());
+                } else if (reconcileResult == ReconcileResult.<T>deleted()) {
+                    cache.deleted(namespace, name);
+                }
+            });
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks whether the error means that the resource changed in the meantime, for example because it was deleted or
+     * created by someone else.
+     *
+     * @param error     The error
+     *
+     * @return  True if the error is a conflict. False otherwise.
+     */
+    private static boolean isConflict(Throwable error) {
+        return error instanceof KubernetesClientException
+                && (((KubernetesClientException) error).getCode() == HttpURLConnection.HTTP_CONFLICT
+                    || ((KubernetesClientException) error).getCode() == HttpURLConnection.HTTP_NOT_FOUND);
+    }
+
+    /**
+     * Creates or updates the resource using server-side apply. The current resource is taken from the cache when
+     * available and read from the Kubernetes API server otherwise. The Kubernetes API server merges the desired
+     * resource with the current one and returns the result, so the resource does not need to be diffed and patched.
+     * Only the fields set in the desired resource are owned by the operator. Conflicts with other field managers are
+     * forced. So kinds with fields which have to be preserved from the current resource, such as the Service node
+     * ports, should not be applied this way.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     * @param cached            Cached resource or null if it is not in the cache
+     * @param desired           Desired resource
+     *
+     * @return  A future which completes when the resource has been applied.
+     */
+    private Future<ReconcileResult<T>> reconcileApply(Reconciliation reconciliation, String namespace, String name, T cached, T desired) {
+        ResourceCache<T> cache = this.cache;
+        Future<T> current;
+
+        if (cached != null) {
+            // The apply does not depend on the resource version, so an outdated cached resource cannot cause a conflict
+            cache.hit(true);
+            current = Future.succeededFuture(cached);
+        } else {
+            if (cache != null) {
+                cache.miss();
+            }
+
+            current = resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
+        }
+
+        return current
+                .compose(c -> internalApply(reconciliation, namespace, name, c, desired))
+                .onSuccess(reconcileResult -> {
+                    if (cache != null && !(reconcileResult instanceof ReconcileResult.Noop)) {
+                        cache.written(reconcileResult.resource());
                     }
                 });
     }
 
+    /**
+     * Applies the desired resource using server-side apply. The result is reported as created when the resource did
+     * not exist before, as noop when the Kubernetes API server did not change it and as patched otherwise. Subclasses
+     * can override this method to skip the apply when the resources are equal.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     * @param current           Current resource or null if it does not exist
+     * @param desired           Desired resource
+     *
+     * @return  A future which completes when the resource has been applied.
+     */
+    protected Future<ReconcileResult<T>> internalApply(Reconciliation reconciliation, String namespace, String name, T current, T desired) {
+        return resourceSupport.executeBlocking(() -> operation().inNamespace(namespace).resource(desired).fieldManager(FIELD_MANAGER).forceConflicts().serverSideApply())
+                .map(result -> {
+                    LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been applied", resourceKind, name, namespace);
+
+                    if (current == null) {
+                        return ReconcileResult.created(result);
+                    } else if (wasChanged(current, result)) {
+                        return ReconcileResult.patched(result);
+                    } else {
+                        return ReconcileResult.noop(result);
+                    }
+                })
+                .onFailure(e -> LOGGER.debugCr(reconciliation, "Caught exception while applying {} {} in namespace {}", resourceKind, name, namespace, e));
+    }
+
+    /**
+     * Enables or disables server-side apply for this resource kind. When enabled, the resources are created and
+     * updated using server-side apply instead of diffing and patching them. Deletions are not affected.
+     *
+     * @param serverSideApply   True to use server-side apply. False otherwise.
+     */
+    public void setServerSideApply(boolean serverSideApply) {
+        this.serverSideApply = serverSideApply;
+    }
+
+    /**
+     * Uses the informer-backed cache to read the resources of this kind instead of reading them from the Kubernetes
+     * API server. The resources are cached only when the cache is set.
+     *
+     * @param cache     Resource cache
+     */
+    public void setCache(ResourceCache<T> cache) {
+        this.cache = cache;
+    }
+
     /**
      * Does a batch reconciliation of resources. It takes a list with desired resources and a selector for getting all
      * resources. It will compare the desired resources against the actual resources based on the selector and decides
@@ -301,6 +474,18 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture(new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name."));
         }
 
+        ResourceCache<T> cache = this.cache;
+        if (cache != null) {
+            T cached = cache.get(namespace, name);
+
+            if (cached != null) {
+                cache.hit(true);
+                return Future.succeededFuture(cached);
+            } else {
+                cache.miss();
+            }
+        }
+
         return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
     }
 
@@ -338,6 +523,18 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        ResourceCache<T> cache = this.cache;
+        if (cache != null) {
+            List<T> cached = cache.list(namespace, selector);
+
+            if (cached != null) {
+                cache.hit(true);
+                return Future.succeededFuture(cached);
+            } else {
+                cache.miss();
+            }
+        }
+
         return listAsync(applySelector(applyNamespace(namespace), selector));
     }
 
@@ -404,7 +601,15 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return                  A Future with True if the deletion succeeded and False when it failed.
      */
     public Future<Void> deleteAsync(Reconciliation reconciliation, String namespace, String name, boolean cascading) {
-        return internalDelete(reconciliation, namespace, name, cascading).map((Void) null);
+        ResourceCache<T> cache = this.cache;
+
+        return internalDelete(reconciliation, namespace, name, cascading)
+                .onSuccess(i -> {
+                    if (cache != null) {
+                        cache.deleted(namespace, name);
+                    }
+                })
+                .map((Void) null);
     }
 
     /**
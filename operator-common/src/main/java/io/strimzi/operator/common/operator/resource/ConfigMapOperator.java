@@ -42,13 +42,7 @@ public class ConfigMapOperator extends AbstractNamespacedResourceOperator<Kubern
     @Override
     protected Future<ReconcileResult<ConfigMap>> internalUpdate(Reconciliation reconciliation, String namespace, String name, ConfigMap current, ConfigMap desired) {
         try {
-            if (compareObjects(current.getData(), desired.getData())
-                    && compareObjects(current.getMetadata().getName(), desired.getMetadata().getName())
-                    && compareObjects(current.getMetadata().getNamespace(), desired.getMetadata().getNamespace())
-                    && compareObjects(current.getMetadata().getAnnotations(), desired.getMetadata().getAnnotations())
-                    && compareObjects(current.getMetadata().getLabels(), desired.getMetadata().getLabels())) {
-                // Checking some metadata. We cannot check entire metadata object because it contains
-                // timestamps which would cause restarting loop
+            if (isEqual(current, desired)) {
                 LOGGER.debugCr(reconciliation, "{} {} in namespace {} has not been patched because resources are equal", resourceKind, name, namespace);
                 return Future.succeededFuture(ReconcileResult.noop(current));
             } else {
@@ -60,7 +54,34 @@ public class ConfigMapOperator extends AbstractNamespacedResourceOperator<Kubern
         }
     }
 
-    private boolean compareObjects(Object a, Object b) {
+    @Override
+    protected Future<ReconcileResult<ConfigMap>> internalApply(Reconciliation reconciliation, String namespace, String name, ConfigMap current, ConfigMap desired) {
+        if (current != null && isEqual(current, desired)) {
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} has not been applied because resources are equal", resourceKind, name, namespace);
+            return Future.succeededFuture(ReconcileResult.noop(current));
+        } else {
+            return super.internalApply(reconciliation, namespace, name, current, desired);
+        }
+    }
+
+    /**
+     * Checks whether the data and some of the metadata of the ConfigMaps are equal. We cannot check the entire
+     * metadata object because it contains timestamps which would cause restarting loop.
+     *
+     * @param current   Current ConfigMap
+     * @param desired   Desired ConfigMap
+     *
+     * @return  True if the ConfigMaps are equal. False otherwise.
+     */
+    private static boolean isEqual(ConfigMap current, ConfigMap desired) {
+        return compareObjects(current.getData(), desired.getData())
+                && compareObjects(current.getMetadata().getName(), desired.getMetadata().getName())
+                && compareObjects(current.getMetadata().getNamespace(), desired.getMetadata().getNamespace())
+                && compareObjects(current.getMetadata().getAnnotations(), desired.getMetadata().getAnnotations())
+                && compareObjects(current.getMetadata().getLabels(), desired.getMetadata().getLabels());
+    }
+
+    private static boolean compareObjects(Object a, Object b) {
         if (a == null && b instanceof Map && ((Map) b).size() == 0)
             return true;
         return !(a instanceof Map ^ b instanceof Map) && Objects.equals(a, b);
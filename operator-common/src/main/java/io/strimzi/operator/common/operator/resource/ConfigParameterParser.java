@@ -7,6 +7,7 @@ package io.strimzi.operator.common.operator.resource;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 
@@ -142,6 +143,17 @@ public interface ConfigParameterParser<T> {
         }
     };
 
+    /**
+     * The type of the CertManager used to generate the certificates
+     */
+    ConfigParameterParser<CertManagerType> CERT_MANAGER_TYPE = configValue -> {
+        try {
+            return CertManagerType.fromString(configValue);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException("Failed to parse. Value " + configValue + " is not valid. Supported values are openssl and bouncycastle.", e);
+        }
+    };
+
     /**
      * A kubernetes selector.
      */
@@ -0,0 +1,247 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.Counter;
+import io.strimzi.operator.common.metrics.ResourceCacheMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read cache for the resources of a given kind backed by shared informers. The informers watch only the resources with
+ * the required label (for example {@code strimzi.io/cluster}), so the cache contains only the resources owned by the
+ * operator and a resource which is not in the cache might still exist. Therefore:
+ *   - A resource found in the cache is returned from the cache. A resource which is not found has to be read from the
+ *     Kubernetes API server.
+ *   - A list is served from the cache only when its selector contains the required label.
+ *
+ * The resources which were created, patched or deleted by the operator are remembered together with the resource
+ * version returned by the Kubernetes API server. Until the informer catches up with these changes, the cache is
+ * not fresh for them and their reads go to the Kubernetes API server as well. The returned resources are copies,
+ * so the callers can modify them without affecting the cache.
+ *
+ * @param <T>   Type of the cached resource
+ */
+public class ResourceCache<T extends HasMetadata> {
+    // Marks the resources deleted by the operator which might be still in the cache
+    private static final String DELETED = "";
+
+    private final String requiredLabel;
+    private final Map<String, SharedIndexInformer<T>> informers;
+    private final Map<String, String> writes = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter conflicts;
+    private final Counter apiCallsSaved;
+
+    /**
+     * Constructs the resource cache
+     *
+     * @param kind              Kind of the cached resources
+     * @param requiredLabel     Label which all resources watched by the informers have
+     * @param informers         Map with the informers for the individual namespaces. The informer for all namespaces
+     *                          uses the {@code *} key.
+     * @param metrics           Metrics holder for the cache metrics
+     */
+    public ResourceCache(String kind, String requiredLabel, Map<String, SharedIndexInformer<T>> informers, ResourceCacheMetricsHolder metrics) {
+        this.requiredLabel = requiredLabel;
+        this.informers = Map.copyOf(informers);
+        this.hits = metrics.hitsCounter(kind);
+        this.misses = metrics.missesCounter(kind);
+        this.conflicts = metrics.conflictsCounter(kind);
+        this.apiCallsSaved = metrics.apiCallsSavedCounter(kind);
+    }
+
+    /**
+     * Gets a copy of the resource from the cache.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Copy of the cached resource or null if the resource is not in the cache or the cache is not fresh for it.
+     *          When null is returned, the resource has to be read from the Kubernetes API server.
+     */
+    public T get(String namespace, String name) {
+        SharedIndexInformer<T> informer = syncedInformer(namespace);
+
+        if (informer != null) {
+            T cached = new Lister<>(informer.getIndexer(), namespace).get(name);
+
+            if (isFresh(namespace, name, cached) && cached != null) {
+                return Serialization.clone(cached);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Lists the resources matching the selector from the cache.
+     *
+     * @param namespace     Namespace of the resources
+     * @param selector      Selector of the resources
+     *
+     * @return  List with copies of the cached resources or null if the list cannot be served from the cache. When null
+     *          is returned, the resources have to be listed from the Kubernetes API server.
+     */
+    public List<T> list(String namespace, Labels selector) {
+        SharedIndexInformer<T> informer = syncedInformer(namespace);
+
+        if (informer == null
+                || AbstractNamespacedResourceOperator.ANY_NAMESPACE.equals(namespace)
+                || selector == null
+                || !selector.toMap().containsKey(requiredLabel)) {
+            return null;
+        }
+
+        Lister<T> lister = new Lister<>(informer.getIndexer(), namespace);
+        String prefix = namespace + "/";
+        for (String key : writes.keySet()) {
+            if (key.startsWith(prefix)) {
+                String name = key.substring(prefix.length());
+                if (!isFresh(namespace, name, lister.get(name))) {
+                    return null;
+                }
+            }
+        }
+
+        Map<String, String> selectorLabels = selector.toMap();
+        List<T> resources = new ArrayList<>();
+        for (T resource : lister.list()) {
+            Map<String, String> labels = resource.getMetadata().getLabels();
+
+            if (labels != null && labels.entrySet().containsAll(selectorLabels.entrySet())) {
+                resources.add(Serialization.clone(resource));
+            }
+        }
+
+        return resources;
+    }
+
+    /**
+     * Remembers a resource created or patched by the operator. The cache will not serve this resource until the
+     * informer gets its resource version or a newer one.
+     *
+     * @param resource  The resource returned by the Kubernetes API server
+     */
+    public void written(T resource) {
+        if (resource != null && resource.getMetadata() != null && resource.getMetadata().getResourceVersion() != null) {
+            writes.put(key(resource.getMetadata().getNamespace(), resource.getMetadata().getName()), resource.getMetadata().getResourceVersion());
+        }
+    }
+
+    /**
+     * Remembers a resource deleted by the operator. The cache will not serve this resource until the informer
+     * removes it.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     */
+    public void deleted(String namespace, String name) {
+        writes.put(key(namespace, name), DELETED);
+    }
+
+    /**
+     * Counts a read served from the cache
+     *
+     * @param saved     True if the read saved an API call. False if the API call might still be needed because the
+     *                  cached resource might cause a conflict.
+     */
+    void hit(boolean saved) {
+        hits.increment();
+        if (saved) {
+            apiCallsSaved.increment();
+        }
+    }
+
+    /**
+     * Counts a read which was sent to the Kubernetes API server
+     */
+    void miss() {
+        misses.increment();
+    }
+
+    /**
+     * Counts a reconciliation using a cached resource which had to be repeated with a live read
+     */
+    void conflict() {
+        conflicts.increment();
+    }
+
+    /**
+     * Counts a reconciliation using a cached resource which completed without conflicts
+     */
+    void saved() {
+        apiCallsSaved.increment();
+    }
+
+    private SharedIndexInformer<T> syncedInformer(String namespace) {
+        SharedIndexInformer<T> informer = informers.get(namespace);
+
+        if (informer == null) {
+            informer = informers.get(AbstractNamespacedResourceOperator.ANY_NAMESPACE);
+        }
+
+        return informer != null && informer.hasSynced() ? informer : null;
+    }
+
+    /**
+     * Checks whether the cache already contains the last change of the resource done by the operator.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param cached        The cached resource or null if it is not in the cache
+     *
+     * @return  True if the cached resource can be used. False otherwise.
+     */
+    private boolean isFresh(String namespace, String name, T cached) {
+        String key = key(namespace, name);
+        String written = writes.get(key);
+
+        if (written == null) {
+            return true;
+        } else if (DELETED.equals(written) ? cached == null : cached != null && isAtLeast(cached.getMetadata().getResourceVersion(), written)) {
+            // The informer caught up with the change => we do not need to remember it anymore
+            writes.remove(key, written);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Compares the resource versions. Kubernetes defines the resource versions as opaque strings. But in practice they
+     * are increasing numbers. When they are not numbers, only the same resource version is considered fresh.
+     *
+     * @param cachedVersion     Resource version of the cached resource
+     * @param writtenVersion    Resource version returned by the Kubernetes API server to the operator
+     *
+     * @return  True if the cached resource version is the same or newer than the written resource version
+     */
+    /* test */ static boolean isAtLeast(String cachedVersion, String writtenVersion) {
+        if (writtenVersion.equals(cachedVersion)) {
+            return true;
+        }
+
+        try {
+            return Long.parseLong(cachedVersion) >= Long.parseLong(writtenVersion);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+}
@@ -13,12 +13,12 @@ import io.fabric8.kubernetes.client.dsl.ServiceResource;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.model.JsonPathTrie;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
 import java.util.Map;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static io.strimzi.operator.common.Annotations.LOADBALANCER_ANNOTATION_IGNORELIST;
@@ -28,20 +28,20 @@ import static io.strimzi.operator.common.Annotations.LOADBALANCER_ANNOTATION_IGN
  */
 public class ServiceOperator extends AbstractNamespacedResourceOperator<KubernetesClient, Service, ServiceList, ServiceResource<Service>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ServiceOperator.class);
-    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/metadata/managedFields" +
-                    "|/metadata/creationTimestamp" +
-                    "|/metadata/deletionTimestamp" +
-                    "|/metadata/deletionGracePeriodSeconds" +
-                    "|/metadata/resourceVersion" +
-                    "|/metadata/generation" +
-                    "|/metadata/uid" +
-                    "|/spec/sessionAffinity" +
-                    "|/spec/clusterIP" +
-                    "|/spec/clusterIPs" +
-                    "|/spec/ipFamilies" + // Immutable field
-                    "|/spec/internalTrafficPolicy" + // Set by Kubernetes to Cluster as default (not configurable through Strimzi as it does nto seem to make much sense for us, so we ignore it)
-                    "|/status)$");
+    private static final JsonPathTrie IGNORABLE_PATHS = new JsonPathTrie(
+            "/metadata/managedFields",
+            "/metadata/creationTimestamp",
+            "/metadata/deletionTimestamp",
+            "/metadata/deletionGracePeriodSeconds",
+            "/metadata/resourceVersion",
+            "/metadata/generation",
+            "/metadata/uid",
+            "/spec/sessionAffinity",
+            "/spec/clusterIP",
+            "/spec/clusterIPs",
+            "/spec/ipFamilies", // Immutable field
+            "/spec/internalTrafficPolicy", // Set by Kubernetes to Cluster as default (not configurable through Strimzi as it does nto seem to make much sense for us, so we ignore it)
+            "/status");
 
     private final EndpointOperator endpointOperations;
     /**
@@ -61,9 +61,9 @@ public class ServiceOperator extends AbstractNamespacedResourceOperator<Kubernet
     }
 
     /**
-     * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
+     * @return  Returns the trie with the paths which can be ignored in the resource diff
      */
-    protected Pattern ignorablePaths() {
+    protected JsonPathTrie ignorablePaths() {
         return IGNORABLE_PATHS;
     }
 
@@ -13,6 +13,7 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.JsonPathTrie;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ResourceDiff;
 
@@ -20,7 +21,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
-import java.util.regex.Pattern;
 
 /**
  * Abstract resource creation, for a generic resource type {@code R}. This class
@@ -69,9 +69,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     }
 
     /**
-     * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
+     * @return  Returns the trie with the paths which can be ignored in the resource diff
      */
-    protected Pattern ignorablePaths() {
+    protected JsonPathTrie ignorablePaths() {
         return ResourceDiff.DEFAULT_IGNORABLE_PATHS;
     }
 
@@ -0,0 +1,54 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class InformerUtilsTest {
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStartAndTimeSync() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Timer timer = registry.timer("sync");
+        CompletableFuture<Void> started = new CompletableFuture<>();
+
+        SharedIndexInformer<Pod> informer = mock(SharedIndexInformer.class);
+        when(informer.start()).thenReturn(started);
+
+        CompletableFuture<Void> synced = InformerUtils.startAndTimeSync("Pod", informer, timer);
+        assertThat(synced.isDone(), is(false));
+        assertThat(timer.count(), is(0L));
+
+        started.complete(null);
+        assertThat(synced.isDone(), is(true));
+        assertThat(timer.count(), is(1L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStartAndTimeSyncFailure() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Timer timer = registry.timer("sync");
+
+        SharedIndexInformer<Pod> informer = mock(SharedIndexInformer.class);
+        when(informer.start()).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Failed")));
+
+        CompletableFuture<Void> synced = InformerUtils.startAndTimeSync("Pod", informer, timer);
+        assertThat(synced.isCompletedExceptionally(), is(true));
+        assertThat(timer.count(), is(0L));
+    }
+}
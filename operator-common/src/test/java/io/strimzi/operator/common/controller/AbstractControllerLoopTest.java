@@ -0,0 +1,164 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.test.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AbstractControllerLoopTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private ScheduledExecutorService scheduledExecutor;
+    private ControllerMetricsHolder metrics;
+    private ControllerQueue queue;
+
+    @BeforeEach
+    public void setup() {
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        metrics = new ControllerMetricsHolder("kind", Labels.EMPTY, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        queue = new ControllerQueue(10, metrics);
+    }
+
+    @AfterEach
+    public void teardown() {
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testAsyncLoopLimitsInFlightReconciliations() throws InterruptedException {
+        Semaphore inFlight = new Semaphore(2);
+        AsyncControllerLoop loop = new AsyncControllerLoop(inFlight);
+        loop.start();
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                queue.enqueue(new SimplifiedReconciliation("kind", NAMESPACE, "my-name-" + i, "watch"));
+            }
+
+            // A single loop thread starts the reconciliations without waiting for them to complete
+            TestUtils.waitFor("Reconciliations to start", 10, 1_000, () -> loop.started.size() == 2);
+            Thread.sleep(100);
+            assertThat(loop.started.size(), is(2));
+            assertThat(queue.size(), is(2));
+
+            // Completing a reconciliation frees the permit for the next one
+            loop.results.get(0).complete(null);
+            TestUtils.waitFor("Next reconciliation to start", 10, 1_000, () -> loop.started.size() == 3);
+
+            loop.results.get(1).complete(null);
+            loop.results.get(2).complete(null);
+            TestUtils.waitFor("Last reconciliation to start", 10, 1_000, () -> loop.started.size() == 4);
+            loop.results.get(3).completeExceptionally(new RuntimeException("Failed"));
+
+            TestUtils.waitFor("Reconciliations to complete", 10, 1_000, () -> metrics.reconciliationsTimer(NAMESPACE).count() == 4L);
+            assertThat(metrics.reconciliationsCounter(NAMESPACE).count(), is(4.0));
+            // The loop holds one permit while it waits for the next event
+            assertThat(inFlight.availablePermits(), is(1));
+        } finally {
+            loop.stop();
+        }
+    }
+
+    @Test
+    public void testAsyncLoopKeepsResourcesLocked() throws InterruptedException {
+        AsyncControllerLoop loop = new AsyncControllerLoop(new Semaphore(10));
+        loop.start();
+
+        try {
+            queue.enqueue(new SimplifiedReconciliation("kind", NAMESPACE, "my-name", "watch"));
+            TestUtils.waitFor("Reconciliation to start", 10, 1_000, () -> loop.started.size() == 1);
+
+            // The same resource cannot be reconciled while its previous reconciliation is in progress
+            queue.enqueue(new SimplifiedReconciliation("kind", NAMESPACE, "my-name", "watch"));
+            TestUtils.waitFor("Reconciliation to be re-queued", 10, 5_000, () -> metrics.lockedReconciliationsCounter(NAMESPACE).count() >= 1.0);
+            assertThat(loop.started.size(), is(1));
+
+            // Once it completes, the re-queued reconciliation proceeds
+            loop.results.get(0).complete(null);
+            TestUtils.waitFor("Second reconciliation to start", 10, 5_000, () -> loop.started.size() == 2);
+            loop.results.get(1).complete(null);
+        } finally {
+            loop.stop();
+        }
+    }
+
+    @Test
+    public void testAsyncLoopDoesNotWaitForLockedResources() throws InterruptedException {
+        AsyncControllerLoop loop = new AsyncControllerLoop(new Semaphore(10));
+        loop.start();
+
+        try {
+            queue.enqueue(new SimplifiedReconciliation("kind", NAMESPACE, "my-name", "watch"));
+            TestUtils.waitFor("Reconciliation to start", 10, 1_000, () -> loop.started.size() == 1);
+
+            // The locked resource is re-queued without holding the loop thread, so the next resource starts right away
+            long startNs = System.nanoTime();
+            queue.enqueue(new SimplifiedReconciliation("kind", NAMESPACE, "my-name", "watch"));
+            queue.enqueue(new SimplifiedReconciliation("kind", NAMESPACE, "my-other-name", "watch"));
+            TestUtils.waitFor("Other reconciliation to start", 10, 1_000, () -> loop.started.size() == 2);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs) < 500, is(true));
+            assertThat(loop.started.get(1), is("my-other-name"));
+
+            // The locked resource keeps being re-queued with a delay until its previous reconciliation completes
+            Thread.sleep(AbstractControllerLoop.LOCKED_REQUEUE_DELAY_MS * 3);
+            assertThat(loop.started.size(), is(2));
+            assertThat(metrics.lockedReconciliationsCounter(NAMESPACE).count() <= 5.0, is(true));
+
+            loop.results.get(0).complete(null);
+            TestUtils.waitFor("Re-queued reconciliation to start", 10, 1_000, () -> loop.started.size() == 3);
+            assertThat(loop.started.get(2), is("my-name"));
+            loop.results.get(1).complete(null);
+            loop.results.get(2).complete(null);
+        } finally {
+            loop.stop();
+        }
+    }
+
+    class AsyncControllerLoop extends AbstractControllerLoop {
+        final List<String> started = new CopyOnWriteArrayList<>();
+        final List<CompletableFuture<Void>> results = new CopyOnWriteArrayList<>();
+
+        AsyncControllerLoop(Semaphore inFlight) {
+            super("AsyncControllerLoop", queue, new ReconciliationLockManager(), scheduledExecutor, inFlight);
+        }
+
+        @Override
+        protected void reconcile(Reconciliation reconciliation) {
+            throw new UnsupportedOperationException("The synchronous reconciliation should not be used");
+        }
+
+        @Override
+        protected CompletionStage<Void> reconcileAsync(Reconciliation reconciliation) {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            results.add(result);
+            started.add(reconciliation.name());
+            return result;
+        }
+
+        @Override
+        protected ControllerMetricsHolder metrics() {
+            return metrics;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the KeyedWorkQueue with the number of queued keys seen after an informer resync of a large cluster. The
+ * {@code enqueueAndDrain} benchmark enqueues all keys into an empty queue and takes them out again. The
+ * {@code resyncDuplicates} benchmark offers all keys again to a queue which already contains them, which is what
+ * happens when the resync events arrive faster than the controller loop reconciles them.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=io.strimzi.operator.common.controller.KeyedWorkQueueBenchmark}
+ * from the operator-common directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class KeyedWorkQueueBenchmark {
+    @Param({"10000", "50000", "100000"})
+    public int keys;
+
+    private SimplifiedReconciliation[] reconciliations;
+    private KeyedWorkQueue<SimplifiedReconciliation> fullQueue;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        reconciliations = new SimplifiedReconciliation[keys];
+        fullQueue = new KeyedWorkQueue<>(keys);
+
+        for (int i = 0; i < keys; i++) {
+            reconciliations[i] = new SimplifiedReconciliation("KafkaUser", "namespace-" + (i % 10), "user-" + i, "timer");
+            fullQueue.offer(reconciliations[i]);
+        }
+    }
+
+    /**
+     * Enqueues all keys into an empty queue and drains it
+     *
+     * @param blackhole     Blackhole consuming the taken keys
+     *
+     * @throws InterruptedException When interrupted while taking the keys
+     */
+    @Benchmark
+    public void enqueueAndDrain(Blackhole blackhole) throws InterruptedException {
+        KeyedWorkQueue<SimplifiedReconciliation> queue = new KeyedWorkQueue<>(keys);
+
+        for (SimplifiedReconciliation reconciliation : reconciliations) {
+            blackhole.consume(queue.offer(reconciliation));
+        }
+
+        for (int i = 0; i < keys; i++) {
+            blackhole.consume(queue.take());
+        }
+    }
+
+    /**
+     * Offers all keys to a queue which already contains them
+     *
+     * @param blackhole     Blackhole consuming the offer results
+     */
+    @Benchmark
+    public void resyncDuplicates(Blackhole blackhole) {
+        for (SimplifiedReconciliation reconciliation : reconciliations) {
+            blackhole.consume(fullQueue.offer(reconciliation));
+        }
+    }
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args  Command line arguments (ignored)
+     *
+     * @throws RunnerException  When the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(KeyedWorkQueueBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class KeyedWorkQueueTest {
+    @Test
+    public void testFifoOrder() throws InterruptedException {
+        KeyedWorkQueue<String> q = new KeyedWorkQueue<>(10);
+
+        assertThat(q.offer("a"), is(KeyedWorkQueue.OfferResult.ENQUEUED));
+        assertThat(q.offer("b"), is(KeyedWorkQueue.OfferResult.ENQUEUED));
+        assertThat(q.offer("c"), is(KeyedWorkQueue.OfferResult.ENQUEUED));
+        assertThat(q.size(), is(3));
+
+        assertThat(q.take(), is("a"));
+        assertThat(q.take(), is("b"));
+        assertThat(q.take(), is("c"));
+        assertThat(q.size(), is(0));
+    }
+
+    @Test
+    public void testDuplicatesKeepOriginalPosition() throws InterruptedException {
+        KeyedWorkQueue<String> q = new KeyedWorkQueue<>(10);
+
+        q.offer("a");
+        q.offer("b");
+        assertThat(q.offer("a"), is(KeyedWorkQueue.OfferResult.ALREADY_ENQUEUED));
+        assertThat(q.size(), is(2));
+        assertThat(q.contains("a"), is(true));
+
+        assertThat(q.take(), is("a"));
+        assertThat(q.contains("a"), is(false));
+
+        // Once taken, the key can be enqueued again
+        assertThat(q.offer("a"), is(KeyedWorkQueue.OfferResult.ENQUEUED));
+        assertThat(q.take(), is("b"));
+        assertThat(q.take(), is("a"));
+    }
+
+    @Test
+    public void testFullQueue() {
+        KeyedWorkQueue<String> q = new KeyedWorkQueue<>(2);
+
+        q.offer("a");
+        q.offer("b");
+        assertThat(q.offer("c"), is(KeyedWorkQueue.OfferResult.FULL));
+        // Duplicates are reported as duplicates even when the queue is full
+        assertThat(q.offer("a"), is(KeyedWorkQueue.OfferResult.ALREADY_ENQUEUED));
+        assertThat(q.size(), is(2));
+        assertThat(q.contains("c"), is(false));
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new KeyedWorkQueue<String>(0));
+    }
+
+    @Test
+    public void testTakeBlocksUntilOffer() throws Exception {
+        KeyedWorkQueue<String> q = new KeyedWorkQueue<>(10);
+
+        CompletableFuture<String> taken = CompletableFuture.supplyAsync(() -> {
+            try {
+                return q.take();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        Thread.sleep(100);
+        assertThat(taken.isDone(), is(false));
+
+        q.offer("a");
+        assertThat(taken.get(5, TimeUnit.SECONDS), is("a"));
+        assertThat(q.size(), is(0));
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -103,4 +104,21 @@ public class ReconciliationLockManagerTest {
 
         assertThat(lockMan.locks.size(), is(0)); // Should be empty at the end
     }
+
+    // Same key, unlocked by a different thread (e.g. when an asynchronous reconciliation completes)
+    @Test
+    public void testUnlockFromDifferentThread() throws InterruptedException, ExecutionException {
+        ReconciliationLockManager lockMan = new ReconciliationLockManager();
+
+        assertThat(lockMan.tryLock("my-lock", 10, TimeUnit.MILLISECONDS), is(true));
+        assertThat(lockMan.tryLock("my-lock", 10, TimeUnit.MILLISECONDS), is(false));
+
+        CompletableFuture.runAsync(() -> lockMan.unlock("my-lock")).get();
+        assertThat(lockMan.locks.size(), is(0));
+
+        assertThat(lockMan.tryLock("my-lock", 10, TimeUnit.MILLISECONDS), is(true));
+        lockMan.unlock("my-lock");
+
+        assertThat(lockMan.locks.size(), is(0)); // Should be empty at the end
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ExpiringDigestsTest {
+    private static final long INTERVAL_MS = 1_000L;
+
+    @Test
+    public void testDigestExpiresWithinInterval()   {
+        ExpiringDigests<String, Integer> digests = new ExpiringDigests<>(INTERVAL_MS);
+        digests.put("my-resource", 42, 0L);
+
+        assertThat(digests.getUnexpired("my-resource", INTERVAL_MS / 2 - 1), is(42));
+        assertThat(digests.getUnexpired("my-resource", INTERVAL_MS), is(nullValue()));
+        // The expired digest is still available
+        assertThat(digests.get("my-resource"), is(42));
+        assertThat(digests.getUnexpired("other-resource", 0L), is(nullValue()));
+    }
+
+    @Test
+    public void testRemove()   {
+        ExpiringDigests<String, Integer> digests = new ExpiringDigests<>(INTERVAL_MS);
+        digests.put("my-resource", 42, 0L);
+        digests.put("other-resource", 43, 0L);
+
+        digests.remove("my-resource");
+
+        assertThat(digests.get("my-resource"), is(nullValue()));
+        assertThat(digests.get("other-resource"), is(43));
+        assertThat(digests.size(), is(1));
+    }
+
+    @Test
+    public void testDisabled()   {
+        ExpiringDigests<String, Integer> digests = new ExpiringDigests<>(0L);
+        digests.put("my-resource", 42, 0L);
+
+        assertThat(digests.isEnabled(), is(false));
+        assertThat(digests.get("my-resource"), is(nullValue()));
+        assertThat(digests.size(), is(0));
+    }
+}
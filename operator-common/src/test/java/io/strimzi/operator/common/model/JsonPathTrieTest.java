@@ -0,0 +1,106 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class JsonPathTrieTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void testIgnoredPaths() {
+        JsonPathTrie trie = new JsonPathTrie("/metadata/managedFields", "/metadata/annotations/pv.kubernetes.io~1*", "/status");
+
+        assertThat(trie.isIgnored("/status"), is(true));
+        assertThat(trie.isIgnored("/status/conditions/0/type"), is(true));
+        assertThat(trie.isIgnored("/metadata/managedFields/0"), is(true));
+        assertThat(trie.isIgnored("/metadata/annotations/pv.kubernetes.io~1bind-completed"), is(true));
+
+        assertThat(trie.isIgnored(""), is(false));
+        assertThat(trie.isIgnored("/metadata"), is(false));
+        assertThat(trie.isIgnored("/metadata/name"), is(false));
+        assertThat(trie.isIgnored("/metadata/annotations/pv.kubernetes.io"), is(false));
+        assertThat(trie.isIgnored("/metadata/annotations/strimzi.io~1pv.kubernetes.io~1bind-completed"), is(false));
+        assertThat(trie.isIgnored("/statuses"), is(false));
+        assertThat(trie.isIgnored("/spec/status"), is(false));
+
+        assertThat(new JsonPathTrie().isIgnored("/status"), is(false));
+        assertThat(new JsonPathTrie("").isIgnored("/status"), is(true));
+    }
+
+    @Test
+    public void testWildcards() {
+        JsonPathTrie trie = new JsonPathTrie("/conditions/*/lastTransitionTime", "/conditions/0/message", "/items/*", "/items/1/name");
+
+        assertThat(trie.isIgnored("/conditions/0/lastTransitionTime"), is(true));
+        assertThat(trie.isIgnored("/conditions/5/lastTransitionTime"), is(true));
+        // The exact segment contains also the subtree of the wildcard
+        assertThat(trie.isIgnored("/conditions/0/message"), is(true));
+        assertThat(trie.isIgnored("/conditions/1/message"), is(false));
+        assertThat(trie.isIgnored("/conditions/0/type"), is(false));
+        assertThat(trie.isIgnored("/items/1/value"), is(true));
+
+        JsonPathTrie.Node conditions = trie.root().child("conditions");
+        assertThat(conditions.child(3).child("lastTransitionTime").isIgnored(), is(true));
+        assertThat(conditions.child(3).child("type"), is(nullValue()));
+        assertThat(conditions.child(0).child("message").isIgnored(), is(true));
+        assertThat(trie.root().child("spec"), is(nullValue()));
+    }
+
+    @Test
+    public void testOverlappingPrefixes() {
+        JsonPathTrie trie = new JsonPathTrie("/annotations/strimzi.io~1*/a", "/annotations/strimzi.io~1kafka*/b", "/annotations/*/c");
+
+        assertThat(trie.isIgnored("/annotations/strimzi.io~1kafka-version/a"), is(true));
+        assertThat(trie.isIgnored("/annotations/strimzi.io~1kafka-version/b"), is(true));
+        assertThat(trie.isIgnored("/annotations/strimzi.io~1kafka-version/c"), is(true));
+        assertThat(trie.isIgnored("/annotations/strimzi.io~1revision/a"), is(true));
+        assertThat(trie.isIgnored("/annotations/strimzi.io~1revision/b"), is(false));
+        assertThat(trie.isIgnored("/annotations/strimzi.io~1revision/c"), is(true));
+        assertThat(trie.isIgnored("/annotations/other/a"), is(false));
+        assertThat(trie.isIgnored("/annotations/other/c"), is(true));
+    }
+
+    @Test
+    public void testInvalidPath() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new JsonPathTrie("metadata/managedFields"));
+    }
+
+    @Test
+    public void testFirstDifference() throws JsonProcessingException {
+        JsonPathTrie trie = new JsonPathTrie("/metadata/resourceVersion", "/metadata/annotations/pv.kubernetes.io~1*", "/status", "/spec/items/*/time");
+
+        JsonNode current = MAPPER.readTree("{\"metadata\": {\"name\": \"foo\", \"resourceVersion\": \"1\", \"annotations\": {\"pv.kubernetes.io/bound\": \"yes\", \"a/b\": \"c\"}}, "
+                + "\"spec\": {\"items\": [{\"name\": \"a\", \"time\": 1}, {\"name\": \"b\", \"time\": 2}]}, \"status\": {\"ready\": true}}");
+
+        assertThat(AbstractJsonDiff.firstDifference(current, current.deepCopy(), trie), is(nullValue()));
+
+        // Ignored differences only
+        assertThat(AbstractJsonDiff.firstDifference(current, MAPPER.readTree("{\"metadata\": {\"name\": \"foo\", \"resourceVersion\": \"2\", \"annotations\": {\"a/b\": \"c\"}}, "
+                + "\"spec\": {\"items\": [{\"name\": \"a\", \"time\": 3}, {\"name\": \"b\"}]}, \"status\": {\"ready\": false}}"), trie), is(nullValue()));
+
+        // Changed, added and removed values
+        assertThat(AbstractJsonDiff.firstDifference(current, MAPPER.readTree("{\"metadata\": {\"name\": \"bar\", \"resourceVersion\": \"1\", \"annotations\": {\"a/b\": \"c\"}}, "
+                + "\"spec\": {\"items\": [{\"name\": \"a\", \"time\": 1}, {\"name\": \"b\", \"time\": 2}]}}"), trie), is("/metadata/name"));
+        assertThat(AbstractJsonDiff.firstDifference(current, MAPPER.readTree("{\"metadata\": {\"name\": \"foo\", \"annotations\": {\"a/b\": \"d\"}}, "
+                + "\"spec\": {\"items\": [{\"name\": \"a\", \"time\": 1}, {\"name\": \"b\", \"time\": 2}]}}"), trie), is("/metadata/annotations/a~1b"));
+        assertThat(AbstractJsonDiff.firstDifference(current, MAPPER.readTree("{\"metadata\": {\"name\": \"foo\", \"annotations\": {\"a/b\": \"c\"}}, "
+                + "\"spec\": {\"items\": [{\"name\": \"a\", \"time\": 1}, {\"name\": \"b\", \"time\": 2}, {\"name\": \"c\"}]}}"), trie), is("/spec/items/2"));
+        assertThat(AbstractJsonDiff.firstDifference(current, MAPPER.readTree("{\"metadata\": {\"name\": \"foo\", \"annotations\": {\"a/b\": \"c\"}}, "
+                + "\"spec\": {\"items\": [{\"name\": \"a\", \"time\": 1}]}}"), trie), is("/spec/items/1"));
+        assertThat(AbstractJsonDiff.firstDifference(current, MAPPER.readTree("{\"metadata\": {\"name\": \"foo\", \"annotations\": {\"a/b\": \"c\"}}, "
+                + "\"spec\": {\"items\": [{\"name\": \"a\", \"time\": 1}, {\"name\": \"b\", \"time\": 2}], \"replicas\": 3}}"), trie), is("/spec/replicas"));
+        assertThat(AbstractJsonDiff.firstDifference(current, MAPPER.readTree("{\"metadata\": {\"name\": \"foo\", \"annotations\": {\"a/b\": \"c\"}}, "
+                + "\"spec\": {\"items\": {\"name\": \"a\"}}}"), trie), is("/spec/items"));
+    }
+}
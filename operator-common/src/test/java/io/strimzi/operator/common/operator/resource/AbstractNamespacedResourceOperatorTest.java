@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.GracePeriodConfigurable;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.Deletable;
@@ -16,6 +17,7 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.ServerSideApplicable;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Vertx;
@@ -186,6 +188,228 @@ public abstract class AbstractNamespacedResourceOperatorTest<C extends Kubernete
         })));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCachedReconcileDoesNotGetTheResource(VertxTestContext context) {
+        T resource = resource();
+        T modified = modifiedResource();
+        modified.getMetadata().setResourceVersion("2");
+        Resource mockResource = mock(resourceType());
+        when(mockResource.patch(any(), (T) any())).thenReturn(modified);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        ResourceCache<T> mockCache = mock(ResourceCache.class);
+        when(mockCache.get(NAMESPACE, RESOURCE_NAME)).thenReturn(resource());
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.setCache(mockCache);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, modified).onComplete(context.succeeding(rr -> context.verify(() -> {
+            verify(mockResource, never()).get();
+            verify(mockResource).patch(any(), (T) any());
+            verify(mockCache).hit(false);
+            verify(mockCache).saved();
+            verify(mockCache).written(modified);
+            async.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCachedReconcileRetriesWithLiveReadOnConflict(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(null);
+        when(mockResource.patch(any(), (T) any())).thenThrow(new KubernetesClientException("Not found", 404, null));
+        when(mockResource.create()).thenReturn(resource);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        when(mockNameable.resource(any())).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        ResourceCache<T> mockCache = mock(ResourceCache.class);
+        when(mockCache.get(NAMESPACE, RESOURCE_NAME)).thenReturn(resource());
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperationsWithMockedReadiness(vertx, mockClient);
+        op.setCache(mockCache);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, modifiedResource()).onComplete(context.succeeding(rr -> context.verify(() -> {
+            verify(mockResource).get();
+            verify(mockResource).create();
+            verify(mockCache).hit(false);
+            verify(mockCache).conflict();
+            verify(mockCache, never()).saved();
+            verify(mockCache).written(resource);
+            async.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testServerSideApplyReadsTheResourceWithoutCache(VertxTestContext context) {
+        T current = resource();
+        current.getMetadata().setResourceVersion("1");
+        T applied = modifiedResource();
+        applied.getMetadata().setResourceVersion("2");
+        ServerSideApplicable<T> mockApplicable = mock(ServerSideApplicable.class);
+        when(mockApplicable.forceConflicts()).thenReturn(mockApplicable);
+        when(mockApplicable.serverSideApply()).thenReturn(applied);
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(current);
+        when(mockResource.fieldManager(any())).thenReturn(mockApplicable);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(current.getMetadata().getName()))).thenReturn(mockResource);
+        when(mockNameable.resource(any())).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(current.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.setServerSideApply(true);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, modifiedResource()).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr instanceof ReconcileResult.Patched, is(true));
+            verify(mockResource).get();
+            verify(mockResource, never()).patch(any(), any());
+            verify(mockResource, never()).create();
+            verify(mockResource).fieldManager(AbstractNamespacedResourceOperator.FIELD_MANAGER);
+            verify(mockApplicable).forceConflicts();
+            verify(mockApplicable).serverSideApply();
+            async.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testServerSideApplyCreatesTheResource(VertxTestContext context) {
+        T resource = resource();
+        ServerSideApplicable<T> mockApplicable = mock(ServerSideApplicable.class);
+        when(mockApplicable.forceConflicts()).thenReturn(mockApplicable);
+        when(mockApplicable.serverSideApply()).thenReturn(resource);
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(null);
+        when(mockResource.fieldManager(any())).thenReturn(mockApplicable);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        when(mockNameable.resource(any())).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.setServerSideApply(true);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, resource()).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr instanceof ReconcileResult.Created, is(true));
+            verify(mockResource, never()).create();
+            verify(mockApplicable).serverSideApply();
+            async.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testServerSideApplyWithoutCacheDetectsNoop(VertxTestContext context) {
+        T resource = resource();
+        resource.getMetadata().setResourceVersion("1");
+        ServerSideApplicable<T> mockApplicable = mock(ServerSideApplicable.class);
+        when(mockApplicable.forceConflicts()).thenReturn(mockApplicable);
+        when(mockApplicable.serverSideApply()).thenReturn(resource);
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.fieldManager(any())).thenReturn(mockApplicable);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        when(mockNameable.resource(any())).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.setServerSideApply(true);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, modifiedResource()).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr instanceof ReconcileResult.Noop, is(true));
+            verify(mockResource).get();
+            verify(mockApplicable).serverSideApply();
+            async.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testServerSideApplyWithCachedResourceDetectsNoop(VertxTestContext context) {
+        T resource = resource();
+        resource.getMetadata().setResourceVersion("1");
+        ServerSideApplicable<T> mockApplicable = mock(ServerSideApplicable.class);
+        when(mockApplicable.forceConflicts()).thenReturn(mockApplicable);
+        when(mockApplicable.serverSideApply()).thenReturn(resource);
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.fieldManager(any())).thenReturn(mockApplicable);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        when(mockNameable.resource(any())).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        ResourceCache<T> mockCache = mock(ResourceCache.class);
+        when(mockCache.get(NAMESPACE, RESOURCE_NAME)).thenReturn(resource);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.setCache(mockCache);
+        op.setServerSideApply(true);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, modifiedResource()).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr instanceof ReconcileResult.Noop, is(true));
+            verify(mockResource, never()).get();
+            verify(mockApplicable).serverSideApply();
+            verify(mockCache).hit(true);
+            verify(mockCache, never()).written(any());
+            async.flag();
+        })));
+    }
+
     @Test
     public void testExistenceCheckThrows(VertxTestContext context) {
         T resource = resource();
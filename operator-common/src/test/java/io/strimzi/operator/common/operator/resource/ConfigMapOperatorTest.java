@@ -9,10 +9,21 @@ import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.ConfigMapList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
 
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ConfigMapOperatorTest extends AbstractNamespacedResourceOperatorTest<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> {
@@ -55,4 +66,35 @@ public class ConfigMapOperatorTest extends AbstractNamespacedResourceOperatorTes
                 .withData(singletonMap("FOO", "BAR2"))
                 .build();
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testServerSideApplySkipsEqualConfigMap(VertxTestContext context) {
+        ConfigMap current = resource();
+        current.getMetadata().setResourceVersion("1");
+
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(current);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(RESOURCE_NAME)).thenReturn(mockResource);
+        when(mockNameable.resource(any())).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(NAMESPACE)).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockCms);
+
+        ConfigMapOperator op = new ConfigMapOperator(vertx, mockClient);
+        op.setServerSideApply(true);
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, resource()).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr instanceof ReconcileResult.Noop, is(true));
+            assertThat(rr.resource(), is(current));
+            verify(mockResource, never()).fieldManager(any());
+            async.flag();
+        })));
+    }
 }
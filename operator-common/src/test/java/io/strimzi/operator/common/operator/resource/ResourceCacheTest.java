@@ -0,0 +1,171 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.metrics.ResourceCacheMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private final Map<String, ConfigMap> store = new ConcurrentHashMap<>();
+    private SharedIndexInformer<ConfigMap> informer;
+    private MeterRegistry registry;
+    private ResourceCache<ConfigMap> cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        store.clear();
+
+        Indexer<ConfigMap> indexer = mock(Indexer.class);
+        when(indexer.getByKey(any())).thenAnswer(i -> store.get(i.getArgument(0, String.class)));
+        when(indexer.byIndex(eq("namespace"), any())).thenAnswer(i -> store.values().stream()
+                .filter(cm -> i.getArgument(1, String.class).equals(cm.getMetadata().getNamespace()))
+                .collect(Collectors.toList()));
+
+        informer = mock(SharedIndexInformer.class);
+        when(informer.getIndexer()).thenReturn(indexer);
+        when(informer.hasSynced()).thenReturn(true);
+
+        registry = new SimpleMeterRegistry();
+        cache = new ResourceCache<>("ConfigMap", Labels.STRIMZI_CLUSTER_LABEL, Map.of(NAMESPACE, informer),
+                new ResourceCacheMetricsHolder(new MicrometerMetricsProvider(registry)));
+    }
+
+    private void inform(String name, String cluster, String resourceVersion) {
+        store.put(NAMESPACE + "/" + name, configMap(name, cluster, resourceVersion));
+    }
+
+    private static ConfigMap configMap(String name, String cluster, String resourceVersion) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion(resourceVersion)
+                    .withLabels(Map.of(Labels.STRIMZI_CLUSTER_LABEL, cluster, Labels.STRIMZI_KIND_LABEL, "Kafka"))
+                .endMetadata()
+                .withData(Map.of("key", "value"))
+                .build();
+    }
+
+    @Test
+    public void testGet() {
+        inform("my-cm", "my-cluster", "1");
+
+        ConfigMap cm = cache.get(NAMESPACE, "my-cm");
+        assertThat(cm.getMetadata().getName(), is("my-cm"));
+        // The cache returns copies
+        assertThat(cm, is(not(sameInstance(store.get(NAMESPACE + "/my-cm")))));
+        cm.getData().put("key", "changed");
+        assertThat(store.get(NAMESPACE + "/my-cm").getData().get("key"), is("value"));
+
+        assertThat(cache.get(NAMESPACE, "other-cm"), is(nullValue()));
+        assertThat(cache.get("other-namespace", "my-cm"), is(nullValue()));
+    }
+
+    @Test
+    public void testNotSynced() {
+        inform("my-cm", "my-cluster", "1");
+        when(informer.hasSynced()).thenReturn(false);
+
+        assertThat(cache.get(NAMESPACE, "my-cm"), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster("my-cluster")), is(nullValue()));
+    }
+
+    @Test
+    public void testWrittenResourceIsNotServedUntilInformed() {
+        inform("my-cm", "my-cluster", "1");
+
+        cache.written(configMap("my-cm", "my-cluster", "5"));
+        assertThat(cache.get(NAMESPACE, "my-cm"), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster("my-cluster")), is(nullValue()));
+
+        inform("my-cm", "my-cluster", "6");
+        assertThat(cache.get(NAMESPACE, "my-cm").getMetadata().getResourceVersion(), is("6"));
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster("my-cluster")).size(), is(1));
+    }
+
+    @Test
+    public void testDeletedResourceIsNotServedUntilInformed() {
+        inform("my-cm", "my-cluster", "1");
+        inform("my-cm2", "my-cluster", "1");
+
+        cache.deleted(NAMESPACE, "my-cm");
+        assertThat(cache.get(NAMESPACE, "my-cm"), is(nullValue()));
+        assertThat(cache.get(NAMESPACE, "my-cm2").getMetadata().getName(), is("my-cm2"));
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster("my-cluster")), is(nullValue()));
+
+        store.remove(NAMESPACE + "/my-cm");
+        List<ConfigMap> cms = cache.list(NAMESPACE, Labels.forStrimziCluster("my-cluster"));
+        assertThat(cms.stream().map(cm -> cm.getMetadata().getName()).toList(), containsInAnyOrder("my-cm2"));
+    }
+
+    @Test
+    public void testList() {
+        inform("my-cm", "my-cluster", "1");
+        inform("my-cm2", "my-cluster", "1");
+        inform("other-cm", "other-cluster", "1");
+
+        List<ConfigMap> cms = cache.list(NAMESPACE, Labels.forStrimziCluster("my-cluster").withStrimziKind("Kafka"));
+        assertThat(cms.stream().map(cm -> cm.getMetadata().getName()).toList(), containsInAnyOrder("my-cm", "my-cm2"));
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster("my-cluster").withStrimziKind("KafkaConnect")).size(), is(0));
+
+        // Lists without the required label or across all namespaces might include resources which are not cached
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziKind("Kafka")), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, null), is(nullValue()));
+        assertThat(cache.list(AbstractNamespacedResourceOperator.ANY_NAMESPACE, Labels.forStrimziCluster("my-cluster")), is(nullValue()));
+    }
+
+    @Test
+    public void testMetrics() {
+        cache.hit(true);
+        cache.hit(false);
+        cache.miss();
+        cache.conflict();
+        cache.saved();
+
+        assertThat(registry.get("strimzi.resource.cache.hits").tag("kind", "ConfigMap").counter().count(), is(2.0));
+        assertThat(registry.get("strimzi.resource.cache.misses").tag("kind", "ConfigMap").counter().count(), is(1.0));
+        assertThat(registry.get("strimzi.resource.cache.conflicts").tag("kind", "ConfigMap").counter().count(), is(1.0));
+        assertThat(registry.get("strimzi.resource.cache.api.calls.saved").tag("kind", "ConfigMap").counter().count(), is(2.0));
+    }
+
+    @Test
+    public void testIsAtLeast() {
+        assertThat(ResourceCache.isAtLeast("5", "5"), is(true));
+        assertThat(ResourceCache.isAtLeast("6", "5"), is(true));
+        assertThat(ResourceCache.isAtLeast("10", "9"), is(true));
+        assertThat(ResourceCache.isAtLeast("4", "5"), is(false));
+        assertThat(ResourceCache.isAtLeast("abc", "abc"), is(true));
+        assertThat(ResourceCache.isAtLeast("abd", "abc"), is(false));
+        assertThat(ResourceCache.isAtLeast(null, "5"), is(false));
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.EnvVarBuilder;
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.VolumeBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.strimzi.api.kafka.model.common.Condition;
+import io.strimzi.api.kafka.model.common.ConditionBuilder;
+import io.strimzi.api.kafka.model.kafka.KafkaStatus;
+import io.strimzi.api.kafka.model.kafka.KafkaStatusBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.ListenerAddressBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.ListenerStatusBuilder;
+import io.strimzi.api.kafka.model.podset.StrimziPodSet;
+import io.strimzi.api.kafka.model.podset.StrimziPodSetBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.StatusDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the diff of the current and desired resources done in every reconciliation of a managed resource. The
+ * current resources contain the fields set by Kubernetes (managed fields, resource version, UID, status etc.), so the
+ * diff of an unchanged resource has to walk the whole resource to find out that all differences are ignorable. The
+ * {@code podSet} benchmarks use a StrimziPodSet with the given number of broker pods, the {@code service} benchmarks
+ * use a typical Kafka bootstrap service. The {@code changed} variants diff resources which differ in the last pod or
+ * in the service ports. The {@code status} benchmark diffs two Kafka statuses which differ only in the last transition
+ * time of their conditions.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=io.strimzi.operator.common.operator.resource.ResourceDiffBenchmark}
+ * from the operator-common directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResourceDiffBenchmark {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-cluster-kafka";
+
+    @Param({"3", "100"})
+    public int pods;
+
+    private ServiceOperator serviceOperator;
+    private StrimziPodSet currentPodSet;
+    private StrimziPodSet desiredPodSet;
+    private StrimziPodSet changedPodSet;
+    private Service currentService;
+    private Service desiredService;
+    private Service changedService;
+    private KafkaStatus currentStatus;
+    private KafkaStatus desiredStatus;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        serviceOperator = new ServiceOperator(null, null);
+
+        List<Map<String, Object>> podMaps = new ArrayList<>(pods);
+        List<Map<String, Object>> changedPodMaps = new ArrayList<>(pods);
+        for (int i = 0; i < pods; i++) {
+            podMaps.add(Serialization.jsonMapper().convertValue(pod(i, "quay.io/strimzi/kafka:latest"), new TypeReference<>() { }));
+            changedPodMaps.add(Serialization.jsonMapper().convertValue(pod(i, i == pods - 1 ? "quay.io/strimzi/kafka:next" : "quay.io/strimzi/kafka:latest"), new TypeReference<>() { }));
+        }
+
+        desiredPodSet = new StrimziPodSetBuilder()
+                .withMetadata(metadata())
+                .withNewSpec()
+                    .withSelector(new LabelSelectorBuilder()
+                            .withMatchLabels(Map.of("strimzi.io/cluster", "my-cluster", "strimzi.io/name", NAME))
+                            .build())
+                    .withPods(podMaps)
+                .endSpec()
+                .build();
+        currentPodSet = new StrimziPodSetBuilder(desiredPodSet)
+                .withMetadata(serverMetadata())
+                .withNewStatus()
+                    .withObservedGeneration(3L)
+                    .withPods(pods)
+                    .withReadyPods(pods)
+                    .withCurrentPods(pods)
+                .endStatus()
+                .build();
+        changedPodSet = new StrimziPodSetBuilder(desiredPodSet)
+                .editSpec()
+                    .withPods(changedPodMaps)
+                .endSpec()
+                .build();
+
+        desiredService = new ServiceBuilder()
+                .withMetadata(metadata())
+                .withNewSpec()
+                    .withType("ClusterIP")
+                    .withSelector(Map.of("strimzi.io/cluster", "my-cluster", "strimzi.io/kind", "Kafka", "strimzi.io/name", NAME))
+                    .addNewPort().withName("tcp-replication").withProtocol("TCP").withPort(9091).withNewTargetPort(9091).endPort()
+                    .addNewPort().withName("tcp-clients").withProtocol("TCP").withPort(9092).withNewTargetPort(9092).endPort()
+                    .addNewPort().withName("tcp-clientstls").withProtocol("TCP").withPort(9093).withNewTargetPort(9093).endPort()
+                    .withIpFamilyPolicy("SingleStack")
+                .endSpec()
+                .build();
+        currentService = new ServiceBuilder(desiredService)
+                .withMetadata(serverMetadata())
+                .editSpec()
+                    .withClusterIP("10.96.12.34")
+                    .withClusterIPs("10.96.12.34")
+                    .withIpFamilies("IPv4")
+                    .withSessionAffinity("None")
+                    .withInternalTrafficPolicy("Cluster")
+                .endSpec()
+                .withNewStatus()
+                    .withNewLoadBalancer()
+                    .endLoadBalancer()
+                .endStatus()
+                .build();
+        changedService = new ServiceBuilder(desiredService)
+                .editSpec()
+                    .addNewPort().withName("tcp-external").withProtocol("TCP").withPort(9094).withNewTargetPort(9094).endPort()
+                .endSpec()
+                .build();
+
+        currentStatus = status("2024-01-01T00:00:00.000Z");
+        desiredStatus = status("2024-01-02T00:00:00.000Z");
+    }
+
+    private static ObjectMeta metadata() {
+        return new ObjectMetaBuilder()
+                .withName(NAME)
+                .withNamespace(NAMESPACE)
+                .withLabels(Map.of("app.kubernetes.io/instance", "my-cluster",
+                        "app.kubernetes.io/managed-by", "strimzi-cluster-operator",
+                        "app.kubernetes.io/name", "kafka",
+                        "app.kubernetes.io/part-of", "strimzi-my-cluster",
+                        "strimzi.io/cluster", "my-cluster",
+                        "strimzi.io/kind", "Kafka",
+                        "strimzi.io/name", NAME))
+                .withAnnotations(Map.of("strimzi.io/kafka-version", "3.7.0"))
+                .withOwnerReferences()
+                .build();
+    }
+
+    private static ObjectMeta serverMetadata() {
+        return new ObjectMetaBuilder(metadata())
+                .withCreationTimestamp("2024-01-01T00:00:00Z")
+                .withResourceVersion("123456")
+                .withUid("0d5c9d51-27c4-4c7f-93c6-1c5d8a5e2f1b")
+                .withGeneration(3L)
+                .withManagedFields(new ManagedFieldsEntryBuilder()
+                        .withManager("strimzi-cluster-operator")
+                        .withOperation("Update")
+                        .withApiVersion("v1")
+                        .withTime("2024-01-01T00:00:00Z")
+                        .withFieldsType("FieldsV1")
+                        .build())
+                .build();
+    }
+
+    private static Pod pod(int id, String image) {
+        List<EnvVar> env = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            env.add(new EnvVarBuilder().withName("ENV_VAR_" + i).withValue("value-" + i).build());
+        }
+
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(NAME + "-" + id)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(Map.of("strimzi.io/cluster", "my-cluster", "strimzi.io/name", NAME, "strimzi.io/pod-name", NAME + "-" + id))
+                    .withAnnotations(Map.of("strimzi.io/revision", "a1b2c3d4", "strimzi.io/broker-configuration-hash", "e5f6a7b8"))
+                .endMetadata()
+                .withNewSpec()
+                    .withHostname(NAME + "-" + id)
+                    .withSubdomain(NAME + "-brokers")
+                    .addToContainers(new ContainerBuilder()
+                            .withName("kafka")
+                            .withImage(image)
+                            .withCommand("/opt/kafka/kafka_run.sh")
+                            .withEnv(env)
+                            .addNewPort().withName("tcp-replication").withContainerPort(9091).withProtocol("TCP").endPort()
+                            .addNewPort().withName("tcp-clients").withContainerPort(9092).withProtocol("TCP").endPort()
+                            .addNewPort().withName("tcp-clientstls").withContainerPort(9093).withProtocol("TCP").endPort()
+                            .addNewVolumeMount().withName("data").withMountPath("/var/lib/kafka/data").endVolumeMount()
+                            .addNewVolumeMount().withName("cluster-ca").withMountPath("/opt/kafka/cluster-ca-certs").endVolumeMount()
+                            .addNewVolumeMount().withName("broker-certs").withMountPath("/opt/kafka/broker-certs").endVolumeMount()
+                            .build())
+                    .addToVolumes(new VolumeBuilder().withName("data").withNewPersistentVolumeClaim().withClaimName("data-" + NAME + "-" + id).endPersistentVolumeClaim().build(),
+                            new VolumeBuilder().withName("cluster-ca").withNewSecret().withSecretName("my-cluster-cluster-ca-cert").endSecret().build(),
+                            new VolumeBuilder().withName("broker-certs").withNewSecret().withSecretName(NAME + "-brokers").endSecret().build())
+                .endSpec()
+                .build();
+    }
+
+    private static KafkaStatus status(String lastTransitionTime) {
+        Condition condition = new ConditionBuilder()
+                .withType("Ready")
+                .withStatus("True")
+                .withLastTransitionTime(lastTransitionTime)
+                .build();
+
+        return new KafkaStatusBuilder()
+                .withConditions(condition)
+                .withObservedGeneration(3L)
+                .withClusterId("my-cluster-id")
+                .withListeners(new ListenerStatusBuilder()
+                                .withName("plain")
+                                .withAddresses(new ListenerAddressBuilder().withHost("my-cluster-kafka-bootstrap.my-namespace.svc").withPort(9092).build())
+                                .build(),
+                        new ListenerStatusBuilder()
+                                .withName("tls")
+                                .withAddresses(new ListenerAddressBuilder().withHost("my-cluster-kafka-bootstrap.my-namespace.svc").withPort(9093).build())
+                                .build())
+                .build();
+    }
+
+    /**
+     * Diffs an unchanged StrimziPodSet
+     *
+     * @return  The diff
+     */
+    @Benchmark
+    public ResourceDiff<StrimziPodSet> podSet() {
+        return new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "StrimziPodSet", NAME, currentPodSet, desiredPodSet, ResourceDiff.DEFAULT_IGNORABLE_PATHS);
+    }
+
+    /**
+     * Diffs a StrimziPodSet with a changed pod
+     *
+     * @return  The diff
+     */
+    @Benchmark
+    public ResourceDiff<StrimziPodSet> podSetChanged() {
+        return new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "StrimziPodSet", NAME, currentPodSet, changedPodSet, ResourceDiff.DEFAULT_IGNORABLE_PATHS);
+    }
+
+    /**
+     * Diffs an unchanged Service
+     *
+     * @return  The diff
+     */
+    @Benchmark
+    public ResourceDiff<Service> service() {
+        return serviceOperator.diff(Reconciliation.DUMMY_RECONCILIATION, NAME, currentService, desiredService);
+    }
+
+    /**
+     * Diffs a Service with changed ports
+     *
+     * @return  The diff
+     */
+    @Benchmark
+    public ResourceDiff<Service> serviceChanged() {
+        return serviceOperator.diff(Reconciliation.DUMMY_RECONCILIATION, NAME, currentService, changedService);
+    }
+
+    /**
+     * Diffs two Kafka statuses which differ only in the last transition time
+     *
+     * @return  The diff
+     */
+    @Benchmark
+    public StatusDiff status() {
+        return new StatusDiff(currentStatus, desiredStatus);
+    }
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args  Command line arguments (not used)
+     *
+     * @throws RunnerException  When the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ResourceDiffBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.ResourceCacheMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the reconciliation of a ConfigMap using the read-diff-patch strategy and using server-side apply. The
+ * ConfigMaps are reconciled against a fake Kubernetes API server running in the same JVM. It stores the ConfigMaps in
+ * memory and counts the API calls and the bytes of the request and response bodies. The {@code unchanged} variant
+ * reconciles the same ConfigMap again and again. The {@code changed} variant changes one of its entries in every
+ * reconciliation. The {@code cached} variants read the current ConfigMap from a {@link ResourceCache} instead of from
+ * the API server. Its informer sees every change stored by the fake API server right away, so the cache is always
+ * fresh.
+ *
+ * Before running the benchmarks, the API calls and bytes per reconciliation are printed for each variant. Run with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=io.strimzi.operator.common.operator.resource.ServerSideApplyBenchmark}
+ * from the operator-common directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ServerSideApplyBenchmark {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-cluster-kafka-config";
+    private static final int TRAFFIC_RECONCILIATIONS = 100;
+
+    @Param({"patch", "apply"})
+    public String mode;
+
+    @Param({"unchanged", "changed"})
+    public String change;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private Vertx vertx;
+    private WorkerExecutor kubernetesOpsPool;
+    private Vertx apiServerVertx;
+    private FakeApiServer apiServer;
+    private KubernetesClient client;
+    private ConfigMapOperator configMapOperator;
+    private long generation = 0;
+
+    @Setup(Level.Trial)
+    public void setup() throws ExecutionException, InterruptedException {
+        vertx = Vertx.vertx();
+        // Keeps the shared worker pool used by the operators open. Otherwise it might be closed (and its running
+        // tasks interrupted) when the executors created for the individual calls are garbage collected.
+        kubernetesOpsPool = vertx.createSharedWorkerExecutor("kubernetes-ops-pool");
+        // The operator blocks its event loop while calling the Kubernetes API, so the fake server needs its own
+        apiServerVertx = Vertx.vertx();
+        apiServer = new FakeApiServer();
+        HttpServer server = apiServerVertx.createHttpServer(new HttpServerOptions().setHttp2ClearTextEnabled(false))
+                .requestHandler(apiServer::handle)
+                .listen(0)
+                .toCompletionStage().toCompletableFuture().get();
+
+        client = new KubernetesClientBuilder()
+                .withConfig(new ConfigBuilder()
+                        .withMasterUrl("http://127.0.0.1:" + server.actualPort())
+                        .withRequestRetryBackoffLimit(0)
+                        .withHttp2Disable(true)
+                        .build())
+                .build();
+
+        configMapOperator = new ConfigMapOperator(vertx, client);
+        configMapOperator.setServerSideApply("apply".equals(mode));
+        if (cached) {
+            configMapOperator.setCache(cache(apiServer));
+        }
+
+        // Creates the ConfigMap
+        reconcile();
+        apiServer.reset();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws ExecutionException, InterruptedException {
+        client.close();
+        kubernetesOpsPool.close().toCompletionStage().toCompletableFuture().get();
+        vertx.close().toCompletionStage().toCompletableFuture().get();
+        apiServerVertx.close().toCompletionStage().toCompletableFuture().get();
+    }
+
+    /**
+     * Creates a resource cache with an informer which always has the ConfigMaps stored by the fake API server
+     */
+    @SuppressWarnings("unchecked")
+    private static ResourceCache<ConfigMap> cache(FakeApiServer apiServer) {
+        Indexer<ConfigMap> indexer = mock(Indexer.class);
+        when(indexer.getByKey(anyString())).thenAnswer(i -> apiServer.informed.get(i.<String>getArgument(0)));
+
+        SharedIndexInformer<ConfigMap> informer = mock(SharedIndexInformer.class);
+        when(informer.getIndexer()).thenReturn(indexer);
+        when(informer.hasSynced()).thenReturn(true);
+
+        return new ResourceCache<>("ConfigMap", Labels.STRIMZI_CLUSTER_LABEL, Map.of(NAMESPACE, informer),
+                new ResourceCacheMetricsHolder(new MicrometerMetricsProvider(new SimpleMeterRegistry())));
+    }
+
+    private static ConfigMap configMap(long generation) {
+        Map<String, String> data = new LinkedHashMap<>();
+        StringBuilder config = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            config.append("broker.option.").append(i).append("=value-").append(i).append("\n");
+        }
+        data.put("server.config", config.toString());
+        data.put("log4j.properties", "log4j.rootLogger=INFO, CONSOLE\nlog4j.appender.CONSOLE=org.apache.log4j.ConsoleAppender\n");
+        data.put("generation", String.valueOf(generation));
+
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(Map.of("app.kubernetes.io/managed-by", "strimzi-cluster-operator",
+                            "app.kubernetes.io/name", "kafka",
+                            Labels.STRIMZI_CLUSTER_LABEL, "my-cluster",
+                            "strimzi.io/kind", "Kafka",
+                            "strimzi.io/name", "my-cluster-kafka"))
+                .endMetadata()
+                .withData(data)
+                .build();
+    }
+
+    /**
+     * Reconciles the ConfigMap
+     *
+     * @return  The reconciliation result
+     */
+    @Benchmark
+    public ReconcileResult<ConfigMap> reconcile() throws ExecutionException, InterruptedException {
+        if ("changed".equals(change)) {
+            generation++;
+        }
+
+        return configMapOperator.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, NAME, configMap(generation))
+                .toCompletionStage().toCompletableFuture().get();
+    }
+
+    /**
+     * Prints the API calls and bytes per reconciliation for all variants
+     */
+    private static void printTraffic() throws ExecutionException, InterruptedException {
+        System.out.printf("%-8s %-10s %-7s %15s %15s%n", "mode", "change", "cached", "calls/reconcile", "bytes/reconcile");
+
+        for (String mode : new String[] {"patch", "apply"}) {
+            for (String change : new String[] {"unchanged", "changed"}) {
+                for (boolean cached : new boolean[] {false, true}) {
+                    ServerSideApplyBenchmark benchmark = new ServerSideApplyBenchmark();
+                    benchmark.mode = mode;
+                    benchmark.change = change;
+                    benchmark.cached = cached;
+                    benchmark.setup();
+
+                    for (int i = 0; i < TRAFFIC_RECONCILIATIONS; i++) {
+                        benchmark.reconcile();
+                    }
+
+                    System.out.printf("%-8s %-10s %-7s %15.1f %15.1f%n", mode, change, cached,
+                            (double) benchmark.apiServer.calls.get() / TRAFFIC_RECONCILIATIONS,
+                            (double) benchmark.apiServer.bytes.get() / TRAFFIC_RECONCILIATIONS);
+                    benchmark.tearDown();
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException, ExecutionException, InterruptedException {
+        printTraffic();
+
+        Options opt = new OptionsBuilder()
+                .include(ServerSideApplyBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    /**
+     * Minimal fake of the Kubernetes API server for ConfigMaps. It supports get, create, JSON Patch and server-side
+     * apply. The server-side apply replaces the data, labels and annotations of the ConfigMap instead of tracking the
+     * field managers, which is enough for a single field manager. The stored ConfigMaps are also kept deserialized
+     * for the informer of the resource cache.
+     */
+    static class FakeApiServer {
+        private static final String PATH_PREFIX = "/api/v1/namespaces/";
+
+        private final Map<String, ObjectNode> configMaps = new ConcurrentHashMap<>();
+        private final Map<String, ConfigMap> informed = new ConcurrentHashMap<>();
+        private final AtomicLong resourceVersion = new AtomicLong(0);
+        private final AtomicLong calls = new AtomicLong(0);
+        private final AtomicLong bytes = new AtomicLong(0);
+
+        void reset() {
+            calls.set(0);
+            bytes.set(0);
+        }
+
+        void handle(HttpServerRequest request) {
+            request.body().onSuccess(body -> {
+                String response;
+                int status;
+
+                try {
+                    // Path is /api/v1/namespaces/<namespace>/configmaps[/<name>]
+                    String[] path = request.path().substring(PATH_PREFIX.length()).split("/");
+                    String key = path[0] + "/" + (path.length > 2 ? path[2] : null);
+                    String contentType = request.getHeader("Content-Type");
+                    ObjectNode current = configMaps.get(key);
+
+                    if (request.method() == HttpMethod.GET && current != null) {
+                        status = 200;
+                        response = current.toString();
+                    } else if (request.method() == HttpMethod.POST) {
+                        ObjectNode created = (ObjectNode) Serialization.jsonMapper().readTree(body.getBytes());
+                        key = path[0] + "/" + created.with("metadata").get("name").asText();
+                        status = 201;
+                        response = store(key, created).toString();
+                    } else if (request.method() == HttpMethod.PATCH && contentType.contains("json-patch") && current != null) {
+                        status = 200;
+                        response = store(key, jsonPatch(current.deepCopy(), Serialization.jsonMapper().readTree(body.getBytes()))).toString();
+                    } else if (request.method() == HttpMethod.PATCH && contentType.contains("apply-patch")) {
+                        ObjectNode applied = (ObjectNode) Serialization.yamlMapper().readTree(body.getBytes());
+                        status = current != null ? 200 : 201;
+                        response = store(key, current != null ? apply(current.deepCopy(), applied) : applied).toString();
+                    } else {
+                        status = 404;
+                        response = "{\"kind\":\"Status\",\"apiVersion\":\"v1\",\"status\":\"Failure\",\"reason\":\"NotFound\",\"code\":404}";
+                    }
+                } catch (Exception e) {
+                    status = 500;
+                    response = "{\"kind\":\"Status\",\"apiVersion\":\"v1\",\"status\":\"Failure\",\"message\":\"" + e.getClass().getSimpleName() + "\",\"code\":500}";
+                }
+
+                Buffer responseBody = Buffer.buffer(response.getBytes(StandardCharsets.UTF_8));
+                calls.incrementAndGet();
+                bytes.addAndGet(body.length() + responseBody.length());
+
+                request.response()
+                        .setStatusCode(status)
+                        .putHeader("Content-Type", "application/json")
+                        .end(responseBody);
+            });
+        }
+
+        /**
+         * Stores the ConfigMap and updates its resource version if it changed
+         */
+        private ObjectNode store(String key, ObjectNode updated) {
+            ObjectNode current = configMaps.get(key);
+            ObjectNode metadata = updated.with("metadata");
+
+            if (current != null) {
+                metadata.set("resourceVersion", current.get("metadata").get("resourceVersion"));
+
+                if (current.equals(updated)) {
+                    return current;
+                }
+            }
+
+            metadata.put("resourceVersion", String.valueOf(resourceVersion.incrementAndGet()));
+            configMaps.put(key, updated);
+            informed.put(key, Serialization.jsonMapper().convertValue(updated, ConfigMap.class));
+
+            return updated;
+        }
+
+        private static ObjectNode jsonPatch(ObjectNode target, JsonNode patch) {
+            for (JsonNode operation : patch) {
+                String op = operation.get("op").asText();
+                String[] path = operation.get("path").asText().substring(1).split("/", -1);
+
+                JsonNode parent = target;
+                for (int i = 0; i < path.length - 1; i++) {
+                    parent = parent.isArray() ? parent.get(Integer.parseInt(path[i])) : parent.get(unescape(path[i]));
+                }
+
+                String last = unescape(path[path.length - 1]);
+                if (parent.isArray()) {
+                    ArrayNode array = (ArrayNode) parent;
+                    int index = "-".equals(last) ? array.size() : Integer.parseInt(last);
+
+                    switch (op) {
+                        case "add" -> array.insert(index, operation.get("value"));
+                        case "replace" -> array.set(index, operation.get("value"));
+                        case "remove" -> array.remove(index);
+                        default -> { }
+                    }
+                } else {
+                    ObjectNode object = (ObjectNode) parent;
+
+                    switch (op) {
+                        case "add", "replace" -> object.set(last, operation.get("value"));
+                        case "remove" -> object.remove(last);
+                        default -> { }
+                    }
+                }
+            }
+
+            return target;
+        }
+
+        private static ObjectNode apply(ObjectNode target, ObjectNode applied) {
+            ObjectNode metadata = target.with("metadata");
+            JsonNode appliedMetadata = applied.get("metadata");
+
+            for (String field : new String[] {"labels", "annotations"}) {
+                if (appliedMetadata.has(field)) {
+                    metadata.set(field, appliedMetadata.get(field));
+                }
+            }
+
+            if (applied.has("data")) {
+                target.set("data", applied.get("data"));
+            }
+
+            return target;
+        }
+
+        private static String unescape(String segment) {
+            return segment.replace("~1", "/").replace("~0", "~");
+        }
+    }
+}
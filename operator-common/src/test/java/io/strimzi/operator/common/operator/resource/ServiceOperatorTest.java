@@ -353,4 +353,48 @@ public class ServiceOperatorTest extends AbstractNamespacedResourceOperatorTest<
 
         assertThat(current.getSpec().getLoadBalancerClass(), is(desired.getSpec().getLoadBalancerClass()));
     }
+
+    @Test
+    public void testIgnoredFieldsInDiff()   {
+        Service desired = new ServiceBuilder(resource(RESOURCE_NAME))
+                .editSpec()
+                    .withPorts(new ServicePortBuilder()
+                            .withName("port1")
+                            .withPort(1234)
+                            .withTargetPort(new IntOrString(1234))
+                            .build())
+                .endSpec()
+                .build();
+        Service current = new ServiceBuilder(desired)
+                .editMetadata()
+                    .withResourceVersion("123")
+                    .withUid("my-uid")
+                .endMetadata()
+                .editSpec()
+                    .withClusterIP("10.0.0.1")
+                    .withClusterIPs("10.0.0.1")
+                    .withIpFamilies("IPv4")
+                .endSpec()
+                .withNewStatus()
+                    .withNewLoadBalancer()
+                        .addNewIngress()
+                            .withHostname("my-hostname")
+                        .endIngress()
+                    .endLoadBalancer()
+                .endStatus()
+                .build();
+        Service changed = new ServiceBuilder(desired)
+                .editSpec()
+                    .editFirstPort()
+                        .withPort(5678)
+                    .endPort()
+                .endSpec()
+                .build();
+
+        ServiceOperator op = createResourceOperations(vertx, mock(KubernetesClient.class));
+
+        assertThat(op.diff(Reconciliation.DUMMY_RECONCILIATION, RESOURCE_NAME, current, desired).isEmpty(), is(true));
+        assertThat(op.diff(Reconciliation.DUMMY_RECONCILIATION, RESOURCE_NAME, current, changed).isEmpty(), is(false));
+        assertThat(op.diff(Reconciliation.DUMMY_RECONCILIATION, RESOURCE_NAME, null, desired).isEmpty(), is(false));
+    }
 }
@@ -12,42 +12,44 @@ import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import static io.strimzi.operator.topic.v2.TopicOperatorUtil.topicName;
 
 /**
- * Encapsulates a queue (actually a deque) of {@link TopicEvent}s and a pool of threads (see {@link LoopRunnable}) servicing
+ * Encapsulates queues (see {@link TopicEventQueue}) of {@link TopicEvent}s and a pool of threads (see {@link LoopRunnable}) servicing
  * the reconciliation of those events using a {@link BatchingTopicController}.
- * Any given KafkaTopic is only being reconciled by a single thread at any one time.
+ * The events are sharded by the hash of their KafkaTopic, with one queue per thread, so the threads fill their batches
+ * without contending on a shared lock and any given KafkaTopic is only being reconciled by a single thread at any one time.
+ * The {@link BatchingTopicController} is not thread-safe, so currently the loop is only used with a single thread.
+ * In the pipelined mode each thread overlaps describing the topics of one batch in Kafka with finishing the
+ * reconciliation of its previous batch (see {@link BatchingTopicController#onUpdateStart(List)}).
  */
 class BatchingLoop {
 
     static final ReconciliationLogger LOGGER = ReconciliationLogger.create(BatchingLoop.class);
 
     private final BatchingTopicController controller;
-    private final BlockingDeque<TopicEvent> queue;
+    private final TopicEventQueue[] queues;
 
     /**
      * The set of topics currently being reconciled by a controller.
-     * Guarded by the monitor of the BatchingLoop.
-     * This functions as mechanism for preventing concurrent reconciliation of the same topic.
+     * This functions as mechanism for preventing concurrent reconciliation of the same topic, e.g. while the batch
+     * containing it is pending in the pipelined mode.
      */
-    private final Set<KubeRef> inFlight = new HashSet<>(); // guarded by this
+    private final Set<KubeRef> inFlight = ConcurrentHashMap.newKeySet();
     private final LoopRunnable[] threads;
     private final int maxBatchSize;
     private final long maxBatchLingerMs;
     private final ItemStore<KafkaTopic> itemStore;
-    private final Runnable stop;
     private final int maxQueueSize;
     private final TopicOperatorMetricsHolder metrics;
     private final String namespace;
+    private final boolean pipelined;
 
     public BatchingLoop(
             int maxQueueSize,
@@ -56,30 +58,35 @@ class BatchingLoop {
             int maxBatchSize,
             long maxBatchLingerMs,
             ItemStore<KafkaTopic> itemStore,
-            Runnable stop,
             TopicOperatorMetricsHolder metrics,
-            String namespace) {
+            String namespace,
+            boolean pipelined) {
         this.maxQueueSize = maxQueueSize;
-        this.queue = new LinkedBlockingDeque<>(maxQueueSize);
+        this.queues = new TopicEventQueue[maxThreads];
         this.controller = controller;
         this.threads = new LoopRunnable[maxThreads];
         for (int i = 0; i < maxThreads; i++) {
-            threads[i] = new LoopRunnable("LoopRunnable-" + i);
+            queues[i] = new TopicEventQueue(Math.max(1, (maxQueueSize + maxThreads - 1) / maxThreads));
+            threads[i] = new LoopRunnable("LoopRunnable-" + i, queues[i]);
         }
         this.maxBatchSize = maxBatchSize;
         this.maxBatchLingerMs = maxBatchLingerMs;
         this.itemStore = itemStore;
-        this.stop = stop;
         this.metrics = metrics;
         this.namespace = namespace;
+        this.pipelined = pipelined;
     }
 
     /**
-     * Starts the threads
+     * Starts the threads.
+     * The threads which have already terminated, because the loop was stopped, are replaced by new ones.
      */
     public void start() {
-        for (var thread : threads) {
-            thread.start();
+        for (int i = 0; i < threads.length; i++) {
+            if (threads[i].getState() == Thread.State.TERMINATED) {
+                threads[i] = new LoopRunnable("LoopRunnable-" + i, queues[i]);
+            }
+            threads[i].start();
         }
     }
 
@@ -97,19 +104,53 @@ class BatchingLoop {
     }
 
     /**
-     * Add an event to be reconciled to the tail of the {@link #queue}.
+     * Add an event to be reconciled to the tail of its queue, or coalesce it with the event for the same
+     * KafkaTopic which is already queued. When the queue is full, this waits until there is a free space in it.
      * @param event The event
      */
     public void offer(TopicEvent event) {
-        if (queue.offerFirst(event)) {
-            LOGGER.debugOp("Item {} added to front of queue", event);
-            metrics.reconciliationsMaxQueueSize(namespace).getAndUpdate(size -> Math.max(size, queue.size()));
-        } else {
-            LOGGER.errorOp("Queue length {} exceeded, stopping operator. Please increase {} environment variable.",
-                    maxQueueSize,
-                    TopicOperatorConfig.MAX_QUEUE_SIZE.key());
-            this.stop.run();
+        offer(event, false);
+    }
+
+    /**
+     * Add an event triggered by the periodic resync of the informer to the tail of its queue, or coalesce
+     * it with the event for the same KafkaTopic which is already queued. When the queue is full, the event is dropped
+     * because the KafkaTopic will be reconciled again by the next resync.
+     * @param event The event
+     */
+    public void offerResync(TopicEvent event) {
+        offer(event, true);
+    }
+
+    private void offer(TopicEvent event, boolean shed) {
+        try {
+            switch (queues[Math.floorMod(event.toRef().hashCode(), queues.length)].offer(event, shed)) {
+                case ENQUEUED -> {
+                    LOGGER.debugOp("Item {} added to queue", event);
+                    int queueSize = queueSize();
+                    metrics.reconciliationsMaxQueueSize(namespace).getAndUpdate(size -> Math.max(size, queueSize));
+                }
+                case COALESCED -> {
+                    LOGGER.debugOp("Item {} coalesced with the queued item for the same topic", event);
+                    metrics.coalescedEventsCounter(namespace).increment();
+                }
+                case SHED -> {
+                    LOGGER.debugOp("Queue length {} reached, dropping resync item {}", maxQueueSize, event);
+                    metrics.shedEventsCounter(namespace).increment();
+                }
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warnOp("Interrupted while waiting to add item {} to queue", event);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int queueSize() {
+        int size = 0;
+        for (var queue : queues) {
+            size += queue.size();
         }
+        return size;
     }
 
     /**
@@ -148,20 +189,29 @@ class BatchingLoop {
     }
 
     /**
-     * A thread that services the head of the {@link #queue}.
+     * A thread that services the head of its queue.
      */
     class LoopRunnable extends Thread {
 
         private volatile boolean stopRequested = false;
+        private final Object stopLock = new Object();
+        private final TopicEventQueue queue;
 
-        LoopRunnable(String name) {
+        LoopRunnable(String name, TopicEventQueue queue) {
             super(name);
             setDaemon(false);
+            this.queue = queue;
         }
 
         static final ReconciliationLogger LOGGER = ReconciliationLogger.create(LoopRunnable.class);
         private volatile long lastLoop = System.nanoTime();
 
+        // used only in the pipelined mode: the batch being filled and the batch whose reconciliation is pending
+        private Batch filling;
+        private Batch pending;
+        private BatchingTopicController.PendingUpdate pendingUpdate;
+        private int pendingBatchId;
+
         long msSinceLastLoop() {
             return (System.nanoTime() - lastLoop) / 1_000_000;
         }
@@ -172,10 +222,15 @@ class BatchingLoop {
             Batch batch = new Batch(maxBatchSize);
             int batchId = 0;
             lastLoop = System.nanoTime();
-            while (!runOnce(batchId, batch)) {
+            filling = batch;
+            pending = new Batch(maxBatchSize);
+            while (!(pipelined ? runOncePipelined(batchId) : runOnce(batchId, batch))) {
                 batchId++;
                 lastLoop = System.nanoTime();
             }
+            if (pendingUpdate != null) {
+                completePendingUpdate();
+            }
             LOGGER.debugOp("Exiting run()");
         }
 
@@ -185,31 +240,27 @@ class BatchingLoop {
             // to propagate up to runOnce(), but we can't completely guarantee that
             // everything handles interruption properly, so we use stopRequested to ensure
             // we'll at least stop after the return from stopOnce(), even if the exception gets swallowed
-            this.stopRequested = true;
-            this.interrupt();
+            synchronized (stopLock) {
+                this.stopRequested = true;
+                this.interrupt();
+            }
         }
 
         private boolean runOnce(int batchId, Batch batch) {
             try {
-                synchronized (BatchingLoop.this) {
-                    // remove the old batch from the inflight set and reset the batch
-                    LOGGER.traceOp("[Batch #{}] Removing batch from inflight", batchId - 1);
-                    batch.toUpdate.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.toDelete.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.clear();
-                    // fill a new batch
-                    fillBatch(batchId, batch);
-                }
+                // remove the old batch from the inflight set and reset the batch
+                releaseBatch(batchId - 1, batch);
+                // fill a new batch
+                fillBatch(batchId, batch);
 
                 if (batch.size() > 0) {
                     LOGGER.infoOp("[Batch #{}] Reconciling batch of {} topics", batchId, batch.size());
                     // perform reconciliation on new batch
                     if (!batch.toUpdate.isEmpty()) {
-                        controller.onUpdate(batch.toUpdate.stream().map(upsert -> lookup(batchId, upsert)).filter(Objects::nonNull).toList());
+                        controller.onUpdate(toUpdate(batchId, batch));
                     }
                     if (!batch.toDelete.isEmpty()) {
-                        controller.onDelete(batch.toDelete.stream().map(td -> new ReconcilableTopic(
-                            new Reconciliation("delete", "KafkaTopic", td.namespace(), td.name()), td.topic(), topicName(td.topic()))).toList());
+                        controller.onDelete(toDelete(batch));
                     }
                     LOGGER.infoOp("[Batch #{}] Batch reconciliation completed", batchId);
                 } else {
@@ -224,6 +275,96 @@ class BatchingLoop {
             return stopRequested;
         }
 
+        private boolean runOncePipelined(int batchId) {
+            try {
+                // the batch being filled was completed by the previous iteration, so it can leave the inflight set,
+                // while the pending batch stays in it until its reconciliation is completed
+                releaseBatch(batchId - 2, filling);
+                fillBatch(batchId, filling);
+
+                BatchingTopicController.PendingUpdate started = null;
+                try {
+                    if (filling.size() > 0) {
+                        LOGGER.infoOp("[Batch #{}] Reconciling batch of {} topics", batchId, filling.size());
+                        if (!filling.toUpdate.isEmpty()) {
+                            started = controller.onUpdateStart(toUpdate(batchId, filling));
+                        }
+                        if (!filling.toDelete.isEmpty()) {
+                            controller.onDelete(toDelete(filling));
+                        }
+                    } else {
+                        LOGGER.traceOp("[Batch #{}] Empty batch", batchId);
+                    }
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    LOGGER.errorOp("[Batch #{}] Unexpected exception", batchId, e);
+                }
+
+                // complete the previous batch while the describe requests of this batch are in flight
+                var previousUpdate = pendingUpdate;
+                var previousBatchId = pendingBatchId;
+                var previousBatch = pending;
+                pending = filling;
+                pendingUpdate = started;
+                pendingBatchId = batchId;
+                filling = previousBatch;
+                if (previousUpdate != null) {
+                    controller.onUpdateComplete(previousUpdate);
+                    LOGGER.infoOp("[Batch #{}] Batch reconciliation completed", previousBatchId);
+                }
+            } catch (InterruptedException e) {
+                LOGGER.infoOp("[Batch #{}] Interrupted", batchId);
+                return true;
+            } catch (Exception e) {
+                LOGGER.errorOp("[Batch #{}] Unexpected exception", batchId, e);
+            }
+            return stopRequested;
+        }
+
+        /**
+         * Completes the reconciliation of the batch which is still pending when the loop stops.
+         * Otherwise, the topics of this batch would have been described in Kafka, but never reconciled.
+         */
+        private void completePendingUpdate() {
+            boolean interrupted;
+            synchronized (stopLock) {
+                // the interruption only requested the stop, so it's cleared to let the completion call Kube and Kafka
+                interrupted = Thread.interrupted();
+            }
+            try {
+                controller.onUpdateComplete(pendingUpdate);
+                LOGGER.infoOp("[Batch #{}] Batch reconciliation completed", pendingBatchId);
+            } catch (InterruptedException e) {
+                LOGGER.infoOp("[Batch #{}] Interrupted", pendingBatchId);
+                interrupted = true;
+            } catch (Exception e) {
+                LOGGER.errorOp("[Batch #{}] Unexpected exception", pendingBatchId, e);
+            } finally {
+                pendingUpdate = null;
+                releaseBatch(pendingBatchId, pending);
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private void releaseBatch(int batchId, Batch batch) {
+            LOGGER.traceOp("[Batch #{}] Removing batch from inflight", batchId);
+            batch.toUpdate.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
+            batch.toDelete.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
+            batch.clear();
+        }
+
+        private List<ReconcilableTopic> toUpdate(int batchId, Batch batch) {
+            return batch.toUpdate.stream().map(upsert -> lookup(batchId, upsert)).filter(Objects::nonNull).toList();
+        }
+
+        private List<ReconcilableTopic> toDelete(Batch batch) {
+            return batch.toDelete.stream().map(td -> new ReconcilableTopic(
+                new Reconciliation("delete", "KafkaTopic", td.namespace(), td.name()), td.topic(), topicName(td.topic()))).toList();
+        }
+
         private ReconcilableTopic lookup(int batchId, TopicUpsert topicUpsert) {
             var key = Cache.namespaceKeyFunc(topicUpsert.namespace(), topicUpsert.name());
             var kt = itemStore.get(key);
@@ -259,7 +400,7 @@ class BatchingLoop {
                     break;
                 }
                 LOGGER.traceOp("[Batch #{}] Taking next item from deque head with timeout {}ns", batchId, timeoutNs);
-                TopicEvent topicEvent = queue.pollFirst(timeoutNs, TimeUnit.NANOSECONDS);
+                TopicEvent topicEvent = queue.poll(timeoutNs, TimeUnit.NANOSECONDS);
 
                 if (topicEvent == null) {
                     LOGGER.traceOp("[Batch #{}] Linger expired, batch complete", batchId);
@@ -270,11 +411,9 @@ class BatchingLoop {
             LOGGER.traceOp("[Batch #{}] Filled with {} topics", batchId, batch.size());
             metrics.reconciliationsMaxBatchSize(namespace).getAndUpdate(size -> Math.max(size, batch.size()));
 
-            // here we need a deque and can push `rejected` back on the front of the queue
-            //      where they can be taken by the next thread.
+            // push `rejected` back on the front of the queue where they can be taken by the next batch.
             for (int i = rejected.size() - 1; i >= 0; i--) {
-                TopicEvent item = rejected.get(i);
-                offer(item);
+                queue.requeue(rejected.get(i));
             }
         }
 
@@ -8,11 +8,9 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.Crds;
-import io.strimzi.api.kafka.model.common.Condition;
 import io.strimzi.api.kafka.model.common.ConditionBuilder;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
 import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
-import io.strimzi.api.kafka.model.topic.KafkaTopicStatus;
 import io.strimzi.api.kafka.model.topic.KafkaTopicStatusBuilder;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -58,6 +56,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -98,6 +97,10 @@ public class BatchingTopicController {
     // Key: topic name, Value: The KafkaTopics known to manage that topic
     /* test */ final Map<String, List<KubeRef>> topics = new HashMap<>();
 
+    /* test */ final TopicFingerprints fingerprints;
+    private final TopicMetadataSnapshot snapshot;
+    private final KafkaTopicStatusWriter statusWriter;
+
     private final TopicOperatorMetricsHolder metrics;
     private final String namespace;
     private final ReplicasChangeHandler replicasChangeHandler;
@@ -124,6 +127,10 @@ public class BatchingTopicController {
         this.namespace = config.namespace();
         this.enableAdditionalMetrics = config.enableAdditionalMetrics();
         this.replicasChangeHandler = replicasChangeHandler;
+        this.fingerprints = new TopicFingerprints(config.driftSweepIntervalMs());
+        this.snapshot = new TopicMetadataSnapshot(admin, config.topicMetadataSnapshotIntervalMs(), metrics, namespace);
+        this.statusWriter = new KafkaTopicStatusWriter(kubeClient, config.statusUpdateConcurrency(), config.statusUpdateMaxRate(),
+            metrics, namespace, enableAdditionalMetrics);
     }
 
     /**
@@ -422,8 +429,38 @@ public class BatchingTopicController {
      * @throws InterruptedException If the thread was interrupted while blocking
      */
     void onUpdate(List<ReconcilableTopic> topics) throws InterruptedException {
+        onUpdateComplete(onUpdateStart(topics));
+    }
+
+    /**
+     * Starts the reconciliation of the topics up to sending the requests for describing them in Kafka,
+     * without waiting for the responses. The reconciliation is finished by {@link #onUpdateComplete(PendingUpdate)}.
+     * This allows the caller to overlap describing one batch with finishing the reconciliation of the previous one.
+     *
+     * @param topics The topics to reconcile
+     * @return The pending reconciliation
+     * @throws InterruptedException If the thread was interrupted while blocking
+     */
+    PendingUpdate onUpdateStart(List<ReconcilableTopic> topics) throws InterruptedException {
+        return handleInterruption(() -> startUpdate(topics));
+    }
+
+    /**
+     * Finishes the reconciliation started by {@link #onUpdateStart(List)}.
+     *
+     * @param pendingUpdate The pending reconciliation
+     * @throws InterruptedException If the thread was interrupted while blocking
+     */
+    void onUpdateComplete(PendingUpdate pendingUpdate) throws InterruptedException {
+        handleInterruption(() -> {
+            completeUpdate(pendingUpdate);
+            return null;
+        });
+    }
+
+    private static <T> T handleInterruption(Supplier<T> supplier) throws InterruptedException {
         try {
-            updateInternal(topics);
+            return supplier.get();
         } catch (UncheckedInterruptedException e) {
             throw e.getCause();
         } catch (KubernetesClientException e) {
@@ -435,8 +472,24 @@ public class BatchingTopicController {
         }
     }
 
-    private void updateInternal(List<ReconcilableTopic> topics) {
+    /**
+     * A reconciliation whose describe requests were sent to Kafka
+     *
+     * @param topics                    All topics of the batch
+     * @param remainingAfterDeletions   The topics which are not being deleted
+     * @param results                   The results of the topics which don't need to be described
+     * @param currentStates             Supplier waiting for the current states of the described topics
+     * @param nowMs                     The time the reconciliation started
+     */
+    record PendingUpdate(List<ReconcilableTopic> topics,
+                         List<ReconcilableTopic> remainingAfterDeletions,
+                         Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results,
+                         Supplier<PartitionedByError<ReconcilableTopic, CurrentState>> currentStates,
+                         long nowMs) { }
+
+    private PendingUpdate startUpdate(List<ReconcilableTopic> topics) {
         LOGGER.debugOp("Reconciling batch {}", topics);
+        Timer.Sample prepareTimerSample = startOperationTimer(enableAdditionalMetrics, metrics);
         var partitionedByDeletion = topics.stream().filter(reconcilableTopic -> {
             var kt = reconcilableTopic.kt();
             if (!matchesSelector(selector, kt.getMetadata().getLabels())) {
@@ -476,26 +529,91 @@ public class BatchingTopicController {
         var mayNeedUpdate = partitionedByPaused.get(false);
         metrics.reconciliationsCounter(namespace).increment(mayNeedUpdate.size());
         var addedFinalizer = addOrRemoveFinalizer(useFinalizer, mayNeedUpdate);
-        var currentStatesOrError = describeTopic(addedFinalizer);
-        
+
+        // skip the topics which did not change since their last reconciliation found them in sync with Kafka
+        long nowMs = System.currentTimeMillis();
+        var partitionedByUnchanged = addedFinalizer.stream()
+            .collect(Collectors.partitioningBy(reconcilableTopic -> fingerprints.isUnchanged(reconcilableTopic.kt(), nowMs)));
+        skipUnchanged(partitionedByUnchanged.get(true));
+        var mayHaveChanged = partitionedByUnchanged.get(false);
+        metrics.fullReconciliationsCounter(namespace).increment(mayHaveChanged.size());
+        stopOperationTimer(prepareTimerSample, metrics::preparePhaseTimer, enableAdditionalMetrics, namespace);
+
+        return new PendingUpdate(topics, remainingAfterDeletions, results, describeTopic(mayHaveChanged), nowMs);
+    }
+
+    private void completeUpdate(PendingUpdate pendingUpdate) {
+        var topics = pendingUpdate.topics();
+        var remainingAfterDeletions = pendingUpdate.remainingAfterDeletions();
+        var results = pendingUpdate.results();
+        var currentStatesOrError = pendingUpdate.currentStates().get();
+
         // figure out necessary updates
+        Timer.Sample writeTimerSample = startOperationTimer(enableAdditionalMetrics, metrics);
         createMissingTopics(results, currentStatesOrError);
         List<Pair<ReconcilableTopic, Collection<AlterConfigOp>>> someAlterConfigs = configChanges(results, currentStatesOrError);
         List<Pair<ReconcilableTopic, NewPartitions>> someCreatePartitions = partitionChanges(results, currentStatesOrError);
 
-        // execute those updates
-        var alterConfigsResults = alterConfigs(someAlterConfigs);
-        var createPartitionsResults = createPartitions(someCreatePartitions);
+        // execute those updates (both requests are sent before waiting for either of them)
+        var pendingAlterConfigs = alterConfigs(someAlterConfigs);
+        var pendingCreatePartitions = createPartitions(someCreatePartitions);
+        var alterConfigsResults = pendingAlterConfigs.get();
+        var createPartitionsResults = pendingCreatePartitions.get();
+        // the changed topics have to be described again to verify the changes
+        someAlterConfigs.forEach(pair -> snapshot.invalidate(pair.getKey().topicName()));
+        someCreatePartitions.forEach(pair -> snapshot.invalidate(pair.getKey().topicName()));
         var checkReplicasChangesResults = checkReplicasChanges(topics, currentStatesOrError);
+        stopOperationTimer(writeTimerSample, metrics::writePhaseTimer, enableAdditionalMetrics, namespace);
         
         // update statuses
+        Timer.Sample statusTimerSample = startOperationTimer(enableAdditionalMetrics, metrics);
         accumulateResults(results, alterConfigsResults, createPartitionsResults, checkReplicasChangesResults);
+        rememberTopicsInSync(results, currentStatesOrError, someAlterConfigs, someCreatePartitions, pendingUpdate.nowMs());
         updateStatuses(results);
+        stopOperationTimer(statusTimerSample, metrics::statusPhaseTimer, enableAdditionalMetrics, namespace);
         remainingAfterDeletions.forEach(rt -> stopReconciliationTimer(rt, metrics, namespace));
 
         LOGGER.traceOp("Reconciled batch of {} KafkaTopics", results.size());
     }
 
+    private void skipUnchanged(List<ReconcilableTopic> unchanged) {
+        unchanged.forEach(reconcilableTopic ->
+            LOGGER.debugCr(reconcilableTopic.reconciliation(), "Skipping reconciliation of KafkaTopic unchanged since it was last in sync with Kafka"));
+        metrics.skippedReconciliationsCounter(namespace).increment(unchanged.size());
+        metrics.successfulReconciliationsCounter(namespace).increment(unchanged.size());
+    }
+
+    /**
+     * Remembers the fingerprints of the topics which were found in sync with Kafka (i.e. no changes had to be applied)
+     * and forgets the others, so that their next reconciliation is a full one.
+     * It also detects the topics which were changed in Kafka while their KafkaTopics did not change.
+     */
+    private void rememberTopicsInSync(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results,
+                                      PartitionedByError<ReconcilableTopic, CurrentState> currentStatesOrError,
+                                      List<Pair<ReconcilableTopic, Collection<AlterConfigOp>>> someAlterConfigs,
+                                      List<Pair<ReconcilableTopic, NewPartitions>> someCreatePartitions,
+                                      long nowMs) {
+        Set<ReconcilableTopic> changed = Stream.concat(someAlterConfigs.stream().map(Pair::getKey), someCreatePartitions.stream().map(Pair::getKey))
+            .collect(Collectors.toSet());
+
+        currentStatesOrError.ok().forEach(pair -> {
+            var reconcilableTopic = pair.getKey();
+            var kt = reconcilableTopic.kt();
+            if (fingerprints.hasDrifted(kt, pair.getValue())) {
+                LOGGER.infoCr(reconcilableTopic.reconciliation(), "Topic was changed in Kafka since its last reconciliation");
+                metrics.driftedReconciliationsCounter(namespace).increment();
+            }
+
+            var result = results.get(reconcilableTopic);
+            if ((result == null || result.isRight()) && !changed.contains(reconcilableTopic) && !hasReplicasChange(kt.getStatus())) {
+                fingerprints.remember(kt, pair.getValue(), nowMs);
+            } else {
+                fingerprints.forget(kt);
+            }
+        });
+        currentStatesOrError.errors().forEach(pair -> fingerprints.forget(pair.getKey().kt()));
+    }
+
     /**
      * Check topic replicas changes.
      * 
@@ -810,9 +928,9 @@ public class BatchingTopicController {
         return new Pair<>(key, value);
     }
 
-    private PartitionedByError<ReconcilableTopic, Void> alterConfigs(List<Pair<ReconcilableTopic, Collection<AlterConfigOp>>> someAlterConfigs) {
+    private Supplier<PartitionedByError<ReconcilableTopic, Void>> alterConfigs(List<Pair<ReconcilableTopic, Collection<AlterConfigOp>>> someAlterConfigs) {
         if (someAlterConfigs.isEmpty()) {
-            return new PartitionedByError<>(List.of(), List.of());
+            return () -> new PartitionedByError<>(List.of(), List.of());
         }
         Map<ConfigResource, Collection<AlterConfigOp>> alteredConfigs = someAlterConfigs.stream().collect(Collectors.toMap(entry -> topicConfigResource(entry.getKey().topicName()), Pair::getValue));
         LOGGER.debugOp("Admin.incrementalAlterConfigs({})", alteredConfigs);
@@ -828,21 +946,23 @@ public class BatchingTopicController {
             }
         });
         var alterConfigsResult = acr.values();
-        Stream<Pair<ReconcilableTopic, Either<TopicOperatorException, Void>>> entryStream = someAlterConfigs.stream().map(entry -> {
-            try {
-                return pair(entry.getKey(), Either.ofRight(alterConfigsResult.get(topicConfigResource(entry.getKey().topicName())).get()));
-            } catch (ExecutionException e) {
-                return pair(entry.getKey(), Either.ofLeft(handleAdminException(e)));
-            } catch (InterruptedException e) {
-                throw new UncheckedInterruptedException(e);
-            }
-        });
-        return partitionedByError(entryStream);
+        return () -> {
+            Stream<Pair<ReconcilableTopic, Either<TopicOperatorException, Void>>> entryStream = someAlterConfigs.stream().map(entry -> {
+                try {
+                    return pair(entry.getKey(), Either.ofRight(alterConfigsResult.get(topicConfigResource(entry.getKey().topicName())).get()));
+                } catch (ExecutionException e) {
+                    return pair(entry.getKey(), Either.ofLeft(handleAdminException(e)));
+                } catch (InterruptedException e) {
+                    throw new UncheckedInterruptedException(e);
+                }
+            });
+            return partitionedByError(entryStream);
+        };
     }
 
-    private PartitionedByError<ReconcilableTopic, Void> createPartitions(List<Pair<ReconcilableTopic, NewPartitions>> someCreatePartitions) {
+    private Supplier<PartitionedByError<ReconcilableTopic, Void>> createPartitions(List<Pair<ReconcilableTopic, NewPartitions>> someCreatePartitions) {
         if (someCreatePartitions.isEmpty()) {
-            return new PartitionedByError<>(List.of(), List.of());
+            return () -> new PartitionedByError<>(List.of(), List.of());
         }
         Map<String, NewPartitions> newPartitions = someCreatePartitions.stream().collect(Collectors.toMap(pair -> pair.getKey().topicName(), Pair::getValue));
         LOGGER.debugOp("Admin.createPartitions({})", newPartitions);
@@ -857,27 +977,75 @@ public class BatchingTopicController {
             }
         });
         var createPartitionsResult = cpr.values();
-        var entryStream = someCreatePartitions.stream().map(entry -> {
-            try {
-                createPartitionsResult.get(entry.getKey().topicName()).get();
-                return pair(entry.getKey(), Either.<TopicOperatorException, Void>ofRight(null));
-            } catch (ExecutionException e) {
-                return pair(entry.getKey(), Either.<TopicOperatorException, Void>ofLeft(handleAdminException(e)));
-            } catch (InterruptedException e) {
-                throw new UncheckedInterruptedException(e);
-            }
-        });
-        return partitionedByError(entryStream);
+        return () -> {
+            var entryStream = someCreatePartitions.stream().map(entry -> {
+                try {
+                    createPartitionsResult.get(entry.getKey().topicName()).get();
+                    return pair(entry.getKey(), Either.<TopicOperatorException, Void>ofRight(null));
+                } catch (ExecutionException e) {
+                    return pair(entry.getKey(), Either.<TopicOperatorException, Void>ofLeft(handleAdminException(e)));
+                } catch (InterruptedException e) {
+                    throw new UncheckedInterruptedException(e);
+                }
+            });
+            return partitionedByError(entryStream);
+        };
     }
 
     private static ConfigResource topicConfigResource(String tn) {
         return new ConfigResource(ConfigResource.Type.TOPIC, tn);
     }
 
-    private PartitionedByError<ReconcilableTopic, CurrentState> describeTopic(List<ReconcilableTopic> batch) {
+    /**
+     * Gets the current state of the topics in Kafka, from the topic metadata snapshot when enabled.
+     * The topics which are not in the snapshot are described in Kafka.
+     */
+    private Supplier<PartitionedByError<ReconcilableTopic, CurrentState>> describeTopic(List<ReconcilableTopic> batch) {
+        if (!snapshot.isEnabled() || batch.isEmpty()) {
+            return describeTopicInKafka(batch);
+        }
+
+        snapshot.refreshIfStale(System.currentTimeMillis());
+        var partitionedBySnapshot = batch.stream()
+            .collect(Collectors.partitioningBy(reconcilableTopic -> snapshotState(reconcilableTopic) != null));
+        var hits = partitionedBySnapshot.get(true);
+        var misses = partitionedBySnapshot.get(false);
+        metrics.topicMetadataSnapshotHitsCounter(namespace).increment(hits.size());
+        metrics.topicMetadataSnapshotMissesCounter(namespace).increment(misses.size());
+
+        List<Pair<ReconcilableTopic, Either<TopicOperatorException, CurrentState>>> fromSnapshot = hits.stream()
+            .map(reconcilableTopic -> pair(reconcilableTopic, Either.<TopicOperatorException, CurrentState>ofRight(snapshotState(reconcilableTopic))))
+            .toList();
+        var pendingDescribe = describeTopicInKafka(misses);
+        return () -> {
+            var described = pendingDescribe.get();
+            described.ok().forEach(pair -> snapshot.update(pair.getKey().topicName(), pair.getValue()));
+            return partitionedByError(Stream.of(fromSnapshot.stream(), described.okList().stream(), described.errorsList().stream()).flatMap(Function.identity()));
+        };
+    }
+
+    /**
+     * @return The state of the topic from the topic metadata snapshot or null if the topic has to be described in Kafka
+     * (it's not in the snapshot, it has a replicas change in progress, or the snapshot lacks some of its configs
+     * because they have their Kafka default values)
+     */
+    private CurrentState snapshotState(ReconcilableTopic reconcilableTopic) {
+        var kt = reconcilableTopic.kt();
+        var state = snapshot.get(reconcilableTopic.topicName());
+        if (state == null || hasReplicasChange(kt.getStatus())) {
+            return null;
+        } else if (hasConfig(kt) && kt.getSpec().getConfig().keySet().stream().anyMatch(key -> state.configs().get(key) == null)) {
+            return null;
+        } else {
+            return state;
+        }
+    }
+
+    private Supplier<PartitionedByError<ReconcilableTopic, CurrentState>> describeTopicInKafka(List<ReconcilableTopic> batch) {
         if (batch.isEmpty()) {
-            return new PartitionedByError<>(List.of(), List.of());
+            return () -> new PartitionedByError<>(List.of(), List.of());
         }
+        Timer.Sample describeTimerSample = startOperationTimer(enableAdditionalMetrics, metrics);
         Set<ConfigResource> configResources = batch.stream()
                 .map(reconcilableTopic -> topicConfigResource(reconcilableTopic.topicName()))
                 .collect(Collectors.toSet());
@@ -914,31 +1082,46 @@ public class BatchingTopicController {
 
         var cs1 = describeTopicsResult.topicNameValues();
         var cs2 = describeConfigsResult.values();
-        return partitionedByError(batch.stream().map(reconcilableTopic -> {
-            Config configs = null;
-            TopicDescription description = null;
-            ExecutionException exception = null;
-            try {
-                description = cs1.get(reconcilableTopic.topicName()).get();
-            } catch (ExecutionException e) {
-                exception = e;
-            } catch (InterruptedException e) {
-                throw new UncheckedInterruptedException(e);
-            }
+        return () -> {
+            var currentStates = partitionedByError(batch.stream().map(reconcilableTopic -> {
+                Config configs = null;
+                TopicDescription description = null;
+                ExecutionException exception = null;
+                try {
+                    description = cs1.get(reconcilableTopic.topicName()).get();
+                } catch (ExecutionException e) {
+                    exception = e;
+                } catch (InterruptedException e) {
+                    throw new UncheckedInterruptedException(e);
+                }
 
-            try {
-                configs = cs2.get(topicConfigResource(reconcilableTopic.topicName())).get();
-            } catch (ExecutionException e) {
-                exception = e;
-            } catch (InterruptedException e) {
-                throw new UncheckedInterruptedException(e);
-            }
-            if (exception != null) {
-                return pair(reconcilableTopic, Either.ofLeft(handleAdminException(exception)));
-            } else {
-                return pair(reconcilableTopic, Either.ofRight(new CurrentState(description, configs)));
-            }
-        }));
+                try {
+                    configs = cs2.get(topicConfigResource(reconcilableTopic.topicName())).get();
+                } catch (ExecutionException e) {
+                    exception = e;
+                } catch (InterruptedException e) {
+                    throw new UncheckedInterruptedException(e);
+                }
+                if (exception != null) {
+                    return pair(reconcilableTopic, Either.ofLeft(handleAdminException(exception)));
+                } else {
+                    return pair(reconcilableTopic, Either.ofRight(new CurrentState(description, configs)));
+                }
+            }));
+            stopOperationTimer(describeTimerSample, metrics::describePhaseTimer, enableAdditionalMetrics, namespace);
+            return currentStates;
+        };
+    }
+
+    /**
+     * Stops the controller, waiting for the queued status updates to be written.
+     *
+     * @param timeoutMs The maximum time to wait
+     *
+     * @throws InterruptedException If interrupted while waiting
+     */
+    void stop(long timeoutMs) throws InterruptedException {
+        statusWriter.stop(timeoutMs);
     }
 
     void onDelete(List<ReconcilableTopic> batch) throws InterruptedException {
@@ -1063,6 +1246,9 @@ public class BatchingTopicController {
     }
 
     private void forgetTopic(ReconcilableTopic reconcilableTopic) {
+        fingerprints.forget(reconcilableTopic.kt());
+        snapshot.invalidate(reconcilableTopic.topicName());
+        statusWriter.forget(reconcilableTopic.kt());
         topics.compute(reconcilableTopic.topicName(), (k, v) -> {
             if (v != null) {
                 v.remove(new KubeRef(reconcilableTopic.kt()));
@@ -1167,79 +1353,6 @@ public class BatchingTopicController {
     }
 
     private void updateStatus(ReconcilableTopic reconcilableTopic) {
-        var oldStatus = Crds.topicOperation(kubeClient)
-            .inNamespace(reconcilableTopic.kt().getMetadata().getNamespace())
-            .withName(reconcilableTopic.kt().getMetadata().getName()).get().getStatus();
-        if (statusChanged(reconcilableTopic.kt(), oldStatus)) {
-            // the observedGeneration is initialized to 0 when creating a paused topic (oldStatus null, paused true)
-            // this will result in metadata.generation: 1 > status.observedGeneration: 0 (not reconciled)
-            reconcilableTopic.kt().getStatus().setObservedGeneration(reconcilableTopic.kt().getStatus() != null && oldStatus != null
-                ? !isPaused(reconcilableTopic.kt()) ? reconcilableTopic.kt().getMetadata().getGeneration() : oldStatus.getObservedGeneration()
-                : !isPaused(reconcilableTopic.kt()) ? reconcilableTopic.kt().getMetadata().getGeneration() : 0L);
-            reconcilableTopic.kt().getStatus().setTopicName(!isManaged(reconcilableTopic.kt()) ? null
-                : oldStatus != null && oldStatus.getTopicName() != null ? oldStatus.getTopicName()
-                : topicName(reconcilableTopic.kt()));
-            var updatedTopic = new KafkaTopicBuilder(reconcilableTopic.kt())
-                .editOrNewMetadata()
-                .withResourceVersion(null)
-                .endMetadata()
-                .withStatus(reconcilableTopic.kt().getStatus())
-                .build();
-            LOGGER.debugCr(reconcilableTopic.reconciliation(), "Updating status with {}", updatedTopic.getStatus());
-            Timer.Sample timerSample = startOperationTimer(enableAdditionalMetrics, metrics);
-            try {
-                var got = Crds.topicOperation(kubeClient).resource(updatedTopic).updateStatus();
-                stopOperationTimer(timerSample, metrics::updateStatusTimer, enableAdditionalMetrics, namespace);
-                LOGGER.traceCr(reconcilableTopic.reconciliation(), "Updated status to observedGeneration {}, resourceVersion {}",
-                    got.getStatus().getObservedGeneration(), got.getMetadata().getResourceVersion());
-            } catch (Throwable e) {
-                LOGGER.errorOp("Status update failed: {}", e.getMessage());
-            }
-        }
-    }
-
-    private boolean statusChanged(KafkaTopic kt, KafkaTopicStatus oldStatus) {
-        return oldStatusOrTopicNameMissing(oldStatus)
-            || nonPausedAndDifferentGenerations(kt, oldStatus)
-            || differentConditions(kt.getStatus().getConditions(), oldStatus.getConditions())
-            || replicasChangesDiffer(kt, oldStatus);
-    }
-
-    private boolean oldStatusOrTopicNameMissing(KafkaTopicStatus oldStatus) {
-        return oldStatus == null || oldStatus.getTopicName() == null;
-    }
-
-    private boolean nonPausedAndDifferentGenerations(KafkaTopic kt, KafkaTopicStatus oldStatus) {
-        return !isPaused(kt) && oldStatus.getObservedGeneration() != kt.getMetadata().getGeneration();
-    }
-    
-    private boolean differentConditions(List<Condition> newConditions, List<Condition> oldConditions) {
-        if (Objects.equals(newConditions, oldConditions)) {
-            return false;
-        } else if (newConditions == null || oldConditions == null || newConditions.size() != oldConditions.size()) {
-            return true;
-        } else {
-            for (int i = 0; i < newConditions.size(); i++) {
-                if (conditionsDiffer(newConditions.get(i), oldConditions.get(i))) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-    private boolean conditionsDiffer(Condition newCondition, Condition oldCondition) {
-        return !Objects.equals(newCondition.getType(), oldCondition.getType())
-            || !Objects.equals(newCondition.getStatus(), oldCondition.getStatus())
-            || !Objects.equals(newCondition.getReason(), oldCondition.getReason())
-            || !Objects.equals(newCondition.getMessage(), oldCondition.getMessage());
-    }
-
-    @SuppressWarnings("BooleanExpressionComplexity")
-    private boolean replicasChangesDiffer(KafkaTopic kt, KafkaTopicStatus oldStatus) {
-        return kt.getStatus().getReplicasChange() == null && oldStatus.getReplicasChange() != null
-            || kt.getStatus().getReplicasChange() != null && oldStatus.getReplicasChange() == null
-            || (kt.getStatus().getReplicasChange() != null && oldStatus.getReplicasChange() != null 
-                && !Objects.equals(kt.getStatus().getReplicasChange(), oldStatus.getReplicasChange()));
+        statusWriter.write(reconcilableTopic);
     }
 }
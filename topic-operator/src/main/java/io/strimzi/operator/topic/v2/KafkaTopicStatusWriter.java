@@ -0,0 +1,311 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.common.Condition;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicStatus;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.strimzi.operator.topic.v2.TopicOperatorUtil.isManaged;
+import static io.strimzi.operator.topic.v2.TopicOperatorUtil.isPaused;
+import static io.strimzi.operator.topic.v2.TopicOperatorUtil.startOperationTimer;
+import static io.strimzi.operator.topic.v2.TopicOperatorUtil.stopOperationTimer;
+import static io.strimzi.operator.topic.v2.TopicOperatorUtil.topicName;
+
+/**
+ * Writes the statuses of the KafkaTopics after their reconciliation.
+ *
+ * The writer remembers the last status it wrote for each KafkaTopic together with the resource version of the KafkaTopic
+ * after the write, so that a status which did not change is dropped without reading the KafkaTopic from Kubernetes.
+ * This is done only when the reconciled KafkaTopic still has the remembered resource version. Otherwise, the KafkaTopic
+ * was changed by someone else in the meantime (for example its status was edited or cleared), so the status is
+ * compared with the one stored in Kubernetes and written only if it differs.
+ *
+ * With a concurrency of 0 the statuses are written synchronously by the thread reconciling the KafkaTopics. Otherwise,
+ * the status updates are queued and written by the given number of threads, so that the reconciliation can continue
+ * with the next batch. The updates of a KafkaTopic are always written by the same thread, in the order they were
+ * submitted, and they are coalesced while they are queued, so only the latest status is written. In both modes, the
+ * number of updates per second can be limited.
+ */
+class KafkaTopicStatusWriter {
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaTopicStatusWriter.class);
+
+    private final KubernetesClient kubeClient;
+    private final TopicOperatorMetricsHolder metrics;
+    private final String namespace;
+    private final boolean enableAdditionalMetrics;
+    private final long minWriteIntervalNs;
+    private final ExecutorService[] executors;
+
+    // Key: KafkaTopic, Value: The last status written for it
+    private final Map<KubeRef, WrittenStatus> lastWritten = new ConcurrentHashMap<>();
+    // Key: KafkaTopic, Value: The status update waiting to be written; guarded by itself
+    private final Map<KubeRef, PendingStatus> pending = new HashMap<>();
+    private final AtomicInteger queueSize;
+    private long nextWriteNs = Long.MIN_VALUE; // guarded by this
+
+    /**
+     * @param kubeClient                Kubernetes client
+     * @param concurrency               The number of threads writing the statuses. 0 or less writes them synchronously.
+     * @param maxRate                   The maximum number of status updates per second. 0 or less disables the limit.
+     * @param metrics                   Metrics holder
+     * @param namespace                 Namespace of the KafkaTopics
+     * @param enableAdditionalMetrics   Whether the additional metrics are enabled
+     */
+    KafkaTopicStatusWriter(KubernetesClient kubeClient,
+                           int concurrency,
+                           int maxRate,
+                           TopicOperatorMetricsHolder metrics,
+                           String namespace,
+                           boolean enableAdditionalMetrics) {
+        this.kubeClient = kubeClient;
+        this.metrics = metrics;
+        this.namespace = namespace;
+        this.enableAdditionalMetrics = enableAdditionalMetrics;
+        this.minWriteIntervalNs = maxRate > 0 ? TimeUnit.SECONDS.toNanos(1) / maxRate : 0;
+        this.queueSize = metrics.statusUpdatesQueueSize(namespace);
+        this.executors = new ExecutorService[Math.max(concurrency, 0)];
+        for (int i = 0; i < executors.length; i++) {
+            String threadName = "KafkaTopicStatusWriter-" + i;
+            executors[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Writes the status of the KafkaTopic, or queues it to be written when the writer is asynchronous.
+     * The status is dropped if it did not change since it was last written.
+     *
+     * @param reconcilableTopic The reconciled KafkaTopic with its new status
+     */
+    void write(ReconcilableTopic reconcilableTopic) {
+        var kt = reconcilableTopic.kt();
+        var ref = new KubeRef(kt);
+        synchronized (pending) {
+            // a queued update has to be replaced even if the new status matches the last written one
+            if (!pending.containsKey(ref)) {
+                var written = lastWritten.get(ref);
+                if (written != null
+                        && Objects.equals(written.resourceVersion(), kt.getMetadata().getResourceVersion())
+                        && !statusChanged(kt, written.status())) {
+                    LOGGER.debugCr(reconcilableTopic.reconciliation(), "Status did not change since it was last written");
+                    metrics.statusUpdatesSkippedCounter(namespace).increment();
+                    return;
+                }
+            }
+
+            if (executors.length > 0) {
+                // the KafkaTopic is copied, so that the next reconciliation does not change the queued status
+                var copy = new ReconcilableTopic(reconcilableTopic.reconciliation(), new KafkaTopicBuilder(kt).build(), reconcilableTopic.topicName());
+                if (pending.put(ref, new PendingStatus(copy, System.nanoTime())) == null) {
+                    queueSize.set(pending.size());
+                    executors[Math.floorMod(ref.hashCode(), executors.length)].execute(() -> writeNext(ref));
+                } else {
+                    LOGGER.debugCr(reconcilableTopic.reconciliation(), "Status update coalesced with the queued one");
+                }
+                return;
+            }
+        }
+
+        long submittedNs = System.nanoTime();
+        writeStatus(reconcilableTopic);
+        metrics.statusUpdatesLatencyTimer(namespace).record(System.nanoTime() - submittedNs, TimeUnit.NANOSECONDS);
+    }
+
+    private void writeNext(KubeRef ref) {
+        PendingStatus next;
+        synchronized (pending) {
+            next = pending.remove(ref);
+            queueSize.set(pending.size());
+            // while this update is being written, the next ones must not be compared with the previous status
+            lastWritten.remove(ref);
+        }
+
+        try {
+            writeStatus(next.reconcilableTopic());
+        } catch (Throwable e) {
+            LOGGER.errorCr(next.reconcilableTopic().reconciliation(), "Status update failed", e);
+        }
+        metrics.statusUpdatesLatencyTimer(namespace).record(System.nanoTime() - next.submittedNs(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Forgets the last status written for the KafkaTopic, e.g. when the KafkaTopic is deleted.
+     *
+     * @param kt    The KafkaTopic
+     */
+    void forget(KafkaTopic kt) {
+        lastWritten.remove(new KubeRef(kt));
+    }
+
+    /**
+     * Stops the writer, waiting for the queued status updates to be written.
+     *
+     * @param timeoutMs The maximum time to wait
+     *
+     * @throws InterruptedException If interrupted while waiting
+     */
+    void stop(long timeoutMs) throws InterruptedException {
+        long deadlineNs = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        for (ExecutorService executor : executors) {
+            executor.shutdown();
+        }
+        for (ExecutorService executor : executors) {
+            if (!executor.awaitTermination(Math.max(deadlineNs - System.nanoTime(), 0), TimeUnit.NANOSECONDS)) {
+                LOGGER.warnOp("{} status updates were not written before stopping", queueSize.get());
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private void awaitRateLimit() {
+        if (minWriteIntervalNs <= 0) {
+            return;
+        }
+
+        long waitNs;
+        synchronized (this) {
+            long nowNs = System.nanoTime();
+            long writeAtNs = nextWriteNs == Long.MIN_VALUE ? nowNs : Math.max(nowNs, nextWriteNs);
+            nextWriteNs = writeAtNs + minWriteIntervalNs;
+            waitNs = writeAtNs - nowNs;
+        }
+
+        if (waitNs > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNs);
+            } catch (InterruptedException e) {
+                throw new UncheckedInterruptedException(e);
+            }
+        }
+    }
+
+    private void writeStatus(ReconcilableTopic reconcilableTopic) {
+        awaitRateLimit();
+        var current = Crds.topicOperation(kubeClient)
+            .inNamespace(reconcilableTopic.kt().getMetadata().getNamespace())
+            .withName(reconcilableTopic.kt().getMetadata().getName()).get();
+        if (current == null) {
+            LOGGER.debugCr(reconcilableTopic.reconciliation(), "KafkaTopic was deleted before its status was updated");
+            return;
+        }
+        var oldStatus = current.getStatus();
+        if (statusChanged(reconcilableTopic.kt(), oldStatus)) {
+            // the observedGeneration is initialized to 0 when creating a paused topic (oldStatus null, paused true)
+            // this will result in metadata.generation: 1 > status.observedGeneration: 0 (not reconciled)
+            reconcilableTopic.kt().getStatus().setObservedGeneration(reconcilableTopic.kt().getStatus() != null && oldStatus != null
+                ? !isPaused(reconcilableTopic.kt()) ? reconcilableTopic.kt().getMetadata().getGeneration() : oldStatus.getObservedGeneration()
+                : !isPaused(reconcilableTopic.kt()) ? reconcilableTopic.kt().getMetadata().getGeneration() : 0L);
+            reconcilableTopic.kt().getStatus().setTopicName(!isManaged(reconcilableTopic.kt()) ? null
+                : oldStatus != null && oldStatus.getTopicName() != null ? oldStatus.getTopicName()
+                : topicName(reconcilableTopic.kt()));
+            var updatedTopic = new KafkaTopicBuilder(reconcilableTopic.kt())
+                .editOrNewMetadata()
+                .withResourceVersion(null)
+                .endMetadata()
+                .withStatus(reconcilableTopic.kt().getStatus())
+                .build();
+            LOGGER.debugCr(reconcilableTopic.reconciliation(), "Updating status with {}", updatedTopic.getStatus());
+            Timer.Sample timerSample = startOperationTimer(enableAdditionalMetrics, metrics);
+            try {
+                var got = Crds.topicOperation(kubeClient).resource(updatedTopic).updateStatus();
+                stopOperationTimer(timerSample, metrics::updateStatusTimer, enableAdditionalMetrics, namespace);
+                lastWritten.put(new KubeRef(got), new WrittenStatus(got.getStatus(), got.getMetadata().getResourceVersion()));
+                LOGGER.traceCr(reconcilableTopic.reconciliation(), "Updated status to observedGeneration {}, resourceVersion {}",
+                    got.getStatus().getObservedGeneration(), got.getMetadata().getResourceVersion());
+            } catch (KubernetesClientException e) {
+                if (e.getCode() == 409) {
+                    metrics.statusUpdatesConflictsCounter(namespace).increment();
+                }
+                LOGGER.errorOp("Status update failed: {}", e.getMessage());
+            } catch (Throwable e) {
+                LOGGER.errorOp("Status update failed: {}", e.getMessage());
+            }
+        } else {
+            lastWritten.put(new KubeRef(current), new WrittenStatus(oldStatus, current.getMetadata().getResourceVersion()));
+        }
+    }
+
+    private boolean statusChanged(KafkaTopic kt, KafkaTopicStatus oldStatus) {
+        return oldStatusOrTopicNameMissing(oldStatus)
+            || nonPausedAndDifferentGenerations(kt, oldStatus)
+            || differentConditions(kt.getStatus().getConditions(), oldStatus.getConditions())
+            || replicasChangesDiffer(kt, oldStatus);
+    }
+
+    private boolean oldStatusOrTopicNameMissing(KafkaTopicStatus oldStatus) {
+        return oldStatus == null || oldStatus.getTopicName() == null;
+    }
+
+    private boolean nonPausedAndDifferentGenerations(KafkaTopic kt, KafkaTopicStatus oldStatus) {
+        return !isPaused(kt) && oldStatus.getObservedGeneration() != kt.getMetadata().getGeneration();
+    }
+    
+    private boolean differentConditions(List<Condition> newConditions, List<Condition> oldConditions) {
+        if (Objects.equals(newConditions, oldConditions)) {
+            return false;
+        } else if (newConditions == null || oldConditions == null || newConditions.size() != oldConditions.size()) {
+            return true;
+        } else {
+            for (int i = 0; i < newConditions.size(); i++) {
+                if (conditionsDiffer(newConditions.get(i), oldConditions.get(i))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean conditionsDiffer(Condition newCondition, Condition oldCondition) {
+        return !Objects.equals(newCondition.getType(), oldCondition.getType())
+            || !Objects.equals(newCondition.getStatus(), oldCondition.getStatus())
+            || !Objects.equals(newCondition.getReason(), oldCondition.getReason())
+            || !Objects.equals(newCondition.getMessage(), oldCondition.getMessage());
+    }
+
+    @SuppressWarnings("BooleanExpressionComplexity")
+    private boolean replicasChangesDiffer(KafkaTopic kt, KafkaTopicStatus oldStatus) {
+        return kt.getStatus().getReplicasChange() == null && oldStatus.getReplicasChange() != null
+            || kt.getStatus().getReplicasChange() != null && oldStatus.getReplicasChange() == null
+            || (kt.getStatus().getReplicasChange() != null && oldStatus.getReplicasChange() != null 
+                && !Objects.equals(kt.getStatus().getReplicasChange(), oldStatus.getReplicasChange()));
+    }
+
+    /**
+     * Status last written for a KafkaTopic
+     *
+     * @param status            The status
+     * @param resourceVersion   The resource version of the KafkaTopic with this status
+     */
+    private record WrittenStatus(KafkaTopicStatus status, String resourceVersion) { }
+
+    /**
+     * Status update waiting to be written
+     *
+     * @param reconcilableTopic The KafkaTopic with the status to write
+     * @param submittedNs       The time the update was submitted
+     */
+    private record PendingStatus(ReconcilableTopic reconcilableTopic, long submittedNs) { }
+}
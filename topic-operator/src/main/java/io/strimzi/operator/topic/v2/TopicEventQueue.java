@@ -0,0 +1,216 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded FIFO queue of {@link TopicEvent}s which holds at most one pending entry per {@link KubeRef}.
+ * Repeated events for the same KafkaTopic are coalesced into the pending entry instead of being queued again:
+ * <ul>
+ *     <li>A newer upsert replaces a pending upsert (the upsert is reconciled using the latest KafkaTopic from the
+ *     informer anyway).</li>
+ *     <li>A delete replaces any pending events.</li>
+ *     <li>An upsert following a pending delete (i.e. the KafkaTopic was recreated) is kept together with the delete,
+ *     and the delete is taken first.</li>
+ * </ul>
+ * The capacity limits the number of distinct KafkaTopics in the queue, so the memory is bounded by the number of
+ * KafkaTopics regardless of how many events the informer delivers.
+ */
+class TopicEventQueue {
+    /**
+     * Result of offering an event to the queue
+     */
+    enum OfferResult {
+        /**
+         * The event was added to the end of the queue
+         */
+        ENQUEUED,
+
+        /**
+         * The event was coalesced into the pending entry of the same KafkaTopic
+         */
+        COALESCED,
+
+        /**
+         * The queue is full and the event was not added
+         */
+        SHED
+    }
+
+    private final int capacity;
+    private final Deque<KubeRef> order = new ArrayDeque<>();
+    private final Map<KubeRef, Pending> pending = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Creates the queue
+     *
+     * @param capacity  Maximal number of distinct KafkaTopics in the queue
+     */
+    TopicEventQueue(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds the event to the end of the queue or coalesces it with the pending entry of the same KafkaTopic.
+     * When the queue is full, it either waits for a free space or sheds the event.
+     *
+     * @param event     The event
+     * @param shed      Whether the event should be shed when the queue is full instead of waiting for a free space
+     *
+     * @return  The result indicating whether the event was added, coalesced or shed
+     *
+     * @throws InterruptedException If interrupted while waiting for a free space
+     */
+    OfferResult offer(TopicEvent event, boolean shed) throws InterruptedException {
+        KubeRef ref = event.toRef();
+
+        lock.lock();
+        try {
+            Pending existing = pending.get(ref);
+            if (existing != null) {
+                pending.put(ref, existing.with(event));
+                return OfferResult.COALESCED;
+            }
+
+            while (pending.size() >= capacity) {
+                if (shed) {
+                    return OfferResult.SHED;
+                }
+
+                notFull.await();
+
+                // The event might have been queued by another thread while we were waiting
+                existing = pending.get(ref);
+                if (existing != null) {
+                    pending.put(ref, existing.with(event));
+                    return OfferResult.COALESCED;
+                }
+            }
+
+            order.addLast(ref);
+            pending.put(ref, Pending.of(event));
+            notEmpty.signal();
+            return OfferResult.ENQUEUED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the event which was already taken from the queue back to its head, e.g. because the KafkaTopic is still
+     * being reconciled. Such events are not subject to the capacity since they were already counted before. When
+     * newer events for the same KafkaTopic were queued in the meantime, the event is coalesced with them.
+     *
+     * @param event     The event
+     */
+    void requeue(TopicEvent event) {
+        KubeRef ref = event.toRef();
+
+        lock.lock();
+        try {
+            Pending existing = pending.get(ref);
+            if (existing != null) {
+                pending.put(ref, Pending.of(event).with(existing));
+            } else {
+                order.addFirst(ref);
+                pending.put(ref, Pending.of(event));
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the event from the head of the queue, waiting up to the timeout for an event to become available.
+     *
+     * @param timeout   Timeout
+     * @param unit      Unit of the timeout
+     *
+     * @return  The event or null if no event was available within the timeout
+     *
+     * @throws InterruptedException If interrupted while waiting
+     */
+    TopicEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNs = unit.toNanos(timeout);
+
+        lock.lock();
+        try {
+            while (order.isEmpty()) {
+                if (remainingNs <= 0) {
+                    return null;
+                }
+
+                remainingNs = notEmpty.awaitNanos(remainingNs);
+            }
+
+            KubeRef ref = order.peekFirst();
+            Pending head = pending.get(ref);
+
+            if (head.delete() != null && head.upsert() != null) {
+                // The delete is taken first and the upsert stays at the head of the queue
+                pending.put(ref, new Pending(null, head.upsert()));
+                return head.delete();
+            }
+
+            order.pollFirst();
+            pending.remove(ref);
+            notFull.signal();
+
+            return head.delete() != null ? head.delete() : head.upsert();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return  The number of KafkaTopics with pending events
+     */
+    int size() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Pending events of a single KafkaTopic
+     *
+     * @param delete    Pending delete event or null
+     * @param upsert    Pending upsert event (which follows the delete if both are set) or null
+     */
+    private record Pending(TopicDelete delete, TopicUpsert upsert) {
+        static Pending of(TopicEvent event) {
+            return event instanceof TopicDelete delete ? new Pending(delete, null) : new Pending(null, (TopicUpsert) event);
+        }
+
+        Pending with(TopicEvent newer) {
+            return newer instanceof TopicDelete newerDelete ? new Pending(newerDelete, null) : new Pending(delete, (TopicUpsert) newer);
+        }
+
+        Pending with(Pending newer) {
+            Pending merged = this;
+            if (newer.delete() != null) {
+                merged = merged.with(newer.delete());
+            }
+            if (newer.upsert() != null) {
+                merged = merged.with(newer.upsert());
+            }
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.operator.common.model.ExpiringDigests;
+import io.strimzi.operator.common.model.StatusUtils;
+import org.apache.kafka.clients.admin.ConfigEntry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static io.strimzi.operator.topic.v2.TopicOperatorUtil.hasReplicasChange;
+
+/**
+ * Remembers the KafkaTopics which were found in sync with Kafka by their last reconciliation, so that their resyncs
+ * can be skipped without describing the topics in Kafka.
+ *
+ * The fingerprint of a KafkaTopic consists of the parts of the resource which affect the reconciliation (the
+ * generation covers the spec) and of the topic state observed in Kafka (partitions, replication factor and the
+ * topic configs). A KafkaTopic is considered unchanged while its fingerprint matches and its status is Ready.
+ *
+ * Changes made directly in Kafka are not visible without describing the topic. So the fingerprints expire (see
+ * {@link ExpiringDigests}) and the next resync of the topic then does a full reconciliation, which is how the drift
+ * is detected. The Kafka part of the fingerprint is what tells such a drift from a change of the KafkaTopic.
+ */
+class TopicFingerprints {
+    // Key: KafkaTopic, Value: The fingerprint from the last reconciliation which found the topic in sync
+    private final ExpiringDigests<KubeRef, Fingerprint> fingerprints;
+
+    /**
+     * @param driftSweepIntervalMs  The maximum time for which a KafkaTopic is considered unchanged. 0 or less disables
+     *                              the skipping of unchanged KafkaTopics.
+     */
+    TopicFingerprints(long driftSweepIntervalMs) {
+        this.fingerprints = new ExpiringDigests<>(driftSweepIntervalMs);
+    }
+
+    /**
+     * @param kt    The KafkaTopic
+     * @param nowMs The current time in ms
+     *
+     * @return  True if the KafkaTopic did not change since it was last found in sync with Kafka and its fingerprint
+     *          did not expire yet.
+     */
+    boolean isUnchanged(KafkaTopic kt, long nowMs) {
+        Fingerprint fingerprint = fingerprints.getUnexpired(new KubeRef(kt), nowMs);
+        return fingerprint != null
+                && fingerprint.kubeState() == kubeState(kt)
+                && isReady(kt);
+    }
+
+    /**
+     * @param kt            The KafkaTopic
+     * @param currentState  The topic state observed in Kafka
+     *
+     * @return  True if the KafkaTopic did not change, but the topic in Kafka did since the last reconciliation
+     *          which found them in sync.
+     */
+    boolean hasDrifted(KafkaTopic kt, BatchingTopicController.CurrentState currentState) {
+        Fingerprint fingerprint = fingerprints.get(new KubeRef(kt));
+        return fingerprint != null
+                && fingerprint.kubeState() == kubeState(kt)
+                && fingerprint.kafkaState() != kafkaState(currentState);
+    }
+
+    /**
+     * Remembers the KafkaTopic as being in sync with the topic in Kafka.
+     *
+     * @param kt            The KafkaTopic
+     * @param currentState  The topic state observed in Kafka
+     * @param nowMs         The current time in ms
+     */
+    void remember(KafkaTopic kt, BatchingTopicController.CurrentState currentState, long nowMs) {
+        if (fingerprints.isEnabled()) {
+            fingerprints.put(new KubeRef(kt), new Fingerprint(kubeState(kt), kafkaState(currentState)), nowMs);
+        }
+    }
+
+    /**
+     * Forgets the KafkaTopic, so that its next reconciliation is a full one.
+     *
+     * @param kt    The KafkaTopic
+     */
+    void forget(KafkaTopic kt) {
+        fingerprints.remove(new KubeRef(kt));
+    }
+
+    /**
+     * @return  The number of remembered KafkaTopics
+     */
+    /* test */ int size() {
+        return fingerprints.size();
+    }
+
+    private static boolean isReady(KafkaTopic kt) {
+        return StatusUtils.isReadyInCurrentGeneration(kt) && !hasReplicasChange(kt.getStatus());
+    }
+
+    /* test */ static int kubeState(KafkaTopic kt) {
+        var metadata = kt.getMetadata();
+        return Objects.hash(metadata.getGeneration(), metadata.getLabels(), metadata.getAnnotations(), metadata.getFinalizers(), metadata.getDeletionTimestamp());
+    }
+
+    /* test */ static int kafkaState(BatchingTopicController.CurrentState currentState) {
+        Map<String, String> topicConfigs = new HashMap<>();
+        for (ConfigEntry entry : currentState.configs().entries()) {
+            if (entry.source() == ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG) {
+                topicConfigs.put(entry.name(), entry.value());
+            }
+        }
+
+        return Objects.hash(currentState.numPartitions(), currentState.uniqueReplicationFactor(), topicConfigs);
+    }
+
+    /**
+     * Fingerprint of a KafkaTopic in sync with Kafka
+     *
+     * @param kubeState     Hash of the KafkaTopic parts which affect the reconciliation
+     * @param kafkaState    Hash of the topic state observed in Kafka
+     */
+    private record Fingerprint(int kubeState, int kafkaState) { }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.config.ConfigResource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * An in-memory snapshot of the metadata (partitions, replica assignments and non-default configs) of all topics in
+ * Kafka. It lets the {@link BatchingTopicController} compare the KafkaTopics with Kafka without describing the topics
+ * in every batch.
+ *
+ * The snapshot is loaded with a few large describe calls (one per {@link #DESCRIBE_CHUNK_SIZE} topics) and reloaded
+ * chunk by chunk once the refresh interval passes. In between, the controller invalidates the topics it changes or
+ * deletes and updates them with the results of its own describe calls, which verify the changes.
+ *
+ * The snapshot is used only by the single thread of the {@link BatchingLoop}, so it is not thread-safe.
+ */
+class TopicMetadataSnapshot {
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicMetadataSnapshot.class);
+
+    /* test */ static final int DESCRIBE_CHUNK_SIZE = 1000;
+
+    private final Admin admin;
+    private final long refreshIntervalMs;
+    private final TopicOperatorMetricsHolder metrics;
+    private final String namespace;
+
+    // Key: topic name, Value: The topic state in Kafka
+    private final Map<String, BatchingTopicController.CurrentState> topics = new HashMap<>();
+    private long refreshedAtMs = Long.MIN_VALUE;
+
+    /**
+     * @param admin                 Kafka Admin client
+     * @param refreshIntervalMs     Interval in which the snapshot is reloaded. 0 or less disables the snapshot.
+     * @param metrics               Metrics holder
+     * @param namespace             Namespace of the KafkaTopics (used for the metrics)
+     */
+    TopicMetadataSnapshot(Admin admin, long refreshIntervalMs, TopicOperatorMetricsHolder metrics, String namespace) {
+        this.admin = admin;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.metrics = metrics;
+        this.namespace = namespace;
+    }
+
+    /**
+     * @return  True if the snapshot is enabled
+     */
+    boolean isEnabled() {
+        return refreshIntervalMs > 0;
+    }
+
+    /**
+     * Reloads the snapshot if it was not loaded yet or if the refresh interval passed since it was last loaded.
+     *
+     * @param nowMs     The current time in ms
+     */
+    void refreshIfStale(long nowMs) {
+        if (refreshedAtMs == Long.MIN_VALUE || nowMs - refreshedAtMs >= refreshIntervalMs) {
+            refresh();
+            refreshedAtMs = nowMs;
+        }
+    }
+
+    private void refresh() {
+        Timer.Sample timerSample = Timer.start(metrics.metricsProvider().meterRegistry());
+
+        Set<String> names;
+        try {
+            LOGGER.debugOp("Admin.listTopics()");
+            names = admin.listTopics(new ListTopicsOptions().listInternal(false)).names().get();
+        } catch (ExecutionException e) {
+            LOGGER.warnOp("Failed to list the topics for the topic metadata snapshot: {}", e.getCause().getMessage());
+            topics.clear();
+            return;
+        } catch (InterruptedException e) {
+            throw new UncheckedInterruptedException(e);
+        }
+
+        // remove the deleted topics and reload the others chunk by chunk
+        topics.keySet().retainAll(names);
+        List<String> chunk = new ArrayList<>(Math.min(names.size(), DESCRIBE_CHUNK_SIZE));
+        for (String name : names) {
+            chunk.add(name);
+            if (chunk.size() == DESCRIBE_CHUNK_SIZE) {
+                refreshChunk(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            refreshChunk(chunk);
+        }
+
+        timerSample.stop(metrics.topicMetadataSnapshotRefreshTimer(namespace));
+        LOGGER.debugOp("Topic metadata snapshot refreshed with {} topics", topics.size());
+    }
+
+    private void refreshChunk(List<String> names) {
+        Set<ConfigResource> configResources = names.stream()
+                .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
+                .collect(Collectors.toSet());
+
+        LOGGER.debugOp("Admin.describeTopics() and Admin.describeConfigs() for {} topics", names.size());
+        var descriptions = admin.describeTopics(names).topicNameValues();
+        var configs = admin.describeConfigs(configResources).values();
+
+        for (String name : names) {
+            try {
+                TopicDescription description = descriptions.get(name).get();
+                Config config = configs.get(new ConfigResource(ConfigResource.Type.TOPIC, name)).get();
+                update(name, new BatchingTopicController.CurrentState(description, config));
+            } catch (ExecutionException e) {
+                // e.g. the topic was deleted in the meantime; the controller will describe it itself
+                LOGGER.debugOp("Failed to describe topic {} for the topic metadata snapshot: {}", name, e.getCause().getMessage());
+                topics.remove(name);
+            } catch (InterruptedException e) {
+                throw new UncheckedInterruptedException(e);
+            }
+        }
+    }
+
+    /**
+     * @param topicName The name of the topic in Kafka
+     *
+     * @return  The state of the topic or null if it is not in the snapshot
+     */
+    BatchingTopicController.CurrentState get(String topicName) {
+        return topics.get(topicName);
+    }
+
+    /**
+     * Updates the state of the topic, e.g. with the result of describing it after a change
+     *
+     * @param topicName     The name of the topic in Kafka
+     * @param currentState  The state of the topic
+     */
+    void update(String topicName, BatchingTopicController.CurrentState currentState) {
+        // Only the configs which are not the Kafka defaults are kept to save memory
+        List<ConfigEntry> entries = currentState.configs().entries().stream()
+                .filter(entry -> entry.source() != ConfigEntry.ConfigSource.DEFAULT_CONFIG)
+                .toList();
+        topics.put(topicName, new BatchingTopicController.CurrentState(currentState.topicDescription(), new Config(entries)));
+    }
+
+    /**
+     * Removes the topic from the snapshot, so that it is described again before it is used.
+     *
+     * @param topicName The name of the topic in Kafka
+     */
+    void invalidate(String topicName) {
+        topics.remove(topicName);
+    }
+
+    /**
+     * @return  The number of topics in the snapshot
+     */
+    /* test */ int size() {
+        return topics.size();
+    }
+}
@@ -59,6 +59,15 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
  * @param cruiseControlCrtFilePath      Certificate chain to be trusted
  * @param cruiseControlApiUserPath      Api admin username file path
  * @param cruiseControlApiPassPath      Api admin password file path
+ * @param driftSweepIntervalMs          The maximum time, in ms, for which the resyncs of an unchanged KafkaTopic are skipped
+ *                                      before the topic is compared with Kafka again (0 disables skipping)
+ * @param topicMetadataSnapshotIntervalMs The interval, in ms, in which the snapshot of the topic metadata is reloaded
+ *                                      from Kafka (0 disables the snapshot)
+ * @param pipelinedReconciliation       Whether to overlap describing the topics of one batch with finishing the
+ *                                      reconciliation of the previous batch
+ * @param statusUpdateConcurrency       The number of threads writing the KafkaTopic statuses (0 writes them synchronously
+ *                                      in the reconciliation thread)
+ * @param statusUpdateMaxRate           The maximum number of KafkaTopic status updates per second (0 disables the limit)
  */
 public record TopicOperatorConfig(
         String namespace,
@@ -90,7 +99,12 @@ public record TopicOperatorConfig(
         boolean cruiseControlAuthEnabled,
         String cruiseControlCrtFilePath,
         String cruiseControlApiUserPath,
-        String cruiseControlApiPassPath
+        String cruiseControlApiPassPath,
+        long driftSweepIntervalMs,
+        long topicMetadataSnapshotIntervalMs,
+        boolean pipelinedReconciliation,
+        int statusUpdateConcurrency,
+        int statusUpdateMaxRate
 ) {
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicOperatorConfig.class);
 
@@ -117,6 +131,11 @@ public record TopicOperatorConfig(
     static final ConfigParameter<Integer> MAX_BATCH_SIZE = new ConfigParameter<>("STRIMZI_MAX_BATCH_SIZE", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
     static final ConfigParameter<Long> MAX_BATCH_LINGER_MS = new ConfigParameter<>("STRIMZI_MAX_BATCH_LINGER_MS", strictlyPositive(LONG), "100", CONFIG_VALUES);
     static final ConfigParameter<Boolean> ENABLE_ADDITIONAL_METRICS = new ConfigParameter<>("STRIMZI_ENABLE_ADDITIONAL_METRICS", BOOLEAN, "false", CONFIG_VALUES);
+    static final ConfigParameter<Long> DRIFT_SWEEP_INTERVAL_MS = new ConfigParameter<>("STRIMZI_DRIFT_SWEEP_INTERVAL_MS", LONG, "0", CONFIG_VALUES);
+    static final ConfigParameter<Long> TOPIC_METADATA_SNAPSHOT_INTERVAL_MS = new ConfigParameter<>("STRIMZI_TOPIC_METADATA_SNAPSHOT_INTERVAL_MS", LONG, "0", CONFIG_VALUES);
+    static final ConfigParameter<Boolean> PIPELINED_RECONCILIATION = new ConfigParameter<>("STRIMZI_PIPELINED_RECONCILIATION", BOOLEAN, "false", CONFIG_VALUES);
+    static final ConfigParameter<Integer> STATUS_UPDATE_CONCURRENCY = new ConfigParameter<>("STRIMZI_STATUS_UPDATE_CONCURRENCY", INTEGER, "0", CONFIG_VALUES);
+    static final ConfigParameter<Integer> STATUS_UPDATE_MAX_RATE = new ConfigParameter<>("STRIMZI_STATUS_UPDATE_MAX_RATE", INTEGER, "0", CONFIG_VALUES);
     
     // Cruise Control integration
     static final ConfigParameter<Boolean> CRUISE_CONTROL_ENABLED = new ConfigParameter<>("STRIMZI_CRUISE_CONTROL_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
@@ -189,7 +208,12 @@ public record TopicOperatorConfig(
                 get(map, CRUISE_CONTROL_AUTH_ENABLED),
                 get(map, CRUISE_CONTROL_CRT_FILE_PATH),
                 get(map, CRUISE_CONTROL_API_USER_PATH),
-                get(map, CRUISE_CONTROL_API_PASS_PATH)
+                get(map, CRUISE_CONTROL_API_PASS_PATH),
+                get(map, DRIFT_SWEEP_INTERVAL_MS),
+                get(map, TOPIC_METADATA_SNAPSHOT_INTERVAL_MS),
+                get(map, PIPELINED_RECONCILIATION),
+                get(map, STATUS_UPDATE_CONCURRENCY),
+                get(map, STATUS_UPDATE_MAX_RATE)
         );
     }
 
@@ -303,6 +327,11 @@ public record TopicOperatorConfig(
                 "\n\tcruiseControlCrtFilePath=" + cruiseControlCrtFilePath +
                 "\n\tcruiseControlApiUserPath=" + cruiseControlApiUserPath +
                 "\n\tcruiseControlApiPassPath=" + cruiseControlApiPassPath +
+                "\n\tdriftSweepIntervalMs=" + driftSweepIntervalMs +
+                "\n\ttopicMetadataSnapshotIntervalMs=" + topicMetadataSnapshotIntervalMs +
+                "\n\tpipelinedReconciliation=" + pipelinedReconciliation +
+                "\n\tstatusUpdateConcurrency=" + statusUpdateConcurrency +
+                "\n\tstatusUpdateMaxRate=" + statusUpdateMaxRate +
                 '}';
     }
 }
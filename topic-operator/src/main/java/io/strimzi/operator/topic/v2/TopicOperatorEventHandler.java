@@ -57,9 +57,14 @@ class TopicOperatorEventHandler implements ResourceEventHandler<KafkaTopic> {
         } else if (!isReconciliationPausedWithAnnotation(oldObj) && isReconciliationPausedWithAnnotation(newObj)) {
             metrics.pausedResourceCounter(config.namespace()).incrementAndGet();
         }
-        queue.offer(new TopicUpsert(System.nanoTime(), newObj.getMetadata().getNamespace(),
+        TopicUpsert upsert = new TopicUpsert(System.nanoTime(), newObj.getMetadata().getNamespace(),
                 newObj.getMetadata().getName(),
-                newObj.getMetadata().getResourceVersion()));
+                newObj.getMetadata().getResourceVersion());
+        if (trigger.equals("resync")) {
+            queue.offerResync(upsert);
+        } else {
+            queue.offer(upsert);
+        }
     }
 
     @Override
@@ -39,6 +39,7 @@ import java.util.concurrent.ExecutionException;
 public class TopicOperatorMain implements Liveness, Readiness {
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicOperatorMain.class);
     private final static long INFORMER_PERIOD_MS = 2_000;
+    private final static long STATUS_WRITER_STOP_TIMEOUT_MS = 10_000;
     
     private final ResourceEventHandler<KafkaTopic> handler;
     private final String namespace;
@@ -68,7 +69,7 @@ public class TopicOperatorMain implements Liveness, Readiness {
         TopicOperatorMetricsHolder metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, Labels.fromMap(selector), metricsProvider);
         this.controller = new BatchingTopicController(config, selector, admin, client, metrics, new ReplicasChangeHandler(config));
         this.itemStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
-        this.queue = new BatchingLoop(config.maxQueueSize(), controller, 1, config.maxBatchSize(), config.maxBatchLingerMs(), itemStore, this::stop, metrics, namespace);
+        this.queue = new BatchingLoop(config.maxQueueSize(), controller, 1, config.maxBatchSize(), config.maxBatchLingerMs(), itemStore, metrics, namespace, config.pipelinedReconciliation());
         this.handler = new TopicOperatorEventHandler(config, queue, metrics);
         this.healthAndMetricsServer = new HealthCheckAndMetricsServer(8080, this, this, metricsProvider);
     }
@@ -132,6 +133,7 @@ public class TopicOperatorMain implements Liveness, Readiness {
                 informer = null;
             }
             this.queue.stop();
+            this.controller.stop(STATUS_WRITER_STOP_TIMEOUT_MS);
             this.admin.close();
             this.healthAndMetricsServer.stop();
             LOGGER.infoOp("Shutdown completed normally");
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.topic.v2.metrics;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.metrics.MetricsHolder;
@@ -19,6 +20,18 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class TopicOperatorMetricsHolder extends MetricsHolder {
     private final Map<String, AtomicInteger> reconciliationsMaxQueueMap = new ConcurrentHashMap<>(1);
     private final Map<String, AtomicInteger> reconciliationsMaxBatchMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> coalescedEventsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> shedEventsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> skippedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> fullReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> driftedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> topicMetadataSnapshotHitsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> topicMetadataSnapshotMissesCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> topicMetadataSnapshotRefreshTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> statusUpdatesQueueSizeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> statusUpdatesSkippedCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> statusUpdatesConflictsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> statusUpdatesLatencyTimerMap = new ConcurrentHashMap<>(1);
 
     // additional metrics, useful for tuning or monitoring specific internal operations
     private final Map<String, Timer> addFinalizerTimerMap = new ConcurrentHashMap<>(1);
@@ -31,6 +44,10 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
     private final Map<String, Timer> describeTopicsTimerMap = new ConcurrentHashMap<>(1);
     private final Map<String, Timer> describeConfigsTimerMap = new ConcurrentHashMap<>(1);
     private final Map<String, Timer> deleteTopicsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> preparePhaseTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> describePhaseTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> writePhaseTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> statusPhaseTimerMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the operator metrics holder.
@@ -94,6 +111,152 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
             metricsProvider, selectorLabels, reconciliationsMaxBatchMap, "Max size recorded for a single event batch");
     }
 
+    /**
+     * Counter metric for the number of events coalesced with the event already queued for the same resource.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter coalescedEventsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.coalesced.events",
+            metricsProvider, selectorLabels, coalescedEventsCounterMap, "Number of events coalesced with the event already queued for the same resource");
+    }
+
+    /**
+     * Counter metric for the number of resync events dropped because the event queue was full.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter shedEventsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.shed.events",
+            metricsProvider, selectorLabels, shedEventsCounterMap, "Number of resync events dropped because the event queue was full");
+    }
+
+    /**
+     * Counter metric for the number of reconciliations skipped because the KafkaTopic did not change since it was
+     * last in sync with Kafka.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter skippedReconciliationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.skipped",
+            metricsProvider, selectorLabels, skippedReconciliationsCounterMap, "Number of reconciliations skipped because the resource did not change");
+    }
+
+    /**
+     * Counter metric for the number of full reconciliations which compared the KafkaTopic with the topic in Kafka.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter fullReconciliationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.full",
+            metricsProvider, selectorLabels, fullReconciliationsCounterMap, "Number of full reconciliations which compared the resource with Kafka");
+    }
+
+    /**
+     * Counter metric for the number of topics found changed in Kafka while their KafkaTopics did not change.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter driftedReconciliationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.drifted",
+            metricsProvider, selectorLabels, driftedReconciliationsCounterMap, "Number of topics found changed in Kafka while their resources did not change");
+    }
+
+    /**
+     * Counter metric for the number of topics whose state was taken from the topic metadata snapshot.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter topicMetadataSnapshotHitsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "topic.metadata.snapshot.hits",
+            metricsProvider, selectorLabels, topicMetadataSnapshotHitsCounterMap, "Number of topics whose state was taken from the topic metadata snapshot");
+    }
+
+    /**
+     * Counter metric for the number of topics which had to be described in Kafka because they were not in the topic
+     * metadata snapshot.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter topicMetadataSnapshotMissesCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "topic.metadata.snapshot.misses",
+            metricsProvider, selectorLabels, topicMetadataSnapshotMissesCounterMap, "Number of topics described in Kafka because they were not in the topic metadata snapshot");
+    }
+
+    /**
+     * Timer which measures how long the reload of the topic metadata snapshot takes.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics timer
+     */
+    public Timer topicMetadataSnapshotRefreshTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "topic.metadata.snapshot.refresh",
+            metricsProvider, selectorLabels, topicMetadataSnapshotRefreshTimerMap, "The time the reload of the topic metadata snapshot takes");
+    }
+
+    /**
+     * Gauge which shows the number of KafkaTopic status updates waiting to be written.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics gauge
+     */
+    public AtomicInteger statusUpdatesQueueSize(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "status.updates.queue.size",
+            metricsProvider, selectorLabels, statusUpdatesQueueSizeMap, "Number of status updates waiting to be written");
+    }
+
+    /**
+     * Counter which counts the status updates dropped because the status did not change since it was last written.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter statusUpdatesSkippedCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "status.updates.skipped",
+            metricsProvider, selectorLabels, statusUpdatesSkippedCounterMap, "Number of status updates dropped because the status did not change since it was last written");
+    }
+
+    /**
+     * Counter which counts the status updates which failed with a conflict.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter statusUpdatesConflictsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "status.updates.conflicts",
+            metricsProvider, selectorLabels, statusUpdatesConflictsCounterMap, "Number of status updates which failed with a conflict");
+    }
+
+    /**
+     * Timer which measures the time from submitting a status update until it is written.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics timer
+     */
+    public Timer statusUpdatesLatencyTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "status.updates.latency",
+            metricsProvider, selectorLabels, statusUpdatesLatencyTimerMap, "The time from submitting a status update until it is written");
+    }
+
     /**
      * Timer which measures how long the addFinalizer Kubernetes operations take.
      *
@@ -213,4 +376,52 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
         return getFineGrainedTimer(namespace, kind, METRICS_PREFIX + "delete.topics.duration", metricsProvider, selectorLabels, deleteTopicsTimerMap,
             "The time the deleteTopics Kafka operation takes to complete");
     }
+
+    /**
+     * Timer which measures how long the prepare phase of the batch reconciliation takes.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics timer
+     */
+    public Timer preparePhaseTimer(String namespace) {
+        return getFineGrainedTimer(namespace, kind, METRICS_PREFIX + "reconciliations.phase.prepare.duration", metricsProvider, selectorLabels, preparePhaseTimerMap,
+            "The time the preparation phase of a batch reconciliation (deletions, finalizers and validation) takes");
+    }
+
+    /**
+     * Timer which measures how long the describe phase of the batch reconciliation takes.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics timer
+     */
+    public Timer describePhaseTimer(String namespace) {
+        return getFineGrainedTimer(namespace, kind, METRICS_PREFIX + "reconciliations.phase.describe.duration", metricsProvider, selectorLabels, describePhaseTimerMap,
+            "The time from sending the describe requests of a batch reconciliation until their results are used");
+    }
+
+    /**
+     * Timer which measures how long the write phase of the batch reconciliation takes.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics timer
+     */
+    public Timer writePhaseTimer(String namespace) {
+        return getFineGrainedTimer(namespace, kind, METRICS_PREFIX + "reconciliations.phase.write.duration", metricsProvider, selectorLabels, writePhaseTimerMap,
+            "The time the write phase of a batch reconciliation (topic creation, alterConfigs, createPartitions and replicas changes) takes");
+    }
+
+    /**
+     * Timer which measures how long the status phase of the batch reconciliation takes.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics timer
+     */
+    public Timer statusPhaseTimer(String namespace) {
+        return getFineGrainedTimer(namespace, kind, METRICS_PREFIX + "reconciliations.phase.status.duration", metricsProvider, selectorLabels, statusPhaseTimerMap,
+            "The time the status phase of a batch reconciliation takes");
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.strimzi.api.kafka.model.topic.KafkaTopic.RESOURCE_KIND;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures how fast the BatchingLoop fills its batches from a deep queue with the given number of threads. Every
+ * invocation offers the events of all the KafkaTopics to a new loop and waits until the threads handed them all to
+ * the controller, which does nothing with them.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=io.strimzi.operator.topic.v2.BatchingLoopBenchmark}
+ * from the topic-operator directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BatchingLoopBenchmark {
+    private static final String NAMESPACE = "batching-loop-benchmark";
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long MAX_BATCH_LINGER_MS = 1;
+
+    @Param({"10000", "100000"})
+    public int topics;
+
+    @Param({"1", "4", "16"})
+    public int threads;
+
+    private BasicItemStore<KafkaTopic> itemStore;
+    private TopicUpsert[] events;
+    private BatchingTopicController controller;
+    private TopicOperatorMetricsHolder metrics;
+    private final AtomicReference<CountDownLatch> reconciled = new AtomicReference<>();
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        itemStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+        events = new TopicUpsert[topics];
+        for (int i = 0; i < topics; i++) {
+            KafkaTopic kt = new KafkaTopicBuilder()
+                    .withNewMetadata()
+                        .withNamespace(NAMESPACE)
+                        .withName("topic-" + i)
+                        .withResourceVersion("1")
+                    .endMetadata()
+                    .build();
+            itemStore.put(Cache.metaNamespaceKeyFunc(kt), kt);
+            events[i] = new TopicUpsert(0, NAMESPACE, kt.getMetadata().getName(), "1");
+        }
+
+        metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        controller = mock(BatchingTopicController.class);
+        doAnswer(invocation -> {
+            CountDownLatch latch = reconciled.get();
+            for (int i = 0; i < invocation.<List<?>>getArgument(0).size(); i++) {
+                latch.countDown();
+            }
+            return null;
+        }).when(controller).onUpdate(anyList());
+    }
+
+    /**
+     * Reconciles the events of all the KafkaTopics
+     *
+     * @throws InterruptedException When interrupted while waiting for the reconciliations
+     */
+    @Benchmark
+    public void fillBatches() throws InterruptedException {
+        reconciled.set(new CountDownLatch(topics));
+        var loop = new BatchingLoop(topics, controller, threads, MAX_BATCH_SIZE, MAX_BATCH_LINGER_MS, itemStore, metrics, NAMESPACE, false);
+        for (TopicUpsert event : events) {
+            loop.offer(event);
+        }
+
+        loop.start();
+        reconciled.get().await();
+        loop.stop();
+    }
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args  Command line arguments (ignored)
+     *
+     * @throws RunnerException  When the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BatchingLoopBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
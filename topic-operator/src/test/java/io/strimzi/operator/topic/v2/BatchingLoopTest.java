@@ -0,0 +1,184 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.strimzi.api.kafka.model.topic.KafkaTopic.RESOURCE_KIND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchingLoopTest {
+    private static final String NAMESPACE = "ns";
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCompletePreviousBatchAfterStartingNextOneWhenPipelined() throws InterruptedException {
+        ItemStore<KafkaTopic> itemStore = mock(ItemStore.class);
+        when(itemStore.get(anyString())).thenAnswer(invocation -> {
+            String name = invocation.<String>getArgument(0).substring(NAMESPACE.length() + 1);
+            return new KafkaTopicBuilder().withNewMetadata().withNamespace(NAMESPACE).withName(name).endMetadata().build();
+        });
+
+        BatchingTopicController controller = mock(BatchingTopicController.class);
+        when(controller.onUpdateStart(anyList())).thenAnswer(invocation -> new BatchingTopicController.PendingUpdate(
+            invocation.getArgument(0), List.of(), new HashMap<>(), () -> null, 0));
+
+        var metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        var loop = new BatchingLoop(10, controller, 1, 1, 10, itemStore, metrics, NAMESPACE, true);
+        loop.offer(new TopicUpsert(0, NAMESPACE, "a", "1"));
+        loop.offer(new TopicUpsert(0, NAMESPACE, "b", "1"));
+        loop.start();
+        try {
+            verify(controller, timeout(10_000)).onUpdateComplete(argThat(pending -> isBatchOf(pending, "b")));
+            verify(controller, never()).onUpdate(any());
+
+            InOrder inOrder = inOrder(controller);
+            inOrder.verify(controller).onUpdateStart(argThat(topics -> isBatchOf(topics, "a")));
+            inOrder.verify(controller).onUpdateStart(argThat(topics -> isBatchOf(topics, "b")));
+            inOrder.verify(controller).onUpdateComplete(argThat(pending -> isBatchOf(pending, "a")));
+            inOrder.verify(controller).onUpdateComplete(argThat(pending -> isBatchOf(pending, "b")));
+        } finally {
+            loop.stop();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCompletePendingBatchWhenStopped() throws InterruptedException {
+        ItemStore<KafkaTopic> itemStore = mock(ItemStore.class);
+        when(itemStore.get(anyString())).thenAnswer(invocation -> {
+            String name = invocation.<String>getArgument(0).substring(NAMESPACE.length() + 1);
+            return new KafkaTopicBuilder().withNewMetadata().withNamespace(NAMESPACE).withName(name).endMetadata().build();
+        });
+
+        BatchingTopicController controller = mock(BatchingTopicController.class);
+        when(controller.onUpdateStart(anyList())).thenAnswer(invocation -> new BatchingTopicController.PendingUpdate(
+            invocation.getArgument(0), List.of(), new HashMap<>(), () -> null, 0));
+        AtomicBoolean interruptedOnComplete = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            interruptedOnComplete.set(Thread.currentThread().isInterrupted());
+            return null;
+        }).when(controller).onUpdateComplete(any());
+
+        var metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        // the long linger keeps the loop filling the next batch while the update of the first one is pending
+        var loop = new BatchingLoop(10, controller, 1, 1, 60_000, itemStore, metrics, NAMESPACE, true);
+        loop.offer(new TopicUpsert(0, NAMESPACE, "a", "1"));
+        loop.start();
+        verify(controller, timeout(10_000)).onUpdateStart(argThat(topics -> isBatchOf(topics, "a")));
+        verify(controller, never()).onUpdateComplete(any());
+
+        loop.stop();
+
+        verify(controller).onUpdateComplete(argThat(pending -> isBatchOf(pending, "a")));
+        assertFalse(interruptedOnComplete.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRejectTopicOfPendingBatch() throws InterruptedException {
+        ItemStore<KafkaTopic> itemStore = mock(ItemStore.class);
+        when(itemStore.get(anyString())).thenAnswer(invocation -> {
+            String name = invocation.<String>getArgument(0).substring(NAMESPACE.length() + 1);
+            return new KafkaTopicBuilder().withNewMetadata().withNamespace(NAMESPACE).withName(name).endMetadata().build();
+        });
+
+        var metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        BatchingTopicController controller = mock(BatchingTopicController.class);
+        var loop = new BatchingLoop(10, controller, 1, 1, 10, itemStore, metrics, NAMESPACE, true);
+        AtomicInteger starts = new AtomicInteger();
+        when(controller.onUpdateStart(anyList())).thenAnswer(invocation -> {
+            if (starts.getAndIncrement() == 0) {
+                // the topic changes again while its batch is pending
+                loop.offer(new TopicUpsert(0, NAMESPACE, "a", "2"));
+            }
+            return new BatchingTopicController.PendingUpdate(invocation.getArgument(0), List.of(), new HashMap<>(), () -> null, 0);
+        });
+
+        loop.offer(new TopicUpsert(0, NAMESPACE, "a", "1"));
+        loop.start();
+        try {
+            verify(controller, timeout(10_000).times(2)).onUpdateComplete(any());
+            assertEquals(1.0, metrics.lockedReconciliationsCounter(NAMESPACE).count());
+        } finally {
+            loop.stop();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReconcileEachTopicOnOneThread() throws InterruptedException {
+        ItemStore<KafkaTopic> itemStore = mock(ItemStore.class);
+        when(itemStore.get(anyString())).thenAnswer(invocation -> {
+            String name = invocation.<String>getArgument(0).substring(NAMESPACE.length() + 1);
+            return new KafkaTopicBuilder().withNewMetadata().withNamespace(NAMESPACE).withName(name).endMetadata().build();
+        });
+
+        // Key: topic name, Value: The threads which reconciled it
+        Map<String, Set<String>> threadsByTopic = new ConcurrentHashMap<>();
+        BatchingTopicController controller = mock(BatchingTopicController.class);
+        doAnswer(invocation -> {
+            List<ReconcilableTopic> topics = invocation.getArgument(0);
+            topics.forEach(rt -> threadsByTopic.computeIfAbsent(rt.kt().getMetadata().getName(), k -> ConcurrentHashMap.newKeySet())
+                .add(Thread.currentThread().getName()));
+            return null;
+        }).when(controller).onUpdate(anyList());
+
+        var metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        var loop = new BatchingLoop(1000, controller, 4, 10, 10, itemStore, metrics, NAMESPACE, false);
+        loop.start();
+        try {
+            for (int round = 0; round < 10; round++) {
+                for (int i = 0; i < 50; i++) {
+                    loop.offer(new TopicUpsert(0, NAMESPACE, "topic-" + i, String.valueOf(round)));
+                }
+                // wait for the round to be processed, so that the topics are offered again while being idle
+                Thread.sleep(50);
+            }
+
+            verify(controller, timeout(10_000).atLeast(1)).onUpdate(anyList());
+            assertEquals(50, threadsByTopic.size());
+            threadsByTopic.forEach((topic, threads) -> assertEquals(1, threads.size(), topic + " was reconciled by " + threads));
+            assertEquals(0.0, metrics.lockedReconciliationsCounter(NAMESPACE).count());
+        } finally {
+            loop.stop();
+        }
+    }
+
+    private static boolean isBatchOf(BatchingTopicController.PendingUpdate pending, String name) {
+        return pending != null && isBatchOf(pending.topics(), name);
+    }
+
+    private static boolean isBatchOf(List<ReconcilableTopic> topics, String name) {
+        return topics != null && topics.size() == 1 && name.equals(topics.get(0).kt().getMetadata().getName());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import io.strimzi.test.mockkube3.MockKube3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.strimzi.api.kafka.model.topic.KafkaTopic.RESOURCE_KIND;
+
+/**
+ * Measures writing the statuses of a batch of KafkaTopics against the mock Kubernetes API server (see
+ * {@link MockKube3}), synchronously (concurrency 0) and with the given number of writer threads. Every iteration
+ * changes the status message of all the KafkaTopics, so none of the updates is dropped as unchanged.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=io.strimzi.operator.topic.v2.KafkaTopicStatusWriterBenchmark}
+ * from the topic-operator directory. It needs Docker to run the mock Kubernetes API server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class KafkaTopicStatusWriterBenchmark {
+    private static final String NAMESPACE = "status-writer-benchmark";
+
+    @Param({"1000"})
+    public int topics;
+
+    @Param({"0", "4", "16"})
+    public int concurrency;
+
+    private MockKube3 mockKube;
+    private KubernetesClient client;
+    private TopicOperatorMetricsHolder metrics;
+    private List<KafkaTopic> kafkaTopics;
+    private int iteration = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mockKube = new MockKube3.MockKube3Builder()
+                .withKafkaTopicCrd()
+                .withNamespaces(NAMESPACE)
+                .build();
+        mockKube.start();
+        client = mockKube.client();
+        metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+
+        kafkaTopics = new ArrayList<>(topics);
+        for (int i = 0; i < topics; i++) {
+            kafkaTopics.add(Crds.topicOperation(client).resource(new KafkaTopicBuilder()
+                    .withNewMetadata()
+                        .withNamespace(NAMESPACE)
+                        .withName("topic-" + i)
+                    .endMetadata()
+                    .withNewSpec()
+                        .withPartitions(1)
+                        .withReplicas(1)
+                    .endSpec()
+                    .build()).create());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        mockKube.stop();
+    }
+
+    /**
+     * Writes a changed status of all the KafkaTopics and waits until they are written
+     *
+     * @throws InterruptedException When interrupted while waiting for the writes
+     */
+    @Benchmark
+    public void writeStatuses() throws InterruptedException {
+        iteration++;
+        var writer = new KafkaTopicStatusWriter(client, concurrency, 0, metrics, NAMESPACE, false);
+
+        for (KafkaTopic kt : kafkaTopics) {
+            var updated = new KafkaTopicBuilder(kt)
+                    .withNewStatus()
+                        .addNewCondition()
+                            .withType("Ready")
+                            .withStatus("True")
+                            .withMessage("iteration-" + iteration)
+                        .endCondition()
+                    .endStatus()
+                    .build();
+            writer.write(new ReconcilableTopic(new Reconciliation("benchmark", RESOURCE_KIND, NAMESPACE, kt.getMetadata().getName()),
+                    updated, kt.getMetadata().getName()));
+        }
+
+        writer.stop(TimeUnit.MINUTES.toMillis(5));
+    }
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args  Command line arguments (ignored)
+     *
+     * @throws RunnerException  When the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(KafkaTopicStatusWriterBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.strimzi.api.kafka.model.topic.KafkaTopic.RESOURCE_KIND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaTopicStatusWriterTest {
+    private static final String NAMESPACE = "ns";
+
+    private KubernetesClient client;
+    private TopicOperatorMetricsHolder metrics;
+    // Key: KafkaTopic name, Value: The KafkaTopic stored in Kubernetes
+    private final Map<String, KafkaTopic> stored = new ConcurrentHashMap<>();
+    private final AtomicInteger gets = new AtomicInteger();
+    private final AtomicInteger updates = new AtomicInteger();
+    private final AtomicInteger resourceVersion = new AtomicInteger();
+    private volatile KubernetesClientException updateException;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> operation = mock(MixedOperation.class);
+        NonNamespaceOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> namespaced = mock(NonNamespaceOperation.class);
+        client = mock(KubernetesClient.class);
+        when(client.resources(KafkaTopic.class, KafkaTopicList.class)).thenReturn(operation);
+        when(operation.inNamespace(anyString())).thenReturn(namespaced);
+        when(namespaced.withName(anyString())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            Resource<KafkaTopic> resource = mock(Resource.class);
+            when(resource.get()).thenAnswer(i -> {
+                gets.incrementAndGet();
+                return stored.get(name);
+            });
+            return resource;
+        });
+        when(operation.resource(any(KafkaTopic.class))).thenAnswer(invocation -> {
+            KafkaTopic kt = invocation.getArgument(0);
+            Resource<KafkaTopic> resource = mock(Resource.class);
+            when(resource.updateStatus()).thenAnswer(i -> {
+                updates.incrementAndGet();
+                if (updateException != null) {
+                    throw updateException;
+                }
+                KafkaTopic updated = new KafkaTopicBuilder(kt)
+                        .editMetadata()
+                            .withResourceVersion(String.valueOf(resourceVersion.incrementAndGet()))
+                        .endMetadata()
+                        .build();
+                stored.put(kt.getMetadata().getName(), updated);
+                return updated;
+            });
+            return resource;
+        });
+    }
+
+    private ReconcilableTopic reconciled(String name, String status) {
+        KafkaTopic kt = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withGeneration(1L)
+                    .withCreationTimestamp("2024-01-01T00:00:00Z")
+                    .addToLabels("strimzi.io/cluster", "my-cluster")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(1)
+                    .withReplicas(1)
+                .endSpec()
+                .withNewStatus()
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus(status)
+                    .endCondition()
+                .endStatus()
+                .build();
+        stored.putIfAbsent(name, new KafkaTopicBuilder(kt).withStatus(null).build());
+        // the reconciled KafkaTopic is the one read from Kubernetes, but with the new status
+        kt.getMetadata().setResourceVersion(stored.get(name).getMetadata().getResourceVersion());
+        return new ReconcilableTopic(new Reconciliation("test", RESOURCE_KIND, NAMESPACE, name), kt, name);
+    }
+
+    private String storedStatus(String name) {
+        return stored.get(name).getStatus().getConditions().get(0).getStatus();
+    }
+
+    @Test
+    void shouldDropUnchangedStatusWithoutReadingIt() throws InterruptedException {
+        var writer = new KafkaTopicStatusWriter(client, 0, 0, metrics, NAMESPACE, false);
+
+        writer.write(reconciled("a", "True"));
+        assertEquals(1, gets.get());
+        assertEquals(1, updates.get());
+
+        writer.write(reconciled("a", "True"));
+        assertEquals(1, gets.get());
+        assertEquals(1, updates.get());
+        assertEquals(1.0, metrics.statusUpdatesSkippedCounter(NAMESPACE).count());
+
+        writer.write(reconciled("a", "False"));
+        assertEquals(2, updates.get());
+        assertEquals("False", storedStatus("a"));
+        writer.stop(0);
+    }
+
+    @Test
+    void shouldWriteStatusAgainAfterExternalChange() throws InterruptedException {
+        var writer = new KafkaTopicStatusWriter(client, 0, 0, metrics, NAMESPACE, false);
+
+        writer.write(reconciled("a", "True"));
+        assertEquals(1, updates.get());
+
+        // someone else clears the status
+        stored.put("a", new KafkaTopicBuilder(stored.get("a"))
+                .editMetadata()
+                    .withResourceVersion(String.valueOf(resourceVersion.incrementAndGet()))
+                .endMetadata()
+                .withStatus(null)
+                .build());
+
+        writer.write(reconciled("a", "True"));
+        assertEquals(2, gets.get());
+        assertEquals(2, updates.get());
+        assertEquals("True", storedStatus("a"));
+        writer.stop(0);
+    }
+
+    @Test
+    void shouldReadStatusAgainAfterForget() throws InterruptedException {
+        var writer = new KafkaTopicStatusWriter(client, 0, 0, metrics, NAMESPACE, false);
+
+        var reconciled = reconciled("a", "True");
+        writer.write(reconciled);
+        writer.forget(reconciled.kt());
+        writer.write(reconciled("a", "True"));
+
+        assertEquals(2, gets.get());
+        // the status in Kubernetes did not change, so it's not written again
+        assertEquals(1, updates.get());
+        writer.stop(0);
+    }
+
+    @Test
+    void shouldWriteLatestStatusAsynchronously() throws InterruptedException {
+        var writer = new KafkaTopicStatusWriter(client, 4, 0, metrics, NAMESPACE, false);
+
+        for (int i = 0; i < 100; i++) {
+            writer.write(reconciled("topic-" + i, "False"));
+        }
+        for (int i = 0; i < 100; i++) {
+            writer.write(reconciled("topic-" + i, "True"));
+        }
+        writer.stop(10_000);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("True", storedStatus("topic-" + i));
+        }
+        assertEquals(0, metrics.statusUpdatesQueueSize(NAMESPACE).get());
+        assertTrue(metrics.statusUpdatesLatencyTimer(NAMESPACE).count() > 0);
+    }
+
+    @Test
+    void shouldCountConflicts() throws InterruptedException {
+        var writer = new KafkaTopicStatusWriter(client, 0, 0, metrics, NAMESPACE, false);
+        updateException = new KubernetesClientException("conflict", 409, null);
+
+        writer.write(reconciled("a", "True"));
+        assertEquals(1.0, metrics.statusUpdatesConflictsCounter(NAMESPACE).count());
+
+        // the failed status is not remembered, so it's retried by the next reconciliation
+        updateException = null;
+        writer.write(reconciled("a", "True"));
+        assertEquals(2, updates.get());
+        assertEquals("True", storedStatus("a"));
+        writer.stop(0);
+    }
+
+    @Test
+    void shouldLimitRate() throws InterruptedException {
+        var writer = new KafkaTopicStatusWriter(client, 0, 20, metrics, NAMESPACE, false);
+
+        long startNs = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            writer.write(reconciled("topic-" + i, "True"));
+        }
+
+        // the first write is immediate and the next ones wait 50 ms each
+        assertTrue(System.nanoTime() - startNs >= TimeUnit.MILLISECONDS.toNanos(200));
+        assertEquals(5, updates.get());
+        writer.stop(0);
+    }
+}
@@ -1234,7 +1234,7 @@ class TopicControllerIT {
                 false, "", "", "", "",
                 useFinalizer,
                 100, 100, 10, false,
-                false, false, "", 9090, false, false, "", "", "");
+                false, false, "", 9090, false, false, "", "", "", 0, 0, false, 0, 0);
     }
 
     @ParameterizedTest
@@ -1971,7 +1971,7 @@ class TopicControllerIT {
     }
 
     @Test
-    public void shouldTerminateIfQueueFull(
+    public void shouldNotTerminateIfQueueFull(
             @BrokerConfig(name = "auto.create.topics.enable", value = "false")
             @BrokerConfig(name = "num.partitions", value = "4")
             @BrokerConfig(name = "default.replication.factor", value = "1")
@@ -1986,8 +1986,8 @@ class TopicControllerIT {
                 false, "", "", "", "", "",
                 false, "", "", "", "",
                 true,
-                1, 100, 5_0000, false,
-                false, false, "", 9090, false, false, "", "", "");
+                1, 100, 100, false,
+                false, false, "", 9090, false, false, "", "", "", 0, 0, false, 0, 0);
 
         maybeStartOperator(config);
 
@@ -2003,29 +2003,20 @@ class TopicControllerIT {
 
         // when
 
-        // We stop the loop thread, so nothing it taking from the queue, so that the queue length will be exceeded
+        // We stop the loop thread, so nothing it taking from the queue, so that the queue gets full
         operator.queue.stop();
 
-        try (var logCaptor = LogCaptor.logMessageMatches(BatchingLoop.LOGGER,
-                Level.ERROR,
-                "Queue length 1 exceeded, stopping operator. Please increase STRIMZI_MAX_QUEUE_SIZE environment variable",
-                5L,
-                TimeUnit.SECONDS)) {
-
-            Crds.topicOperation(client).resource(kt).create();
-            Crds.topicOperation(client).resource(new KafkaTopicBuilder(kt)
-                .editMetadata().withName(randomTopicName()).endMetadata().build()).create();
-        }
+        Crds.topicOperation(client).resource(kt).create();
+        // the informer waits for a free space in the queue instead of stopping the operator
+        KafkaTopic blocked = Crds.topicOperation(client).resource(new KafkaTopicBuilder(kt)
+            .editMetadata().withName(randomTopicName()).endMetadata().build()).create();
 
         // then
-        assertNull(operator.shutdownHook, "Expect the operator to shutdown");
-
-        // finally, because the @After method of this class asserts that the operator is running
-        // we start a new operator
-        admin = null;
-        operatorAdmin = null;
-        operator = null;
-        maybeStartOperator(topicOperatorConfig(NAMESPACE, kafkaCluster));
+        assertNotNull(operator.shutdownHook, "Expect the operator to keep running");
+        // once the loop takes from the queue again, the event which was waiting for a free space is reconciled
+        operator.queue.start();
+        waitUntil(kt, readyIsTrue());
+        waitUntil(blocked, readyIsTrue());
     }
 
     @Test
@@ -0,0 +1,141 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TopicEventQueueTest {
+
+    private static TopicUpsert upsert(String name, String resourceVersion) {
+        return new TopicUpsert(0, "ns", name, resourceVersion);
+    }
+
+    private static TopicDelete delete(String name) {
+        KafkaTopic kt = new KafkaTopicBuilder().withNewMetadata().withNamespace("ns").withName(name).endMetadata().build();
+        return new TopicDelete(0, kt);
+    }
+
+    private static TopicEvent poll(TopicEventQueue queue) throws InterruptedException {
+        return queue.poll(0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void shouldCoalesceUpserts() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+
+        assertEquals(TopicEventQueue.OfferResult.ENQUEUED, queue.offer(upsert("a", "1"), false));
+        assertEquals(TopicEventQueue.OfferResult.ENQUEUED, queue.offer(upsert("b", "1"), false));
+        assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offer(upsert("a", "2"), false));
+        assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offer(upsert("a", "3"), true));
+        assertEquals(2, queue.size());
+
+        // The coalesced upsert keeps its position and has the newest resourceVersion
+        assertEquals("3", ((TopicUpsert) poll(queue)).resourceVersion());
+        assertEquals("b", ((TopicUpsert) poll(queue)).name());
+        assertNull(poll(queue));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void shouldReplaceUpsertWithDelete() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        var delete = delete("a");
+
+        queue.offer(upsert("a", "1"), false);
+        assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offer(delete, false));
+
+        assertSame(delete, poll(queue));
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldKeepUpsertAfterDelete() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        var delete = delete("a");
+
+        queue.offer(delete, false);
+        queue.offer(upsert("b", "1"), false);
+        queue.offer(upsert("a", "2"), false);
+        queue.offer(upsert("a", "3"), false);
+        assertEquals(2, queue.size());
+
+        assertSame(delete, poll(queue));
+        assertEquals("3", ((TopicUpsert) poll(queue)).resourceVersion());
+        assertEquals("b", ((TopicUpsert) poll(queue)).name());
+    }
+
+    @Test
+    void shouldShedWhenFull() throws InterruptedException {
+        var queue = new TopicEventQueue(2);
+
+        queue.offer(upsert("a", "1"), true);
+        queue.offer(upsert("b", "1"), true);
+        assertEquals(TopicEventQueue.OfferResult.SHED, queue.offer(upsert("c", "1"), true));
+        // Events for the queued topics are still coalesced
+        assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offer(upsert("a", "2"), true));
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    void shouldWaitWhenFull() throws Exception {
+        var queue = new TopicEventQueue(1);
+        queue.offer(upsert("a", "1"), false);
+
+        CompletableFuture<TopicEventQueue.OfferResult> blocked = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queue.offer(upsert("b", "1"), false);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        Thread.sleep(100);
+        assertFalse(blocked.isDone());
+
+        assertEquals("a", ((TopicUpsert) poll(queue)).name());
+        assertEquals(TopicEventQueue.OfferResult.ENQUEUED, blocked.get(10, TimeUnit.SECONDS));
+        assertEquals("b", ((TopicUpsert) queue.poll(10, TimeUnit.SECONDS)).name());
+    }
+
+    @Test
+    void shouldRequeueAtHeadIgnoringCapacity() throws InterruptedException {
+        var queue = new TopicEventQueue(1);
+
+        queue.offer(upsert("a", "1"), false);
+        queue.requeue(upsert("b", "1"));
+        assertEquals(2, queue.size());
+
+        assertEquals("b", ((TopicUpsert) poll(queue)).name());
+        assertEquals("a", ((TopicUpsert) poll(queue)).name());
+    }
+
+    @Test
+    void shouldCoalesceRequeuedWithNewerEvents() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        var delete = delete("a");
+
+        // A newer upsert wins over the requeued one
+        queue.offer(upsert("a", "2"), false);
+        queue.requeue(upsert("a", "1"));
+        assertEquals("2", ((TopicUpsert) poll(queue)).resourceVersion());
+
+        // The requeued delete is processed before the newer upsert
+        queue.offer(upsert("a", "3"), false);
+        queue.requeue(delete);
+        assertSame(delete, poll(queue));
+        assertEquals("3", ((TopicUpsert) poll(queue)).resourceVersion());
+        assertNull(poll(queue));
+    }
+}
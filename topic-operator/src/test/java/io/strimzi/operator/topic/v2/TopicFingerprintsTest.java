@@ -0,0 +1,128 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopicFingerprintsTest {
+    private static final long INTERVAL_MS = 60_000L;
+
+    private static KafkaTopic readyTopic(long generation) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace("ns")
+                    .withName("my-topic")
+                    .withGeneration(generation)
+                    .withCreationTimestamp("2024-01-01T00:00:00Z")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(2)
+                    .withReplicas(1)
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(generation)
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    private static BatchingTopicController.CurrentState currentState(int partitions, String retentionMs) {
+        Node node = new Node(0, "localhost", 9092);
+        var partitionInfos = IntStream.range(0, partitions)
+                .mapToObj(p -> new TopicPartitionInfo(p, node, List.of(node), List.of(node)))
+                .toList();
+        var config = new Config(List.of(
+                new ConfigEntry("retention.ms", retentionMs, ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG, false, false, List.of(), ConfigEntry.ConfigType.LONG, null),
+                new ConfigEntry("cleanup.policy", "delete", ConfigEntry.ConfigSource.DEFAULT_CONFIG, false, false, List.of(), ConfigEntry.ConfigType.LIST, null)));
+        return new BatchingTopicController.CurrentState(new TopicDescription("my-topic", false, partitionInfos), config);
+    }
+
+    @Test
+    void shouldSkipUnchangedTopicUntilSweep() {
+        var fingerprints = new TopicFingerprints(INTERVAL_MS);
+        var kt = readyTopic(1);
+
+        assertFalse(fingerprints.isUnchanged(kt, 0));
+
+        fingerprints.remember(kt, currentState(2, "1000"), 0);
+        assertTrue(fingerprints.isUnchanged(kt, 0));
+        assertTrue(fingerprints.isUnchanged(kt, INTERVAL_MS / 2 - 1));
+        // The fingerprint expires at the latest after the drift sweep interval
+        assertFalse(fingerprints.isUnchanged(kt, INTERVAL_MS));
+    }
+
+    @Test
+    void shouldNotSkipChangedTopic() {
+        var fingerprints = new TopicFingerprints(INTERVAL_MS);
+        fingerprints.remember(readyTopic(1), currentState(2, "1000"), 0);
+
+        // new generation
+        assertFalse(fingerprints.isUnchanged(readyTopic(2), 0));
+
+        // changed annotations
+        var annotated = new KafkaTopicBuilder(readyTopic(1)).editMetadata().addToAnnotations("strimzi.io/pause-reconciliation", "true").endMetadata().build();
+        assertFalse(fingerprints.isUnchanged(annotated, 0));
+
+        // not ready
+        var notReady = new KafkaTopicBuilder(readyTopic(1)).editStatus().editFirstCondition().withStatus("False").endCondition().endStatus().build();
+        assertFalse(fingerprints.isUnchanged(notReady, 0));
+
+        // ongoing replicas change
+        var replicasChange = new KafkaTopicBuilder(readyTopic(1)).editStatus().withNewReplicasChange().withTargetReplicas(3).endReplicasChange().endStatus().build();
+        assertFalse(fingerprints.isUnchanged(replicasChange, 0));
+    }
+
+    @Test
+    void shouldDetectDrift() {
+        var fingerprints = new TopicFingerprints(INTERVAL_MS);
+        var kt = readyTopic(1);
+        fingerprints.remember(kt, currentState(2, "1000"), 0);
+
+        assertFalse(fingerprints.hasDrifted(kt, currentState(2, "1000")));
+        assertTrue(fingerprints.hasDrifted(kt, currentState(3, "1000")));
+        assertTrue(fingerprints.hasDrifted(kt, currentState(2, "2000")));
+        // changes of the KafkaTopic are not a drift
+        assertFalse(fingerprints.hasDrifted(readyTopic(2), currentState(2, "2000")));
+    }
+
+    @Test
+    void shouldForget() {
+        var fingerprints = new TopicFingerprints(INTERVAL_MS);
+        var kt = readyTopic(1);
+        fingerprints.remember(kt, currentState(2, "1000"), 0);
+        assertEquals(1, fingerprints.size());
+
+        fingerprints.forget(kt);
+        assertEquals(0, fingerprints.size());
+        assertFalse(fingerprints.isUnchanged(kt, 0));
+    }
+
+    @Test
+    void shouldBeDisabledWithZeroInterval() {
+        var fingerprints = new TopicFingerprints(0);
+        var kt = readyTopic(1);
+        fingerprints.remember(kt, currentState(2, "1000"), 0);
+
+        assertEquals(0, fingerprints.size());
+        assertFalse(fingerprints.isUnchanged(kt, 0));
+    }
+}
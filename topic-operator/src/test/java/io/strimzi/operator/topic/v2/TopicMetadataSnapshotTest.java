@@ -0,0 +1,153 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TopicMetadataSnapshotTest {
+    private static final Node NODE = new Node(0, "localhost", 9092);
+
+    private Admin admin;
+    private TopicOperatorMetricsHolder metrics;
+    private Set<String> topicsInKafka;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        admin = mock(Admin.class);
+        metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        topicsInKafka = new HashSet<>();
+
+        when(admin.listTopics(any(ListTopicsOptions.class))).thenAnswer(invocation -> {
+            ListTopicsResult result = mock(ListTopicsResult.class);
+            when(result.names()).thenReturn(KafkaFuture.completedFuture(Set.copyOf(topicsInKafka)));
+            return result;
+        });
+        when(admin.describeTopics(anyCollection())).thenAnswer(invocation -> {
+            Map<String, KafkaFuture<TopicDescription>> descriptions = new HashMap<>();
+            for (String name : (Collection<String>) invocation.getArgument(0)) {
+                descriptions.put(name, describeTopic(name));
+            }
+            DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+            when(result.topicNameValues()).thenReturn(descriptions);
+            return result;
+        });
+        when(admin.describeConfigs(anyCollection())).thenAnswer(invocation -> {
+            Map<ConfigResource, KafkaFuture<Config>> configs = new HashMap<>();
+            for (ConfigResource resource : (Collection<ConfigResource>) invocation.getArgument(0)) {
+                configs.put(resource, KafkaFuture.completedFuture(new Config(List.of(
+                        new ConfigEntry("retention.ms", "1000", ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG, false, false, List.of(), ConfigEntry.ConfigType.LONG, null),
+                        new ConfigEntry("cleanup.policy", "delete", ConfigEntry.ConfigSource.DEFAULT_CONFIG, false, false, List.of(), ConfigEntry.ConfigType.LIST, null)))));
+            }
+            DescribeConfigsResult result = mock(DescribeConfigsResult.class);
+            when(result.values()).thenReturn(configs);
+            return result;
+        });
+    }
+
+    private KafkaFuture<TopicDescription> describeTopic(String name) {
+        if (!topicsInKafka.contains(name)) {
+            return KafkaFuture.<TopicDescription>completedFuture(null).thenApply(x -> {
+                throw new UnknownTopicOrPartitionException(name);
+            });
+        }
+        return KafkaFuture.completedFuture(new TopicDescription(name, false, List.of(new TopicPartitionInfo(0, NODE, List.of(NODE), List.of(NODE)))));
+    }
+
+    @Test
+    void shouldBeDisabledWithZeroInterval() {
+        assertFalse(new TopicMetadataSnapshot(admin, 0, metrics, "ns").isEnabled());
+        assertTrue(new TopicMetadataSnapshot(admin, 1, metrics, "ns").isEnabled());
+    }
+
+    @Test
+    void shouldLoadAllTopicsInChunks() {
+        topicsInKafka.addAll(IntStream.range(0, TopicMetadataSnapshot.DESCRIBE_CHUNK_SIZE + 1).mapToObj(i -> "topic-" + i).collect(Collectors.toSet()));
+        var snapshot = new TopicMetadataSnapshot(admin, 60_000, metrics, "ns");
+
+        snapshot.refreshIfStale(0);
+
+        assertEquals(TopicMetadataSnapshot.DESCRIBE_CHUNK_SIZE + 1, snapshot.size());
+        verify(admin, times(2)).describeTopics(anyCollection());
+        verify(admin, times(2)).describeConfigs(anyCollection());
+
+        var state = snapshot.get("topic-0");
+        assertNotNull(state);
+        assertEquals(1, state.numPartitions());
+        // Kafka defaults are not kept
+        assertNotNull(state.configs().get("retention.ms"));
+        assertNull(state.configs().get("cleanup.policy"));
+    }
+
+    @Test
+    void shouldRefreshOnlyWhenStale() {
+        topicsInKafka.add("a");
+        var snapshot = new TopicMetadataSnapshot(admin, 60_000, metrics, "ns");
+
+        snapshot.refreshIfStale(0);
+        topicsInKafka.remove("a");
+        topicsInKafka.add("b");
+        snapshot.refreshIfStale(59_999);
+        assertNotNull(snapshot.get("a"));
+        assertNull(snapshot.get("b"));
+
+        snapshot.refreshIfStale(60_000);
+        assertNull(snapshot.get("a"));
+        assertNotNull(snapshot.get("b"));
+    }
+
+    @Test
+    void shouldInvalidateAndUpdate() {
+        topicsInKafka.add("a");
+        var snapshot = new TopicMetadataSnapshot(admin, 60_000, metrics, "ns");
+        snapshot.refreshIfStale(0);
+
+        var state = snapshot.get("a");
+        snapshot.invalidate("a");
+        assertNull(snapshot.get("a"));
+
+        snapshot.update("a", state);
+        assertEquals(state.numPartitions(), snapshot.get("a").numPartitions());
+    }
+}
@@ -140,7 +140,6 @@ public class TopicOperatorMetricsTest {
     private static BatchingLoop createAndStartBatchingLoop() throws InterruptedException {
         BatchingTopicController controller = mock(BatchingTopicController.class);
         ItemStore<KafkaTopic> itemStore = mock(ItemStore.class);
-        Runnable stop = mock(Runnable.class);
         BatchingLoop batchingLoop = new BatchingLoop(
             MAX_QUEUE_SIZE,
             controller,
@@ -148,9 +147,10 @@ public class TopicOperatorMetricsTest {
             MAX_BATCH_SIZE,
             MAX_BATCH_LINGER_MS,
             itemStore,
-            stop,
             metrics,
-            NAMESPACE);
+            NAMESPACE,
+            // the events are sharded by topic, so only the pending batches of the pipelined mode lock the topics
+            true);
         batchingLoop.start();
         return batchingLoop;
     }
@@ -16,7 +16,6 @@ import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.api.kafka.model.user.KafkaUser;
 import io.strimzi.api.kafka.model.user.KafkaUserList;
-import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
@@ -80,18 +79,19 @@ public class Main {
         Admin adminClient = createAdminClient(config, secretOperator, new DefaultAdminClientProvider());
         var kafkaUserCrdOperator = new CrdOperator<>(kafkaUserOperatorExecutor, client, KafkaUser.class, KafkaUserList.class, "KafkaUser");
 
+        MetricsProvider metricsProvider = createMetricsProvider();
+
         KafkaUserOperator kafkaUserOperator = new KafkaUserOperator(
                 config,
-                new OpenSslCertManager(),
+                config.getCertManagerType().newCertManager(),
                 secretOperator,
                 kafkaUserCrdOperator,
-                new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor),
-                new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor),
-                config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor) : new DisabledSimpleAclOperator()
+                new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor, metricsProvider),
+                new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor, metricsProvider),
+                config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor, metricsProvider) : new DisabledSimpleAclOperator(),
+                metricsProvider
         );
 
-        MetricsProvider metricsProvider = createMetricsProvider();
-
         // Create the User controller
         UserController controller = new UserController(
                 config,
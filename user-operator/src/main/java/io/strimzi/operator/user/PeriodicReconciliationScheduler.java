@@ -0,0 +1,182 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.controller.ControllerQueue;
+import io.strimzi.operator.common.controller.SimplifiedReconciliation;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.strimzi.operator.user.operator.KafkaUserOperator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Spreads the periodic reconciliations of the users evenly over the reconciliation interval instead of enqueueing all
+ * of them at once. The interval is split into slots of roughly one second and every user is hashed by its name into
+ * one of the slots, so each user is reconciled once per interval and always at the same offset in it. The list of all
+ * users is loaded once per interval, at the beginning of the first slot.
+ *
+ * The scheduler adapts its rate to the depth of the work queue: it fills the queue only up to half of its capacity
+ * and defers the remaining users to the next slots. This leaves space for the events from the informers and avoids
+ * piling up periodic reconciliations when the controller loops cannot keep up.
+ *
+ * The scheduler also tracks when each user was last enqueued (by the scheduler or by an event) and records the time
+ * since then in the staleness timer when the user's slot comes up.
+ *
+ * The run method is expected to be called by a single thread every {@link #slotMs()} milliseconds.
+ */
+class PeriodicReconciliationScheduler implements Runnable {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PeriodicReconciliationScheduler.class);
+    private static final String RESOURCE_KIND = "KafkaUser";
+    /*test*/ static final long TARGET_SLOT_MS = 1_000L;
+
+    private final KafkaUserOperator userOperator;
+    private final ControllerQueue workQueue;
+    private final int maxQueueDepth;
+    private final ControllerMetricsHolder metrics;
+    private final String namespace;
+    private final long operationTimeoutMs;
+    private final int slots;
+    private final long slotMs;
+
+    // Key: User, Value: The System.nanoTime() of when the user was last enqueued
+    private final Map<NamespaceAndName, Long> lastEnqueuedNanos = new ConcurrentHashMap<>();
+    private final Deque<NamespaceAndName> deferred = new ArrayDeque<>();
+    private List<List<NamespaceAndName>> usersBySlot = List.of();
+    private int slot = 0;
+
+    /**
+     * Creates the scheduler
+     *
+     * @param userOperator          User operator used to list all the users
+     * @param workQueue             Work queue into which the reconciliations are enqueued
+     * @param workQueueSize         Capacity of the work queue
+     * @param metrics               Controller metrics holder
+     * @param namespace             Namespace of the users
+     * @param reconcileIntervalMs   Interval in which each user should be reconciled
+     * @param operationTimeoutMs    Timeout for listing all the users
+     */
+    PeriodicReconciliationScheduler(KafkaUserOperator userOperator, ControllerQueue workQueue, int workQueueSize, ControllerMetricsHolder metrics,
+                                    String namespace, long reconcileIntervalMs, long operationTimeoutMs) {
+        this.userOperator = userOperator;
+        this.workQueue = workQueue;
+        this.maxQueueDepth = Math.max(1, workQueueSize / 2);
+        this.metrics = metrics;
+        this.namespace = namespace;
+        this.operationTimeoutMs = operationTimeoutMs;
+        this.slots = (int) Math.max(1, reconcileIntervalMs / TARGET_SLOT_MS);
+        this.slotMs = reconcileIntervalMs / slots;
+    }
+
+    /**
+     * @return  The number of milliseconds between two slots
+     */
+    long slotMs() {
+        return slotMs;
+    }
+
+    /**
+     * @return  The number of slots in the reconciliation interval
+     */
+    /*test*/ int slots() {
+        return slots;
+    }
+
+    /**
+     * Records that the user was enqueued for reconciliation outside of the scheduler, for example because of an event
+     * from the informer.
+     *
+     * @param user  User which was enqueued
+     */
+    void enqueued(NamespaceAndName user) {
+        lastEnqueuedNanos.put(user, System.nanoTime());
+    }
+
+    @Override
+    public void run() {
+        if (slot == 0) {
+            loadUsers();
+        }
+
+        int budget = maxQueueDepth - workQueue.size();
+        int enqueued = 0;
+
+        deferred.addAll(usersBySlot.isEmpty() ? List.of() : usersBySlot.get(slot));
+        while (enqueued < budget && !deferred.isEmpty()) {
+            enqueue(deferred.poll());
+            enqueued++;
+        }
+
+        if (!deferred.isEmpty()) {
+            LOGGER.debugOp("Deferring periodic reconciliation of {} {} resources in namespace {} because the work queue is busy", deferred.size(), RESOURCE_KIND, namespace);
+        }
+
+        metrics.workQueueDepth(namespace).set(workQueue.size());
+        slot = (slot + 1) % slots;
+    }
+
+    private void enqueue(NamespaceAndName user) {
+        long nowNs = System.nanoTime();
+        Long previousNs = lastEnqueuedNanos.put(user, nowNs);
+        if (previousNs != null) {
+            metrics.periodicReconciliationsStalenessTimer(namespace).record(nowNs - previousNs, TimeUnit.NANOSECONDS);
+        }
+
+        workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, user.getNamespace(), user.getName(), KafkaUserOperator.PERIODIC_RECONCILIATION_TRIGGER));
+    }
+
+    /**
+     * Loads all the users and splits them into the slots. Users deferred from the previous interval are dropped,
+     * because they are part of the new interval again.
+     */
+    private void loadUsers() {
+        LOGGER.infoOp("Triggering periodic reconciliation of {} resources for namespace {}", RESOURCE_KIND, namespace);
+        metrics.periodicReconciliationsCounter(namespace).increment();
+
+        if (!deferred.isEmpty()) {
+            LOGGER.warnOp("Periodic reconciliation of {} {} resources in namespace {} was skipped because the work queue was busy", deferred.size(), RESOURCE_KIND, namespace);
+            deferred.clear();
+        }
+
+        CompletionStage<Set<NamespaceAndName>> allUsersFuture = userOperator.getAllUsers(namespace);
+
+        try {
+            Set<NamespaceAndName> allUsers = allUsersFuture.toCompletableFuture().get(operationTimeoutMs, TimeUnit.MILLISECONDS);
+
+            List<List<NamespaceAndName>> newUsersBySlot = new ArrayList<>(slots);
+            for (int i = 0; i < slots; i++) {
+                newUsersBySlot.add(new ArrayList<>());
+            }
+            for (NamespaceAndName user : allUsers) {
+                newUsersBySlot.get(slotOf(user)).add(user);
+            }
+
+            usersBySlot = newUsersBySlot;
+            lastEnqueuedNanos.keySet().retainAll(allUsers);
+        } catch (TimeoutException e)    {
+            LOGGER.errorOp("Periodic reconciliation of {} resources for namespace {} timed out", RESOURCE_KIND, namespace, e);
+            allUsersFuture.toCompletableFuture().cancel(true);
+            usersBySlot = List.of();
+        } catch (InterruptedException | ExecutionException e) {
+            LOGGER.errorOp("Periodic reconciliation of {} resources for namespace {} failed", RESOURCE_KIND, namespace, e);
+            usersBySlot = List.of();
+        }
+    }
+
+    /*test*/ int slotOf(NamespaceAndName user) {
+        return Math.floorMod(user.getName().hashCode(), slots);
+    }
+}
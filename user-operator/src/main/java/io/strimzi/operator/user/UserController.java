@@ -32,13 +32,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 /**
  * User controller is responsible for queueing the reconciliations of the Kafka Users. It does so by watching for the
@@ -50,15 +47,14 @@ public class UserController implements Liveness, Readiness {
     private static final String RESOURCE_KIND = "KafkaUser";
     private static final long DEFAULT_RESYNC_PERIOD_MS = 5 * 60 * 1_000L; // 5 minutes by default
 
-    private final KafkaUserOperator userOperator;
     private final ControllerMetricsHolder metrics;
     private final ControllerQueue workQueue;
     private final List<UserControllerLoop> threadPool;
+    private final PeriodicReconciliationScheduler periodicReconciliationScheduler;
 
     private final String watchedNamespace;
     private final String secretPrefix;
     private final long reconcileIntervalMs;
-    private final long operationTimeoutMs;
 
     private final SharedIndexInformer<Secret> secretInformer;
     private final SharedIndexInformer<KafkaUser> userInformer;
@@ -83,13 +79,10 @@ public class UserController implements Liveness, Readiness {
             KafkaUserOperator userOperator,
             MetricsProvider metricsProvider) {
 
-        this.userOperator = userOperator;
-
         // Store some useful settings into local fields
         this.watchedNamespace = config.getNamespace();
         this.secretPrefix = config.getSecretPrefix();
         this.reconcileIntervalMs = config.getReconciliationIntervalMs();
-        this.operationTimeoutMs = config.getOperationTimeoutMs();
 
         // User selector is used to select the KafkaUser resources
         Map<String, String> userSelector = (config.getLabels() == null || config.getLabels().toMap().isEmpty()) ? Map.of() : config.getLabels().toMap();
@@ -105,6 +98,10 @@ public class UserController implements Liveness, Readiness {
         // Set up the work queue
         this.workQueue = new ControllerQueue(config.getWorkQueueSize(), this.metrics);
 
+        // Set up the scheduler which spreads the periodic reconciliations over the reconciliation interval
+        this.periodicReconciliationScheduler = new PeriodicReconciliationScheduler(userOperator, workQueue, config.getWorkQueueSize(), metrics,
+                watchedNamespace, reconcileIntervalMs, config.getOperationTimeoutMs());
+
         // Secret informer and lister is used to get events about Secrets and get Secrets quickly
         this.secretInformer = secretOperator.informer(watchedNamespace, secretSelector, DEFAULT_RESYNC_PERIOD_MS);
         Lister<Secret> secretLister = new Lister<>(secretInformer.getIndexer());
@@ -119,10 +116,14 @@ public class UserController implements Liveness, Readiness {
         // Create the reconciliation lock manager
         ReconciliationLockManager lockManager = new ReconciliationLockManager();
 
+        // In the asynchronous mode, the number of users reconciled in parallel is limited by a semaphore shared by the
+        // reconciliation loops instead of by the number of the loops
+        Semaphore inFlightReconciliations = config.getControllerMaxInFlightReconciliations() > 0 ? new Semaphore(config.getControllerMaxInFlightReconciliations()) : null;
+
         // Create a thread pool for the reconciliation loops and add the reconciliation loops
         this.threadPool = new ArrayList<>(config.getControllerThreadPoolSize());
         for (int i = 0; i < config.getControllerThreadPoolSize(); i++)  {
-            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, scheduledExecutor, userLister, secretLister, userCrdOperator, userOperator, metrics, config));
+            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, inFlightReconciliations, scheduledExecutor, userLister, secretLister, userCrdOperator, userOperator, metrics, config));
         }
     }
 
@@ -135,7 +136,7 @@ public class UserController implements Liveness, Readiness {
 
     private void enqueueKafkaUser(KafkaUser user, String action) {
         LOGGER.infoOp("{} {} in namespace {} was {}", RESOURCE_KIND, user.getMetadata().getName(), user.getMetadata().getNamespace(), action);
-        workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, user.getMetadata().getNamespace(), user.getMetadata().getName()));
+        enqueue(user.getMetadata().getNamespace(), user.getMetadata().getName());
     }
 
     /**
@@ -151,13 +152,24 @@ public class UserController implements Liveness, Readiness {
         // When prefix is configured and the Secret starts with it, we remove the prefix and use it as username
         // When prefix is configured and the Secret name does not start with it, we ignore it
         if (secretPrefix == null || secretPrefix.isEmpty()) {
-            workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, userSecret.getMetadata().getNamespace(), userSecret.getMetadata().getName()));
+            enqueue(userSecret.getMetadata().getNamespace(), userSecret.getMetadata().getName());
         } else if (userSecret.getMetadata().getName().startsWith(secretPrefix)) {
             String kafkaUser = userSecret.getMetadata().getName().substring(secretPrefix.length());
-            workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, userSecret.getMetadata().getNamespace(), kafkaUser));
+            enqueue(userSecret.getMetadata().getNamespace(), kafkaUser);
         }
     }
 
+    /**
+     * Enqueues a user for reconciliation and lets the periodic reconciliation scheduler know about it
+     *
+     * @param namespace     Namespace of the user
+     * @param name          Name of the user
+     */
+    private void enqueue(String namespace, String name) {
+        periodicReconciliationScheduler.enqueued(new NamespaceAndName(namespace, name));
+        workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, namespace, name));
+    }
+
     /**
      * Indicates that the informers have been synced and are up-to-date.
      *
@@ -260,34 +272,11 @@ public class UserController implements Liveness, Readiness {
     }
 
     /**
-     * Schedules the periodic reconciliation triggers
+     * Schedules the periodic reconciliation triggers. The scheduler runs once per slot and enqueues the users hashed
+     * into the slot, so the periodic reconciliations are spread over the whole reconciliation interval.
      */
     private void schedulePeriodicReconciliations()  {
-        scheduledExecutor.scheduleAtFixedRate(new PeriodicReconciliation(), reconcileIntervalMs, reconcileIntervalMs, TimeUnit.MILLISECONDS);
-    }
-
-    /**
-     * Internal timer tasks which gets the list of all usernames based on the custom resources, ACLs, Quotas or SCRAM
-     * credentials and queues them for reconciliation.
-     */
-    class PeriodicReconciliation implements Runnable  {
-        @Override
-        public void run() {
-            LOGGER.infoOp("Triggering periodic reconciliation of {} resources for namespace {}", RESOURCE_KIND, watchedNamespace);
-            metrics.periodicReconciliationsCounter(watchedNamespace).increment();
-
-            CompletionStage<Set<NamespaceAndName>> allUsersFuture = userOperator.getAllUsers(watchedNamespace);
-
-            try {
-                Set<NamespaceAndName> allUsers = allUsersFuture.toCompletableFuture().get(operationTimeoutMs, TimeUnit.MILLISECONDS);
-                allUsers.forEach(user -> workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, user.getNamespace(), user.getName(), "timer")));
-            } catch (TimeoutException e)    {
-                LOGGER.errorOp("Periodic reconciliation of {} resources for namespace {} timed out", RESOURCE_KIND, watchedNamespace, e);
-                allUsersFuture.toCompletableFuture().cancel(true);
-            } catch (InterruptedException | ExecutionException e) {
-                LOGGER.errorOp("Periodic reconciliation of {} resources for namespace {} failed", RESOURCE_KIND, watchedNamespace, e);
-            }
-        }
+        scheduledExecutor.scheduleAtFixedRate(periodicReconciliationScheduler, reconcileIntervalMs, periodicReconciliationScheduler.slotMs(), TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -29,15 +29,18 @@ import io.strimzi.operator.user.operator.KafkaUserOperator;
 
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
  * User controller loop is responsible for reconciling the KafkaUser and the secrets and Kafka settings which belong to it.
+ * It supports both the synchronous and the asynchronous mode of the AbstractControllerLoop.
  */
 public class UserControllerLoop extends AbstractControllerLoop {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(UserControllerLoop.class);
@@ -54,24 +57,27 @@ public class UserControllerLoop extends AbstractControllerLoop {
     /**
      * Constructor of the UserController reconciliation loop
      *
-     * @param name                  Name of the reconciliation loop. It should identify the resource it reconciles, and
-     *                              possible the namespace in which it reconciles it or the number of the loop if more
-     *                              than one is running in parallel.
-     * @param workQueue             ControllerQueue from which the reconciliation events should be taken
-     * @param lockManager           LockManager which is used to avoid the same resource being reconciled in multiple loops in parallel
-     * @param scheduledExecutor     Scheduled executor service which will be passed to the AbstractControllerLoop and
-     *                              used to run the progress warnings
-     * @param userLister            The KafkaUser resource lister for getting the resources
-     * @param secretLister          The Secret lister for getting the secrets
-     * @param userCrdOperator       For operating on KafkaUser resources
-     * @param userOperator          The KafkaUserOperator which has the logic for updating the Kubernetes or Kafka resources
-     * @param metrics               The metrics holder for providing metrics about the reconciliation
-     * @param config                The User Operator config
+     * @param name                      Name of the reconciliation loop. It should identify the resource it reconciles, and
+     *                                  possible the namespace in which it reconciles it or the number of the loop if more
+     *                                  than one is running in parallel.
+     * @param workQueue                 ControllerQueue from which the reconciliation events should be taken
+     * @param lockManager               LockManager which is used to avoid the same resource being reconciled in multiple loops in parallel
+     * @param inFlightReconciliations   Semaphore limiting the number of the reconciliations in progress in the
+     *                                  asynchronous mode. Null if the loop should reconcile the users synchronously.
+     * @param scheduledExecutor         Scheduled executor service which will be passed to the AbstractControllerLoop and
+     *                                  used to run the progress warnings
+     * @param userLister                The KafkaUser resource lister for getting the resources
+     * @param secretLister              The Secret lister for getting the secrets
+     * @param userCrdOperator           For operating on KafkaUser resources
+     * @param userOperator              The KafkaUserOperator which has the logic for updating the Kubernetes or Kafka resources
+     * @param metrics                   The metrics holder for providing metrics about the reconciliation
+     * @param config                    The User Operator config
      */
     public UserControllerLoop(
             String name,
             ControllerQueue workQueue,
             ReconciliationLockManager lockManager,
+            Semaphore inFlightReconciliations,
             ScheduledExecutorService scheduledExecutor,
             Lister<KafkaUser> userLister,
             Lister<Secret> secretLister,
@@ -80,7 +86,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
             ControllerMetricsHolder metrics,
             UserOperatorConfig config
     ) {
-        super(name, workQueue, lockManager, scheduledExecutor);
+        super(name, workQueue, lockManager, scheduledExecutor, inFlightReconciliations);
 
         this.userLister = userLister;
         this.secretLister = secretLister;
@@ -93,12 +99,33 @@ public class UserControllerLoop extends AbstractControllerLoop {
     }
 
     /**
-     * The main reconciliation logic which handles the reconciliations.
+     * The main reconciliation logic which handles the reconciliations. It runs the asynchronous reconciliation and
+     * waits for it to complete. The asynchronous reconciliation applies the operation timeout and handles the errors.
      *
      * @param reconciliation    Reconciliation identifier used for logging
      */
     @Override
     protected void reconcile(Reconciliation reconciliation) {
+        try {
+            reconcileAsync(reconciliation).toCompletableFuture().get();
+        } catch (InterruptedException e) {
+            LOGGER.warnCr(reconciliation, "Interrupted while waiting for the reconciliation of {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * The reconciliation logic used in the asynchronous mode. The synchronous mode uses it as well and just waits for
+     * it to complete.
+     *
+     * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  CompletionStage which completes when the reconciliation is finished
+     */
+    @Override
+    protected CompletionStage<Void> reconcileAsync(Reconciliation reconciliation) {
         LOGGER.infoCr(reconciliation, "{} will be reconciled", reconciliation.kind());
 
         KafkaUser user = userLister.namespace(reconciliation.namespace()).get(reconciliation.name());
@@ -108,50 +135,81 @@ public class UserControllerLoop extends AbstractControllerLoop {
             LOGGER.infoCr(reconciliation, "Reconciliation of {} {} in namespace {} is paused", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
             KafkaUserStatus status = UserControllerUtils.pausedStatus(reconciliation, user);
             metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
-            maybeUpdateStatus(reconciliation, user, status);
+            return maybeUpdateStatusAsync(reconciliation, user, status);
         } else {
             // Resource is not paused or is null (and we should trigger deletion) => we should proceed with reconciliation
-            CompletionStage<KafkaUserStatus> reconciliationResult = userOperator
-                    .reconcile(reconciliation, user, secretLister.namespace(reconciliation.namespace()).get(KafkaUserModel.getSecretName(secretPrefix, reconciliation.name())));
-
-            try {
-                KafkaUserStatus status = new KafkaUserStatus();
-                Set<Condition> unknownAndDeprecatedConditions = StatusUtils.validate(reconciliation, user);
-
-                try {
-                    status = reconciliationResult.toCompletableFuture().get(operationTimeoutMs, TimeUnit.MILLISECONDS);
-                    LOGGER.infoCr(reconciliation, "reconciled");
-                    metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
-                } catch (ExecutionException | InterruptedException | TimeoutException | CancellationException e) {
-                    // The reconciliation failed (these are returned from the get(...) call)
-                    LOGGER.errorCr(reconciliation, "{} {} in namespace {} reconciliation failed", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), e);
-                    metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
-
-                    if (user != null) {
-                        StatusUtils.setStatusConditionAndObservedGeneration(user, status, e);
-                    }
-                } finally {
-                    // Update the status if the user exists
-                    if (user != null) {
-                        StatusUtils.addConditionsToStatus(status, unknownAndDeprecatedConditions);
-                        maybeUpdateStatus(reconciliation, user, status);
-                    }
-                }
-            } catch (Throwable t) {
-                // Updating status failed
-                LOGGER.errorCr(reconciliation, "Failed to update status for {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), t);
-            }
+            Set<Condition> unknownAndDeprecatedConditions = StatusUtils.validate(reconciliation, user);
+
+            return userOperator
+                    .reconcile(reconciliation, user, secretLister.namespace(reconciliation.namespace()).get(KafkaUserModel.getSecretName(secretPrefix, reconciliation.name())))
+                    .toCompletableFuture()
+                    .orTimeout(operationTimeoutMs, TimeUnit.MILLISECONDS)
+                    .handle((status, error) -> {
+                        if (error == null) {
+                            LOGGER.infoCr(reconciliation, "reconciled");
+                            metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
+                            return status;
+                        } else {
+                            // The reconciliation failed => we use the same errors as a get(...) call on the result would give
+                            Throwable e = reconciliationError(error);
+                            LOGGER.errorCr(reconciliation, "{} {} in namespace {} reconciliation failed", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), e);
+                            metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
+
+                            KafkaUserStatus failedStatus = new KafkaUserStatus();
+                            if (user != null) {
+                                StatusUtils.setStatusConditionAndObservedGeneration(user, failedStatus, e);
+                            }
+
+                            return failedStatus;
+                        }
+                    })
+                    .thenCompose(status -> {
+                        // Update the status if the user exists
+                        if (user != null) {
+                            StatusUtils.addConditionsToStatus(status, unknownAndDeprecatedConditions);
+                            return maybeUpdateStatusAsync(reconciliation, user, status);
+                        } else {
+                            return CompletableFuture.completedFuture(null);
+                        }
+                    })
+                    .exceptionally(t -> {
+                        // Updating status failed
+                        LOGGER.errorCr(reconciliation, "Failed to update status for {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), t);
+                        return null;
+                    });
+        }
+    }
+
+    /**
+     * Converts the error from the asynchronous reconciliation to the error a get(...) call on its result would give.
+     * This keeps the conditions set for the failed reconciliations the same as when the reconciliation waited for the
+     * result with the get(...) call.
+     *
+     * @param error     Error from the asynchronous reconciliation
+     *
+     * @return  The error as returned by the get(...) call
+     */
+    private static Throwable reconciliationError(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+        if (cause instanceof TimeoutException || cause instanceof CancellationException) {
+            return cause;
+        } else {
+            return new ExecutionException(cause);
         }
     }
 
     /**
-     * Updates the status of the KafkaUser. The status will be updated only when it changed since last time.
+     * Updates the status of the KafkaUser asynchronously. The status will be updated only when it changed since last
+     * time.
      *
      * @param reconciliation    Reconciliation in which this is executed
      * @param kafkaUser         Original KafkaUser with the current status
      * @param desiredStatus     The desired status which should be set if it differs
+     *
+     * @return  CompletionStage which completes when the status is updated
      */
-    private void maybeUpdateStatus(Reconciliation reconciliation, KafkaUser kafkaUser, KafkaUserStatus desiredStatus) {
+    private CompletionStage<Void> maybeUpdateStatusAsync(Reconciliation reconciliation, KafkaUser kafkaUser, KafkaUserStatus desiredStatus) {
         // KafkaUser or desiredStatus being null means deletion => no status to update
         if (kafkaUser != null && desiredStatus != null && !new StatusDiff(kafkaUser.getStatus(), desiredStatus).isEmpty()) {
             LOGGER.debugCr(reconciliation, "Updating status of {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
@@ -162,7 +220,8 @@ public class UserControllerLoop extends AbstractControllerLoop {
                         .withStatus(desiredStatus)
                         .build();
 
-                userCrdOperator.updateStatusAsync(reconciliation, updateKafkaUser)
+                return userCrdOperator.updateStatusAsync(reconciliation, updateKafkaUser)
+                    .<Void>thenApply(updated -> null)
                     .exceptionally(error -> {
                         if (Util.unwrap(error) instanceof KubernetesClientException kce) {
                             switch (kce.getCode()) {
@@ -174,11 +233,11 @@ public class UserControllerLoop extends AbstractControllerLoop {
                         } else {
                             throw new CompletionException(Util.unwrap(error));
                         }
-                    })
-                    .toCompletableFuture()
-                    .join();
+                    });
             }
         }
+
+        return CompletableFuture.completedFuture(null);
     }
 
     @Override
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ConfigParameter;
 
@@ -15,6 +16,7 @@ import java.util.Properties;
 import java.util.Set;
 
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.BOOLEAN;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.CERT_MANAGER_TYPE;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.INTEGER;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LABEL_PREDICATE;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LONG;
@@ -99,6 +101,11 @@ public class UserOperatorConfig {
      * Size of the pool of the controller threads used to reconcile the users
      */
     public static final ConfigParameter<Integer> CONTROLLER_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_CONTROLLER_THREAD_POOL_SIZE", INTEGER, "50", CONFIG_VALUES);
+    /**
+     * Maximal number of users reconciled at the same time when the controller threads reconcile the users
+     * asynchronously. 0 disables the asynchronous mode and each controller thread reconciles one user at a time.
+     */
+    public static final ConfigParameter<Integer> CONTROLLER_MAX_IN_FLIGHT_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_CONTROLLER_MAX_IN_FLIGHT_RECONCILIATIONS", INTEGER, "0", CONFIG_VALUES);
     /**
      * Refresh interval for the cache storing the resources from the Kafka Admin API
      */
@@ -115,6 +122,22 @@ public class UserOperatorConfig {
      * Maximal batch time for micro-batching the Kafka Admin API requests
      */
     public static final ConfigParameter<Integer> BATCH_MAXIMUM_BLOCK_TIME_MS = new ConfigParameter<>("STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
+    /**
+     * Enables the adaptive tuning of the batch size and batch time for micro-batching the Kafka Admin API requests
+     */
+    public static final ConfigParameter<Boolean> BATCH_ADAPTIVE = new ConfigParameter<>("STRIMZI_BATCH_ADAPTIVE", BOOLEAN, "false", CONFIG_VALUES);
+    /**
+     * Minimal batch size for micro-batching the Kafka Admin API requests when adaptive batching is enabled
+     */
+    public static final ConfigParameter<Integer> BATCH_MINIMUM_BLOCK_SIZE = new ConfigParameter<>("STRIMZI_BATCH_MINIMUM_BLOCK_SIZE", strictlyPositive(INTEGER), "10", CONFIG_VALUES);
+    /**
+     * Minimal batch time for micro-batching the Kafka Admin API requests when adaptive batching is enabled
+     */
+    public static final ConfigParameter<Integer> BATCH_MINIMUM_BLOCK_TIME_MS = new ConfigParameter<>("STRIMZI_BATCH_MINIMUM_BLOCK_TIME_MS", strictlyPositive(INTEGER), "5", CONFIG_VALUES);
+    /**
+     * Kafka Admin API request latency above which the adaptive batching reduces the batch size
+     */
+    public static final ConfigParameter<Integer> BATCH_TARGET_LATENCY_MS = new ConfigParameter<>("STRIMZI_BATCH_TARGET_LATENCY_MS", strictlyPositive(INTEGER), "1000", CONFIG_VALUES);
     /**
      * Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
@@ -127,6 +150,14 @@ public class UserOperatorConfig {
      * Lit of maintenance windows
      */
     public static final ConfigParameter<List<String>> MAINTENANCE_TIME_WINDOWS = new ConfigParameter<>("STRIMZI_MAINTENANCE_TIME_WINDOWS", SEMICOLON_SEPARATED_LIST, "", CONFIG_VALUES);
+    /**
+     * Implementation used to generate the user certificates: openssl or bouncycastle
+     */
+    public static final ConfigParameter<CertManagerType> CERT_MANAGER = new ConfigParameter<>("STRIMZI_CERT_MANAGER", CERT_MANAGER_TYPE, "openssl", CONFIG_VALUES);
+    /**
+     * Maximal time for which the periodic reconciliations of an unchanged user are skipped. 0 (the default) disables skipping.
+     */
+    public static final ConfigParameter<Long> DRIFT_SWEEP_INTERVAL_MS = new ConfigParameter<>("STRIMZI_DRIFT_SWEEP_INTERVAL_MS", LONG, "0", CONFIG_VALUES);
 
     private final Map<String, Object> map;
 
@@ -317,6 +348,14 @@ public class UserOperatorConfig {
         return get(CONTROLLER_THREAD_POOL_SIZE);
     }
 
+    /**
+     * @return  Maximal number of users reconciled at the same time in the asynchronous mode. 0 if the asynchronous mode
+     *          is disabled.
+     */
+    public int getControllerMaxInFlightReconciliations() {
+        return get(CONTROLLER_MAX_IN_FLIGHT_RECONCILIATIONS);
+    }
+
     /**
      * @return  Refresh interval for the cache storing the resources from the Kafka Admin API
      */
@@ -345,6 +384,35 @@ public class UserOperatorConfig {
         return get(BATCH_MAXIMUM_BLOCK_TIME_MS);
     }
 
+    /**
+     * @return  True if the batch size and batch time for micro-batching the Kafka Admin API requests are tuned
+     *          adaptively. False otherwise.
+     */
+    public boolean isBatchAdaptive() {
+        return get(BATCH_ADAPTIVE);
+    }
+
+    /**
+     * @return  Minimal batch size for micro-batching the Kafka Admin API requests when adaptive batching is enabled
+     */
+    public int getBatchMinBlockSize() {
+        return get(BATCH_MINIMUM_BLOCK_SIZE);
+    }
+
+    /**
+     * @return  Minimal batch time for micro-batching the Kafka Admin API requests when adaptive batching is enabled
+     */
+    public int getBatchMinBlockTime() {
+        return get(BATCH_MINIMUM_BLOCK_TIME_MS);
+    }
+
+    /**
+     * @return  Kafka Admin API request latency above which the adaptive batching reduces the batch size
+     */
+    public int getBatchTargetLatency() {
+        return get(BATCH_TARGET_LATENCY_MS);
+    }
+
     /**
      * @return Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
@@ -352,6 +420,20 @@ public class UserOperatorConfig {
         return get(USER_OPERATIONS_THREAD_POOL_SIZE);
     }
 
+    /**
+     * @return The type of the CertManager used to generate the user certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return get(CERT_MANAGER);
+    }
+
+    /**
+     * @return  Maximal time for which the periodic reconciliations of an unchanged user are skipped
+     */
+    public long getDriftSweepIntervalMs() {
+        return get(DRIFT_SWEEP_INTERVAL_MS);
+    }
+
     /**
      * @return The number of certificates validity days.
      */
@@ -389,11 +471,18 @@ public class UserOperatorConfig {
                 "\n\toperationTimeoutMs=" + getOperationTimeoutMs() +
                 "\n\tworkQueueSize=" + getWorkQueueSize() +
                 "\n\tcontrollerThreadPoolSize=" + getControllerThreadPoolSize() +
+                "\n\tcontrollerMaxInFlightReconciliations=" + getControllerMaxInFlightReconciliations() +
                 "\n\tcacheRefresh=" + getCacheRefresh() +
                 "\n\tbatchQueueSize=" + getBatchQueueSize() +
                 "\n\tbatchMaxBlockSize=" + getBatchMaxBlockSize() +
                 "\n\tbatchMaxBlockTime=" + getBatchMaxBlockTime() +
+                "\n\tbatchAdaptive=" + isBatchAdaptive() +
+                "\n\tbatchMinBlockSize=" + getBatchMinBlockSize() +
+                "\n\tbatchMinBlockTime=" + getBatchMinBlockTime() +
+                "\n\tbatchTargetLatency=" + getBatchTargetLatency() +
                 "\n\tuserOperationsThreadPoolSize=" + getUserOperationsThreadPoolSize() +
+                "\n\tcertManagerType=" + getCertManagerType() +
+                "\n\tdriftSweepIntervalMs=" + getDriftSweepIntervalMs() +
                 '}';
     }
 }
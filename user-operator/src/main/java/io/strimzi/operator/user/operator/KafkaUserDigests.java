@@ -0,0 +1,99 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.operator.common.model.ExpiringDigests;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.strimzi.operator.common.model.StatusUtils;
+
+import java.util.Objects;
+
+/**
+ * Tracks which users can skip their periodic reconciliation. A user is skipped when its KafkaUser is Ready and
+ * nothing that its reconciliation applies to Kafka or to its Secret changed since the last successful reconciliation.
+ *
+ * The credentials are generated before the check, so the digest can cover their outcome: the desired user Secret
+ * contains the password (which might come from a Secret provided by the user) or the user certificate (which is
+ * renewed when it gets close to its expiry). The resource version of the current user Secret catches the Secret being
+ * edited or deleted by someone else. The KafkaUser generation covers the authentication, authorization and quotas.
+ *
+ * The ACLs, quotas and SCRAM-SHA credentials in Kafka are not covered, because reading them is what the skipping
+ * avoids. So the digests expire after at most the drift sweep interval, after which the user is fully reconciled again.
+ */
+class KafkaUserDigests {
+    // Key: User, Value: The digest from the last successful reconciliation
+    private final ExpiringDigests<NamespaceAndName, Integer> digests;
+
+    /**
+     * @param driftSweepIntervalMs  The maximum time for which a user is considered unchanged. 0 or less disables
+     *                              the skipping of unchanged users.
+     */
+    KafkaUserDigests(long driftSweepIntervalMs) {
+        this.digests = new ExpiringDigests<>(driftSweepIntervalMs);
+    }
+
+    /**
+     * @param kafkaUser     The KafkaUser
+     * @param desiredSecret The desired user Secret or null if the user has no Secret
+     * @param currentSecret The current user Secret or null if it does not exist
+     * @param nowMs         The current time in ms
+     *
+     * @return  True if the user did not change since its last successful reconciliation and its digest did not expire
+     *          yet.
+     */
+    boolean isUnchanged(KafkaUser kafkaUser, Secret desiredSecret, Secret currentSecret, long nowMs) {
+        Integer digest = digests.getUnexpired(ref(kafkaUser), nowMs);
+        return digest != null
+                && digest == digest(kafkaUser, desiredSecret, currentSecret)
+                && StatusUtils.isReadyInCurrentGeneration(kafkaUser);
+    }
+
+    /**
+     * Remembers the state applied by a successful reconciliation of the user.
+     *
+     * @param kafkaUser     The KafkaUser
+     * @param desiredSecret The desired user Secret or null if the user has no Secret
+     * @param currentSecret The user Secret at the beginning of the reconciliation or null if it did not exist
+     * @param nowMs         The current time in ms
+     */
+    void remember(KafkaUser kafkaUser, Secret desiredSecret, Secret currentSecret, long nowMs) {
+        if (digests.isEnabled()) {
+            digests.put(ref(kafkaUser), digest(kafkaUser, desiredSecret, currentSecret), nowMs);
+        }
+    }
+
+    /**
+     * Forgets the user, so that its next reconciliation is a full one.
+     *
+     * @param namespace Namespace of the user
+     * @param name      Name of the user
+     */
+    void forget(String namespace, String name) {
+        digests.remove(new NamespaceAndName(namespace, name));
+    }
+
+    /**
+     * @return  The number of remembered users
+     */
+    /* test */ int size() {
+        return digests.size();
+    }
+
+    private static NamespaceAndName ref(KafkaUser kafkaUser) {
+        return new NamespaceAndName(kafkaUser.getMetadata().getNamespace(), kafkaUser.getMetadata().getName());
+    }
+
+    /* test */ static int digest(KafkaUser kafkaUser, Secret desiredSecret, Secret currentSecret) {
+        var metadata = kafkaUser.getMetadata();
+        int kafkaUserDigest = Objects.hash(metadata.getGeneration(), metadata.getLabels(), metadata.getAnnotations());
+        int desiredSecretDigest = desiredSecret == null ? 0
+                : Objects.hash(desiredSecret.getData(), desiredSecret.getMetadata().getLabels(), desiredSecret.getMetadata().getAnnotations());
+        String currentSecretVersion = currentSecret == null ? null : currentSecret.getMetadata().getResourceVersion();
+
+        return Objects.hash(kafkaUserDigest, desiredSecretDigest, currentSecretVersion);
+    }
+}
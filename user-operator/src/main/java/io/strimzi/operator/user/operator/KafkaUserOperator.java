@@ -13,10 +13,12 @@ import io.strimzi.api.kafka.model.user.KafkaUserQuotas;
 import io.strimzi.api.kafka.model.user.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
 import io.strimzi.operator.common.InvalidConfigurationException;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.InvalidResourceException;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
@@ -33,6 +35,7 @@ import java.time.Clock;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -46,6 +49,11 @@ import java.util.stream.Collectors;
 public class KafkaUserOperator {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaUserOperator.class.getName());
 
+    /**
+     * Trigger of the periodic reconciliations. Only the periodic reconciliations of unchanged users are skipped.
+     */
+    public static final String PERIODIC_RECONCILIATION_TRIGGER = "timer";
+
     private final CertManager certManager;
     private final AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator;
     private final AdminApiOperator<String, List<String>> scramCredentialsOperator;
@@ -55,6 +63,8 @@ public class KafkaUserOperator {
     private final LabelSelector selector;
     private final SecretOperator secretOperator;
     private final CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> kafkaUserCrdOperator;
+    private final KafkaUserDigests digests;
+    private final ControllerMetricsHolder metrics;
 
     /**
      * Creates the instance of KafkaUserOperator
@@ -66,6 +76,7 @@ public class KafkaUserOperator {
      * @param scramCredentialsOperator For operating on SCRAM SHA credentials.
      * @param quotasOperator           For operating on Kafka User quotas.
      * @param aclOperator              For operating on ACLs.
+     * @param metricsProvider          Metrics provider for handling metrics
      */
     public KafkaUserOperator(
             UserOperatorConfig config,
@@ -74,7 +85,8 @@ public class KafkaUserOperator {
             CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> kafkaUserCrdOperator,
             AdminApiOperator<String, List<String>> scramCredentialsOperator,
             AdminApiOperator<KafkaUserQuotas, Set<String>> quotasOperator,
-            AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator
+            AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator,
+            MetricsProvider metricsProvider
     ) {
         this.certManager = certManager;
         this.scramCredentialsOperator = scramCredentialsOperator;
@@ -86,6 +98,8 @@ public class KafkaUserOperator {
         this.passwordGenerator = new PasswordGenerator(this.config.getScramPasswordLength());
         this.secretOperator = secretOperator;
         this.kafkaUserCrdOperator = kafkaUserCrdOperator;
+        this.digests = new KafkaUserDigests(config.getDriftSweepIntervalMs());
+        this.metrics = new ControllerMetricsHolder(KafkaUser.RESOURCE_KIND, Labels.fromMap(selector.getMatchLabels() == null ? Map.of() : selector.getMatchLabels()), metricsProvider);
     }
 
     /**
@@ -190,6 +204,7 @@ public class KafkaUserOperator {
             return createOrUpdate(reconciliation, kafkaUser, userSecret);
         } else {
             // Delete the user from everywhere with both the TLS and SCRAM-SHa name variants
+            digests.forget(reconciliation.namespace(), reconciliation.name());
             return delete(reconciliation).thenApply(i -> null);
         }
     }
@@ -246,10 +261,28 @@ public class KafkaUserOperator {
         // Makes sure the credentials are up-to-date. (This just updates the information inside the KafkaUserModel.
         // It does not generate the secret or update the password in Kafka. That happens only later.)
         return maybeGenerateCredentials(reconciliation, user, userSecret)
-                // Reconcile the user: update everything in Kafka and in the Secret
-                .thenCompose(i -> reconcileCredentialsQuotasAndAcls(reconciliation, user, userSecret, userStatus))
+                .thenCompose(i -> {
+                    Secret desiredSecret = user.generateSecret();
+
+                    if (PERIODIC_RECONCILIATION_TRIGGER.equals(reconciliation.trigger())
+                            && digests.isUnchanged(kafkaUser, desiredSecret, userSecret, System.currentTimeMillis())) {
+                        // Nothing changed since the last successful reconciliation => skip the Kafka Admin API and Secret updates
+                        LOGGER.debugCr(reconciliation, "User {} in namespace {} did not change and its reconciliation will be skipped", reconciliation.name(), reconciliation.namespace());
+                        metrics.skippedReconciliationsCounter(reconciliation.namespace()).increment();
+                        if (desiredSecret != null) {
+                            userStatus.setSecret(user.getSecretName());
+                        }
+
+                        return CompletableFuture.completedFuture(null);
+                    } else {
+                        // Reconcile the user: update everything in Kafka and in the Secret
+                        return reconcileCredentialsQuotasAndAcls(reconciliation, user, userSecret, userStatus)
+                                .thenRun(() -> digests.remember(kafkaUser, desiredSecret, userSecret, System.currentTimeMillis()));
+                    }
+                })
                 .handle((i, e) -> {
                     if (e != null)  {
+                        digests.forget(reconciliation.namespace(), reconciliation.name());
                         throw new CompletionException(e);
                     } else {
                         StatusUtils.setStatusConditionAndObservedGeneration(kafkaUser, userStatus, (Throwable) null);
@@ -5,12 +5,15 @@
 package io.strimzi.operator.user.operator;
 
 import io.strimzi.api.kafka.model.user.KafkaUserQuotas;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.QuotaUtils;
+import io.strimzi.operator.user.operator.batching.BatchReconcilerMetricsHolder;
+import io.strimzi.operator.user.operator.batching.BatchSizer;
 import io.strimzi.operator.user.operator.batching.QuotasBatchReconciler;
 import io.strimzi.operator.user.operator.cache.QuotasCache;
 import org.apache.kafka.clients.admin.Admin;
@@ -39,18 +42,20 @@ public class QuotasOperator implements AdminApiOperator<KafkaUserQuotas, Set<Str
     /**
      * Constructor
      *
-     * @param adminClient   Kafka Admin client instance
-     * @param config        User operator configuration
-     * @param executor      Shared executor for executing async operations
+     * @param adminClient       Kafka Admin client instance
+     * @param config            User operator configuration
+     * @param executor          Shared executor for executing async operations
+     * @param metricsProvider   Metrics provider
      */
-    public QuotasOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+    public QuotasOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, MetricsProvider metricsProvider) {
         this.executor = executor;
 
         // Create cache for querying the Quotas locally
         this.cache = new QuotasCache(adminClient, config.getCacheRefresh());
 
         // Create micro-batching reconcilers for managing the quotas
-        this.patchReconciler = new QuotasBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.patchReconciler = new QuotasBatchReconciler(adminClient, config.getBatchQueueSize(), BatchSizer.fromConfig(config),
+                new BatchReconcilerMetricsHolder(config.getLabels(), metricsProvider));
     }
 
     /**
@@ -4,10 +4,13 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.UserOperatorConfig;
+import io.strimzi.operator.user.operator.batching.BatchReconcilerMetricsHolder;
+import io.strimzi.operator.user.operator.batching.BatchSizer;
 import io.strimzi.operator.user.operator.batching.ScramShaCredentialsBatchReconciler;
 import io.strimzi.operator.user.operator.cache.ScramShaCredentialsCache;
 import org.apache.kafka.clients.admin.Admin;
@@ -45,18 +48,20 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
     /**
      * Constructor
      *
-     * @param adminClient   Kafka Admin client instance
-     * @param config        User operator configuration
-     * @param executor      Shared executor for executing async operations
+     * @param adminClient       Kafka Admin client instance
+     * @param config            User operator configuration
+     * @param executor          Shared executor for executing async operations
+     * @param metricsProvider   Metrics provider
      */
-    public ScramCredentialsOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+    public ScramCredentialsOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, MetricsProvider metricsProvider) {
         this.executor = executor;
 
         // Create cache for querying the SCRAM-SHA Credentials locally
         this.cache = new ScramShaCredentialsCache(adminClient, config.getCacheRefresh());
 
         // Create micro-batching reconciler for updating the SCRAM-SHA credentials
-        this.patchReconciler = new ScramShaCredentialsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.patchReconciler = new ScramShaCredentialsBatchReconciler(adminClient, config.getBatchQueueSize(), BatchSizer.fromConfig(config),
+                new BatchReconcilerMetricsHolder(config.getLabels(), metricsProvider));
     }
 
     /**
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
@@ -11,8 +12,11 @@ import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.operator.batching.AddAclsBatchReconciler;
+import io.strimzi.operator.user.operator.batching.BatchReconcilerMetricsHolder;
+import io.strimzi.operator.user.operator.batching.BatchSizer;
 import io.strimzi.operator.user.operator.batching.DeleteAclsBatchReconciler;
 import io.strimzi.operator.user.operator.cache.AclCache;
+import io.strimzi.operator.user.operator.cache.AclCacheMetricsHolder;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -45,19 +49,21 @@ public class SimpleAclOperator implements AdminApiOperator<Set<SimpleAclRule>, S
     /**
      * Constructor
      *
-     * @param adminClient   Kafka Admin client instance
-     * @param config        User operator configuration
-     * @param executor      Shared executor for executing async operations
+     * @param adminClient       Kafka Admin client instance
+     * @param config            User operator configuration
+     * @param executor          Shared executor for executing async operations
+     * @param metricsProvider   Metrics provider
      */
-    public SimpleAclOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+    public SimpleAclOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, MetricsProvider metricsProvider) {
         this.executor = executor;
 
         // Create cache for querying the ACLs locally
-        this.cache = new AclCache(adminClient, config.getCacheRefresh());
+        this.cache = new AclCache(adminClient, config.getCacheRefresh(), new AclCacheMetricsHolder(config.getLabels(), metricsProvider), config.getNamespace());
 
         // Create micro-batching reconcilers for managing the ACLs
-        this.addReconciler = new AddAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
-        this.deleteReconciler = new DeleteAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        BatchReconcilerMetricsHolder batchMetrics = new BatchReconcilerMetricsHolder(config.getLabels(), metricsProvider);
+        this.addReconciler = new AddAclsBatchReconciler(adminClient, config.getBatchQueueSize(), BatchSizer.fromConfig(config), batchMetrics);
+        this.deleteReconciler = new DeleteAclsBatchReconciler(adminClient, config.getBatchQueueSize(), BatchSizer.fromConfig(config), batchMetrics);
     }
 
     /**
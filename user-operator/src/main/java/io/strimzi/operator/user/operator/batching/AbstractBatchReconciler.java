@@ -4,27 +4,33 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Abstract class for collecting Kafka Admin API requests and sending them to Kafka in batches. The batches are sent
- * when we collect some (configurable) amount of requests or after some (configurable) time interval
+ * when we collect some (configurable) amount of requests or after some (configurable) time interval. The batch size and
+ * batch time are decided by the {@link BatchSizer} and can be tuned adaptively.
  */
 public abstract class AbstractBatchReconciler<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractBatchReconciler.class);
 
-    private final BlockingQueue<T> queue;
-    private final int maxBatchSize;
-    private final int maxBatchTime;
+    private final BlockingQueue<QueuedItem<T>> queue;
+    private final BatchSizer sizer;
+    private final BatchReconcilerMetricsHolder metrics;
     private final Thread batchHandlerThread;
 
     private volatile CountDownLatch batchSize;
@@ -35,18 +41,18 @@ public abstract class AbstractBatchReconciler<T> {
      *
      * @param name          Name of the reconciler
      * @param queueSize     Size of the queue for queueing the reconciliation requests
-     * @param maxBatchSize  Maximal size of the batch
-     * @param maxBatchTime  Maximal time to wait before batch is executed
+     * @param sizer         Batch sizer which decides the size of the batch and the time to wait before batch is executed
+     * @param metrics       Metrics holder for the batch reconciler metrics
      */
-    public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime) {
-        if (maxBatchSize > queueSize)   {
+    public AbstractBatchReconciler(String name, int queueSize, BatchSizer sizer, BatchReconcilerMetricsHolder metrics) {
+        if (sizer.maxBatchSize() > queueSize)   {
             throw new IllegalArgumentException("Maximum batch size cannot be bigger than queue size");
         }
 
         this.queue = new ArrayBlockingQueue<>(queueSize);
         this.batchSize = new CountDownLatch(0);
-        this.maxBatchSize = maxBatchSize;
-        this.maxBatchTime = maxBatchTime;
+        this.sizer = sizer;
+        this.metrics = metrics;
         this.batchHandlerThread = new Thread(new Runner(), name);
     }
 
@@ -54,8 +60,44 @@ public abstract class AbstractBatchReconciler<T> {
      * Method responsible for sending the batch of requests to Apache Kafka and handling the result
      *
      * @param items Items which should be reconciled
+     *
+     * @return  CompletionStage which completes when the result of the batch was handled. It should complete
+     *          exceptionally when the whole batch failed (e.g. timed out). It is used for the metrics and to tune the
+     *          batch size.
      */
-    protected abstract void reconcile(Collection<T> items);
+    protected abstract CompletionStage<Void> reconcile(Collection<T> items);
+
+    /**
+     * Waits for the results of the individual items of a Kafka Admin API request. The all() methods of the Admin API
+     * results fail as soon as any of the items fails. This method waits for all the items instead, so that a failed
+     * item fails only the request it belongs to and not the whole batch.
+     *
+     * @param perItemResults    Map with the futures of the individual items of the Admin API request
+     *
+     * @return  CompletableFuture which completes when all the items completed. It completes with a map of the failed
+     *          items and the reasons why they failed.
+     *
+     * @param <K>   Type of the keys of the individual items
+     */
+    protected static <K> CompletableFuture<Map<K, Throwable>> waitForItems(Map<K, ? extends KafkaFuture<?>> perItemResults)  {
+        Map<K, Throwable> failures = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> completions = new ArrayList<>(perItemResults.size());
+
+        perItemResults.forEach((key, fut) -> {
+            CompletableFuture<Void> completion = new CompletableFuture<>();
+            fut.whenComplete((r, e) -> {
+                if (e != null)  {
+                    failures.put(key, e);
+                }
+
+                completion.complete(null);
+            });
+            completions.add(completion);
+        });
+
+        return CompletableFuture.allOf(completions.toArray(new CompletableFuture[0]))
+                .thenApply(i -> failures);
+    }
 
     /**
      * Enqueues a reconciliation request
@@ -65,9 +107,9 @@ public abstract class AbstractBatchReconciler<T> {
      * @throws InterruptedException Thrown when interrupted while enqueuing the resource
      */
     public void enqueue(T item) throws InterruptedException {
-        queue.put(item);
+        queue.put(new QueuedItem<>(item, System.nanoTime()));
 
-        if (queue.size() >= maxBatchSize)   {
+        if (queue.size() >= sizer.batchSize())   {
             batchSize.countDown();
         }
     }
@@ -85,13 +127,32 @@ public abstract class AbstractBatchReconciler<T> {
             LOGGER.trace("{}: Running the next batch of the BatchReconciler because maximum batch time was reached", batchHandlerThread.getName());
         }
 
-        List<T> batch = new ArrayList<>();
-        int batchSize = queue.drainTo(batch, maxBatchSize);
+        String name = batchHandlerThread.getName();
+        List<QueuedItem<T>> queued = new ArrayList<>();
+        int batchSize = queue.drainTo(queued, sizer.batchSize());
+        sizer.batchStarted(batchSize, batchSizeReached);
 
         if (batchSize > 0)  {
-            LOGGER.debug("{}: Processing batch of {} records in the BatchReconciler", batchHandlerThread.getName(), batchSize);
-            reconcile(batch);
+            LOGGER.debug("{}: Processing batch of {} records in the BatchReconciler", name, batchSize);
+
+            long startNs = System.nanoTime();
+            List<T> batch = new ArrayList<>(batchSize);
+            for (QueuedItem<T> item : queued) {
+                metrics.queueWaitTimer(name).record(startNs - item.enqueuedNs(), TimeUnit.NANOSECONDS);
+                batch.add(item.item());
+            }
+            metrics.batchSize(name).record(batchSize);
+
+            reconcile(batch)
+                    .whenComplete((r, e) -> {
+                        long latencyNs = System.nanoTime() - startNs;
+                        metrics.requestLatencyTimer(name).record(latencyNs, TimeUnit.NANOSECONDS);
+                        sizer.batchCompleted(batchSize, TimeUnit.NANOSECONDS.toMillis(latencyNs), e != null);
+                        metrics.batchSizeLimit(name).set(sizer.batchSize());
+                    });
         }
+
+        metrics.batchTimeLimit(name).set(sizer.batchTime());
     }
 
     /**
@@ -130,7 +191,7 @@ public abstract class AbstractBatchReconciler<T> {
             while (!stop)    {
                 try {
                     LOGGER.trace("{}: Waiting for the next batch of the BatchReconciler", batchHandlerThread.getName());
-                    boolean batchSizeReached = batchSize.await(maxBatchTime, TimeUnit.MILLISECONDS);
+                    boolean batchSizeReached = batchSize.await(sizer.batchTime(), TimeUnit.MILLISECONDS);
 
                     if (batchSizeReached) {
                         batchSize = new CountDownLatch(1);
@@ -145,4 +206,14 @@ public abstract class AbstractBatchReconciler<T> {
             LOGGER.info("{}: Stopping the BatchReconciler", batchHandlerThread.getName());
         }
     }
+
+    /**
+     * Request waiting in the queue
+     *
+     * @param item          The request
+     * @param enqueuedNs    The System.nanoTime() of when the request was enqueued
+     *
+     * @param <T>   Type of the request
+     */
+    private record QueuedItem<T>(T item, long enqueuedNs) { }
 }
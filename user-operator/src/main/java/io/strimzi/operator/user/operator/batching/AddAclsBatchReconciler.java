@@ -16,7 +16,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Micro-batching reconciler for creating new ACL rules using the Kafka Admin API.
@@ -31,11 +32,12 @@ public class AddAclsBatchReconciler extends AbstractBatchReconciler<AdminApiOper
      *
      * @param adminClient   Kafka Admin API client
      * @param queueSize     Maximal size of the batching queue
-     * @param maxBatchSize  Maximal size of the batch
-     * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
+     * @param sizer         Batch sizer which decides the size of the batch and the time for which the requests should be
+     *                      collected before a batch is sent
+     * @param metrics       Metrics holder for the batch reconciler metrics
      */
-    public AddAclsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime) {
-        super("AddAclsBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+    public AddAclsBatchReconciler(Admin adminClient, int queueSize, BatchSizer sizer, BatchReconcilerMetricsHolder metrics) {
+        super("AddAclsBatchReconciler", queueSize, sizer, metrics);
         this.adminClient = adminClient;
     }
 
@@ -43,59 +45,45 @@ public class AddAclsBatchReconciler extends AbstractBatchReconciler<AdminApiOper
      * Reconciles batch of requests to create new ACL rules in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  CompletionStage which completes when the results were handled. It completes exceptionally when the whole
+     *          batch failed.
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBinding>, ReconcileResult<Collection<AclBinding>>>> items) {
+    protected CompletionStage<Void> reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBinding>, ReconcileResult<Collection<AclBinding>>>> items) {
         List<AclBinding> aclBindings = new ArrayList<>();
         items.forEach(req -> aclBindings.addAll(req.desired()));
 
         CreateAclsResult result = adminClient.createAcls(aclBindings);
+        Map<AclBinding, KafkaFuture<Void>> perItemResults = result.values();
 
-        result.all()
-                .toCompletionStage()
-                .handleAsync((r, e) -> {
-                    if (e != null)  {
-                        LOGGER.warnOp("ACL reconciliation failed", e);
-                        items.forEach(req -> req.result().completeExceptionally(e));
-                    } else {
-                        Map<AclBinding, KafkaFuture<Void>> perItemResults = result.values();
-
-                        items.forEach(req -> {
-                            final String principal = "User:" + req.username();
-                            AtomicBoolean failed = new AtomicBoolean(false);
+        return waitForItems(perItemResults)
+                .thenApplyAsync(failures -> {
+                    items.forEach(req -> {
+                        Throwable reason = null;
 
-                            perItemResults.forEach((binding, fut) -> {
-                                // We have to loop through the results to find results affecting our principal => these are the results related to our batch
-                                if (principal.equals(binding.entry().principal())) {
-                                    if (fut.isCompletedExceptionally()) {
-                                        Exception reason = null;
-                                        try {
-                                            fut.getNow(null);
-                                            reason = new RuntimeException("The KafkaFuture failed without an exception");
-                                        } catch (Exception completionException) {
-                                            reason = completionException;
-                                        } finally {
-                                            LOGGER.warnCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} failed", req.username(), binding, reason);
-                                            failed.set(true);
-                                        }
-                                    } else if (fut.isCancelled()) {
-                                        LOGGER.warnCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} was canceled", req.username(), binding);
-                                        failed.set(true);
-                                    } else if (fut.isDone()) {
-                                        LOGGER.debugCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} succeeded", req.username(), binding);
-                                    } else {
-                                        LOGGER.warnCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} ended in unknown state", req.username(), binding);
-                                        failed.set(true);
-                                    }
-                                }
-                            });
+                        for (AclBinding binding : req.desired())  {
+                            Throwable failure = failures.get(binding);
 
-                            if (failed.get()) {
-                                req.result().completeExceptionally(new RuntimeException("ACL creation failed"));
+                            if (failure != null)    {
+                                LOGGER.warnCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} failed", req.username(), binding, failure);
+                                reason = failure;
                             } else {
-                                req.result().complete(ReconcileResult.created(req.desired()));
+                                LOGGER.debugCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} succeeded", req.username(), binding);
                             }
-                        });
+                        }
+
+                        if (reason != null) {
+                            req.result().completeExceptionally(reason);
+                        } else {
+                            req.result().complete(ReconcileResult.created(req.desired()));
+                        }
+                    });
+
+                    if (!failures.isEmpty() && failures.size() == perItemResults.size())  {
+                        Throwable failure = failures.values().iterator().next();
+                        LOGGER.warnOp("ACL reconciliation failed", failure);
+                        throw new CompletionException(failure);
                     }
 
                     return null;
@@ -0,0 +1,123 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.batching;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Metrics holder for the metrics of the micro-batching reconcilers. The metrics are tagged with the name of the
+ * reconciler. The batch size, queue wait and request latency are exported as histograms. Unlike the other timers, the
+ * histograms are not limited to the predefined buckets starting at 1 second, because the Kafka Admin API requests
+ * usually take only milliseconds.
+ */
+public class BatchReconcilerMetricsHolder extends MetricsHolder {
+    private final Map<String, DistributionSummary> batchSizeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> queueWaitTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> requestLatencyTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> batchSizeLimitMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> batchTimeLimitMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the batch reconciler metrics holder
+     *
+     * @param selectorLabels    Selector labels to select the KafkaUser resources
+     * @param metricsProvider   Metrics provider
+     */
+    public BatchReconcilerMetricsHolder(Labels selectorLabels, MetricsProvider metricsProvider) {
+        super(KafkaUser.RESOURCE_KIND, selectorLabels, metricsProvider);
+    }
+
+    /**
+     * Histogram of the number of requests in the batches.
+     *
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics distribution summary
+     */
+    public DistributionSummary batchSize(String reconciler) {
+        return batchSizeMap.computeIfAbsent(reconciler, r -> DistributionSummary.builder(METRICS_PREFIX + "batch.size")
+                .description("Number of Kafka Admin API requests in the batches sent by the micro-batching reconciler")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .tags(tags(r))
+                .register(metricsProvider.meterRegistry()));
+    }
+
+    /**
+     * Histogram of the time the requests wait in the queue of the reconciler before they are sent to Kafka.
+     *
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics timer
+     */
+    public Timer queueWaitTimer(String reconciler) {
+        return histogramTimer(reconciler, METRICS_PREFIX + "batch.queue.wait", queueWaitTimerMap,
+                "The time the Kafka Admin API requests wait in the queue of the micro-batching reconciler");
+    }
+
+    /**
+     * Histogram of the latency of the Kafka Admin API requests sent by the reconciler.
+     *
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics timer
+     */
+    public Timer requestLatencyTimer(String reconciler) {
+        return histogramTimer(reconciler, METRICS_PREFIX + "batch.request.latency", requestLatencyTimerMap,
+                "The time the Kafka Admin API requests sent by the micro-batching reconciler take to complete");
+    }
+
+    /**
+     * Gauge metric for the current batch size limit of the reconciler (it changes only with adaptive batching).
+     *
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger batchSizeLimit(String reconciler) {
+        return batchSizeLimitMap.computeIfAbsent(reconciler, r -> metricsProvider.gauge(METRICS_PREFIX + "batch.size.limit",
+                "The current maximal number of Kafka Admin API requests in a batch of the micro-batching reconciler", tags(r)));
+    }
+
+    /**
+     * Gauge metric for the current batch time limit of the reconciler (it changes only with adaptive batching).
+     *
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger batchTimeLimit(String reconciler) {
+        return batchTimeLimitMap.computeIfAbsent(reconciler, r -> metricsProvider.gauge(METRICS_PREFIX + "batch.time.limit.ms",
+                "The current maximal time in milliseconds for which the micro-batching reconciler collects the requests", tags(r)));
+    }
+
+    private Timer histogramTimer(String reconciler, String metricName, Map<String, Timer> timerMap, String metricHelp) {
+        return timerMap.computeIfAbsent(reconciler, r -> Timer.builder(metricName)
+                .description(metricHelp)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(5))
+                .tags(tags(r))
+                .register(metricsProvider.meterRegistry()));
+    }
+
+    private Tags tags(String reconciler) {
+        return Tags.of(Tag.of("kind", kind),
+                Tag.of("selector", selectorLabels != null ? selectorLabels.toSelectorString() : ""),
+                Tag.of("reconciler", reconciler));
+    }
+}
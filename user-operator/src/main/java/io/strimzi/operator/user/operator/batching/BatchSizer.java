@@ -0,0 +1,132 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.batching;
+
+import io.strimzi.operator.user.UserOperatorConfig;
+
+/**
+ * Decides the batch size and the batch time (linger) of a micro-batching reconciler. By default, both are fixed. When
+ * adaptive batching is enabled, they are tuned within the configured bounds based on the batches sent by the reconciler:
+ *   - The batch size is halved when a batch fails as a whole or when its Kafka Admin API request takes longer than the
+ *     target latency. It grows by 10% when a full batch completes within the target latency.
+ *   - The batch time is halved when a batch triggered by the time contains at most a single request (waiting for more
+ *     requests was useless). It is doubled when a batch is triggered by the batch size (the load is high and waiting
+ *     for more requests pays off).
+ *
+ * Every reconciler needs its own instance.
+ */
+public class BatchSizer {
+    private final boolean adaptive;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int minBatchTime;
+    private final int maxBatchTime;
+    private final long targetLatencyMs;
+
+    private volatile int batchSize;
+    private volatile int batchTime;
+
+    /**
+     * Creates the batch sizer
+     *
+     * @param adaptive          Indicates whether the batch size and batch time should be tuned
+     * @param minBatchSize      Minimal size of the batch
+     * @param maxBatchSize      Maximal size of the batch
+     * @param minBatchTime      Minimal time to wait before batch is executed
+     * @param maxBatchTime      Maximal time to wait before batch is executed
+     * @param targetLatencyMs   Kafka Admin API request latency above which the batch size is reduced
+     */
+    public BatchSizer(boolean adaptive, int minBatchSize, int maxBatchSize, int minBatchTime, int maxBatchTime, long targetLatencyMs) {
+        this.adaptive = adaptive;
+        this.minBatchSize = Math.min(minBatchSize, maxBatchSize);
+        this.maxBatchSize = maxBatchSize;
+        this.minBatchTime = Math.min(minBatchTime, maxBatchTime);
+        this.maxBatchTime = maxBatchTime;
+        this.targetLatencyMs = targetLatencyMs;
+
+        // We start with the maximums as with the fixed batching and tune it down when needed
+        this.batchSize = maxBatchSize;
+        this.batchTime = maxBatchTime;
+    }
+
+    /**
+     * Creates batch sizer with fixed batch size and batch time
+     *
+     * @param batchSize     Size of the batch
+     * @param batchTime     Time to wait before batch is executed
+     *
+     * @return  Batch sizer
+     */
+    public static BatchSizer fixed(int batchSize, int batchTime) {
+        return new BatchSizer(false, batchSize, batchSize, batchTime, batchTime, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates batch sizer based on the User Operator configuration
+     *
+     * @param config    User Operator configuration
+     *
+     * @return  Batch sizer
+     */
+    public static BatchSizer fromConfig(UserOperatorConfig config) {
+        return new BatchSizer(config.isBatchAdaptive(), config.getBatchMinBlockSize(), config.getBatchMaxBlockSize(),
+                config.getBatchMinBlockTime(), config.getBatchMaxBlockTime(), config.getBatchTargetLatency());
+    }
+
+    /**
+     * @return  The maximal size of the batch
+     */
+    int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return  The current size of the batch
+     */
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return  The current time to wait before batch is executed
+     */
+    public int batchTime() {
+        return batchTime;
+    }
+
+    /**
+     * Called when a batch is taken from the queue to tune the batch time.
+     *
+     * @param items             Number of requests in the batch
+     * @param batchSizeReached  Indicates whether the batch was triggered because the batch size was reached (true) or
+     *                          the batch time (false)
+     */
+    synchronized void batchStarted(int items, boolean batchSizeReached) {
+        if (adaptive) {
+            if (batchSizeReached) {
+                batchTime = Math.min(maxBatchTime, batchTime * 2);
+            } else if (items <= 1) {
+                batchTime = Math.max(minBatchTime, batchTime / 2);
+            }
+        }
+    }
+
+    /**
+     * Called when the Kafka Admin API request for a batch completed to tune the batch size.
+     *
+     * @param items         Number of requests in the batch
+     * @param latencyMs     Latency of the Kafka Admin API request
+     * @param failed        Indicates whether the whole batch failed
+     */
+    synchronized void batchCompleted(int items, long latencyMs, boolean failed) {
+        if (adaptive) {
+            if (failed || latencyMs > targetLatencyMs) {
+                batchSize = Math.max(minBatchSize, batchSize / 2);
+            } else if (items >= batchSize) {
+                batchSize = Math.min(maxBatchSize, batchSize + Math.max(1, batchSize / 10));
+            }
+        }
+    }
+}
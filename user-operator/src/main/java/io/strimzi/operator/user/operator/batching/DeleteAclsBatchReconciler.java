@@ -16,7 +16,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Micro-batching reconciler for deleting ACL rules using the Kafka Admin API.
@@ -31,11 +32,12 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
      *
      * @param adminClient   Kafka Admin API client
      * @param queueSize     Maximal size of the batching queue
-     * @param maxBatchSize  Maximal size of the batch
-     * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
+     * @param sizer         Batch sizer which decides the size of the batch and the time for which the requests should be
+     *                      collected before a batch is sent
+     * @param metrics       Metrics holder for the batch reconciler metrics
      */
-    public DeleteAclsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime) {
-        super("DeleteAclsBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+    public DeleteAclsBatchReconciler(Admin adminClient, int queueSize, BatchSizer sizer, BatchReconcilerMetricsHolder metrics) {
+        super("DeleteAclsBatchReconciler", queueSize, sizer, metrics);
         this.adminClient = adminClient;
     }
 
@@ -43,63 +45,65 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
      * Reconciles batch of requests to delete ACL rules in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  CompletionStage which completes when the results were handled. It completes exceptionally when the whole
+     *          batch failed.
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBindingFilter>, ReconcileResult<Collection<AclBindingFilter>>>> items) {
+    protected CompletionStage<Void> reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBindingFilter>, ReconcileResult<Collection<AclBindingFilter>>>> items) {
         List<AclBindingFilter> aclFilters = new ArrayList<>();
         items.forEach(req -> aclFilters.addAll(req.desired()));
 
         DeleteAclsResult result = adminClient.deleteAcls(aclFilters);
+        Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> perItemResults = result.values();
+
+        return waitForItems(perItemResults)
+                .thenApplyAsync(failures -> {
+                    Throwable reason = null;
+                    int failed = 0;
+
+                    for (AdminApiOperator.ReconcileRequest<Collection<AclBindingFilter>, ReconcileResult<Collection<AclBindingFilter>>> req : items) {
+                        Throwable failure = null;
+
+                        for (AclBindingFilter filter : req.desired())  {
+                            Throwable filterFailure = failures.get(filter);
+
+                            if (filterFailure == null)  {
+                                // The filter itself succeeded, but deleting some of the matching ACL bindings might have failed
+                                try {
+                                    DeleteAclsResult.FilterResults filterResults = perItemResults.get(filter).getNow(null);
 
-        result.all()
-                .toCompletionStage()
-                .handleAsync((r, e) -> {
-                    if (e != null)  {
-                        LOGGER.warnOp("ACL reconciliation failed", e);
-                        items.forEach(req -> req.result().completeExceptionally(e));
-                    } else {
-                        Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> perItemResults = result.values();
-
-                        items.forEach(req -> {
-                            final String principal = "User:" + req.username();
-                            AtomicBoolean failed = new AtomicBoolean(false);
-
-                            perItemResults.forEach((filter, fut) -> {
-                                // We have to loop through the results to find results affecting our principal => these are the results related to our batch
-                                if (principal.equals(filter.entryFilter().principal())) {
-                                    if (fut.isCompletedExceptionally() || fut.isDone()) {
-                                        try {
-                                            DeleteAclsResult.FilterResults futRes = fut.getNow(null);
-
-                                            if (futRes != null) {
-                                                futRes.values().forEach(filterResult -> {
-                                                    if (filterResult.exception() != null)   {
-                                                        LOGGER.warnCr(req.reconciliation(), "ACL deletion for user {} and ACL filter {} failed", req.username(), filter, filterResult.exception());
-                                                        failed.set(true);
-                                                    }
-                                                });
+                                    if (filterResults != null) {
+                                        for (DeleteAclsResult.FilterResult filterResult : filterResults.values()) {
+                                            if (filterResult.exception() != null)   {
+                                                filterFailure = filterResult.exception();
                                             }
-                                        } catch (Throwable completionException) {
-                                            LOGGER.warnCr(req.reconciliation(), "ACL deletion for user {} and ACL filter {} failed", req.username(), filter, completionException);
-                                            failed.set(true);
                                         }
-                                    } else if (fut.isCancelled()) {
-                                        LOGGER.warnCr(req.reconciliation(), "ACL deletion for user {} and ACL filter {} was canceled", req.username(), filter);
-                                        failed.set(true);
-                                    } else {
-                                        LOGGER.warnCr(req.reconciliation(), "ACL deletion for user {} and ACL filter {} ended in unknown state", filter, req.username());
-                                        failed.set(true);
                                     }
+                                } catch (Exception completionException) {
+                                    filterFailure = completionException;
                                 }
-                            });
+                            }
 
-                            if (failed.get()) {
-                                req.result().completeExceptionally(new RuntimeException("ACL deletion failed"));
-                            } else {
-                                LOGGER.debugCr(req.reconciliation(), "ACL deletion for user {} succeeded", req.username());
-                                req.result().complete(ReconcileResult.deleted());
+                            if (filterFailure != null)  {
+                                LOGGER.warnCr(req.reconciliation(), "ACL deletion for user {} and ACL filter {} failed", req.username(), filter, filterFailure);
+                                failure = filterFailure;
                             }
-                        });
+                        }
+
+                        if (failure != null) {
+                            req.result().completeExceptionally(failure);
+                            reason = failure;
+                            failed++;
+                        } else {
+                            LOGGER.debugCr(req.reconciliation(), "ACL deletion for user {} succeeded", req.username());
+                            req.result().complete(ReconcileResult.deleted());
+                        }
+                    }
+
+                    if (failed > 0 && failed == items.size())  {
+                        LOGGER.warnOp("ACL reconciliation failed", reason);
+                        throw new CompletionException(reason);
                     }
 
                     return null;
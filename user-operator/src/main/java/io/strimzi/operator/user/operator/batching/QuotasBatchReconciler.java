@@ -17,6 +17,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Micro-batching reconciler for patching Kafka quotas using the Kafka Admin API.
@@ -31,11 +33,12 @@ public class QuotasBatchReconciler extends AbstractBatchReconciler<AdminApiOpera
      *
      * @param adminClient   Kafka Admin API client
      * @param queueSize     Maximal size of the batching queue
-     * @param maxBatchSize  Maximal size of the batch
-     * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
+     * @param sizer         Batch sizer which decides the size of the batch and the time for which the requests should be
+     *                      collected before a batch is sent
+     * @param metrics       Metrics holder for the batch reconciler metrics
      */
-    public QuotasBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime) {
-        super("QuotasBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+    public QuotasBatchReconciler(Admin adminClient, int queueSize, BatchSizer sizer, BatchReconcilerMetricsHolder metrics) {
+        super("QuotasBatchReconciler", queueSize, sizer, metrics);
         this.adminClient = adminClient;
     }
 
@@ -43,48 +46,40 @@ public class QuotasBatchReconciler extends AbstractBatchReconciler<AdminApiOpera
      * Reconciles batch of requests to Patch quotas in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  CompletionStage which completes when the results were handled. It completes exceptionally when the whole
+     *          batch failed.
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<ClientQuotaAlteration, ReconcileResult<ClientQuotaAlteration>>> items) {
+    protected CompletionStage<Void> reconcile(Collection<AdminApiOperator.ReconcileRequest<ClientQuotaAlteration, ReconcileResult<ClientQuotaAlteration>>> items) {
         List<ClientQuotaAlteration> quotas = new ArrayList<>();
         items.forEach(req -> quotas.add(req.desired()));
 
         AlterClientQuotasResult result = adminClient.alterClientQuotas(quotas);
+        Map<ClientQuotaEntity, KafkaFuture<Void>> perItemResults = result.values();
+
+        return waitForItems(perItemResults)
+                .thenApplyAsync(failures -> {
+                    Throwable reason = null;
+                    int failed = 0;
 
-        result.all()
-                .toCompletionStage()
-                .handleAsync((r, e) -> {
-                    if (e != null)  {
-                        LOGGER.warnOp("Quotas reconciliation failed", e);
-                        items.forEach(req -> req.result().completeExceptionally(e));
-                    } else {
-                        Map<ClientQuotaEntity, KafkaFuture<Void>> perItemResults = result.values();
+                    for (AdminApiOperator.ReconcileRequest<ClientQuotaAlteration, ReconcileResult<ClientQuotaAlteration>> req : items) {
+                        Throwable failure = failures.get(req.desired().entity());
 
-                        items.forEach(req -> {
-                            KafkaFuture<Void> itemResult = perItemResults.get(new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, req.username())));
+                        if (failure == null) {
+                            LOGGER.debugCr(req.reconciliation(), "Quotas reconciliation for user {} succeeded", req.username());
+                            req.result().complete(ReconcileResult.patched(req.desired()));
+                        } else {
+                            LOGGER.warnCr(req.reconciliation(), "Quotas reconciliation for user {} failed", req.username(), failure);
+                            req.result().completeExceptionally(failure);
+                            reason = failure;
+                            failed++;
+                        }
+                    }
 
-                            if (itemResult.isCompletedExceptionally()) {
-                                Exception reason = null;
-                                try {
-                                    itemResult.getNow(null);
-                                    reason = new RuntimeException("The KafkaFuture failed without an exception");
-                                } catch (Exception completionException) {
-                                    reason = completionException;
-                                } finally {
-                                    LOGGER.warnCr(req.reconciliation(), "Quotas reconciliation for user {} failed", req.username(), reason);
-                                    req.result().completeExceptionally(reason);
-                                }
-                            } else if (itemResult.isCancelled()) {
-                                LOGGER.warnCr(req.reconciliation(), "Quotas reconciliation for user {} was canceled", req.username());
-                                req.result().completeExceptionally(new RuntimeException("Quotas reconciliation was canceled"));
-                            } else if (itemResult.isDone()) {
-                                LOGGER.debugCr(req.reconciliation(), "Quotas reconciliation for user {} succeeded", req.username());
-                                req.result().complete(ReconcileResult.patched(req.desired()));
-                            } else {
-                                LOGGER.warnCr(req.reconciliation(), "Quotas reconciliation for user {} ended in unknown state", req.username());
-                                req.result().completeExceptionally(new RuntimeException("Quotas reconciliation ended in unknown state"));
-                            }
-                        });
+                    if (failed > 0 && failed == items.size())  {
+                        LOGGER.warnOp("Quotas reconciliation failed", reason);
+                        throw new CompletionException(reason);
                     }
 
                     return null;
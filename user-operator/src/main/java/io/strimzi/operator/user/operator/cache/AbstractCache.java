@@ -43,6 +43,18 @@ public abstract class AbstractCache<T> {
      */
     protected abstract ConcurrentHashMap<String, T> loadCache();
 
+    /**
+     * Method for refreshing the data in the cache. By default, it loads a new map using the loadCache method which
+     * replaces the current map. Cache implementations which can update the current map in place can override it.
+     *
+     * @param current   The current map or null if the cache is not loaded
+     *
+     * @return  Map with the latest data
+     */
+    protected ConcurrentHashMap<String, T> refreshCache(ConcurrentHashMap<String, T> current) {
+        return loadCache();
+    }
+
     /**
      * Retrieves a value from the cache for given key.
      *
@@ -143,7 +155,7 @@ public abstract class AbstractCache<T> {
     private void updateCache()  {
         try {
             LOGGER.debug("Starting update of {}", this.getClass().getSimpleName());
-            cache = loadCache();
+            cache = refreshCache(cache);
             LOGGER.debug("{} updated", this.getClass().getSimpleName());
         } catch (Exception e)   {
             LOGGER.error("{} failed to update", this.getClass().getSimpleName(), e);
@@ -4,18 +4,26 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePatternFilter;
+import org.apache.kafka.common.resource.ResourceType;
 import org.apache.kafka.common.security.auth.KafkaPrincipal;
 import org.apache.kafka.common.utils.SecurityUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -23,22 +31,33 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
- * A periodically updated ACL Cache for keeping the ACLs locally and avoid querying Kafka
+ * A periodically updated ACL Cache for keeping the ACLs locally and avoid querying Kafka.
+ *
+ * The ACLs are loaded in shards - one for each resource type supported by the User Operator. Each shard is compared
+ * with the rules of the same resource type already in the cache and only the users whose rules changed are updated.
+ * This keeps the size of the individual Admin API responses and of the temporary data smaller than when loading all
+ * ACLs at once and avoids replacing the whole cache on every refresh.
  */
 public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
     private final static Logger LOGGER = LogManager.getLogger(AclCache.class);
 
     private final Admin adminClient;
+    private final AclCacheMetricsHolder metrics;
+    private final String namespace;
 
     /**
      * Constructs the ACL cache
      *
      * @param adminClient           Kafka Admin client
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param metrics               Metrics holder
+     * @param namespace             Namespace of the KafkaUser resources (used for the metrics)
      */
-    public AclCache(Admin adminClient, long refreshIntervalMs) {
+    public AclCache(Admin adminClient, long refreshIntervalMs, AclCacheMetricsHolder metrics, String namespace) {
         super("ACL", refreshIntervalMs);
         this.adminClient = adminClient;
+        this.metrics = metrics;
+        this.namespace = namespace;
     }
 
     /**
@@ -48,27 +67,113 @@ public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
      */
     @Override
     protected ConcurrentHashMap<String, Set<SimpleAclRule>> loadCache() {
-        KafkaFuture<Collection<AclBinding>> futureAcls = adminClient.describeAcls(AclBindingFilter.ANY).values();
+        return refreshCache(null);
+    }
+
+    /**
+     * Loads the ACL rules from Kafka shard by shard and updates the current map with them
+     *
+     * @param current   The current map or null if the cache is not loaded
+     *
+     * @return  The updated map with all users and their ACLs
+     */
+    @Override
+    protected ConcurrentHashMap<String, Set<SimpleAclRule>> refreshCache(ConcurrentHashMap<String, Set<SimpleAclRule>> current) {
+        ConcurrentHashMap<String, Set<SimpleAclRule>> map = current != null ? current : new ConcurrentHashMap<>();
+        Timer.Sample refreshTimerSample = Timer.start(metrics.metricsProvider().meterRegistry());
+        int changed = 0;
+
+        for (SimpleAclRuleResourceType type : SimpleAclRuleResourceType.values()) {
+            changed += updateShard(map, type, loadShard(type));
+        }
+
+        refreshTimerSample.stop(metrics.refreshTimer(namespace));
+        metrics.changedEntriesCounter(namespace).increment(changed);
+        metrics.cachedUsers(namespace).set(map.size());
+        metrics.cachedRules(namespace).set(map.values().stream().mapToInt(Set::size).sum());
+        LOGGER.debug("ACL cache refreshed with {} changed users", changed);
+
+        return map;
+    }
+
+    /**
+     * Loads the ACL rules for given resource type from Kafka
+     *
+     * @param type  Resource type
+     *
+     * @return  Map with users and their ACL rules for given resource type
+     */
+    private Map<String, Set<SimpleAclRule>> loadShard(SimpleAclRuleResourceType type) {
+        AclBindingFilter filter = new AclBindingFilter(new ResourcePatternFilter(ResourceType.valueOf(type.name()), null, PatternType.ANY), AccessControlEntryFilter.ANY);
+        KafkaFuture<Collection<AclBinding>> futureAcls = adminClient.describeAcls(filter).values();
 
         try {
             Collection<AclBinding> aclsBindings = futureAcls.get(1, TimeUnit.MINUTES);
-            // Each user can have multiple ACL rules. So the size of the map will not directly correspond to the number
-            // of rules. But we size it for 3-5 rules per user to give us at least some start and have some better
-            // initial size than Java's default
-            ConcurrentHashMap<String, Set<SimpleAclRule>> map = new ConcurrentHashMap<>(aclsBindings.size() / 3);
+            Map<String, Set<SimpleAclRule>> shard = new HashMap<>();
 
             for (AclBinding aclBinding : aclsBindings) {
                 KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
 
                 if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
-                    map.computeIfAbsent(principal.getName(), k -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
+                    shard.computeIfAbsent(principal.getName(), k -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
                 }
             }
 
-            return map;
+            return shard;
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            LOGGER.warn("Failed to load ACLs", e);
+            LOGGER.warn("Failed to load {} ACLs", type, e);
             throw new RuntimeException("Failed to load ACLs", e);
         }
     }
+
+    /**
+     * Updates the ACL rules of given resource type in the map with the rules from the shard. Only the entries of the
+     * users whose rules of given type changed are replaced.
+     *
+     * @param map       Map with the cached ACL rules
+     * @param type      Resource type of the shard
+     * @param shard     ACL rules of given resource type loaded from Kafka
+     *
+     * @return  Number of users whose ACL rules changed
+     */
+    /* test */ static int updateShard(ConcurrentHashMap<String, Set<SimpleAclRule>> map, SimpleAclRuleResourceType type, Map<String, Set<SimpleAclRule>> shard) {
+        int changed = 0;
+
+        for (String user : map.keySet()) {
+            changed += updateUser(map, user, type, shard.getOrDefault(user, Set.of()));
+        }
+
+        for (Map.Entry<String, Set<SimpleAclRule>> user : shard.entrySet()) {
+            if (!map.containsKey(user.getKey())) {
+                changed += updateUser(map, user.getKey(), type, user.getValue());
+            }
+        }
+
+        return changed;
+    }
+
+    private static int updateUser(ConcurrentHashMap<String, Set<SimpleAclRule>> map, String user, SimpleAclRuleResourceType type, Set<SimpleAclRule> desired) {
+        boolean[] changed = {false};
+
+        map.compute(user, (k, current) -> {
+            Set<SimpleAclRule> rules = current != null ? current : Set.of();
+
+            if (rules.stream().filter(rule -> rule.getResource().getType() == type).count() == desired.size()
+                    && rules.containsAll(desired)) {
+                return current;
+            }
+
+            Set<SimpleAclRule> updated = new HashSet<>(desired);
+            for (SimpleAclRule rule : rules) {
+                if (rule.getResource().getType() != type) {
+                    updated.add(rule);
+                }
+            }
+
+            changed[0] = true;
+            return updated.isEmpty() ? null : updated;
+        });
+
+        return changed[0] ? 1 : 0;
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Metrics holder for the metrics of the ACL cache
+ */
+public class AclCacheMetricsHolder extends MetricsHolder {
+    private final Map<String, Timer> refreshTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> changedEntriesCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> cachedUsersMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> cachedRulesMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the ACL cache metrics holder
+     *
+     * @param selectorLabels    Selector labels to select the KafkaUser resources
+     * @param metricsProvider   Metrics provider
+     */
+    public AclCacheMetricsHolder(Labels selectorLabels, MetricsProvider metricsProvider) {
+        super(KafkaUser.RESOURCE_KIND, selectorLabels, metricsProvider);
+    }
+
+    /**
+     * Timer which measures how long the refresh of the ACL cache takes.
+     *
+     * @param namespace     Namespace of the KafkaUser resources
+     *
+     * @return  Metrics timer
+     */
+    public Timer refreshTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "acl.cache.refresh", metricsProvider, selectorLabels, refreshTimerMap,
+                "The time the refresh of the ACL cache takes");
+    }
+
+    /**
+     * Counter metric for the number of users whose ACL rules were changed in the cache by its refreshes.
+     *
+     * @param namespace     Namespace of the KafkaUser resources
+     *
+     * @return  Metrics counter
+     */
+    public Counter changedEntriesCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "acl.cache.changed.entries", metricsProvider, selectorLabels, changedEntriesCounterMap,
+                "Number of users whose ACL rules were changed by the refreshes of the ACL cache");
+    }
+
+    /**
+     * Gauge metric for the number of users in the ACL cache.
+     *
+     * @param namespace     Namespace of the KafkaUser resources
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger cachedUsers(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "acl.cache.users", metricsProvider, selectorLabels, cachedUsersMap,
+                "Number of users in the ACL cache");
+    }
+
+    /**
+     * Gauge metric for the number of ACL rules in the ACL cache. Together with the number of users, it shows the memory
+     * footprint of the cache.
+     *
+     * @param namespace     Namespace of the KafkaUser resources
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger cachedRules(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "acl.cache.rules", metricsProvider, selectorLabels, cachedRulesMap,
+                "Number of ACL rules in the ACL cache");
+    }
+}
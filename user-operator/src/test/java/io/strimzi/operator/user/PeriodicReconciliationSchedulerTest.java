@@ -0,0 +1,133 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.controller.ControllerQueue;
+import io.strimzi.operator.common.controller.SimplifiedReconciliation;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.strimzi.operator.user.operator.KafkaUserOperator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PeriodicReconciliationSchedulerTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private KafkaUserOperator userOperator;
+    private ControllerMetricsHolder metrics;
+
+    @BeforeEach
+    public void setup() {
+        userOperator = mock(KafkaUserOperator.class);
+        metrics = new ControllerMetricsHolder("KafkaUser", null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+    }
+
+    private static List<String> drain(ControllerQueue queue) throws InterruptedException {
+        List<String> names = new ArrayList<>();
+        while (queue.size() > 0) {
+            names.add(queue.take().toReconciliation().name());
+        }
+        return names;
+    }
+
+    @Test
+    public void testUsersAreSpreadOverSlots() throws InterruptedException {
+        Set<NamespaceAndName> users = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            users.add(new NamespaceAndName(NAMESPACE, "user-" + i));
+        }
+        when(userOperator.getAllUsers(any())).thenReturn(CompletableFuture.completedFuture(users));
+
+        ControllerQueue queue = new ControllerQueue(1024, metrics);
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(userOperator, queue, 1024, metrics, NAMESPACE, 10_000L, 1_000L);
+        assertThat(scheduler.slots(), is(10));
+        assertThat(scheduler.slotMs(), is(1_000L));
+
+        Set<String> reconciled = new HashSet<>();
+        for (int slot = 0; slot < scheduler.slots(); slot++) {
+            scheduler.run();
+
+            for (String name : drain(queue)) {
+                assertThat(scheduler.slotOf(new NamespaceAndName(NAMESPACE, name)), is(slot));
+                assertThat(reconciled.add(name), is(true));
+            }
+        }
+
+        assertThat(reconciled.size(), is(100));
+        verify(userOperator, times(1)).getAllUsers(NAMESPACE);
+        assertThat(metrics.periodicReconciliationsCounter(NAMESPACE).count(), is(1.0));
+
+        // Next interval loads the users again
+        scheduler.run();
+        verify(userOperator, times(2)).getAllUsers(NAMESPACE);
+        assertThat(metrics.periodicReconciliationsStalenessTimer(NAMESPACE).count() > 0, is(true));
+    }
+
+    @Test
+    public void testReconciliationsAreDeferredWhenQueueIsBusy() throws InterruptedException {
+        ControllerQueue queue = new ControllerQueue(4, metrics);
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(userOperator, queue, 4, metrics, NAMESPACE, 10_000L, 1_000L);
+
+        // Find 5 users which all belong to the first slot
+        Set<NamespaceAndName> users = new HashSet<>();
+        for (int i = 0; users.size() < 5; i++) {
+            NamespaceAndName user = new NamespaceAndName(NAMESPACE, "user-" + i);
+            if (scheduler.slotOf(user) == 0) {
+                users.add(user);
+            }
+        }
+        when(userOperator.getAllUsers(any())).thenReturn(CompletableFuture.completedFuture(users));
+
+        // The queue is filled only up to half of its capacity and the rest is deferred to the next slots
+        scheduler.run();
+        assertThat(drain(queue).size(), is(2));
+
+        // When the queue is busy, nothing is added
+        queue.enqueue(new SimplifiedReconciliation("KafkaUser", NAMESPACE, "busy-1"));
+        queue.enqueue(new SimplifiedReconciliation("KafkaUser", NAMESPACE, "busy-2"));
+        scheduler.run();
+        assertThat(drain(queue).size(), is(2));
+
+        scheduler.run();
+        assertThat(drain(queue).size(), is(2));
+
+        scheduler.run();
+        assertThat(drain(queue).size(), is(1));
+    }
+
+    @Test
+    public void testStalenessIsRecordedSinceLastEvent() {
+        NamespaceAndName user = new NamespaceAndName(NAMESPACE, "user-0");
+        when(userOperator.getAllUsers(any())).thenReturn(CompletableFuture.completedFuture(Set.of(user)));
+
+        ControllerQueue queue = new ControllerQueue(1024, metrics);
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(userOperator, queue, 1024, metrics, NAMESPACE, 1_000L, 1_000L);
+        assertThat(scheduler.slots(), is(1));
+
+        // The first periodic reconciliation of a user without any previous event has no staleness
+        scheduler.run();
+        assertThat(metrics.periodicReconciliationsStalenessTimer(NAMESPACE).count(), is(0L));
+
+        scheduler.enqueued(user);
+        scheduler.run();
+        assertThat(metrics.periodicReconciliationsStalenessTimer(NAMESPACE).count(), is(1L));
+    }
+}
@@ -78,6 +78,12 @@ public class ResourceUtils {
                        .build();
     }
 
+    public static UserOperatorConfig createUserOperatorConfigWithDriftSweepInterval(String namespace, long driftSweepIntervalMs) {
+        return new UserOperatorConfigBuilder(createUserOperatorConfig(namespace))
+                       .with(UserOperatorConfig.DRIFT_SWEEP_INTERVAL_MS.key(), String.valueOf(driftSweepIntervalMs))
+                       .build();
+    }
+
     public static KafkaUser createKafkaUser(String namespace, KafkaUserAuthentication authentication) {
         return new KafkaUserBuilder()
                 .withNewMetadata()
@@ -0,0 +1,316 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.api.kafka.model.user.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.user.KafkaUserList;
+import io.strimzi.api.kafka.model.user.KafkaUserStatus;
+import io.strimzi.api.kafka.model.user.KafkaUserStatusBuilder;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.controller.ControllerQueue;
+import io.strimzi.operator.common.controller.ReconciliationLockManager;
+import io.strimzi.operator.common.controller.SimplifiedReconciliation;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.common.operator.resource.concurrent.CrdOperator;
+import io.strimzi.operator.user.operator.AdminApiOperator;
+import io.strimzi.operator.user.operator.KafkaUserOperator;
+import io.strimzi.operator.user.operator.batching.BatchReconcilerMetricsHolder;
+import io.strimzi.operator.user.operator.batching.BatchSizer;
+import io.strimzi.operator.user.operator.batching.QuotasBatchReconciler;
+import io.strimzi.operator.user.operator.batching.ScramShaCredentialsBatchReconciler;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.ScramCredentialInfo;
+import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures how long it takes to reconcile the given number of simulated users through the UserControllerLoops and the
+ * quotas and SCRAM-SHA micro-batching reconcilers, in the synchronous and in the asynchronous mode. The Kafka Admin API
+ * is stubbed and completes every request after a fixed latency. Kubernetes is stubbed as well.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=io.strimzi.operator.user.UserControllerBenchmark}
+ * from the user-operator directory.
+ */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class UserControllerBenchmark {
+    private static final String NAMESPACE = "user-controller-benchmark";
+
+    @Param({"10000"})
+    public int users;
+
+    @Param({"50"})
+    public int loops;
+
+    @Param({"1000"})
+    public int inFlight;
+
+    @Param({"20"})
+    public long adminLatencyMs;
+
+    @Param({"100"})
+    public int batchSize;
+
+    @Param({"100"})
+    public int batchTimeMs;
+
+    @Param({"false", "true"})
+    public boolean async;
+
+    private ScheduledExecutorService scheduledExecutor;
+    private Lister<KafkaUser> userLister;
+    private Lister<Secret> secretLister;
+
+    private QuotasBatchReconciler quotasReconciler;
+    private ScramShaCredentialsBatchReconciler scramReconciler;
+    private List<UserControllerLoop> controllerLoops;
+    private CountDownLatch reconciled;
+
+    /**
+     * Stub of the Kafka Admin API which completes the quotas and SCRAM-SHA credentials requests after the latency
+     *
+     * @return  Admin client stub
+     */
+    private Admin stubAdmin() {
+        Admin admin = mock(Admin.class);
+
+        when(admin.alterClientQuotas(anyList())).thenAnswer(invocation -> {
+            Map<ClientQuotaEntity, KafkaFuture<Void>> futures = new HashMap<>();
+            for (ClientQuotaAlteration alteration : invocation.<Collection<ClientQuotaAlteration>>getArgument(0)) {
+                futures.put(alteration.entity(), completeLater());
+            }
+
+            return new AlterClientQuotasResult(futures);
+        });
+
+        when(admin.alterUserScramCredentials(anyList())).thenAnswer(invocation -> {
+            Map<String, KafkaFuture<Void>> futures = new HashMap<>();
+            for (UserScramCredentialAlteration alteration : invocation.<List<UserScramCredentialAlteration>>getArgument(0)) {
+                futures.put(alteration.user(), completeLater());
+            }
+
+            return new AlterUserScramCredentialsResult(futures);
+        });
+
+        return admin;
+    }
+
+    private KafkaFuture<Void> completeLater() {
+        KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+        scheduledExecutor.schedule(() -> future.complete(null), adminLatencyMs, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    /**
+     * Stub of the KafkaUserOperator which sends the quotas and SCRAM-SHA credentials of each user through the
+     * micro-batching reconcilers
+     *
+     * @return  KafkaUserOperator stub
+     */
+    private KafkaUserOperator stubUserOperator(QuotasBatchReconciler quotasReconciler, ScramShaCredentialsBatchReconciler scramReconciler, CountDownLatch reconciled) {
+        KafkaUserStatus readyStatus = new KafkaUserStatusBuilder()
+                .addNewCondition()
+                    .withType("Ready")
+                    .withStatus("True")
+                .endCondition()
+                .build();
+
+        KafkaUserOperator userOperator = mock(KafkaUserOperator.class);
+        when(userOperator.reconcile(any(), any(), any())).thenAnswer(invocation -> {
+            Reconciliation reconciliation = invocation.getArgument(0);
+            String username = reconciliation.name();
+
+            CompletableFuture<ReconcileResult<ClientQuotaAlteration>> quotasFuture = new CompletableFuture<>();
+            quotasReconciler.enqueue(new AdminApiOperator.ReconcileRequest<>(reconciliation, username,
+                    new ClientQuotaAlteration(new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, username)), List.of(new ClientQuotaAlteration.Op("producer_byte_rate", 1024.0))),
+                    quotasFuture));
+
+            CompletableFuture<ReconcileResult<UserScramCredentialAlteration>> scramFuture = new CompletableFuture<>();
+            scramReconciler.enqueue(new AdminApiOperator.ReconcileRequest<>(reconciliation, username,
+                    new UserScramCredentialUpsertion(username, new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_512, 4096), "password".getBytes(StandardCharsets.UTF_8)),
+                    scramFuture));
+
+            return CompletableFuture.allOf(quotasFuture, scramFuture)
+                    .thenApply(i -> readyStatus)
+                    .whenComplete((r, e) -> reconciled.countDown());
+        });
+
+        return userOperator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Lister<KafkaUser> userLister(int users) {
+        Map<String, KafkaUser> kafkaUsers = new HashMap<>(users);
+        for (int i = 0; i < users; i++) {
+            KafkaUser user = new KafkaUserBuilder()
+                    .withNewMetadata()
+                        .withNamespace(NAMESPACE)
+                        .withName("user-" + i)
+                        .withGeneration(1L)
+                    .endMetadata()
+                    .withNewSpec()
+                        .withNewKafkaUserScramSha512ClientAuthentication()
+                        .endKafkaUserScramSha512ClientAuthentication()
+                    .endSpec()
+                    .build();
+            kafkaUsers.put(NAMESPACE + "/" + user.getMetadata().getName(), user);
+        }
+
+        Indexer<KafkaUser> indexer = mock(Indexer.class);
+        when(indexer.getByKey(anyString())).thenAnswer(invocation -> kafkaUsers.get(invocation.<String>getArgument(0)));
+
+        return new Lister<>(indexer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Lister<Secret> secretLister() {
+        return new Lister<>(mock(Indexer.class));
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scheduledExecutor = Executors.newScheduledThreadPool(4);
+        userLister = userLister(users);
+        secretLister = secretLister();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        scheduledExecutor.shutdownNow();
+    }
+
+    /**
+     * Creates the controller loops and the micro-batching reconcilers, and enqueues all the users
+     */
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        ControllerMetricsHolder metrics = new ControllerMetricsHolder("KafkaUser", null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        BatchReconcilerMetricsHolder batchMetrics = new BatchReconcilerMetricsHolder(null, metrics.metricsProvider());
+        Admin admin = stubAdmin();
+        quotasReconciler = new QuotasBatchReconciler(admin, Math.max(1024, batchSize), BatchSizer.fixed(batchSize, batchTimeMs), batchMetrics);
+        scramReconciler = new ScramShaCredentialsBatchReconciler(admin, Math.max(1024, batchSize), BatchSizer.fixed(batchSize, batchTimeMs), batchMetrics);
+
+        reconciled = new CountDownLatch(users);
+        KafkaUserOperator userOperator = stubUserOperator(quotasReconciler, scramReconciler, reconciled);
+
+        @SuppressWarnings("unchecked")
+        CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> userCrdOperator = mock(CrdOperator.class);
+        when(userCrdOperator.updateStatusAsync(any(), any())).thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(1)));
+
+        UserOperatorConfig config = ResourceUtils.createUserOperatorConfig(NAMESPACE);
+        ControllerQueue workQueue = new ControllerQueue(users, metrics);
+        for (int i = 0; i < users; i++) {
+            workQueue.enqueue(new SimplifiedReconciliation("KafkaUser", NAMESPACE, "user-" + i, "benchmark"));
+        }
+
+        ReconciliationLockManager lockManager = new ReconciliationLockManager();
+        Semaphore inFlightReconciliations = async ? new Semaphore(inFlight) : null;
+
+        controllerLoops = new ArrayList<>(loops);
+        for (int i = 0; i < loops; i++) {
+            controllerLoops.add(new UserControllerLoop("Benchmark-ControllerLoop-" + i, workQueue, lockManager, inFlightReconciliations, scheduledExecutor,
+                    userLister, secretLister, userCrdOperator, userOperator, metrics, config));
+        }
+
+        quotasReconciler.start();
+        scramReconciler.start();
+    }
+
+    /**
+     * Stops the controller loops and the micro-batching reconcilers
+     *
+     * @throws InterruptedException When interrupted while stopping them
+     */
+    @TearDown(Level.Iteration)
+    public void teardownIteration() throws InterruptedException {
+        for (UserControllerLoop loop : controllerLoops) {
+            loop.stop();
+        }
+        quotasReconciler.stop();
+        scramReconciler.stop();
+    }
+
+    /**
+     * Starts the controller loops and waits until all the users are reconciled
+     *
+     * @throws InterruptedException When interrupted while waiting for the reconciliations
+     */
+    @Benchmark
+    public void reconcileUsers() throws InterruptedException {
+        controllerLoops.forEach(UserControllerLoop::start);
+        reconciled.await();
+    }
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args  Command line arguments (ignored)
+     *
+     * @throws RunnerException  When the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(UserControllerBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.api.kafka.model.user.KafkaUserBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class KafkaUserDigestsTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-user";
+    private static final long INTERVAL_MS = 10_000L;
+
+    private static KafkaUser readyUser(long generation) {
+        return new KafkaUserBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(NAME)
+                    .withGeneration(generation)
+                    .withLabels(Map.of("strimzi.io/cluster", "my-cluster"))
+                .endMetadata()
+                .withNewStatus()
+                    .withObservedGeneration(generation)
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    private static Secret secret(String password, String resourceVersion) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(NAME)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .withData(Map.of("password", password))
+                .build();
+    }
+
+    @Test
+    public void testUnchangedUser() {
+        KafkaUserDigests digests = new KafkaUserDigests(INTERVAL_MS);
+        KafkaUser user = readyUser(1L);
+
+        assertThat(digests.isUnchanged(user, secret("pass", null), secret("pass", "1"), 0L), is(false));
+
+        digests.remember(user, secret("pass", null), secret("pass", "1"), 0L);
+        assertThat(digests.size(), is(1));
+        assertThat(digests.isUnchanged(user, secret("pass", null), secret("pass", "1"), 1L), is(true));
+    }
+
+    @Test
+    public void testChangedInputs() {
+        KafkaUserDigests digests = new KafkaUserDigests(INTERVAL_MS);
+        digests.remember(readyUser(1L), secret("pass", null), secret("pass", "1"), 0L);
+
+        // Changed spec
+        assertThat(digests.isUnchanged(readyUser(2L), secret("pass", null), secret("pass", "1"), 1L), is(false));
+        // Changed password or certificate
+        assertThat(digests.isUnchanged(readyUser(1L), secret("other", null), secret("pass", "1"), 1L), is(false));
+        // Changed or deleted user Secret
+        assertThat(digests.isUnchanged(readyUser(1L), secret("pass", null), secret("pass", "2"), 1L), is(false));
+        assertThat(digests.isUnchanged(readyUser(1L), secret("pass", null), null, 1L), is(false));
+    }
+
+    @Test
+    public void testUserWhichIsNotReady() {
+        KafkaUserDigests digests = new KafkaUserDigests(INTERVAL_MS);
+        KafkaUser user = readyUser(1L);
+        digests.remember(user, null, null, 0L);
+
+        KafkaUser notReady = new KafkaUserBuilder(user)
+                .editStatus()
+                    .editCondition(0)
+                        .withStatus("False")
+                    .endCondition()
+                .endStatus()
+                .build();
+        assertThat(digests.isUnchanged(notReady, null, null, 1L), is(false));
+    }
+
+    @Test
+    public void testDigestExpiresWithinSweepInterval() {
+        KafkaUserDigests digests = new KafkaUserDigests(INTERVAL_MS);
+        KafkaUser user = readyUser(1L);
+        digests.remember(user, null, null, 0L);
+
+        assertThat(digests.isUnchanged(user, null, null, INTERVAL_MS / 2 - 1), is(true));
+        assertThat(digests.isUnchanged(user, null, null, INTERVAL_MS + 1), is(false));
+    }
+
+    @Test
+    public void testForget() {
+        KafkaUserDigests digests = new KafkaUserDigests(INTERVAL_MS);
+        KafkaUser user = readyUser(1L);
+        digests.remember(user, null, null, 0L);
+
+        digests.forget(NAMESPACE, NAME);
+        assertThat(digests.size(), is(0));
+        assertThat(digests.isUnchanged(user, null, null, 1L), is(false));
+    }
+
+    @Test
+    public void testDisabled() {
+        KafkaUserDigests digests = new KafkaUserDigests(0L);
+        KafkaUser user = readyUser(1L);
+        digests.remember(user, null, null, 0L);
+
+        assertThat(digests.size(), is(0));
+        assertThat(digests.isUnchanged(user, null, null, 1L), is(false));
+    }
+}
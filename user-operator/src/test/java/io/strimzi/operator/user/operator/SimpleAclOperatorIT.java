@@ -4,9 +4,11 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.user.acl.AclOperation;
 import io.strimzi.api.kafka.model.user.acl.AclResourcePatternType;
 import io.strimzi.api.kafka.model.user.acl.AclRuleType;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.user.ResourceUtils;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
@@ -30,7 +32,7 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 public class SimpleAclOperatorIT extends AdminApiOperatorIT<Set<SimpleAclRule>, Set<String>> {
     @Override
     AdminApiOperator<Set<SimpleAclRule>, Set<String>> operator() {
-        return new SimpleAclOperator(adminClient, ResourceUtils.createUserOperatorConfig(), Executors.newSingleThreadExecutor());
+        return new SimpleAclOperator(adminClient, ResourceUtils.createUserOperatorConfig(), Executors.newSingleThreadExecutor(), new MicrometerMetricsProvider(new SimpleMeterRegistry()));
     }
 
     @Override
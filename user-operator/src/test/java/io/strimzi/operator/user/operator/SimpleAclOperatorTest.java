@@ -4,9 +4,11 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.user.acl.AclOperation;
 import io.strimzi.api.kafka.model.user.acl.AclResourcePatternType;
 import io.strimzi.api.kafka.model.user.acl.AclRuleType;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.ResourceUtils;
@@ -36,11 +38,9 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
@@ -53,7 +53,6 @@ import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -86,9 +85,9 @@ public class SimpleAclOperatorTest {
         Collection<AclBinding> aclBindings =
                 asList(fooAclBinding, barAclBinding, bazAclBinding, allAclBinding, anonymousAclBinding);
 
-        assertDoesNotThrow(() -> mockDescribeAcls(mockAdminClient, AclBindingFilter.ANY, aclBindings));
+        assertDoesNotThrow(() -> mockDescribeAcls(mockAdminClient, aclBindings));
 
-        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR);
+        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         aclOp.start();
 
         try {
@@ -122,11 +121,11 @@ public class SimpleAclOperatorTest {
 
         ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
         assertDoesNotThrow(() -> {
-            mockDescribeAcls(mockAdminClient, null, emptyList());
+            mockDescribeAcls(mockAdminClient, emptyList());
             mockCreateAcls(mockAdminClient, aclBindingsCaptor);
         });
 
-        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR);
+        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         aclOp.start();
 
         try {
@@ -165,12 +164,12 @@ public class SimpleAclOperatorTest {
         ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
         ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor = ArgumentCaptor.forClass(Collection.class);
         assertDoesNotThrow(() -> {
-            mockDescribeAcls(mockAdminClient, null, Collections.singleton(readAclBinding));
+            mockDescribeAcls(mockAdminClient, Collections.singleton(readAclBinding));
             mockCreateAcls(mockAdminClient, aclBindingsCaptor);
-            mockDeleteAcls(mockAdminClient, Collections.singleton(readAclBinding), aclBindingFiltersCaptor);
+            mockDeleteAcls(mockAdminClient, aclBindingFiltersCaptor);
         });
 
-        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR);
+        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         aclOp.start();
 
         try {
@@ -212,11 +211,11 @@ public class SimpleAclOperatorTest {
 
         ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor = ArgumentCaptor.forClass(Collection.class);
         assertDoesNotThrow(() -> {
-            mockDescribeAcls(mockAdminClient, null, Collections.singleton(readAclBinding));
-            mockDeleteAcls(mockAdminClient, Collections.singleton(readAclBinding), aclBindingFiltersCaptor);
+            mockDescribeAcls(mockAdminClient, Collections.singleton(readAclBinding));
+            mockDeleteAcls(mockAdminClient, aclBindingFiltersCaptor);
         });
 
-        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR);
+        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         aclOp.start();
 
         try {
@@ -238,27 +237,31 @@ public class SimpleAclOperatorTest {
         }
     }
 
-    private void mockDescribeAcls(Admin mockAdminClient, AclBindingFilter aclBindingFilter, Collection<AclBinding> aclBindings) throws ExecutionException, InterruptedException, TimeoutException {
-        DescribeAclsResult result = mock(DescribeAclsResult.class);
-        KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);
-        when(future.get(anyLong(), any())).thenReturn(aclBindings);
-        when(result.values()).thenReturn(future);
-        when(mockAdminClient.describeAcls(aclBindingFilter != null ? aclBindingFilter : any())).thenReturn(result);
+    private void mockDescribeAcls(Admin mockAdminClient, Collection<AclBinding> aclBindings) {
+        // The ACL cache loads the ACLs per resource type, so the mock returns only the bindings matching the filter
+        when(mockAdminClient.describeAcls(any())).thenAnswer(i -> {
+            AclBindingFilter filter = i.getArgument(0);
+            DescribeAclsResult result = mock(DescribeAclsResult.class);
+            when(result.values()).thenReturn(KafkaFuture.completedFuture(aclBindings.stream().filter(filter::matches).toList()));
+            return result;
+        });
     }
 
     private void mockCreateAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor) {
-        CreateAclsResult result = mock(CreateAclsResult.class);
-        KafkaFuture<Void> future = mock(KafkaFuture.class);
-        when(future.toCompletionStage()).thenReturn(CompletableFuture.completedStage(null));
-        when(result.all()).thenReturn(future);
-        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenReturn(result);
+        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenAnswer(i -> {
+            Collection<AclBinding> bindings = i.getArgument(0);
+            CreateAclsResult result = mock(CreateAclsResult.class);
+            when(result.values()).thenReturn(bindings.stream().collect(Collectors.toMap(binding -> binding, binding -> KafkaFuture.completedFuture(null))));
+            return result;
+        });
     }
 
-    private void mockDeleteAcls(Admin mockAdminClient, Collection<AclBinding> aclBindings, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor) {
-        DeleteAclsResult result = mock(DeleteAclsResult.class);
-        KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);
-        when(future.toCompletionStage()).thenReturn(CompletableFuture.completedStage(aclBindings));
-        when(result.all()).thenReturn(future);
-        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenReturn(result);
+    private void mockDeleteAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor) {
+        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenAnswer(i -> {
+            Collection<AclBindingFilter> filters = i.getArgument(0);
+            DeleteAclsResult result = mock(DeleteAclsResult.class);
+            when(result.values()).thenReturn(filters.stream().collect(Collectors.toMap(filter -> filter, filter -> KafkaFuture.completedFuture(null))));
+            return result;
+        });
     }
 }
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
@@ -11,10 +13,14 @@ import org.junit.jupiter.api.Test;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 public class AbstractBatchReconcilerTest {
+    private static final String NAME = "TestBatchReconciler";
+
     Set<Integer> reconciled;
     CountDownLatch reconciliationFinished;
 
@@ -25,7 +31,7 @@ public class AbstractBatchReconcilerTest {
         reconciled = new HashSet<>(numberOfItems);
         reconciliationFinished = new CountDownLatch(numberOfItems);
 
-        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, 5, 100);
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, BatchSizer.fixed(5, 100), metrics());
         batcher.start();
 
         Thread producer = new Thread(() -> {
@@ -50,15 +56,55 @@ public class AbstractBatchReconcilerTest {
         batcher.stop();
     }
 
+    @Test
+    public void testMetricsAndAdaptiveBatchSize() throws InterruptedException {
+        int numberOfItems = 10;
+
+        reconciled = new HashSet<>(numberOfItems);
+        reconciliationFinished = new CountDownLatch(numberOfItems);
+
+        // The whole batch fails => the batch size should be halved
+        BatchReconcilerMetricsHolder metrics = metrics();
+        BatchSizer sizer = new BatchSizer(true, 2, 10, 10, 100, 1_000L);
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, sizer, metrics, CompletableFuture.failedFuture(new RuntimeException("Timed out")));
+
+        for (int i = 0; i < numberOfItems; i++)    {
+            batcher.enqueue(i);
+        }
+        batcher.start();
+
+        reconciliationFinished.await(1_000, TimeUnit.MILLISECONDS);
+        batcher.stop();
+
+        MatcherAssert.assertThat(reconciled.size(), CoreMatchers.is(numberOfItems));
+        MatcherAssert.assertThat(sizer.batchSize() < 10, CoreMatchers.is(true));
+        MatcherAssert.assertThat(metrics.batchSize(NAME).totalAmount(), CoreMatchers.is((double) numberOfItems));
+        MatcherAssert.assertThat(metrics.queueWaitTimer(NAME).count(), CoreMatchers.is((long) numberOfItems));
+        MatcherAssert.assertThat(metrics.requestLatencyTimer(NAME).count(), CoreMatchers.is(metrics.batchSize(NAME).count()));
+        MatcherAssert.assertThat(metrics.batchSizeLimit(NAME).get(), CoreMatchers.is(sizer.batchSize()));
+    }
+
+    private static BatchReconcilerMetricsHolder metrics()   {
+        return new BatchReconcilerMetricsHolder(null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+    }
+
     class TestBatchReconciler extends AbstractBatchReconciler<Integer> {
-        public TestBatchReconciler(int queueSize, int maxBatchSize, int maxBatchTime) {
-            super("TestBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+        private final CompletionStage<Void> result;
+
+        public TestBatchReconciler(int queueSize, BatchSizer sizer, BatchReconcilerMetricsHolder metrics) {
+            this(queueSize, sizer, metrics, CompletableFuture.completedFuture(null));
+        }
+
+        public TestBatchReconciler(int queueSize, BatchSizer sizer, BatchReconcilerMetricsHolder metrics, CompletionStage<Void> result) {
+            super(NAME, queueSize, sizer, metrics);
+            this.result = result;
         }
 
         @Override
-        protected void reconcile(Collection<Integer> items) {
+        protected CompletionStage<Void> reconcile(Collection<Integer> items) {
             reconciled.addAll(items);
-            reconciliationFinished.countDown();
+            items.forEach(i -> reconciliationFinished.countDown());
+            return result;
         }
     }
 }
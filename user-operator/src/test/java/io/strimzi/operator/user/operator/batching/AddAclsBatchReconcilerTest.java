@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.operator.AdminApiOperator;
@@ -14,6 +16,7 @@ import org.apache.kafka.common.acl.AccessControlEntry;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclOperation;
 import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.kafka.common.resource.PatternType;
 import org.apache.kafka.common.resource.ResourcePattern;
 import org.apache.kafka.common.resource.ResourceType;
@@ -39,6 +42,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class AddAclsBatchReconcilerTest {
+    private static final BatchReconcilerMetricsHolder METRICS = new BatchReconcilerMetricsHolder(null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
     // Requests used for testing
     private static final AclBinding MY_USER_READ = new AclBinding(
             new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL),
@@ -68,7 +73,6 @@ public class AddAclsBatchReconcilerTest {
 
         // Mock result
         CreateAclsResult mockResult = mock(CreateAclsResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(
                 Map.of(MY_USER_READ, KafkaFuture.completedFuture(null), MY_USER_WRITE, KafkaFuture.completedFuture(null),
                         MY_USER_2_READ, KafkaFuture.completedFuture(null), MY_USER_2_WRITE, KafkaFuture.completedFuture(null),
@@ -81,7 +85,7 @@ public class AddAclsBatchReconcilerTest {
         when(mockClient.createAcls(aclBindingsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10);
+        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
         reconciler.start();
 
         try {
@@ -131,11 +135,11 @@ public class AddAclsBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Void> mockFuture = mock(KafkaFuture.class);
-        when(mockFuture.toCompletionStage()).thenReturn(CompletableFuture.failedStage(new RuntimeException("Something failed")));
-
         CreateAclsResult mockResult = mock(CreateAclsResult.class);
-        when(mockResult.all()).thenReturn(mockFuture);
+        when(mockResult.values()).thenReturn(
+                Map.of(MY_USER_READ, failedFuture("Something failed"), MY_USER_WRITE, failedFuture("Something failed"),
+                        MY_USER_2_READ, failedFuture("Something failed"), MY_USER_2_WRITE, failedFuture("Something failed"))
+        );
 
         // Mock call
         @SuppressWarnings(value = "unchecked")
@@ -143,7 +147,7 @@ public class AddAclsBatchReconcilerTest {
         when(mockClient.createAcls(aclBindingsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10);
+        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
         reconciler.start();
 
         try {
@@ -177,15 +181,10 @@ public class AddAclsBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Void> mockMyUser2Future = mock(KafkaFuture.class);
-        when(mockMyUser2Future.isCompletedExceptionally()).thenReturn(true);
-        when(mockMyUser2Future.getNow(any())).thenThrow(new RuntimeException("Something failed"));
-
         CreateAclsResult mockResult = mock(CreateAclsResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(
                 Map.of(MY_USER_READ, KafkaFuture.completedFuture(null), MY_USER_WRITE, KafkaFuture.completedFuture(null),
-                        MY_USER_2_READ, mockMyUser2Future, MY_USER_2_WRITE, KafkaFuture.completedFuture(null))
+                        MY_USER_2_READ, failedFuture("Something failed"), MY_USER_2_WRITE, KafkaFuture.completedFuture(null))
         );
 
         // Mock call
@@ -194,7 +193,7 @@ public class AddAclsBatchReconcilerTest {
         when(mockClient.createAcls(aclBindingsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10);
+        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
         reconciler.start();
 
         try {
@@ -215,7 +214,7 @@ public class AddAclsBatchReconcilerTest {
             assertThat(myUserResult.resource().size(), is(2));
             assertThat(myUserResult.resource(), hasItems(MY_USER_READ, MY_USER_WRITE));
 
-            assertThat(myUser2Exception.getCause().getMessage(), is("ACL creation failed"));
+            assertThat(myUser2Exception.getCause().getMessage(), is("Something failed"));
 
             // Test request
             assertThat(aclBindingsCaptor.getAllValues().size(), is(1));
@@ -225,4 +224,35 @@ public class AddAclsBatchReconcilerTest {
             reconciler.stop();
         }
     }
+
+    @Test
+    public void testBatchFailsOnlyWhenAllBindingsFail() throws InterruptedException, ExecutionException, TimeoutException {
+        // Mock Admin client
+        Admin mockClient = mock(Admin.class);
+
+        CreateAclsResult partialFailure = mock(CreateAclsResult.class);
+        when(partialFailure.values()).thenReturn(Map.of(MY_USER_READ, KafkaFuture.completedFuture(null), MY_USER_2_READ, failedFuture("Something failed")));
+        CreateAclsResult completeFailure = mock(CreateAclsResult.class);
+        when(completeFailure.values()).thenReturn(Map.of(MY_USER_READ, failedFuture("Something failed"), MY_USER_2_READ, failedFuture("Something failed")));
+        when(mockClient.createAcls(any())).thenReturn(partialFailure, completeFailure);
+
+        // Test
+        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
+        List<AdminApiOperator.ReconcileRequest<Collection<AclBinding>, ReconcileResult<Collection<AclBinding>>>> batch = List.of(
+                new AdminApiOperator.ReconcileRequest<>(Reconciliation.DUMMY_RECONCILIATION, "my-user", List.of(MY_USER_READ), new CompletableFuture<>()),
+                new AdminApiOperator.ReconcileRequest<>(Reconciliation.DUMMY_RECONCILIATION, "my-user2", List.of(MY_USER_2_READ), new CompletableFuture<>()));
+
+        // A failed binding does not fail the batch
+        reconciler.reconcile(batch).toCompletableFuture().get(1_000, TimeUnit.MILLISECONDS);
+
+        // The batch fails when all the bindings failed
+        ExecutionException batchException = assertThrows(ExecutionException.class, () -> reconciler.reconcile(batch).toCompletableFuture().get(1_000, TimeUnit.MILLISECONDS));
+        assertThat(batchException.getCause().getMessage(), is("Something failed"));
+    }
+
+    private static KafkaFuture<Void> failedFuture(String message) {
+        KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(new RuntimeException(message));
+        return future;
+    }
 }
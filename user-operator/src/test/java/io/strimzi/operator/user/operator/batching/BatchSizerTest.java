@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.batching;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class BatchSizerTest {
+    @Test
+    public void testFixed() {
+        BatchSizer sizer = BatchSizer.fixed(100, 50);
+
+        sizer.batchCompleted(100, 60_000L, true);
+        sizer.batchStarted(0, false);
+
+        assertThat(sizer.batchSize(), is(100));
+        assertThat(sizer.batchTime(), is(50));
+    }
+
+    @Test
+    public void testBatchSizeDecreasesOnErrorsAndHighLatency() {
+        BatchSizer sizer = new BatchSizer(true, 10, 100, 5, 100, 1_000L);
+        assertThat(sizer.batchSize(), is(100));
+
+        sizer.batchCompleted(100, 10L, true);
+        assertThat(sizer.batchSize(), is(50));
+
+        sizer.batchCompleted(50, 5_000L, false);
+        assertThat(sizer.batchSize(), is(25));
+
+        sizer.batchCompleted(25, 5_000L, false);
+        sizer.batchCompleted(12, 5_000L, false);
+        assertThat(sizer.batchSize(), is(10));
+    }
+
+    @Test
+    public void testBatchSizeGrowsWithFastFullBatches() {
+        BatchSizer sizer = new BatchSizer(true, 10, 100, 5, 100, 1_000L);
+        sizer.batchCompleted(100, 10L, true);
+        assertThat(sizer.batchSize(), is(50));
+
+        // Batches which are not full do not tell us anything about bigger batches
+        sizer.batchCompleted(20, 10L, false);
+        assertThat(sizer.batchSize(), is(50));
+
+        sizer.batchCompleted(50, 10L, false);
+        assertThat(sizer.batchSize(), is(55));
+
+        for (int i = 0; i < 20; i++) {
+            sizer.batchCompleted(sizer.batchSize(), 10L, false);
+        }
+        assertThat(sizer.batchSize(), is(100));
+    }
+
+    @Test
+    public void testBatchTime() {
+        BatchSizer sizer = new BatchSizer(true, 10, 100, 5, 100, 1_000L);
+        assertThat(sizer.batchTime(), is(100));
+
+        // Idle linger
+        sizer.batchStarted(1, false);
+        assertThat(sizer.batchTime(), is(50));
+        sizer.batchStarted(0, false);
+        sizer.batchStarted(0, false);
+        sizer.batchStarted(0, false);
+        sizer.batchStarted(0, false);
+        assertThat(sizer.batchTime(), is(5));
+
+        // Batches with multiple requests keep the batch time
+        sizer.batchStarted(7, false);
+        assertThat(sizer.batchTime(), is(5));
+
+        // High load
+        sizer.batchStarted(100, true);
+        assertThat(sizer.batchTime(), is(10));
+        for (int i = 0; i < 10; i++) {
+            sizer.batchStarted(100, true);
+        }
+        assertThat(sizer.batchTime(), is(100));
+    }
+
+    @Test
+    public void testInvalidBounds() {
+        BatchSizer sizer = new BatchSizer(true, 500, 100, 500, 100, 1_000L);
+        sizer.batchCompleted(100, 10L, true);
+        sizer.batchStarted(0, false);
+
+        assertThat(sizer.batchSize(), is(100));
+        assertThat(sizer.batchTime(), is(100));
+    }
+}
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.operator.AdminApiOperator;
@@ -11,10 +13,10 @@ import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
-import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.acl.AclOperation;
 import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.kafka.common.resource.PatternType;
 import org.apache.kafka.common.resource.ResourcePatternFilter;
 import org.apache.kafka.common.resource.ResourceType;
@@ -39,6 +41,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class DeleteAclsBatchReconcilerTest {
+    private static final BatchReconcilerMetricsHolder METRICS = new BatchReconcilerMetricsHolder(null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
     // Requests used for testing
     private static final AclBindingFilter MY_USER_READ = new AclBindingFilter(
             new ResourcePatternFilter(ResourceType.TOPIC, "my-topic", PatternType.LITERAL),
@@ -68,7 +72,6 @@ public class DeleteAclsBatchReconcilerTest {
 
         // Mock result
         DeleteAclsResult mockResult = mock(DeleteAclsResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(
                 Map.of(MY_USER_READ, KafkaFuture.completedFuture(null), MY_USER_WRITE, KafkaFuture.completedFuture(null),
                         MY_USER_2_READ, KafkaFuture.completedFuture(null), MY_USER_2_WRITE, KafkaFuture.completedFuture(null),
@@ -81,7 +84,7 @@ public class DeleteAclsBatchReconcilerTest {
         when(mockClient.deleteAcls(aclBindingsFilterCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10);
+        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
         reconciler.start();
 
         try {
@@ -125,11 +128,11 @@ public class DeleteAclsBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Collection<AclBinding>> mockFuture = mock(KafkaFuture.class);
-        when(mockFuture.toCompletionStage()).thenReturn(CompletableFuture.failedStage(new RuntimeException("Something failed")));
-
         DeleteAclsResult mockResult = mock(DeleteAclsResult.class);
-        when(mockResult.all()).thenReturn(mockFuture);
+        when(mockResult.values()).thenReturn(
+                Map.of(MY_USER_READ, failedFuture(new RuntimeException("Something failed")), MY_USER_WRITE, failedFuture(new RuntimeException("Something failed")),
+                        MY_USER_2_READ, failedFuture(new RuntimeException("Something failed")), MY_USER_2_WRITE, failedFuture(new RuntimeException("Something failed")))
+        );
 
         // Mock call
         @SuppressWarnings(value = "unchecked")
@@ -137,7 +140,7 @@ public class DeleteAclsBatchReconcilerTest {
         when(mockClient.deleteAcls(aclBindingsFilterCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10);
+        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
         reconciler.start();
 
         try {
@@ -171,12 +174,9 @@ public class DeleteAclsBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<DeleteAclsResult.FilterResults> mockMyUser2Future = mock(KafkaFuture.class);
-        when(mockMyUser2Future.isCompletedExceptionally()).thenReturn(true);
-        when(mockMyUser2Future.getNow(any())).thenThrow(new RuntimeException("Something failed"));
+        KafkaFuture<DeleteAclsResult.FilterResults> mockMyUser2Future = failedFuture(new RuntimeException("Something failed"));
 
         DeleteAclsResult mockResult = mock(DeleteAclsResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(
                 Map.of(MY_USER_READ, KafkaFuture.completedFuture(null), MY_USER_WRITE, KafkaFuture.completedFuture(null),
                         MY_USER_2_READ, mockMyUser2Future, MY_USER_2_WRITE, KafkaFuture.completedFuture(null))
@@ -188,7 +188,7 @@ public class DeleteAclsBatchReconcilerTest {
         when(mockClient.deleteAcls(aclBindingsFilterCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10);
+        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
         reconciler.start();
 
         try {
@@ -207,7 +207,7 @@ public class DeleteAclsBatchReconcilerTest {
             assertThat(myUserResult, is(notNullValue()));
             assertThat(myUserResult, is(ReconcileResult.deleted()));
 
-            assertThat(myUser2Exception.getCause().getMessage(), is("ACL deletion failed"));
+            assertThat(myUser2Exception.getCause().getMessage(), is("Something failed"));
 
             // Test request
             assertThat(aclBindingsFilterCaptor.getAllValues().size(), is(1));
@@ -217,4 +217,38 @@ public class DeleteAclsBatchReconcilerTest {
             reconciler.stop();
         }
     }
+
+    @Test
+    public void testBatchFailsOnlyWhenAllUsersFail() throws InterruptedException, ExecutionException, TimeoutException {
+        // Mock Admin client
+        Admin mockClient = mock(Admin.class);
+
+        DeleteAclsResult partialFailure = mock(DeleteAclsResult.class);
+        when(partialFailure.values()).thenReturn(Map.of(MY_USER_READ, KafkaFuture.completedFuture(null), MY_USER_2_READ, failedFuture(new RuntimeException("Something failed"))));
+        DeleteAclsResult completeFailure = mock(DeleteAclsResult.class);
+        when(completeFailure.values()).thenReturn(Map.of(MY_USER_READ, failedFuture(new RuntimeException("Something failed")), MY_USER_2_READ, failedFuture(new RuntimeException("Something failed"))));
+        when(mockClient.deleteAcls(any())).thenReturn(partialFailure, completeFailure);
+
+        // Test
+        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
+        List<AdminApiOperator.ReconcileRequest<Collection<AclBindingFilter>, ReconcileResult<Collection<AclBindingFilter>>>> batch = List.of(
+                new AdminApiOperator.ReconcileRequest<>(Reconciliation.DUMMY_RECONCILIATION, "my-user", List.of(MY_USER_READ), new CompletableFuture<>()),
+                new AdminApiOperator.ReconcileRequest<>(Reconciliation.DUMMY_RECONCILIATION, "my-user2", List.of(MY_USER_2_READ), new CompletableFuture<>()));
+
+        // A failed user does not fail the batch
+        reconciler.reconcile(batch).toCompletableFuture().get(1_000, TimeUnit.MILLISECONDS);
+        assertThat(batch.get(0).result().get(1_000, TimeUnit.MILLISECONDS), is(ReconcileResult.deleted()));
+        ExecutionException myUser2Exception = assertThrows(ExecutionException.class, () -> batch.get(1).result().get(1_000, TimeUnit.MILLISECONDS));
+        assertThat(myUser2Exception.getCause().getMessage(), is("Something failed"));
+
+        // The batch fails when all the users failed
+        ExecutionException batchException = assertThrows(ExecutionException.class, () -> reconciler.reconcile(batch).toCompletableFuture().get(1_000, TimeUnit.MILLISECONDS));
+        assertThat(batchException.getCause().getMessage(), is("Something failed"));
+    }
+
+    private static <T> KafkaFuture<T> failedFuture(Throwable cause) {
+        KafkaFutureImpl<T> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
 }
@@ -4,12 +4,15 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.operator.AdminApiOperator;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AlterClientQuotasResult;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.kafka.common.quota.ClientQuotaAlteration;
 import org.apache.kafka.common.quota.ClientQuotaEntity;
 import org.junit.jupiter.api.Test;
@@ -34,6 +37,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class QuotasBatchReconcilerTest {
+    private static final BatchReconcilerMetricsHolder METRICS = new BatchReconcilerMetricsHolder(null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
     // Requests used for testing => user 1
     private static final ClientQuotaEntity MY_USER_ENTITY = new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, "my-user"));
     private static final Collection<ClientQuotaAlteration.Op> MY_USER_QUOTAS = List.of(
@@ -57,7 +62,6 @@ public class QuotasBatchReconcilerTest {
 
         // Mock result
         AlterClientQuotasResult mockResult = mock(AlterClientQuotasResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(Map.of(MY_USER_ENTITY, KafkaFuture.completedFuture(null), MY_USER_2_ENTITY, KafkaFuture.completedFuture(null)));
 
         // Mock call
@@ -66,7 +70,7 @@ public class QuotasBatchReconcilerTest {
         when(mockClient.alterClientQuotas(clientQuotaAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10);
+        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
         reconciler.start();
 
         try {
@@ -105,11 +109,8 @@ public class QuotasBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Void> mockFuture = mock(KafkaFuture.class);
-        when(mockFuture.toCompletionStage()).thenReturn(CompletableFuture.failedStage(new RuntimeException("Something failed")));
-
         AlterClientQuotasResult mockResult = mock(AlterClientQuotasResult.class);
-        when(mockResult.all()).thenReturn(mockFuture);
+        when(mockResult.values()).thenReturn(Map.of(MY_USER_ENTITY, failedFuture(new RuntimeException("Something failed")), MY_USER_2_ENTITY, failedFuture(new RuntimeException("Something failed"))));
 
         // Mock call
         @SuppressWarnings(value = "unchecked")
@@ -117,7 +118,7 @@ public class QuotasBatchReconcilerTest {
         when(mockClient.alterClientQuotas(clientQuotaAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10);
+        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
         reconciler.start();
 
         try {
@@ -151,12 +152,9 @@ public class QuotasBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Void> mockMyUser2Future = mock(KafkaFuture.class);
-        when(mockMyUser2Future.isCompletedExceptionally()).thenReturn(true);
-        when(mockMyUser2Future.getNow(any())).thenThrow(new RuntimeException("Something failed"));
+        KafkaFuture<Void> mockMyUser2Future = failedFuture(new RuntimeException("Something failed"));
 
         AlterClientQuotasResult mockResult = mock(AlterClientQuotasResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(Map.of(MY_USER_ENTITY, KafkaFuture.completedFuture(null), MY_USER_2_ENTITY, mockMyUser2Future));
 
         // Mock call
@@ -165,7 +163,7 @@ public class QuotasBatchReconcilerTest {
         when(mockClient.alterClientQuotas(clientQuotaAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10);
+        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
         reconciler.start();
 
         try {
@@ -195,4 +193,38 @@ public class QuotasBatchReconcilerTest {
             reconciler.stop();
         }
     }
+
+    @Test
+    public void testBatchFailsOnlyWhenAllUsersFail() throws InterruptedException, ExecutionException, TimeoutException {
+        // Mock Admin client
+        Admin mockClient = mock(Admin.class);
+
+        AlterClientQuotasResult partialFailure = mock(AlterClientQuotasResult.class);
+        when(partialFailure.values()).thenReturn(Map.of(MY_USER_ENTITY, KafkaFuture.completedFuture(null), MY_USER_2_ENTITY, failedFuture(new RuntimeException("Something failed"))));
+        AlterClientQuotasResult completeFailure = mock(AlterClientQuotasResult.class);
+        when(completeFailure.values()).thenReturn(Map.of(MY_USER_ENTITY, failedFuture(new RuntimeException("Something failed")), MY_USER_2_ENTITY, failedFuture(new RuntimeException("Something failed"))));
+        when(mockClient.alterClientQuotas(any())).thenReturn(partialFailure, completeFailure);
+
+        // Test
+        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
+        List<AdminApiOperator.ReconcileRequest<ClientQuotaAlteration, ReconcileResult<ClientQuotaAlteration>>> batch = List.of(
+                new AdminApiOperator.ReconcileRequest<>(Reconciliation.DUMMY_RECONCILIATION, "my-user", MY_USER_ALTERATION, new CompletableFuture<>()),
+                new AdminApiOperator.ReconcileRequest<>(Reconciliation.DUMMY_RECONCILIATION, "my-user2", MY_USER_2_ALTERATION, new CompletableFuture<>()));
+
+        // A failed user does not fail the batch
+        reconciler.reconcile(batch).toCompletableFuture().get(1_000, TimeUnit.MILLISECONDS);
+        assertThat(batch.get(0).result().get(1_000, TimeUnit.MILLISECONDS), is(instanceOf(ReconcileResult.Patched.class)));
+        ExecutionException myUser2Exception = assertThrows(ExecutionException.class, () -> batch.get(1).result().get(1_000, TimeUnit.MILLISECONDS));
+        assertThat(myUser2Exception.getCause().getMessage(), is("Something failed"));
+
+        // The batch fails when all the users failed
+        ExecutionException batchException = assertThrows(ExecutionException.class, () -> reconciler.reconcile(batch).toCompletableFuture().get(1_000, TimeUnit.MILLISECONDS));
+        assertThat(batchException.getCause().getMessage(), is("Something failed"));
+    }
+
+    private static <T> KafkaFuture<T> failedFuture(Throwable cause) {
+        KafkaFutureImpl<T> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
 }
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.operator.AdminApiOperator;
@@ -16,6 +18,7 @@ import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
 import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
@@ -40,6 +43,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class ScramShaCredentialsBatchReconcilerTest {
+    private static final BatchReconcilerMetricsHolder METRICS = new BatchReconcilerMetricsHolder(null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
     // Requests used for testing => user 1
     private static final UserScramCredentialUpsertion MY_USER_1 = new UserScramCredentialUpsertion("my-user", new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_512, 4096), "my-password".getBytes(StandardCharsets.UTF_8), new BigInteger(130, new SecureRandom()).toString(36).getBytes(StandardCharsets.UTF_8));
     private static final UserScramCredentialDeletion MY_USER_2 = new UserScramCredentialDeletion("my-user2", ScramMechanism.SCRAM_SHA_512);
@@ -51,7 +56,6 @@ public class ScramShaCredentialsBatchReconcilerTest {
 
         // Mock result
         AlterUserScramCredentialsResult mockResult = mock(AlterUserScramCredentialsResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(Map.of("my-user", KafkaFuture.completedFuture(null), "my-user2", KafkaFuture.completedFuture(null)));
 
         // Mock call
@@ -60,7 +64,7 @@ public class ScramShaCredentialsBatchReconcilerTest {
         when(mockClient.alterUserScramCredentials(credentialAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10);
+        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
         reconciler.start();
 
         try {
@@ -99,11 +103,8 @@ public class ScramShaCredentialsBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Void> mockFuture = mock(KafkaFuture.class);
-        when(mockFuture.toCompletionStage()).thenReturn(CompletableFuture.failedStage(new RuntimeException("Something failed")));
-
         AlterUserScramCredentialsResult mockResult = mock(AlterUserScramCredentialsResult.class);
-        when(mockResult.all()).thenReturn(mockFuture);
+        when(mockResult.values()).thenReturn(Map.of("my-user", failedFuture(new RuntimeException("Something failed")), "my-user2", failedFuture(new RuntimeException("Something failed"))));
 
         // Mock call
         @SuppressWarnings(value = "unchecked")
@@ -111,7 +112,7 @@ public class ScramShaCredentialsBatchReconcilerTest {
         when(mockClient.alterUserScramCredentials(credentialAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10);
+        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
         reconciler.start();
 
         try {
@@ -145,12 +146,9 @@ public class ScramShaCredentialsBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Void> mockMyUser2Future = mock(KafkaFuture.class);
-        when(mockMyUser2Future.isCompletedExceptionally()).thenReturn(true);
-        when(mockMyUser2Future.getNow(any())).thenThrow(new RuntimeException("Something failed"));
+        KafkaFuture<Void> mockMyUser2Future = failedFuture(new RuntimeException("Something failed"));
 
         AlterUserScramCredentialsResult mockResult = mock(AlterUserScramCredentialsResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(Map.of("my-user", KafkaFuture.completedFuture(null), "my-user2", mockMyUser2Future));
 
         // Mock call
@@ -159,7 +157,7 @@ public class ScramShaCredentialsBatchReconcilerTest {
         when(mockClient.alterUserScramCredentials(credentialAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10);
+        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
         reconciler.start();
 
         try {
@@ -196,12 +194,9 @@ public class ScramShaCredentialsBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Void> mockMyUser2Future = mock(KafkaFuture.class);
-        when(mockMyUser2Future.isCompletedExceptionally()).thenReturn(true);
-        when(mockMyUser2Future.getNow(any())).thenThrow(new ResourceNotFoundException("NotFound"));
+        KafkaFuture<Void> mockMyUser2Future = failedFuture(new ResourceNotFoundException("NotFound"));
 
         AlterUserScramCredentialsResult mockResult = mock(AlterUserScramCredentialsResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(Map.of("my-user", KafkaFuture.completedFuture(null), "my-user2", mockMyUser2Future));
 
         // Mock call
@@ -210,7 +205,7 @@ public class ScramShaCredentialsBatchReconcilerTest {
         when(mockClient.alterUserScramCredentials(credentialAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10);
+        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
         reconciler.start();
 
         try {
@@ -241,4 +236,38 @@ public class ScramShaCredentialsBatchReconcilerTest {
             reconciler.stop();
         }
     }
+
+    @Test
+    public void testBatchFailsOnlyWhenAllUsersFail() throws InterruptedException, ExecutionException, TimeoutException {
+        // Mock Admin client
+        Admin mockClient = mock(Admin.class);
+
+        AlterUserScramCredentialsResult partialFailure = mock(AlterUserScramCredentialsResult.class);
+        when(partialFailure.values()).thenReturn(Map.of("my-user", KafkaFuture.completedFuture(null), "my-user2", failedFuture(new RuntimeException("Something failed"))));
+        AlterUserScramCredentialsResult completeFailure = mock(AlterUserScramCredentialsResult.class);
+        when(completeFailure.values()).thenReturn(Map.of("my-user", failedFuture(new RuntimeException("Something failed")), "my-user2", failedFuture(new RuntimeException("Something failed"))));
+        when(mockClient.alterUserScramCredentials(any())).thenReturn(partialFailure, completeFailure);
+
+        // Test
+        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, BatchSizer.fixed(5, 10), METRICS);
+        List<AdminApiOperator.ReconcileRequest<UserScramCredentialAlteration, ReconcileResult<UserScramCredentialAlteration>>> batch = List.of(
+                new AdminApiOperator.ReconcileRequest<>(Reconciliation.DUMMY_RECONCILIATION, "my-user", MY_USER_1, new CompletableFuture<>()),
+                new AdminApiOperator.ReconcileRequest<>(Reconciliation.DUMMY_RECONCILIATION, "my-user2", MY_USER_2, new CompletableFuture<>()));
+
+        // A failed user does not fail the batch
+        reconciler.reconcile(batch).toCompletableFuture().get(1_000, TimeUnit.MILLISECONDS);
+        assertThat(batch.get(0).result().get(1_000, TimeUnit.MILLISECONDS), is(instanceOf(ReconcileResult.Patched.class)));
+        ExecutionException myUser2Exception = assertThrows(ExecutionException.class, () -> batch.get(1).result().get(1_000, TimeUnit.MILLISECONDS));
+        assertThat(myUser2Exception.getCause().getMessage(), is("Something failed"));
+
+        // The batch fails when all the users failed
+        ExecutionException batchException = assertThrows(ExecutionException.class, () -> reconciler.reconcile(batch).toCompletableFuture().get(1_000, TimeUnit.MILLISECONDS));
+        assertThat(batchException.getCause().getMessage(), is("Something failed"));
+    }
+
+    private static <T> KafkaFuture<T> failedFuture(Throwable cause) {
+        KafkaFutureImpl<T> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
 }
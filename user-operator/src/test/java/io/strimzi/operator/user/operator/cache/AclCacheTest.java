@@ -4,11 +4,18 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.user.acl.AclResourcePatternType;
+import io.strimzi.api.kafka.model.user.acl.AclRuleType;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
+import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.DescribeAclsResult;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntry;
+import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.acl.AclOperation;
@@ -19,20 +26,22 @@ import org.apache.kafka.common.resource.ResourceType;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
-import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasItems;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -45,16 +54,14 @@ public class AclCacheTest {
     //   * Tests the updated data
     @Test
     public void testCache() throws InterruptedException, ExecutionException, TimeoutException {
-        CountDownLatch initialLoad = new CountDownLatch(2);
-        CountDownLatch update = new CountDownLatch(2);
+        // Each refresh describes the ACLs for each of the 4 resource types
+        CountDownLatch initialLoad = new CountDownLatch(8);
+        CountDownLatch update = new CountDownLatch(8);
         AtomicBoolean initialData = new AtomicBoolean(true);
 
         // Mock Admin client
         Admin mockClient = mock(Admin.class);
 
-        // Mock result
-        KafkaFuture<Collection<AclBinding>> mockFuture = mock(KafkaFuture.class);
-
         AclBinding myUserRead = new AclBinding(
                 new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL),
                 new AccessControlEntry("User:my-user", "*", AclOperation.READ, AclPermissionType.ALLOW)
@@ -68,30 +75,26 @@ public class AclCacheTest {
                 new AccessControlEntry("User:my-user2", "*", AclOperation.READ, AclPermissionType.ALLOW)
         );
 
-        when(mockFuture.get(anyLong(), any())).thenAnswer(i -> {
-            if (initialData.get()) {
-                return List.of(myUserRead, myUserWrite, myUser2Read);
-            } else {
-                return List.of(myUser2Read);
-            }
-        });
-
-        DescribeAclsResult mockResult = mock(DescribeAclsResult.class);
-        when(mockResult.values()).thenReturn(mockFuture);
-
         // Mock call
         ArgumentCaptor<AclBindingFilter> aclBindingsFilterCaptor = ArgumentCaptor.forClass(AclBindingFilter.class);
         when(mockClient.describeAcls(aclBindingsFilterCaptor.capture())).thenAnswer(i -> {
+            AclBindingFilter filter = i.getArgument(0);
+            List<AclBinding> acls;
+
             if (initialData.get())  {
+                acls = List.of(myUserRead, myUserWrite, myUser2Read);
                 initialLoad.countDown();
             } else {
+                acls = List.of(myUser2Read);
                 update.countDown();
             }
 
+            DescribeAclsResult mockResult = mock(DescribeAclsResult.class);
+            when(mockResult.values()).thenReturn(KafkaFuture.completedFuture(acls.stream().filter(filter::matches).toList()));
             return mockResult;
         });
 
-        AclCache cache = new AclCache(mockClient, 10);
+        AclCache cache = new AclCache(mockClient, 10, new AclCacheMetricsHolder(null, new MicrometerMetricsProvider(new SimpleMeterRegistry())), "my-namespace");
 
         try {
             cache.start();
@@ -113,10 +116,46 @@ public class AclCacheTest {
             assertThat(cache.get("my-user2"), hasItems(SimpleAclRule.fromAclBinding(myUser2Read)));
 
             // Check the parameters
-            assertThat(aclBindingsFilterCaptor.getAllValues().size(), is(greaterThanOrEqualTo(4)));
-            assertThat(aclBindingsFilterCaptor.getValue(), is(AclBindingFilter.ANY));
+            assertThat(aclBindingsFilterCaptor.getAllValues().size(), is(greaterThanOrEqualTo(16)));
+            assertThat(aclBindingsFilterCaptor.getAllValues().stream().map(filter -> filter.patternFilter().resourceType()).collect(Collectors.toSet()),
+                    is(Set.of(ResourceType.TOPIC, ResourceType.GROUP, ResourceType.CLUSTER, ResourceType.TRANSACTIONAL_ID)));
+            assertThat(aclBindingsFilterCaptor.getValue().entryFilter(), is(AccessControlEntryFilter.ANY));
         } finally   {
             cache.stop();
         }
     }
+
+    @Test
+    public void testShardIsUpdatedInPlace() {
+        SimpleAclRule topicRead = rule(SimpleAclRuleResourceType.TOPIC, "my-topic", io.strimzi.api.kafka.model.user.acl.AclOperation.READ);
+        SimpleAclRule topicWrite = rule(SimpleAclRuleResourceType.TOPIC, "my-topic", io.strimzi.api.kafka.model.user.acl.AclOperation.WRITE);
+        SimpleAclRule groupRead = rule(SimpleAclRuleResourceType.GROUP, "my-group", io.strimzi.api.kafka.model.user.acl.AclOperation.READ);
+
+        ConcurrentHashMap<String, Set<SimpleAclRule>> map = new ConcurrentHashMap<>();
+        map.put("my-user", Set.of(topicRead, groupRead));
+        map.put("my-user2", Set.of(topicRead));
+        map.put("my-user3", Set.of(topicRead));
+        Set<SimpleAclRule> myUser2 = map.get("my-user2");
+
+        int changed = AclCache.updateShard(map, SimpleAclRuleResourceType.TOPIC, Map.of(
+                "my-user", Set.of(topicRead, topicWrite),
+                "my-user2", Set.of(topicRead),
+                "my-user4", Set.of(topicWrite)));
+
+        assertThat(changed, is(3));
+        // The rules of other resource types are kept
+        assertThat(map.get("my-user"), is(Set.of(topicRead, topicWrite, groupRead)));
+        // Unchanged users keep their entries
+        assertThat(map.get("my-user2"), is(sameInstance(myUser2)));
+        // Users without any remaining rules are removed
+        assertThat(map.containsKey("my-user3"), is(false));
+        assertThat(map.get("my-user4"), is(Set.of(topicWrite)));
+
+        assertThat(AclCache.updateShard(map, SimpleAclRuleResourceType.GROUP, Map.of()), is(1));
+        assertThat(map.get("my-user"), is(Set.of(topicRead, topicWrite)));
+    }
+
+    private static SimpleAclRule rule(SimpleAclRuleResourceType type, String name, io.strimzi.api.kafka.model.user.acl.AclOperation operation) {
+        return new SimpleAclRule(AclRuleType.ALLOW, new SimpleAclRuleResource(name, type, AclResourcePatternType.LITERAL), "*", operation);
+    }
 }